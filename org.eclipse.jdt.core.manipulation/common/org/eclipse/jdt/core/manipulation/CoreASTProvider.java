@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,29 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.manipulation;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -33,6 +45,7 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
 
 /**
  * The {@link CoreASTProvider} provides access to the {@link CompilationUnit AST root} used by
@@ -41,7 +54,11 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
  * The {@link CoreASTProvider} contains all methods/functionality that are
  * not dependent on the UI, from org.eclipse.jdt.internal.ui.javaeditor.ASTProvider
  * for the purpose of reuse by non-UI bundles.
- *
+ * <p>
+ * Besides the AST of the active editor, the ASTs of a few recently active or reconciled editors
+ * can be kept until their element is reconciled again or the Java model changes, see
+ * {@link #setRecentASTCacheSize(int)}.
+ * </p>
  * <p>
  * This class is not intended to be subclassed or instantiated by clients.
  * </p>
@@ -64,6 +81,37 @@ public final class CoreASTProvider {
 	private volatile boolean fIsReconciling;
 	private volatile Runnable fFinishReconciling;
 
+	/**
+	 * System property with the number of ASTs of inactive elements that are kept in
+	 * {@link #fRecentASTs}, no recent ASTs are kept by default.
+	 */
+	private static final String RECENT_ASTS_PROPERTY= "org.eclipse.jdt.ui.astProvider.recentASTs"; //$NON-NLS-1$
+
+	private static final String PERF_WAIT_FOR_AST= "org.eclipse.jdt.core.manipulation/perf/ASTProvider/waitForAST"; //$NON-NLS-1$
+
+	private static final String PERF_CREATE_AST= "org.eclipse.jdt.core.manipulation/perf/ASTProvider/createAST"; //$NON-NLS-1$
+
+	private static final boolean MEASURE_WAIT_FOR_AST= PerformanceStats.isEnabled(PERF_WAIT_FOR_AST);
+
+	private static final boolean MEASURE_CREATE_AST= PerformanceStats.isEnabled(PERF_CREATE_AST);
+
+	/**
+	 * The ASTs of recently active or reconciled elements other than the active one, or
+	 * <code>null</code> if recent ASTs are not kept. Guarded by <code>this</code>.
+	 */
+	private LRUMap<ITypeRoot, CompilationUnit> fRecentASTs;
+
+	/**
+	 * The futures of clients that wait for the AST of an element that is being reconciled. Guarded
+	 * by <code>this</code>.
+	 */
+	private final Map<ITypeRoot, CompletableFuture<CompilationUnit>> fPendingASTs= new HashMap<>();
+
+	/**
+	 * The listener that drops the recent ASTs, or <code>null</code>. Guarded by <code>this</code>.
+	 */
+	private IElementChangedListener fElementChangedListener;
+
 	/**
 	 * Wait flag class.
 	 */
@@ -136,6 +184,8 @@ public final class CoreASTProvider {
 		synchronized (this) {
 			isActiveElement= input.equals(fActiveJavaElement);
 			if (isActiveElement) {
+				if (fAST == null && fRecentASTs != null)
+					fAST= fRecentASTs.remove(input);
 				if (fAST != null) {
 					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning cached AST:" + toString(fAST) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
@@ -149,6 +199,14 @@ public final class CoreASTProvider {
 					return null;
 
 				}
+			} else if (fRecentASTs != null) {
+				CompilationUnit recentAST= fRecentASTs.get(input);
+				if (recentAST != null) {
+					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning recent AST:" + toString(recentAST) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+					return recentAST;
+				}
 			}
 		}
 
@@ -173,7 +231,17 @@ public final class CoreASTProvider {
 					if (isReconciling(input)) {
 						if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 							System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "waiting for AST for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
-						fWaitLock.wait(30000); // XXX: The 30 seconds timeout is an attempt to at least avoid a deadlock. See https://bugs.eclipse.org/366048#c21
+						PerformanceStats stats= null;
+						if (MEASURE_WAIT_FOR_AST) {
+							stats= PerformanceStats.getStats(PERF_WAIT_FOR_AST, input);
+							stats.startRun(input.getElementName());
+						}
+						try {
+							fWaitLock.wait(30000); // XXX: The 30 seconds timeout is an attempt to at least avoid a deadlock. See https://bugs.eclipse.org/366048#c21
+						} finally {
+							if (stats != null)
+								stats.endRun();
+						}
 					}
 				}
 
@@ -217,6 +285,215 @@ public final class CoreASTProvider {
 		return ast;
 	}
 
+	/**
+	 * Returns a future that is completed with a shared compilation unit AST for the given Java
+	 * element.
+	 * <p>
+	 * If an AST of the element is available and the element is not being reconciled, the returned
+	 * future is already completed. If the element is being reconciled, the future is completed with
+	 * the AST of that reconcile. Otherwise the AST is created by a system job. The future is never
+	 * completed in the thread that reconciles the element, so clients can compose further work on
+	 * it.
+	 * </p>
+	 * <p>
+	 * Clients are not allowed to modify the AST and must synchronize all access to its nodes.
+	 * </p>
+	 *
+	 * @param input the Java element, must not be <code>null</code>
+	 * @return a future of the AST, completed with <code>null</code> if the element has no source
+	 * @since 1.22
+	 */
+	public CompletableFuture<CompilationUnit> getASTFuture(final ITypeRoot input) {
+		if (input == null)
+			throw new IllegalArgumentException("input is null"); //$NON-NLS-1$
+
+		synchronized (this) {
+			if (isReconciling(input)) {
+				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+					System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning pending AST for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
+
+				return fPendingASTs.computeIfAbsent(input, element -> new CompletableFuture<>());
+			}
+			CompilationUnit ast= input.equals(fActiveJavaElement) ? fAST : fRecentASTs != null ? fRecentASTs.get(input) : null;
+			if (ast != null)
+				return CompletableFuture.completedFuture(ast);
+		}
+		CompletableFuture<CompilationUnit> future= new CompletableFuture<>();
+		complete(future, input, monitor -> getAST(input, WAIT_YES, monitor));
+		return future;
+	}
+
+	/**
+	 * Completes the given future from a system job, so that blocking AST creation does not run in
+	 * a shared thread pool or in the thread that reconciles.
+	 *
+	 * @param future the future to complete
+	 * @param input the Java element of the AST
+	 * @param astSupplier returns the AST, can block
+	 */
+	private static void complete(CompletableFuture<CompilationUnit> future, ITypeRoot input, Function<IProgressMonitor, CompilationUnit> astSupplier) {
+		Job job= Job.create("AST provider: " + input.getElementName(), monitor -> { //$NON-NLS-1$
+			if (future.isDone())
+				return Status.CANCEL_STATUS;
+			try {
+				CompilationUnit ast= astSupplier.apply(monitor);
+				if (monitor.isCanceled()) {
+					future.cancel(false);
+					return Status.CANCEL_STATUS;
+				}
+				future.complete(ast);
+			} catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+			return Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		job.setPriority(Job.SHORT);
+		job.schedule();
+	}
+
+	/**
+	 * Completes the pending futures of elements that are no longer reconciled.
+	 *
+	 * @param ast the AST of the element that has just been reconciled or <code>null</code>
+	 * @param javaElement the Java element that has just been reconciled or <code>null</code>
+	 */
+	private void completePendingASTs(CompilationUnit ast, ITypeRoot javaElement) {
+		List<Map.Entry<ITypeRoot, CompletableFuture<CompilationUnit>>> completed;
+		synchronized (this) {
+			if (fPendingASTs.isEmpty())
+				return;
+			completed= new ArrayList<>();
+			for (Map.Entry<ITypeRoot, CompletableFuture<CompilationUnit>> entry : fPendingASTs.entrySet()) {
+				if (!isReconciling(entry.getKey()))
+					completed.add(entry);
+			}
+			for (Map.Entry<ITypeRoot, CompletableFuture<CompilationUnit>> entry : completed)
+				fPendingASTs.remove(entry.getKey());
+		}
+		for (Map.Entry<ITypeRoot, CompletableFuture<CompilationUnit>> entry : completed) {
+			ITypeRoot element= entry.getKey();
+			if (ast != null && element.equals(javaElement))
+				complete(entry.getValue(), element, monitor -> ast);
+			else
+				complete(entry.getValue(), element, monitor -> getAST(element, WAIT_YES, monitor));
+		}
+	}
+
+	/**
+	 * Keeps the given AST of an element that is not the active one.
+	 *
+	 * @param ast the compilation unit AST
+	 * @param javaElement the Java element for which the AST was built
+	 */
+	private synchronized void cacheRecent(CompilationUnit ast, ITypeRoot javaElement) {
+		if (fRecentASTs == null)
+			return;
+
+		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "keeping recent AST: " + toString(ast) + " for: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		if (fElementChangedListener == null) {
+			fElementChangedListener= this::elementChanged;
+			JavaCore.addElementChangedListener(fElementChangedListener);
+		}
+		fRecentASTs.put(javaElement, ast);
+	}
+
+	/**
+	 * Sets the number of ASTs of recently active or reconciled elements that are kept besides the
+	 * AST of the active element. While recent ASTs are kept, {@link #WAIT_NO} and
+	 * {@link #WAIT_ACTIVE_ONLY} requests for those elements return their AST instead of
+	 * <code>null</code>. By default no recent ASTs are kept, unless the system property
+	 * <code>org.eclipse.jdt.ui.astProvider.recentASTs</code> is set.
+	 *
+	 * @param size the number of recent ASTs, <code>0</code> to keep none
+	 * @since 1.22
+	 */
+	public synchronized void setRecentASTCacheSize(int size) {
+		if (size < 0)
+			throw new IllegalArgumentException("size is negative"); //$NON-NLS-1$
+		if (size == 0) {
+			fRecentASTs= null;
+			removeElementChangedListener();
+		} else {
+			LRUMap<ITypeRoot, CompilationUnit> recentASTs= new LRUMap<>(size);
+			if (fRecentASTs != null)
+				recentASTs.putAll(fRecentASTs);
+			fRecentASTs= recentASTs;
+		}
+	}
+
+	/**
+	 * Stops listening to Java model changes, the listener is added again with the next recent AST.
+	 */
+	private synchronized void removeElementChangedListener() {
+		if (fElementChangedListener != null) {
+			JavaCore.removeElementChangedListener(fElementChangedListener);
+			fElementChangedListener= null;
+		}
+	}
+
+	/**
+	 * Disposes the cached ASTs, stops listening to Java model changes and wakes up the clients
+	 * that wait for an AST.
+	 *
+	 * @since 1.22
+	 */
+	public void dispose() {
+		synchronized (this) {
+			disposeAST();
+			if (fRecentASTs != null)
+				fRecentASTs.clear();
+			removeElementChangedListener();
+		}
+		waitLockNotifyAll();
+		completePendingASTs(null, null);
+	}
+
+	/**
+	 * Drops the recent ASTs on Java model changes, their bindings might be out-dated.
+	 *
+	 * @param event the change event
+	 */
+	private void elementChanged(ElementChangedEvent event) {
+		if (event.getDelta().getFlags() == IJavaElementDelta.F_AST_AFFECTED || canIgnore(new IJavaElementDelta[] { event.getDelta() }))
+			return;
+
+		synchronized (this) {
+			if (fRecentASTs == null || fRecentASTs.isEmpty())
+				return;
+
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "disposing " + fRecentASTs.size() + " recent ASTs"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+			fRecentASTs.clear();
+		}
+	}
+
+	/**
+	 * Checks whether the given delta only reports a working copy being created, discarded or
+	 * saved.
+	 *
+	 * @param delta the deltas
+	 * @return <code>true</code> if the delta does not affect the recent ASTs
+	 */
+	private static boolean canIgnore(IJavaElementDelta[] delta) {
+		if (delta.length != 1)
+			return false;
+
+		// affects non-shared working copy
+		if (delta[0].getElement() instanceof ICompilationUnit
+				&& ((ICompilationUnit) delta[0].getElement()).getOwner() != null)
+			return true;
+
+		// become working copy or save
+		if (delta[0].getFlags() == IJavaElementDelta.F_PRIMARY_WORKING_COPY || delta[0].getFlags() == IJavaElementDelta.F_PRIMARY_RESOURCE)
+			return true;
+
+		return canIgnore(delta[0].getAffectedChildren());
+	}
+
 	private void notifyReconciler() {
 		Runnable finishReconciling= fFinishReconciling;
 		if (finishReconciling!=null) {
@@ -255,7 +532,12 @@ public final class CoreASTProvider {
 			fIsReconciling= true;
 			this.fFinishReconciling = finishReconciling;
 		}
+		synchronized (this) {
+			if (fRecentASTs != null)
+				fRecentASTs.remove(javaElement);
+		}
 		cache(null, javaElement);
+		completePendingASTs(null, null);
 	}
 
 	/**
@@ -291,7 +573,17 @@ public final class CoreASTProvider {
 						return;
 					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 						System.err.println(getThreadName() + " - " + DEBUG_PREFIX + "creating AST for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
-					root[0]= (CompilationUnit)parser.createAST(progressMonitor);
+					PerformanceStats stats= null;
+					if (MEASURE_CREATE_AST) {
+						stats= PerformanceStats.getStats(PERF_CREATE_AST, input);
+						stats.startRun(input.getElementName());
+					}
+					try {
+						root[0]= (CompilationUnit)parser.createAST(progressMonitor);
+					} finally {
+						if (stats != null)
+							stats.endRun();
+					}
 
 					//mark as unmodifiable
 					ASTNodes.setFlagsToAST(root[0], ASTNode.PROTECT);
@@ -325,6 +617,9 @@ public final class CoreASTProvider {
 		synchronized (fReconcileLock) {
 			fIsReconciling= false;
 			fFinishReconciling= null;
+			if (ast != null && javaElement != null && !javaElement.equals(getActiveJavaElement()))
+				cacheRecent(ast, javaElement);
+
 			if (javaElement == null || !javaElement.equals(fReconcilingJavaElement)) {
 
 				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
@@ -334,11 +629,10 @@ public final class CoreASTProvider {
 				synchronized (fWaitLock) {
 					fWaitLock.notifyAll();
 				}
-
-				return;
-			}
-			cache(ast, javaElement);
+			} else
+				cache(ast, javaElement);
 		}
+		completePendingASTs(ast, javaElement);
 	}
 
 	/**
@@ -466,7 +760,9 @@ public final class CoreASTProvider {
 	}
 
 	private CoreASTProvider() {
-		// Prevent instantiation.
+		int recentASTs= Integer.getInteger(RECENT_ASTS_PROPERTY, 0).intValue();
+		if (recentASTs > 0)
+			fRecentASTs= new LRUMap<>(recentASTs);
 	}
 
 	/**
@@ -492,9 +788,14 @@ public final class CoreASTProvider {
 
 	/**
 	 * Set the active java element that is currently active.
+	 * The AST of the previously active element is kept as a recent AST.
 	 * @param activeJavaElement the java element.
 	 */
-	public void setActiveJavaElement (ITypeRoot activeJavaElement) {
+	public synchronized void setActiveJavaElement (ITypeRoot activeJavaElement) {
+		if (fAST != null && fActiveJavaElement != null && !fActiveJavaElement.equals(activeJavaElement)) {
+			cacheRecent(fAST, fActiveJavaElement);
+			fAST= null;
+		}
 		fActiveJavaElement = activeJavaElement;
 	}
 
@@ -523,6 +824,7 @@ public final class CoreASTProvider {
 			fReconcilingJavaElement = null;
 			fFinishReconciling = null;
 		}
+		completePendingASTs(null, null);
 	}
 
 }
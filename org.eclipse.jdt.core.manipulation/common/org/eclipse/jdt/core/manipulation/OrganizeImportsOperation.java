@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -230,6 +230,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 
 		private final UnresolvableImportMatcher fUnresolvableImportMatcher;
 
+		private final TypeNameMatchIndex fTypeNameMatchIndex;
+
 		private IPackageFragment fCurrPackage;
 
 		private ScopeAnalyzer fAnalyzer;
@@ -241,12 +243,13 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		private SourceRange[] fSourceRanges;
 
 
-		public TypeReferenceProcessor(Set<String> oldSingleImports, Set<String> oldDemandImports, CompilationUnit root, ImportRewrite impStructure, boolean ignoreLowerCaseNames, UnresolvableImportMatcher unresolvableImportMatcher) {
+		public TypeReferenceProcessor(Set<String> oldSingleImports, Set<String> oldDemandImports, CompilationUnit root, ImportRewrite impStructure, boolean ignoreLowerCaseNames, UnresolvableImportMatcher unresolvableImportMatcher, TypeNameMatchIndex typeNameMatchIndex) {
 			fOldSingleImports= oldSingleImports;
 			fOldDemandImports= oldDemandImports;
 			fImpStructure= impStructure;
 			fDoIgnoreLowerCaseNames= ignoreLowerCaseNames;
 			fUnresolvableImportMatcher= unresolvableImportMatcher;
+			fTypeNameMatchIndex= typeNameMatchIndex;
 
 			ICompilationUnit cu= impStructure.getCompilationUnit();
 
@@ -352,17 +355,23 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 				if (nUnresolved == 0) {
 					return false;
 				}
-				char[][] allTypes= new char[nUnresolved][];
-				int i= 0;
-				for (String string : fUnresolvedTypes.keySet()) {
-					allTypes[i++]= string.toCharArray();
-				}
 				final ArrayList<TypeNameMatch> typesFound= new ArrayList<>();
 				final IJavaProject project= fCurrPackage.getJavaProject();
 				boolean excludeTestCode= !((IPackageFragmentRoot)fCurrPackage.getParent()).getResolvedClasspathEntry().isTest();
-				IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
-				TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
-				new SearchEngine().searchAllTypeNames(null, allTypes, scope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				if (fTypeNameMatchIndex != null) {
+					for (String string : fUnresolvedTypes.keySet()) {
+						typesFound.addAll(fTypeNameMatchIndex.getTypes(project, excludeTestCode, string, monitor));
+					}
+				} else {
+					char[][] allTypes= new char[nUnresolved][];
+					int i= 0;
+					for (String string : fUnresolvedTypes.keySet()) {
+						allTypes[i++]= string.toCharArray();
+					}
+					IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
+					TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
+					new SearchEngine().searchAllTypeNames(null, allTypes, scope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				}
 
 				boolean is50OrHigher= JavaModelUtil.is50OrHigher(project);
 
@@ -515,6 +524,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 	private final boolean fAllowSyntaxErrors;
 	private Collection<String> fResolvedStaticFavoriteImports;
 
+	private TypeNameMatchIndex fTypeNameMatchIndex;
+
 	/**
 	 * Creates a new OrganizeImportsOperation operation.
 	 *
@@ -559,6 +570,18 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		fRestoreExistingImports= restoreExistingImports;
 	}
 
+	/**
+	 * Sets the index in which the unresolved simple names of the compilation unit are looked up.
+	 * Clients that organize the imports of many compilation units should share one index between
+	 * the operations. Without an index, the names are searched for each compilation unit.
+	 *
+	 * @param index the index, or <code>null</code> to search the names
+	 * @since 1.22
+	 */
+	public void setTypeNameMatchIndex(TypeNameMatchIndex index) {
+		fTypeNameMatchIndex= index;
+	}
+
 	/**
 	 * Runs the operation.
 	 * @param monitor the progress monitor
@@ -609,7 +632,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 				astRoot,
 				importsRewrite,
 				fIgnoreLowerCaseNames,
-				unresolvableImportMatcher);
+				unresolvableImportMatcher,
+				fTypeNameMatchIndex);
 
 		Iterator<SimpleName> refIterator= typeReferences.iterator();
 		while (refIterator.hasNext()) {
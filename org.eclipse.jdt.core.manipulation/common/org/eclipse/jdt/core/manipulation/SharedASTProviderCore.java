@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.manipulation;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.core.runtime.IProgressMonitor;
 
 import org.eclipse.jdt.core.ITypeRoot;
@@ -138,6 +140,22 @@ public class SharedASTProviderCore {
 		return CoreASTProvider.getInstance().getAST(element, finalWaitFlag, progressMonitor);
 	}
 
+	/**
+	 * Returns a future that is completed with a compilation unit AST for the given Java element. If
+	 * the element is being reconciled, the future is completed with the AST of that reconcile,
+	 * otherwise with an available shared AST or a newly created AST.
+	 * <p>
+	 * Clients are not allowed to modify the AST and must not keep any references.
+	 * </p>
+	 *
+	 * @param element the {@link ITypeRoot}, must not be <code>null</code>
+	 * @return a future of the AST, completed with <code>null</code> if the element has no source
+	 * @since 1.22
+	 */
+	public static CompletableFuture<CompilationUnit> getASTFuture(ITypeRoot element) {
+		return CoreASTProvider.getInstance().getASTFuture(element);
+	}
+
 	protected SharedASTProviderCore() {
 		// Prevent instantiation.
 	}
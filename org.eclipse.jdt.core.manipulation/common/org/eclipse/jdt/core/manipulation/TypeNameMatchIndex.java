@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+/**
+ * The types visible in the projects of a batch of compilation units, by simple name.
+ * <p>
+ * An {@link OrganizeImportsOperation} that is given an index looks up its unresolved simple names
+ * in the index instead of searching them. The index searches all type names of a project once,
+ * when the first unit of the project asks for a name, and shares the result with all other units
+ * of the project. This makes organizing the imports of many compilation units of a project much
+ * cheaper. The index is not updated when types are added or removed, it should only be kept for
+ * the duration of one batch.
+ * </p>
+ * <p>
+ * The index can be used by several threads concurrently.
+ * </p>
+ *
+ * @since 1.22
+ */
+public class TypeNameMatchIndex {
+
+	private static final class ProjectTypes {
+		private Map<String, List<TypeNameMatch>> fTypes;
+
+		synchronized Map<String, List<TypeNameMatch>> getTypes(IJavaProject project, boolean excludeTestCode, AtomicInteger searchCount, IProgressMonitor monitor) throws JavaModelException {
+			if (fTypes == null) {
+				List<TypeNameMatch> matches= new ArrayList<>();
+				IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
+				new SearchEngine().searchAllTypeNames(null, SearchPattern.R_PREFIX_MATCH, null, SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE, scope,
+						new TypeNameMatchCollector(matches), IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				searchCount.incrementAndGet();
+
+				Map<String, List<TypeNameMatch>> types= new HashMap<>();
+				for (TypeNameMatch match : matches) {
+					types.computeIfAbsent(match.getSimpleTypeName(), k -> new ArrayList<>(1)).add(match);
+				}
+				fTypes= types;
+			}
+			return fTypes;
+		}
+	}
+
+	private final Map<String, ProjectTypes> fProjects= new ConcurrentHashMap<>();
+	private final AtomicInteger fSearchCount= new AtomicInteger();
+	private final AtomicInteger fLookupCount= new AtomicInteger();
+
+	/**
+	 * Returns the types with the given simple name that are visible in the given project.
+	 *
+	 * @param project the project
+	 * @param excludeTestCode <code>true</code> if types in test source folders are not visible
+	 * @param simpleName the simple name
+	 * @param monitor the progress monitor for the search of the type names of the project
+	 * @return the types with the given simple name, the list must not be modified
+	 * @throws JavaModelException if the types of the project could not be searched
+	 */
+	public List<TypeNameMatch> getTypes(IJavaProject project, boolean excludeTestCode, String simpleName, IProgressMonitor monitor) throws JavaModelException {
+		fLookupCount.incrementAndGet();
+		String key= (excludeTestCode ? "M" : "T") + project.getHandleIdentifier(); //$NON-NLS-1$ //$NON-NLS-2$
+		ProjectTypes types= fProjects.computeIfAbsent(key, k -> new ProjectTypes());
+		List<TypeNameMatch> result= types.getTypes(project, excludeTestCode, fSearchCount, monitor).get(simpleName);
+		return result != null ? result : Collections.emptyList();
+	}
+
+	/**
+	 * @return the number of type name searches
+	 */
+	public int getSearchCount() {
+		return fSearchCount.get();
+	}
+
+	/**
+	 * @return the number of simple names that have been looked up
+	 */
+	public int getLookupCount() {
+		return fLookupCount.get();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,8 +28,12 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodIndex;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.SharedTypeEnvironments;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
@@ -54,6 +58,23 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	public static boolean DEBUG_TYPE_CONSTRAINTS;
 
+	public static boolean DEBUG_RENAME_TYPE;
+
+	public static boolean DEBUG_RIPPLE_METHOD_INDEX;
+
+	/**
+	 * Whether the ripple methods are kept in a {@link RippleMethodIndex}, can be set with the
+	 * system property <code>org.eclipse.jdt.ui.rename.rippleMethodIndex</code>.
+	 */
+	private static final boolean RIPPLE_METHOD_INDEX_ENABLED= Boolean.getBoolean("org.eclipse.jdt.ui.rename.rippleMethodIndex"); //$NON-NLS-1$
+
+	/**
+	 * Whether type constraint refactorings share their type environments, see
+	 * {@link SharedTypeEnvironments}. Can be set with the system property
+	 * <code>org.eclipse.jdt.ui.typeconstraints.sharedTypeEnvironments</code>.
+	 */
+	private static final boolean SHARED_TYPE_ENVIRONMENTS_ENABLED= Boolean.getBoolean("org.eclipse.jdt.ui.typeconstraints.sharedTypeEnvironments"); //$NON-NLS-1$
+
 	//The shared instance.
 	private static JavaManipulationPlugin fgDefault;
 
@@ -64,6 +85,10 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	 */
 	private volatile TypeFilter fTypeFilter;
 
+	private RippleMethodIndex fRippleMethodIndex;
+
+	private SharedTypeEnvironments fSharedTypeEnvironments;
+
 	private BundleContext fBundleContext;
 
 	/**
@@ -88,6 +113,8 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 			fTypeFilter.dispose();
 			fTypeFilter= null;
 		}
+		setRippleMethodIndex(null);
+		setSharedTypeEnvironments(null);
 	}
 
 	/**
@@ -134,6 +161,64 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 		}
 	}
 
+	/**
+	 * Returns the shared ripple method index. The index is created on the first request if it is
+	 * enabled by the system property <code>org.eclipse.jdt.ui.rename.rippleMethodIndex</code>.
+	 *
+	 * @return the index or <code>null</code> if the ripple methods are not indexed
+	 */
+	public synchronized RippleMethodIndex getRippleMethodIndex() {
+		if (fRippleMethodIndex == null && RIPPLE_METHOD_INDEX_ENABLED) {
+			setRippleMethodIndex(new RippleMethodIndex());
+		}
+		return fRippleMethodIndex;
+	}
+
+	/**
+	 * Sets the shared ripple method index. The index is registered for the Java element deltas
+	 * until it is replaced.
+	 *
+	 * @param index the index or <code>null</code> to not index the ripple methods
+	 */
+	public synchronized void setRippleMethodIndex(RippleMethodIndex index) {
+		if (fRippleMethodIndex != null) {
+			JavaCore.removeElementChangedListener(fRippleMethodIndex);
+		}
+		fRippleMethodIndex= index;
+		if (index != null) {
+			JavaCore.addElementChangedListener(index, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	/**
+	 * Returns the shared type environments. They are created on the first request if they are
+	 * enabled by the system property <code>org.eclipse.jdt.ui.typeconstraints.sharedTypeEnvironments</code>.
+	 *
+	 * @return the environments or <code>null</code> if the type environments are not shared
+	 */
+	public synchronized SharedTypeEnvironments getSharedTypeEnvironments() {
+		if (fSharedTypeEnvironments == null && SHARED_TYPE_ENVIRONMENTS_ENABLED) {
+			setSharedTypeEnvironments(new SharedTypeEnvironments());
+		}
+		return fSharedTypeEnvironments;
+	}
+
+	/**
+	 * Sets the shared type environments. They are registered for the Java element deltas until
+	 * they are replaced.
+	 *
+	 * @param environments the environments or <code>null</code> to not share the type environments
+	 */
+	public synchronized void setSharedTypeEnvironments(SharedTypeEnvironments environments) {
+		if (fSharedTypeEnvironments != null) {
+			JavaCore.removeElementChangedListener(fSharedTypeEnvironments);
+		}
+		fSharedTypeEnvironments= environments;
+		if (environments != null) {
+			JavaCore.addElementChangedListener(environments, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
 	public static void log(Throwable e) {
 		ILog.of(JavaManipulationPlugin.class).log(new Status(IStatus.ERROR, JavaManipulation.ID_PLUGIN, IStatusConstants.INTERNAL_ERROR, JavaManipulationMessages.JavaManipulationMessages_internalError, e));
 	}
@@ -186,5 +271,7 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	public void optionsChanged(DebugOptions options) {
 		DEBUG_AST_PROVIDER= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/ASTProvider", false); //$NON-NLS-1$
 		DEBUG_TYPE_CONSTRAINTS= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/TypeConstraints", false); //$NON-NLS-1$
+		DEBUG_RENAME_TYPE= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/RenameType", false); //$NON-NLS-1$
+		DEBUG_RIPPLE_METHOD_INDEX= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/RippleMethodIndex", false); //$NON-NLS-1$
 	}
 }
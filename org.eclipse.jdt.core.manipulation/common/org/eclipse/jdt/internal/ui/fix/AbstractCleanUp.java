@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,12 @@ public abstract class AbstractCleanUp implements ICleanUp {
 		fOptions= options;
 	}
 
+	/**
+	 * @return the options used by this clean up or <code>null</code> if they have not been set yet
+	 */
+	public CleanUpOptions getOptions() {
+		return fOptions;
+	}
 
 	/*
 	 * @see org.eclipse.jdt.ui.cleanup.ICleanUp#getStepDescriptions()
@@ -114,6 +120,42 @@ public abstract class AbstractCleanUp implements ICleanUp {
 		return new RefactoringStatus();
 	}
 
+	/**
+	 * Tells whether {@link #createFix(CleanUpContext)} can be called for several compilation
+	 * units at the same time, between {@link #checkPreConditions(IJavaProject, ICompilationUnit[], IProgressMonitor)}
+	 * and {@link #checkPostConditions(IProgressMonitor)}. Clean ups that change their state while
+	 * creating fixes must return <code>false</code>, which is the default.
+	 *
+	 * @return <code>true</code> if fixes can be created concurrently
+	 */
+	public boolean isThreadSafe() {
+		return false;
+	}
+
+	/**
+	 * Tells whether {@link #checkPostConditions(IProgressMonitor)} can return a status that is
+	 * not OK. The changes of the clean ups are only applied while they are computed if no clean up
+	 * reports such problems, see CleanUpRefactoring#setStreaming(int).
+	 *
+	 * @return <code>true</code> if the post conditions can report warnings or errors
+	 */
+	public boolean reportsPostConditionProblems() {
+		return false;
+	}
+
+	/**
+	 * Tells whether the fix created for a compilation unit only depends on the contents of the
+	 * unit, the options of this clean up and the compiler options of the project. Fixes that are
+	 * computed from resolved bindings also depend on other compilation units and libraries, for
+	 * example on the methods of the super types. The result of a clean up is only remembered in
+	 * CleanUpResultCache if all clean ups return <code>true</code>, which is not the default.
+	 *
+	 * @return <code>true</code> if the fix only depends on the compilation unit itself
+	 */
+	public boolean isUnitLocal() {
+		return false;
+	}
+
 	/**
 	 * @param key the name of the option
 	 * @return <code>true</code> if option with <code>key</code> is enabled
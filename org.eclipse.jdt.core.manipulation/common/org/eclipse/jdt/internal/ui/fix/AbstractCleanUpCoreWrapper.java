@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Red Hat and others.
+ * Copyright (c) 2022, 2026 Red Hat and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,21 @@ public class AbstractCleanUpCoreWrapper<T extends AbstractCleanUp> extends Abstr
 		return cleanUpCore.getRequirements();
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return cleanUpCore.isThreadSafe();
+	}
+
+	@Override
+	public boolean isUnitLocal() {
+		return cleanUpCore.isUnitLocal();
+	}
+
+	@Override
+	public boolean reportsPostConditionProblems() {
+		return cleanUpCore.reportsPostConditionProblems();
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		return cleanUpCore.getStepDescriptions();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 IBM Corporation and others.
+ * Copyright (c) 2021, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -69,6 +69,11 @@ public class ConstantsForSystemPropertiesCleanUpCore extends AbstractCleanUp {
 		return new CleanUpRequirements(requireAST(), false, false, null);
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	public boolean requireAST() {
 		return isEnabled(CONSTANTS_FOR_SYSTEM_PROPERTY) && !computeFixSet().isEmpty();
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,11 @@ public class DoWhileRatherThanWhileCleanUpCore extends AbstractCleanUp {
 		return new CleanUpRequirements(requireAST(), false, false, null);
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	public boolean requireAST() {
 		return isEnabled(CleanUpConstants.DO_WHILE_RATHER_THAN_WHILE);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,11 @@ public class ElseIfCleanUpCore extends AbstractMultiFix implements ICleanUpFix {
 			"""; //$NON-NLS-1$
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
 		if (!isEnabled(CleanUpConstants.ELSE_IF)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * Copyright (c) 2024, 2026 itemis AG (http://www.itemis.eu) and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -79,6 +79,11 @@ public class RedundantSemicolonsCleanUpCore extends AbstractMultiFix implements
 		return new CleanUpRequirements(requireAST, false, false, requiredOptions);
 	}
 
+	@Override
+	public boolean isUnitLocal() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.REMOVE_REDUNDANT_SEMICOLONS)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 IBM Corporation and others.
+ * Copyright (c) 2024, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -66,6 +66,11 @@ public class RenameUnusedVariableCleanUpCore extends AbstractMultiFix {
 		return isEnabled(CleanUpConstants.REMOVE_UNUSED_CODE_LOCAL_VARIABLES);
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public ICleanUpFix createFix(CompilationUnit compilationUnit) throws CoreException {
 		return RenameUnusedVariableFixCore.createCleanUp(compilationUnit,
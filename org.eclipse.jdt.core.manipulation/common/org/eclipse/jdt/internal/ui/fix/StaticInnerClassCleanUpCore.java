@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2024, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -116,6 +116,11 @@ public class StaticInnerClassCleanUpCore extends AbstractMultiFix {
 		return bld.toString();
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	protected ICleanUpFix createFix(final CompilationUnit unit) throws CoreException {
 		if (!isEnabled(CleanUpConstants.STATIC_INNER_CLASS)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Fabrice TIERCELIN and others.
+ * Copyright (c) 2022, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,11 @@ public class SubstringCleanUpCore extends AbstractMultiFix {
 		return "String shortenedText = text.substring(2, text.length());\n"; //$NON-NLS-1$
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public ICleanUpFix createFix(final CompilationUnit unit) throws CoreException {
 		if (!isEnabled(CleanUpConstants.SUBSTRING)) {
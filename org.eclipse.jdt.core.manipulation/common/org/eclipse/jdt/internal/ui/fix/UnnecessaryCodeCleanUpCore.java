@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,11 @@ public class UnnecessaryCodeCleanUpCore extends AbstractMultiFix {
 		return new CleanUpRequirements(requireAST, false, false, requiredOptions);
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public ICleanUpFix createFix(CompilationUnit compilationUnit) throws CoreException {
 		return UnusedCodeFixCore.createCleanUp(compilationUnit,
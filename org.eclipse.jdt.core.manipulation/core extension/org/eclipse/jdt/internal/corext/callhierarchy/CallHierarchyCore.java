@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,7 @@ public class CallHierarchyCore {
     private static CallHierarchyCore fgInstance;
     private IJavaSearchScope fSearchScope;
     private StringMatcher[] fFilters;
+    private boolean fUseIndex= true;
 
     public static CallHierarchyCore getDefault() {
         if (fgInstance == null) {
@@ -71,6 +72,33 @@ public class CallHierarchyCore {
         return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_USE_IMPLEMENTORS, null));
     }
 
+    /**
+     * Tells whether callers and callees are read from and added to the {@link CallHierarchyIndex}.
+     *
+     * @return <code>true</code> if the index is used
+     * @since 1.22
+     */
+    public boolean isIndexEnabled() {
+        return fUseIndex;
+    }
+
+    /**
+     * @param useIndex whether callers and callees are read from and added to the
+     *            {@link CallHierarchyIndex}
+     * @since 1.22
+     */
+    public void setIndexEnabled(boolean useIndex) {
+        fUseIndex= useIndex;
+    }
+
+    /**
+     * @return the index of callers and callees, or <code>null</code> if the index is not used
+     * @since 1.22
+     */
+    public CallHierarchyIndex getIndex() {
+        return fUseIndex ? CallHierarchyIndex.getDefault() : null;
+    }
+
     public boolean isShowTestCode() {
         return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_SHOW_TEST_CODE_ONLY, null));
     }
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Expands call hierarchies breadth-first and searches the calls of siblings in parallel.
+ * <p>
+ * The calls of a node are searched on a pool of worker threads. The results are reported to an
+ * {@link IExpansionListener} in the thread that calls {@link #expand(MethodWrapper[], IExpansionListener, IProgressMonitor)},
+ * as soon as they are available. A member is only expanded once, even if it appears in several
+ * branches of the hierarchy, and recursive calls are not expanded. The expansion stops at a
+ * maximum depth and after a maximum number of nodes has been found.
+ * </p>
+ *
+ * @since 1.22
+ */
+public class CallHierarchyExpander {
+
+	/**
+	 * Receives the calls found by a {@link CallHierarchyExpander}.
+	 */
+	public interface IExpansionListener {
+		/**
+		 * Called when the calls of a node have been found.
+		 *
+		 * @param parent the expanded node
+		 * @param calls the calls of the node
+		 */
+		void callsFound(MethodWrapper parent, MethodWrapper[] calls);
+	}
+
+	private static class Expansion {
+		final MethodWrapper fParent;
+		final MethodWrapper[] fCalls;
+
+		Expansion(MethodWrapper parent, MethodWrapper[] calls) {
+			fParent= parent;
+			fCalls= calls;
+		}
+	}
+
+	private static final long POLL_INTERVAL= 100;
+
+	private final int fMaxDepth;
+	private final int fMaxNodes;
+	private final int fParallelism;
+
+	private int fNodeCount;
+	private boolean fBudgetExhausted;
+
+	/**
+	 * Creates an expander.
+	 *
+	 * @param maxDepth the level up to which nodes are expanded, the roots have level 1
+	 * @param maxNodes the number of nodes after which no further nodes are expanded
+	 * @param parallelism the maximum number of searches that run concurrently
+	 */
+	public CallHierarchyExpander(int maxDepth, int maxNodes, int parallelism) {
+		fMaxDepth= maxDepth;
+		fMaxNodes= maxNodes;
+		fParallelism= Math.max(1, parallelism);
+	}
+
+	/**
+	 * Expands the given roots.
+	 *
+	 * @param roots the nodes to expand
+	 * @param listener the listener that receives the calls of the expanded nodes
+	 * @param monitor the progress monitor, only used to check for cancellation
+	 * @return the number of nodes that have been found
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public int expand(MethodWrapper[] roots, IExpansionListener listener, IProgressMonitor monitor) {
+		fNodeCount= 0;
+		fBudgetExhausted= false;
+
+		AtomicInteger threadCount= new AtomicInteger();
+		ExecutorService executor= Executors.newFixedThreadPool(fParallelism, r -> {
+			Thread thread= new Thread(r, "Call Hierarchy Worker-" + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			IProgressMonitor cancelMonitor= new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return monitor != null && monitor.isCanceled();
+				}
+			};
+
+			CompletionService<Expansion> service= new ExecutorCompletionService<>(executor);
+			Set<String> expanded= new HashSet<>();
+			int pending= 0;
+			for (MethodWrapper root : roots) {
+				if (schedule(root, service, expanded, cancelMonitor))
+					pending++;
+			}
+
+			while (pending > 0) {
+				Future<Expansion> future= service.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				if (cancelMonitor.isCanceled())
+					throw new OperationCanceledException();
+				if (future == null)
+					continue;
+
+				pending--;
+				Expansion expansion= getExpansion(future);
+				if (expansion == null)
+					continue;
+
+				fNodeCount+= expansion.fCalls.length;
+				listener.callsFound(expansion.fParent, expansion.fCalls);
+				for (MethodWrapper call : expansion.fCalls) {
+					if (fNodeCount >= fMaxNodes) {
+						fBudgetExhausted= true;
+						break;
+					}
+					if (schedule(call, service, expanded, cancelMonitor))
+						pending++;
+				}
+			}
+			return fNodeCount;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private boolean schedule(MethodWrapper wrapper, CompletionService<Expansion> service, Set<String> expanded, IProgressMonitor cancelMonitor) {
+		if (wrapper.getLevel() > fMaxDepth || !wrapper.canHaveChildren() || wrapper.isRecursive())
+			return false;
+		if (!(wrapper instanceof RealCallers) && !expanded.add(wrapper.getMethodCall().getKey()))
+			return false;
+
+		service.submit(() -> new Expansion(wrapper, wrapper.getCalls(cancelMonitor)));
+		return true;
+	}
+
+	private static Expansion getExpansion(Future<Expansion> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof OperationCanceledException)
+				throw (OperationCanceledException) cause;
+			JavaManipulationPlugin.log(cause);
+			return null;
+		}
+	}
+
+	/**
+	 * @return the number of nodes found by the last expansion
+	 */
+	public int getNodeCount() {
+		return fNodeCount;
+	}
+
+	/**
+	 * @return <code>true</code> if the last expansion stopped because the maximum number of nodes
+	 *         has been found
+	 */
+	public boolean isBudgetExhausted() {
+		return fBudgetExhausted;
+	}
+}
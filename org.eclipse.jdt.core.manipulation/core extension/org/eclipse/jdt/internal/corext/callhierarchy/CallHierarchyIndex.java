@@ -0,0 +1,569 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ISaveContext;
+import org.eclipse.core.resources.ISaveParticipant;
+import org.eclipse.core.resources.ISavedState;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.manipulation.JavaManipulation;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+import org.eclipse.jdt.internal.corext.util.StructuralDeltaCache;
+
+/**
+ * An index of the callers and callees found by the call hierarchy.
+ * <p>
+ * The index keeps the unfiltered calls of every member for which callers (searched in the
+ * workspace scope) or callees have been computed, so that the filters and the search scope of
+ * the call hierarchy can be applied when the calls are read. It is kept up to date with the
+ * Java element deltas:
+ * </p>
+ * <ul>
+ * <li>callees are dropped when the compilation unit of the member or of one of the called
+ * members changes,</li>
+ * <li>callers are dropped when a compilation unit that contains one of the calls changes, or
+ * when a changed compilation unit contains the name of the member and might therefore contain a
+ * new call,</li>
+ * <li>all entries are dropped on classpath and type hierarchy changes.</li>
+ * </ul>
+ * <p>
+ * The index is saved with the workspace. The resource changes that happened while the workspace
+ * was closed are applied when the index is loaded.
+ * </p>
+ *
+ * @since 1.22
+ */
+public final class CallHierarchyIndex {
+
+	/**
+	 * A call found by a search or by the analysis of a member, before it is filtered.
+	 */
+	static final class Reference {
+		final String fMember;
+		final String fCalledMember;
+		final int fStart;
+		final int fEnd;
+		final int fLineNumber;
+		final boolean fPotential;
+
+		Reference(String member, String calledMember, int start, int end, int lineNumber, boolean potential) {
+			fMember= member;
+			fCalledMember= calledMember;
+			fStart= start;
+			fEnd= end;
+			fLineNumber= lineNumber;
+			fPotential= potential;
+		}
+	}
+
+	private static final class Entry {
+		/**
+		 * The name that a new call of the member must contain, or <code>null</code> for callees.
+		 */
+		final String fName;
+		final Set<String> fUnits;
+		final Reference[] fReferences;
+
+		Entry(String name, Set<String> units, Reference[] references) {
+			fName= name;
+			fUnits= units;
+			fReferences= references;
+		}
+	}
+
+	private class SaveParticipant implements ISaveParticipant {
+		@Override
+		public void saving(ISaveContext context) {
+			if (context.getKind() == ISaveContext.FULL_SAVE) {
+				save(context.getSaveNumber());
+				context.needDelta();
+			}
+		}
+
+		@Override
+		public void doneSaving(ISaveContext context) {
+		}
+
+		@Override
+		public void prepareToSave(ISaveContext context) {
+		}
+
+		@Override
+		public void rollback(ISaveContext context) {
+		}
+	}
+
+	private static final String FILE_NAME= "callHierarchyIndex.dat"; //$NON-NLS-1$
+	private static final int VERSION= 1;
+	private static final int MAX_ENTRIES= 5000;
+
+	private static final String CALLERS_PREFIX= "R"; //$NON-NLS-1$
+	private static final String CALLEES_PREFIX= "C"; //$NON-NLS-1$
+
+	private static final int NULL= -1;
+	private static final int DEFINE= -2;
+
+	private static CallHierarchyIndex fgInstance;
+
+	public static synchronized CallHierarchyIndex getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new CallHierarchyIndex();
+			fgInstance.load();
+			JavaCore.addElementChangedListener(fgInstance::elementChanged, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgInstance;
+	}
+
+	private final LRUMap<String, Entry> fEntries= new LRUMap<>(MAX_ENTRIES);
+	private int fHits;
+	private int fMisses;
+
+	private CallHierarchyIndex() {
+	}
+
+	/**
+	 * Returns the callers of the given member.
+	 *
+	 * @param member the member
+	 * @param limitTo the search mode of the callers search
+	 * @param scope the scope to which the callers are restricted, or <code>null</code> for the
+	 *            workspace
+	 * @return a map from handle identifier to {@link MethodCall}, or <code>null</code> if the
+	 *         callers are not known
+	 */
+	public Map<String, MethodCall> getCallers(IMember member, int limitTo, IJavaSearchScope scope) {
+		String key= CALLERS_PREFIX + limitTo + member.getHandleIdentifier();
+		return getCalls(key, member, scope);
+	}
+
+	/**
+	 * Adds the callers that have been found by a search in the workspace scope.
+	 *
+	 * @param member the member
+	 * @param limitTo the search mode of the callers search
+	 * @param name the name that every reference to the member contains
+	 * @param collector the collector of the search results
+	 */
+	void putCallers(IMember member, int limitTo, String name, CallSearchResultCollector collector) {
+		String key= CALLERS_PREFIX + limitTo + member.getHandleIdentifier();
+		putCalls(key, member, name, collector);
+	}
+
+	/**
+	 * Returns the callees of the given member.
+	 *
+	 * @param member the member
+	 * @return a map from handle identifier to {@link MethodCall}, or <code>null</code> if the
+	 *         callees are not known
+	 */
+	public Map<String, MethodCall> getCallees(IMember member) {
+		return getCalls(CALLEES_PREFIX + member.getHandleIdentifier(), member, null);
+	}
+
+	/**
+	 * Adds the callees that have been found by the analysis of a member.
+	 *
+	 * @param member the member
+	 * @param collector the collector of the analysis results
+	 */
+	void putCallees(IMember member, CallSearchResultCollector collector) {
+		putCalls(CALLEES_PREFIX + member.getHandleIdentifier(), member, null, collector);
+	}
+
+	private Map<String, MethodCall> getCalls(String key, IMember member, IJavaSearchScope scope) {
+		Entry entry;
+		synchronized (this) {
+			entry= fEntries.get(key);
+			if (entry == null) {
+				fMisses++;
+				return null;
+			}
+		}
+
+		CallSearchResultCollector collector= new CallSearchResultCollector(false);
+		Map<String, IJavaElement> elements= new HashMap<>();
+		for (Reference reference : entry.fReferences) {
+			IJavaElement caller= getElement(reference.fMember, elements);
+			IJavaElement called= getElement(reference.fCalledMember, elements);
+			if (!(caller instanceof IMember) || !(called instanceof IMember) || !called.exists()) {
+				remove(key, entry);
+				return null;
+			}
+			if (scope == null || scope.encloses(caller)) {
+				collector.addMember((IMember) caller, (IMember) called, reference.fStart, reference.fEnd, reference.fLineNumber, reference.fPotential);
+			}
+		}
+		synchronized (this) {
+			fHits++;
+		}
+		return collector.getCallers();
+	}
+
+	private static IJavaElement getElement(String handle, Map<String, IJavaElement> elements) {
+		IJavaElement element= elements.get(handle);
+		if (element == null) {
+			element= JavaCore.create(handle);
+			if (element != null && element.exists()) {
+				elements.put(handle, element);
+			}
+		}
+		return element;
+	}
+
+	private void putCalls(String key, IMember member, String name, CallSearchResultCollector collector) {
+		List<Reference> references= collector.getReferences();
+		if (references == null)
+			return;
+
+		Set<String> units= new HashSet<>(collector.getUnits());
+		ICompilationUnit unit= member.getCompilationUnit();
+		if (unit != null) {
+			units.add(unit.getPrimary().getHandleIdentifier());
+		}
+		Entry entry= new Entry(name, units, references.toArray(new Reference[references.size()]));
+		synchronized (this) {
+			fEntries.put(key, entry);
+		}
+	}
+
+	private synchronized void remove(String key, Entry entry) {
+		if (fEntries.get(key) == entry) {
+			fEntries.remove(key);
+		}
+	}
+
+	public synchronized int getHits() {
+		return fHits;
+	}
+
+	public synchronized int getMisses() {
+		return fMisses;
+	}
+
+	public synchronized int size() {
+		return fEntries.size();
+	}
+
+	public synchronized void clear() {
+		fEntries.clear();
+		fHits= 0;
+		fMisses= 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "CallHierarchyIndex [entries=" + fEntries.size() + ", hits=" + fHits + ", misses=" + fMisses + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	private synchronized void invalidateAll() {
+		fEntries.clear();
+	}
+
+	/**
+	 * Drops the entries that might be affected by a change of the given compilation unit.
+	 *
+	 * @param unit the changed compilation unit
+	 * @param removed <code>true</code> if the compilation unit has been removed
+	 */
+	private void unitChanged(ICompilationUnit unit, boolean removed) {
+		synchronized (this) {
+			if (fEntries.isEmpty())
+				return;
+		}
+
+		String handle= unit.getPrimary().getHandleIdentifier();
+		Set<String> identifiers= removed ? new HashSet<>() : getIdentifiers(unit);
+		synchronized (this) {
+			for (Iterator<Entry> iter= fEntries.values().iterator(); iter.hasNext();) {
+				Entry entry= iter.next();
+				if (entry.fUnits.contains(handle) || entry.fName != null && (identifiers == null || identifiers.contains(entry.fName))) {
+					iter.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the identifiers in the source of the given compilation unit. Comments and string
+	 * literals are not skipped, so the result might contain more than the actual identifiers.
+	 *
+	 * @param unit the compilation unit
+	 * @return the identifiers, or <code>null</code> if the source is not available
+	 */
+	private static Set<String> getIdentifiers(ICompilationUnit unit) {
+		String source;
+		try {
+			source= unit.getSource();
+		} catch (JavaModelException e) {
+			return null;
+		}
+		if (source == null)
+			return null;
+
+		Set<String> identifiers= new HashSet<>();
+		int length= source.length();
+		int i= 0;
+		while (i < length) {
+			if (Character.isJavaIdentifierStart(source.charAt(i))) {
+				int start= i++;
+				while (i < length && Character.isJavaIdentifierPart(source.charAt(i)))
+					i++;
+				identifiers.add(source.substring(start, i));
+			} else {
+				i++;
+			}
+		}
+		return identifiers;
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		processDelta(event.getDelta());
+	}
+
+	/**
+	 * Processes the given Java element delta.
+	 *
+	 * @param delta the delta
+	 * @return <code>false</code> if all entries have been dropped
+	 */
+	private boolean processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (StructuralDeltaCache.isClasspathChange(delta)) {
+					invalidateAll();
+					return false;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit= (ICompilationUnit) element;
+				if (unit.getOwner() != null) // non-shared working copy
+					return true;
+				int flags= delta.getFlags();
+				if (delta.getKind() == IJavaElementDelta.CHANGED && (flags == IJavaElementDelta.F_AST_AFFECTED || flags == IJavaElementDelta.F_PRIMARY_RESOURCE))
+					return true;
+				if (hasSuperTypesChange(delta)) {
+					invalidateAll();
+					return false;
+				}
+				unitChanged(unit, delta.getKind() == IJavaElementDelta.REMOVED);
+				return true;
+			default: // class files
+				invalidateAll();
+				return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!processDelta(child))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean hasSuperTypesChange(IJavaElementDelta delta) {
+		if ((delta.getFlags() & IJavaElementDelta.F_SUPER_TYPES) != 0)
+			return true;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (hasSuperTypesChange(child))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Processes a resource delta of the changes since the index has been saved.
+	 *
+	 * @param event the resource change event
+	 */
+	private void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null)
+			return;
+
+		try {
+			delta.accept(resourceDelta -> {
+				IResource resource= resourceDelta.getResource();
+				switch (resource.getType()) {
+					case IResource.PROJECT:
+						if (resourceDelta.getKind() != IResourceDelta.CHANGED || (resourceDelta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+							invalidateAll();
+						}
+						return size() > 0;
+					case IResource.FILE:
+						if ("java".equals(resource.getFileExtension())) { //$NON-NLS-1$
+							IJavaElement element= JavaCore.create((IFile) resource);
+							if (element instanceof ICompilationUnit) {
+								unitChanged((ICompilationUnit) element, resourceDelta.getKind() == IResourceDelta.REMOVED);
+							}
+						} else if ("jar".equals(resource.getFileExtension()) || ".classpath".equals(resource.getName())) { //$NON-NLS-1$ //$NON-NLS-2$
+							invalidateAll();
+						}
+						return false;
+					default:
+						return size() > 0;
+				}
+			});
+		} catch (CoreException e) {
+			invalidateAll();
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	private static File getFile() {
+		return JavaManipulationPlugin.getDefault().getStateLocation().append(FILE_NAME).toFile();
+	}
+
+	private synchronized void save(int saveNumber) {
+		File file= getFile();
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(VERSION);
+			out.writeInt(saveNumber);
+			out.writeInt(fEntries.size());
+			Map<String, Integer> handles= new HashMap<>();
+			for (Map.Entry<String, Entry> mapEntry : fEntries.entrySet()) {
+				Entry entry= mapEntry.getValue();
+				writeString(out, mapEntry.getKey(), handles);
+				writeString(out, entry.fName, handles);
+				out.writeInt(entry.fUnits.size());
+				for (String unit : entry.fUnits) {
+					writeString(out, unit, handles);
+				}
+				out.writeInt(entry.fReferences.length);
+				for (Reference reference : entry.fReferences) {
+					writeString(out, reference.fMember, handles);
+					writeString(out, reference.fCalledMember, handles);
+					out.writeInt(reference.fStart);
+					out.writeInt(reference.fEnd);
+					out.writeInt(reference.fLineNumber);
+					out.writeBoolean(reference.fPotential);
+				}
+			}
+		} catch (IOException e) {
+			file.delete();
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	private void load() {
+		ISavedState savedState;
+		try {
+			savedState= ResourcesPlugin.getWorkspace().addSaveParticipant(JavaManipulation.ID_PLUGIN, new SaveParticipant());
+		} catch (CoreException e) {
+			JavaManipulationPlugin.log(e);
+			return;
+		}
+
+		File file= getFile();
+		if (!file.exists())
+			return;
+
+		// without a saved state, the changes since the index has been written are unknown
+		if (savedState == null)
+			return;
+
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION || in.readInt() != savedState.getSaveNumber())
+				return;
+			int size= in.readInt();
+			List<String> handles= new ArrayList<>();
+			for (int i= 0; i < size; i++) {
+				String key= readString(in, handles);
+				String name= readString(in, handles);
+				int unitCount= in.readInt();
+				Set<String> units= new HashSet<>(unitCount);
+				for (int j= 0; j < unitCount; j++) {
+					units.add(readString(in, handles));
+				}
+				Reference[] references= new Reference[in.readInt()];
+				for (int j= 0; j < references.length; j++) {
+					references[j]= new Reference(readString(in, handles), readString(in, handles), in.readInt(), in.readInt(), in.readInt(), in.readBoolean());
+				}
+				synchronized (this) {
+					fEntries.put(key, new Entry(name, units, references));
+				}
+			}
+		} catch (IOException e) {
+			invalidateAll();
+			JavaManipulationPlugin.log(e);
+			return;
+		}
+
+		savedState.processResourceChangeEvents(this::resourceChanged);
+	}
+
+	private static void writeString(DataOutputStream out, String value, Map<String, Integer> handles) throws IOException {
+		if (value == null) {
+			out.writeInt(NULL);
+			return;
+		}
+		Integer handle= handles.get(value);
+		if (handle != null) {
+			out.writeInt(handle.intValue());
+		} else {
+			handles.put(value, Integer.valueOf(handles.size()));
+			out.writeInt(DEFINE);
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in, List<String> handles) throws IOException {
+		int handle= in.readInt();
+		if (handle == NULL)
+			return null;
+		if (handle == DEFINE) {
+			String value= in.readUTF();
+			handles.add(value);
+			return value;
+		}
+		if (handle < 0 || handle >= handles.size())
+			throw new IOException("Invalid string handle: " + handle); //$NON-NLS-1$
+		return handles.get(handle);
+	}
+}
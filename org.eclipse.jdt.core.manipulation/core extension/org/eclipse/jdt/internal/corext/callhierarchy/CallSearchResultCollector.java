@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
@@ -31,8 +36,30 @@ class CallSearchResultCollector {
      */
     private Map<String, MethodCall> fCalledMembers;
 
+    /**
+     * The calls that have been added, before they are filtered, or <code>null</code> if the calls
+     * are not recorded.
+     */
+    private List<CallHierarchyIndex.Reference> fReferences;
+
+    /**
+     * The handle identifiers of the compilation units of the recorded calls.
+     */
+    private Set<String> fUnits;
+
     public CallSearchResultCollector() {
+        this(true);
+    }
+
+    /**
+     * @param record whether the added calls are recorded for the {@link CallHierarchyIndex}
+     */
+    public CallSearchResultCollector(boolean record) {
         this.fCalledMembers = createCalledMethodsData();
+        if (record) {
+            fReferences= new ArrayList<>();
+            fUnits= new HashSet<>();
+        }
     }
 
     /**
@@ -48,6 +75,9 @@ class CallSearchResultCollector {
 
     protected void addMember(IMember member, IMember calledMember, int start, int end, int lineNumber, boolean potential) {
         if ((member != null) && (calledMember != null)) {
+            if (fReferences != null) {
+                recordReference(member, calledMember, start, end, lineNumber, potential);
+            }
             if (!isIgnored(calledMember)) {
                 MethodCall methodCall = fCalledMembers.get(calledMember.getHandleIdentifier());
 
@@ -64,6 +94,36 @@ class CallSearchResultCollector {
         }
     }
 
+    /**
+     * @return the recorded calls, or <code>null</code> if the calls are not recorded
+     */
+    List<CallHierarchyIndex.Reference> getReferences() {
+        return fReferences;
+    }
+
+    /**
+     * @return the handle identifiers of the compilation units of the recorded calls, or
+     *         <code>null</code> if the calls are not recorded
+     */
+    Set<String> getUnits() {
+        return fUnits;
+    }
+
+    private void recordReference(IMember member, IMember calledMember, int start, int end, int lineNumber, boolean potential) {
+        String memberHandle= member.getHandleIdentifier();
+        String calledMemberHandle= calledMember.equals(member) ? memberHandle : calledMember.getHandleIdentifier();
+        fReferences.add(new CallHierarchyIndex.Reference(memberHandle, calledMemberHandle, start, end, lineNumber, potential));
+        addUnit(member);
+        addUnit(calledMember);
+    }
+
+    private void addUnit(IMember member) {
+        ICompilationUnit unit= member.getCompilationUnit();
+        if (unit != null) {
+            fUnits.add(unit.getPrimary().getHandleIdentifier());
+        }
+    }
+
     protected Map<String, MethodCall> createCalledMethodsData() {
         return new HashMap<>();
     }
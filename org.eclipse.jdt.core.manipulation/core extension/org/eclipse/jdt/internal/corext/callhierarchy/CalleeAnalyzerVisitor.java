@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -85,6 +85,10 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
         return fSearchResults.getCallers();
     }
 
+    CallSearchResultCollector getResultCollector() {
+        return fSearchResults;
+    }
+
     @Override
 	public boolean visit(ClassInstanceCreation node) {
         progressMonitorWorked(1);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,6 +90,14 @@ class CalleeMethodWrapper extends MethodWrapper {
 	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor) {
     	IMember member= getMember();
 		if (member.exists()) {
+			// the implementors of called methods depend on the call location and on the search scope
+			CallHierarchyIndex index= CallHierarchyCore.getDefault().isSearchUsingImplementorsEnabled() ? null : CallHierarchyCore.getDefault().getIndex();
+			if (index != null) {
+				Map<String, MethodCall> callees= index.getCallees(member);
+				if (callees != null)
+					return callees;
+			}
+
 			CompilationUnit cu= CallHierarchyCore.getCompilationUnitNode(member, true);
 		    if (progressMonitor != null) {
 		        progressMonitor.worked(5);
@@ -99,6 +107,9 @@ class CalleeMethodWrapper extends MethodWrapper {
 				CalleeAnalyzerVisitor visitor = new CalleeAnalyzerVisitor(this.getMethodCall().getFirstCallLocation(), member, cu, progressMonitor);
 
 				cu.accept(visitor);
+				if (index != null && (progressMonitor == null || !progressMonitor.isCanceled())) {
+					index.putCallees(member, visitor.getResultCollector());
+				}
 				return visitor.getCallees();
 			}
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -137,8 +137,8 @@ public class CallerMethodWrapper extends MethodWrapper {
 							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 				}
 			}
+			int limitTo= IJavaSearchConstants.REFERENCES;
 			if (pattern == null) {
-				int limitTo= IJavaSearchConstants.REFERENCES;
 				if (member.getElementType() == IJavaElement.FIELD)
 					limitTo= getFieldSearchMode();
 				pattern= SearchPattern.createPattern(member, limitTo, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
@@ -147,13 +147,25 @@ public class CallerMethodWrapper extends MethodWrapper {
 				return new HashMap<>(0);
 			}
 
-			SearchEngine searchEngine= new SearchEngine();
-			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
 			IJavaSearchScope defaultSearchScope= getSearchScope();
 			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
+
+			CallHierarchyIndex index= CallHierarchyCore.getDefault().getIndex();
+			if (index != null) {
+				Map<String, MethodCall> callers= index.getCallers(member, limitTo, isWorkspaceScope ? null : defaultSearchScope);
+				if (callers != null)
+					return callers;
+			}
+
+			SearchEngine searchEngine= new SearchEngine();
+			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
 			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
 			searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
 					monitor);
+			if (index != null && isWorkspaceScope && !monitor.isCanceled()) {
+				String name= (type != null ? type : member).getElementName();
+				index.putCallers(member, limitTo, name, searchRequestor.getResultCollector());
+			}
 			return searchRequestor.getCallers();
 
 		} catch (CoreException e) {
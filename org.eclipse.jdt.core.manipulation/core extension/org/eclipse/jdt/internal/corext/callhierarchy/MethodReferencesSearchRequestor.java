@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,10 @@ class MethodReferencesSearchRequestor extends SearchRequestor {
         return fSearchResults.getCallers();
     }
 
+    CallSearchResultCollector getResultCollector() {
+        return fSearchResults;
+    }
+
     @Override
 	public void acceptSearchMatch(SearchMatch match) {
         if (fRequireExactMatch && (match.getAccuracy() != SearchMatch.A_ACCURATE)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ package org.eclipse.jdt.internal.corext.callhierarchy;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -51,6 +52,8 @@ public abstract class MethodWrapper extends PlatformObject {
      * A cache of previously found methods. This cache should be searched
      * before adding a "new" method object reference to the list of elements.
      * This way previously found methods won't be searched again.
+     * The cache is shared by all wrappers of a tree, whose children may be
+     * searched concurrently (see CallHierarchyExpander).
      */
     private Map<String, Map<String, MethodCall>> fMethodCache;
     private final MethodCall fMethodCall;
@@ -66,7 +69,7 @@ public abstract class MethodWrapper extends PlatformObject {
         Assert.isNotNull(methodCall);
 
         if (parent == null) {
-            setMethodCache(new HashMap<>());
+            setMethodCache(new ConcurrentHashMap<>());
             fLevel = 1;
         } else {
             setMethodCache(parent.getMethodCache());
@@ -82,7 +85,7 @@ public abstract class MethodWrapper extends PlatformObject {
         return fMethodWrapperCore.getAdapter(this, adapter);
 	}
 
-    public MethodWrapper[] getCalls(IProgressMonitor progressMonitor) {
+    public synchronized MethodWrapper[] getCalls(IProgressMonitor progressMonitor) {
         if (fElements == null) {
             doFindChildren(progressMonitor);
         }
@@ -277,7 +280,7 @@ public abstract class MethodWrapper extends PlatformObject {
     }
 
     private void initCacheForMethod() {
-        Map<String, MethodCall> cachedCalls = new HashMap<>();
+        Map<String, MethodCall> cachedCalls = new ConcurrentHashMap<>();
         getMethodCache().put(this.getMethodCall().getKey(), cachedCalls);
     }
 
@@ -301,7 +304,7 @@ public abstract class MethodWrapper extends PlatformObject {
 	 *
 	 * @since 3.6
 	 */
-	public void removeFromCache() {
+	public synchronized void removeFromCache() {
 		fElements= null;
 		fMethodCache.remove(getMethodCall().getKey());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,11 @@ package org.eclipse.jdt.internal.corext.refactoring.generics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -32,6 +34,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.ArrayType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.HierarchyType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
@@ -62,6 +65,150 @@ public class InferTypeArgumentsConstraintsSolver {
 		public static TTypeComparator INSTANCE= new TTypeComparator();
 	}
 
+	private interface WorkList {
+		void add(ConstraintVariable2 cv);
+		boolean isEmpty();
+		int size();
+		ConstraintVariable2 removeFirst();
+	}
+
+	private static class FifoWorkList implements WorkList {
+		private final LinkedList<ConstraintVariable2> fVariables= new LinkedList<>();
+
+		@Override
+		public void add(ConstraintVariable2 cv) {
+			fVariables.add(cv);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return fVariables.isEmpty();
+		}
+
+		@Override
+		public int size() {
+			return fVariables.size();
+		}
+
+		@Override
+		public ConstraintVariable2 removeFirst() {
+			return fVariables.removeFirst();
+		}
+	}
+
+	/**
+	 * A work-list that holds each variable at most once. The variables are processed in sweeps
+	 * over the order in which they were first added, so a variable that changes again before its
+	 * turn is processed only once.
+	 */
+	private static class PriorityWorkList implements WorkList {
+		private final Map<ConstraintVariable2, Integer> fPriorities= new HashMap<>();
+		private final List<ConstraintVariable2> fVariables= new ArrayList<>();
+		private final BitSet fPending= new BitSet();
+		private int fNext;
+
+		@Override
+		public void add(ConstraintVariable2 cv) {
+			Integer priority= fPriorities.get(cv);
+			if (priority == null) {
+				priority= Integer.valueOf(fVariables.size());
+				fVariables.add(cv);
+				fPriorities.put(cv, priority);
+			}
+			fPending.set(priority.intValue());
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return fPending.isEmpty();
+		}
+
+		@Override
+		public int size() {
+			return fPending.cardinality();
+		}
+
+		@Override
+		public ConstraintVariable2 removeFirst() {
+			int next= fPending.nextSetBit(fNext);
+			if (next == -1)
+				next= fPending.nextSetBit(0);
+			fPending.clear(next);
+			fNext= next + 1;
+			return fVariables.get(next);
+		}
+	}
+
+	/**
+	 * The numbers of a run of the solver.
+	 */
+	public static final class SolverStatistics {
+		private final int fConstraintVariableCount;
+		private final int fConstraintCount;
+		private final int fIterationCount;
+		private final int fConstraintEvaluationCount;
+		private final int fTypeCount;
+		private final long fSolveTime;
+
+		SolverStatistics(int constraintVariableCount, int constraintCount, int iterationCount, int constraintEvaluationCount, int typeCount, long solveTime) {
+			fConstraintVariableCount= constraintVariableCount;
+			fConstraintCount= constraintCount;
+			fIterationCount= iterationCount;
+			fConstraintEvaluationCount= constraintEvaluationCount;
+			fTypeCount= typeCount;
+			fSolveTime= solveTime;
+		}
+
+		public int getConstraintVariableCount() {
+			return fConstraintVariableCount;
+		}
+
+		public int getConstraintCount() {
+			return fConstraintCount;
+		}
+
+		/**
+		 * @return the number of variables that have been taken from the work-list
+		 */
+		public int getIterationCount() {
+			return fIterationCount;
+		}
+
+		/**
+		 * @return the number of times a type constraint has been maintained
+		 */
+		public int getConstraintEvaluationCount() {
+			return fConstraintEvaluationCount;
+		}
+
+		/**
+		 * @return the number of interned types, or <code>0</code> if the solver did not use type ids
+		 */
+		public int getTypeCount() {
+			return fTypeCount;
+		}
+
+		/**
+		 * @return the time in milliseconds needed to solve the constraints
+		 */
+		public long getSolveTime() {
+			return fSolveTime;
+		}
+
+		@Override
+		public String toString() {
+			return "constraint variables: " + fConstraintVariableCount + ", constraints: " + fConstraintCount //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", iterations: " + fIterationCount + ", constraint evaluations: " + fConstraintEvaluationCount //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", types: " + fTypeCount + ", time: " + fSolveTime + "ms"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * Whether the solver uses type ids, bit sets and a deduplicating work-list by default. Can be
+	 * set with the system property <code>org.eclipse.jdt.ui.inferTypeArguments.scalableSolver</code>.
+	 */
+	static final boolean DEFAULT_SCALABLE= Boolean.getBoolean("org.eclipse.jdt.ui.inferTypeArguments.scalableSolver"); //$NON-NLS-1$
+
 	private final static String CHOSEN_TYPE= "chosenType"; //$NON-NLS-1$
 
 	private final InferTypeArgumentsTCModel fTCModel;
@@ -72,25 +219,54 @@ public class InferTypeArgumentsConstraintsSolver {
 	 * nodes in the constraint graph that remain to be (re-)processed. Entries
 	 * are <code>ConstraintVariable2</code>s.
 	 */
-	private LinkedList<ConstraintVariable2> fWorkList;
+	private WorkList fWorkList;
 
 	private InferTypeArgumentsUpdate fUpdate;
 
+	private boolean fScalable= DEFAULT_SCALABLE;
+
+	private int fIterationCount;
+	private int fConstraintEvaluationCount;
+	private SolverStatistics fStatistics;
+
 
 	public InferTypeArgumentsConstraintsSolver(InferTypeArgumentsTCModel typeConstraintFactory) {
 		fTCModel= typeConstraintFactory;
-		fWorkList= new LinkedList<>();
+	}
+
+	/**
+	 * Sets whether the solver interns the types and represents enumerated type sets by bit sets of
+	 * the type ids, and whether the work-list holds each constraint variable only once. This needs
+	 * much less memory and time for projects with many raw types, but if several types are equally
+	 * good, the chosen type can be a different one.
+	 *
+	 * @param scalable <code>true</code> to use type ids and a deduplicating work-list
+	 */
+	public void setScalable(boolean scalable) {
+		fScalable= scalable;
+	}
+
+	/**
+	 * @return the numbers of the last run of {@link #solveConstraints(IProgressMonitor)}, or
+	 *         <code>null</code> if the solver has not run or there were no constraint variables
+	 */
+	public SolverStatistics getStatistics() {
+		return fStatistics;
 	}
 
 	public InferTypeArgumentsUpdate solveConstraints(IProgressMonitor pm) {
 		pm.beginTask("", 2); //$NON-NLS-1$
 		fUpdate= new InferTypeArgumentsUpdate();
+		fWorkList= fScalable ? new PriorityWorkList() : new FifoWorkList();
+		fIterationCount= 0;
+		fConstraintEvaluationCount= 0;
+		long start= System.currentTimeMillis();
 
 		ConstraintVariable2[] allConstraintVariables= fTCModel.getAllConstraintVariables();
 		if (allConstraintVariables.length == 0)
 			return fUpdate;
 
-		fTypeSetEnvironment= new TypeSetEnvironment(fTCModel.getTypeEnvironment());
+		fTypeSetEnvironment= new TypeSetEnvironment(fTCModel.getTypeEnvironment(), fScalable);
 		ParametricStructureComputer parametricStructureComputer= new ParametricStructureComputer(allConstraintVariables, fTCModel);
 		Collection<CollectionElementVariable2> newVars= parametricStructureComputer.createElemConstraintVariables();
 
@@ -123,13 +299,24 @@ public class InferTypeArgumentsConstraintsSolver {
 		initializeTypeEstimates(allConstraintVariables);
 		if (pm.isCanceled())
 			throw new OperationCanceledException();
-		fWorkList.addAll(Arrays.asList(allConstraintVariables));
+		addToWorkList(allConstraintVariables);
 		runSolver(Progress.subMonitor(pm, 1));
 		chooseTypes(allConstraintVariables, Progress.subMonitor(pm, 1));
 		findCastsToRemove(fTCModel.getCastVariables());
+
+		fStatistics= new SolverStatistics(allConstraintVariables.length, fTCModel.getAllTypeConstraints().length, fIterationCount,
+				fConstraintEvaluationCount, fTypeSetEnvironment.getTypeCount(), System.currentTimeMillis() - start);
+		if (JavaManipulationPlugin.DEBUG_TYPE_CONSTRAINTS)
+			System.out.println("InferTypeArgumentsConstraintsSolver - " + fStatistics); //$NON-NLS-1$
 		return fUpdate;
 	}
 
+	private void addToWorkList(ConstraintVariable2[] cvs) {
+		for (ConstraintVariable2 cv : cvs) {
+			fWorkList.add(cv);
+		}
+	}
+
 	private void initializeTypeEstimates(ConstraintVariable2[] allConstraintVariables) {
 		for (ConstraintVariable2 cv : allConstraintVariables) {
 			//TODO: not necessary for types that are not used in a TypeConstraint but only as type in CollectionElementVariable
@@ -192,6 +379,7 @@ public class InferTypeArgumentsConstraintsSolver {
 		while (! fWorkList.isEmpty()) {
 			// Get a variable whose type estimate has changed
 			ConstraintVariable2 cv= fWorkList.removeFirst();
+			fIterationCount++;
 			List<ITypeConstraint2> usedIn= fTCModel.getUsedIn(cv);
 			processConstraints(usedIn);
 			pm.worked(1);
@@ -225,6 +413,7 @@ public class InferTypeArgumentsConstraintsSolver {
 	}
 
 	private void maintainSimpleConstraint(ITypeConstraint2 stc) {
+		fConstraintEvaluationCount++;
 		ConstraintVariable2 left= stc.getLeft();
 		ConstraintVariable2 right= stc.getRight();
 
@@ -249,7 +438,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for LHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			leftSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(leftSet.getContributingVariables()));
+			addToWorkList(leftSet.getContributingVariables());
 		}
 		if (! lhsSuperTypes.containsAll(rightEstimate)) {
 			TypeSet xsection= rightEstimate.intersectedWith(lhsSuperTypes);
@@ -258,7 +447,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for RHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			rightSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(rightSet.getContributingVariables()));
+			addToWorkList(rightSet.getContributingVariables());
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -78,9 +78,12 @@ import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringArguments;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationStateChange;
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsConstraintsSolver.SolverStatistics;
 import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsUpdate.CuUpdate;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.SharedTypeEnvironments;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.EnumeratedTypeSet;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSet;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.CastVariable2;
@@ -111,6 +114,9 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 	private boolean fAssumeCloneReturnsSameType;
 	private boolean fLeaveUnconstrainedRaw;
 
+	private boolean fScalableSolver= InferTypeArgumentsConstraintsSolver.DEFAULT_SCALABLE;
+	private SolverStatistics fSolverStatistics;
+
 	/**
 	 * Creates a new infer type arguments refactoring.
 	 * @param elements the elements to process, or <code>null</code> if invoked by scripting
@@ -149,6 +155,23 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 		return fLeaveUnconstrainedRaw;
 	}
 
+	/**
+	 * @param scalable <code>true</code> to solve the constraints with type ids and a deduplicating
+	 *            work-list
+	 * @see InferTypeArgumentsConstraintsSolver#setScalable(boolean)
+	 */
+	public void setScalableSolver(boolean scalable) {
+		fScalableSolver= scalable;
+	}
+
+	/**
+	 * @return the numbers of the last constraint solver run, or <code>null</code> if the final
+	 *         conditions have not been checked
+	 */
+	public SolverStatistics getSolverStatistics() {
+		return fSolverStatistics;
+	}
+
 	/*
 	 * @see org.eclipse.ltk.core.refactoring.Refactoring#checkInitialConditions(org.eclipse.core.runtime.IProgressMonitor)
 	 */
@@ -168,7 +191,7 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 		pm.beginTask("", projectsToElements.size() + 2); //$NON-NLS-1$
 		final RefactoringStatus result= new RefactoringStatus();
 		try {
-			fTCModel= new InferTypeArgumentsTCModel();
+			fTCModel= new InferTypeArgumentsTCModel(createTypeEnvironment(projectsToElements.keySet()));
 			final InferTypeArgumentsConstraintCreator unitCollector= new InferTypeArgumentsConstraintCreator(fTCModel, fAssumeCloneReturnsSameType);
 
 			for (Entry<IJavaProject, ArrayList<IJavaElement>> entry : projectsToElements.entrySet()) {
@@ -238,7 +261,9 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 
 			pm.setTaskName(RefactoringCoreMessages.InferTypeArgumentsRefactoring_solving);
 			InferTypeArgumentsConstraintsSolver solver= new InferTypeArgumentsConstraintsSolver(fTCModel);
+			solver.setScalable(fScalableSolver);
 			InferTypeArgumentsUpdate updates= solver.solveConstraints(Progress.subMonitor(pm, 1));
+			fSolverStatistics= solver.getStatistics();
 			solver= null; //free caches
 
 			fChangeManager= new TextChangeManager();
@@ -256,9 +281,24 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 	private void clearGlobalState() {
 		TypeSet.resetCount();
 		EnumeratedTypeSet.resetCount();
+		if (fTCModel != null)
+			fTCModel.getTypeEnvironment().endSubTypeScope();
 		fTCModel= null;
 	}
 
+	/*
+	 * The type environments are shared per project, so a shared environment is only used if all
+	 * elements are in one project. The subtype scope of a shared environment ends in
+	 * clearGlobalState().
+	 */
+	private static TypeEnvironment createTypeEnvironment(Set<IJavaProject> projects) {
+		JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+		SharedTypeEnvironments environments= plugin != null ? plugin.getSharedTypeEnvironments() : null;
+		if (environments != null && projects.size() == 1)
+			return environments.getTypeEnvironment(projects.iterator().next());
+		return new TypeEnvironment(true);
+	}
+
 	private HashMap<IJavaProject, ArrayList<IJavaElement>> getJavaElementsPerProject(IJavaElement[] elements) {
 		HashMap<IJavaProject, ArrayList<IJavaElement>> result= new HashMap<>();
 		for (IJavaElement element : elements) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -95,13 +95,21 @@ public class InferTypeArgumentsTCModel {
 
 
 	public InferTypeArgumentsTCModel() {
+		this(new TypeEnvironment(true));
+	}
+
+	/**
+	 * @param typeEnvironment the type environment to create the types in, which must remember
+	 *            subtypes
+	 */
+	public InferTypeArgumentsTCModel(TypeEnvironment typeEnvironment) {
 		fTypeConstraints= new HashMap<>();
 		fConstraintVariables= new LinkedHashMap<>(); // make iteration independent of hashCode() implementation
 		fCastVariables= new ArrayList<>();
 
 		fCuScopedConstraintVariables= new HashSet<>();
 
-		fTypeEnvironment= new TypeEnvironment(true);
+		fTypeEnvironment= typeEnvironment;
 	}
 
 	/**
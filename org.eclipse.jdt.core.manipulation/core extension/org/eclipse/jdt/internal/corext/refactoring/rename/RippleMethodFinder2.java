@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,7 @@ import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
 import org.eclipse.jdt.internal.corext.refactoring.base.ReferencesInBinaryContext;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
@@ -70,6 +71,7 @@ public class RippleMethodFinder2 {
 	private final ReferencesInBinaryContext fBinaryRefs;
 	private Map<IMethod, SearchMatch> fDeclarationToMatch;
 	private boolean fSearchOnlyInCompilationUnit = false;
+	private final char fIndexKind;
 
 	private static class MultiMap<K, V> {
 		HashMap<K, Collection<V>> fImplementation= new HashMap<>();
@@ -141,6 +143,10 @@ public class RippleMethodFinder2 {
 		fExcludeBinaries= excludeBinaries;
 		fSearchOnlyInCompilationUnit= searchOnlyInCompilationUnit;
 		fBinaryRefs= null;
+		if (searchOnlyInCompilationUnit)
+			fIndexKind= RippleMethodIndex.COMPILATION_UNIT;
+		else
+			fIndexKind= excludeBinaries ? RippleMethodIndex.SOURCES : RippleMethodIndex.BINARIES;
 	}
 
 	private RippleMethodFinder2(IMethod method, ReferencesInBinaryContext binaryRefs) {
@@ -148,6 +154,7 @@ public class RippleMethodFinder2 {
 		fExcludeBinaries= true;
 		fDeclarationToMatch= new HashMap<>();
 		fBinaryRefs= binaryRefs;
+		fIndexKind= RippleMethodIndex.BINARY_REFERENCES;
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, boolean excludeBinaries, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
@@ -186,7 +193,7 @@ public class RippleMethodFinder2 {
 	}
 
 	private IMethod[] getAllRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
-		IMethod[] rippleMethods= findAllRippleMethods(pm, owner);
+		IMethod[] rippleMethods= findIndexedRippleMethods(pm, owner);
 		if (fDeclarationToMatch == null)
 			return rippleMethods;
 
@@ -203,6 +210,28 @@ public class RippleMethodFinder2 {
 		return toArray(filteredMethods);
 	}
 
+	/**
+	 * Returns the ripple methods from the shared {@link RippleMethodIndex}, or computes and
+	 * indexes them. Only the ripples of the primary working copies are indexed.
+	 */
+	private IMethod[] findIndexedRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+		RippleMethodIndex index= owner == null && plugin != null ? plugin.getRippleMethodIndex() : null;
+		if (index == null)
+			return findAllRippleMethods(pm, owner);
+
+		RippleMethodIndex.Entry entry= index.get(fMethod, fIndexKind);
+		if (entry != null) {
+			if (fDeclarationToMatch != null)
+				fDeclarationToMatch.putAll(entry.fBinaryMatches);
+			return entry.fMethods.clone();
+		}
+		int stamp= index.getStamp();
+		IMethod[] rippleMethods= findAllRippleMethods(pm, owner);
+		index.put(fMethod, fIndexKind, rippleMethods, fDeclarationToMatch, stamp);
+		return rippleMethods;
+	}
+
 	private IMethod[] findAllRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		pm.beginTask("", 4); //$NON-NLS-1$
 
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.rename;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.search.SearchMatch;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+import org.eclipse.jdt.internal.corext.util.StructuralDeltaCache;
+
+/**
+ * The ripple methods computed by {@link RippleMethodFinder2}, kept up to date from Java element
+ * deltas.
+ * <p>
+ * Rename Method, Change Signature and similar refactorings often compute the ripple of the same
+ * method several times, or of methods with the same name in the same hierarchies. The finder
+ * answers these requests from the index as long as no delta affected the result. A delta that
+ * adds, removes or changes the modifiers of a method only removes the entries of the method name.
+ * Deltas that can change type hierarchies or the visibility of types clear the index, see
+ * {@link StructuralDeltaCache}. Changes in method bodies do not affect the index.
+ * </p>
+ * <p>
+ * The index is only correct while it receives the Java element deltas of the workspace, see
+ * {@link JavaManipulationPlugin#setRippleMethodIndex(RippleMethodIndex)}. Only ripples of the
+ * primary working copies are indexed.
+ * </p>
+ */
+public final class RippleMethodIndex extends StructuralDeltaCache {
+
+	/** The kinds of ripples, see the entry points of {@link RippleMethodFinder2} */
+	static final char SOURCES= 'S';
+	static final char BINARIES= 'B';
+	static final char BINARY_REFERENCES= 'R';
+	static final char COMPILATION_UNIT= 'C';
+
+	static final class Entry {
+		final IMethod[] fMethods;
+		/** the binary ripple methods to their declaration matches, for {@link #BINARY_REFERENCES} */
+		final Map<IMethod, SearchMatch> fBinaryMatches;
+
+		Entry(IMethod[] methods, Map<IMethod, SearchMatch> binaryMatches) {
+			fMethods= methods;
+			fBinaryMatches= binaryMatches;
+		}
+	}
+
+	/** method name to the entries of the methods with that name, by kind and handle identifier */
+	private final Map<String, Map<String, Entry>> fEntries= new ConcurrentHashMap<>();
+
+	/** incremented for each change, a computed ripple is only stored if no change happened meanwhile */
+	private int fStamp;
+
+	Entry get(IMethod method, char kind) {
+		Map<String, Entry> entries= fEntries.get(method.getElementName());
+		Entry entry= entries != null ? entries.get(getKey(method, kind)) : null;
+		if (entry != null) {
+			countHit();
+		} else {
+			countMiss();
+		}
+		if (JavaManipulationPlugin.DEBUG_RIPPLE_METHOD_INDEX) {
+			System.out.println("RippleMethodIndex - " + (entry != null ? "hit" : "miss") + " for " + method.getElementName() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					+ ", hit rate: " + getHitCount() + "/" + (getHitCount() + getMissCount())); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return entry;
+	}
+
+	synchronized int getStamp() {
+		return fStamp;
+	}
+
+	synchronized void put(IMethod method, char kind, IMethod[] methods, Map<IMethod, SearchMatch> binaryMatches, int stamp) {
+		if (stamp != fStamp) {
+			return;
+		}
+		Map<IMethod, SearchMatch> matches= Collections.emptyMap();
+		if (binaryMatches != null && !binaryMatches.isEmpty()) {
+			matches= new HashMap<>();
+			for (IMethod rippleMethod : methods) {
+				SearchMatch match= binaryMatches.get(rippleMethod);
+				if (match != null) {
+					matches.put(rippleMethod, match);
+				}
+			}
+		}
+		Entry entry= new Entry(methods.clone(), matches);
+		fEntries.computeIfAbsent(method.getElementName(), k -> new ConcurrentHashMap<>()).put(getKey(method, kind), entry);
+	}
+
+	private static String getKey(IMethod method, char kind) {
+		return kind + method.getHandleIdentifier();
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public synchronized void clear() {
+		fStamp++;
+		fEntries.clear();
+	}
+
+	private synchronized void invalidate(String methodName) {
+		fStamp++;
+		if (fEntries.remove(methodName) != null) {
+			countInvalidation();
+		}
+	}
+
+	@Override
+	protected void invalidateAll() {
+		if (!fEntries.isEmpty()) {
+			countInvalidation();
+		}
+		clear();
+	}
+
+	@Override
+	protected void memberChanged(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		if (element.getElementType() == IJavaElement.METHOD
+				&& (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0)) {
+			invalidate(element.getElementName());
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+import org.eclipse.jdt.internal.corext.util.StructuralDeltaCache;
+
+/**
+ * The shared {@link TypeEnvironment}s of the Java projects, kept until a Java element delta
+ * changes types.
+ * <p>
+ * Refactorings that create their type constraints from the compilation units of a single project,
+ * like Infer Generic Type Arguments, can use the shared environment of the project instead of
+ * creating the types and checking the subtypes again in each run. The environments can be used by
+ * several threads. Each refactoring only sees the subtypes of the types it has created or looked
+ * up itself, see {@link TypeEnvironment#beginSubTypeScope()}, so that its result does not depend
+ * on the refactorings that used the environment before.
+ * </p>
+ * <p>
+ * An environment has one subtype scope at a time, since {@link TType#getSubTypes()} cannot tell
+ * the refactorings apart. Refactorings of the same project that run at the same time therefore
+ * each get one of up to {@value #MAX_ENVIRONMENTS_PER_PROJECT} shared environments of the project.
+ * </p>
+ * <p>
+ * The environments are dropped if a delta changes types, see {@link StructuralDeltaCache}. Changes
+ * of members do not affect the environments. Since the environment of a project also contains the
+ * types of the required projects, such a delta drops all environments.
+ * </p>
+ * <p>
+ * The environments are only correct while they receive the Java element deltas of the workspace,
+ * see {@link JavaManipulationPlugin#setSharedTypeEnvironments(SharedTypeEnvironments)}. Only
+ * bindings of the primary working copies should be passed to the shared environments.
+ * </p>
+ */
+public final class SharedTypeEnvironments extends StructuralDeltaCache {
+
+	/**
+	 * Maximum number of shared environments of a project. Each of them holds the types of the
+	 * project and of its required projects, further concurrent refactorings get an environment
+	 * that is not shared.
+	 */
+	private static final int MAX_ENVIRONMENTS_PER_PROJECT= 2;
+
+	private final Map<IJavaProject, List<TypeEnvironment>> fEnvironments= new ConcurrentHashMap<>();
+
+	/**
+	 * Returns a shared type environment of the given project that is not used by another
+	 * refactoring, or creates it, and starts a subtype scope. The caller has to end the scope with
+	 * {@link TypeEnvironment#endSubTypeScope()}. If all shared environments of the project are in
+	 * use, a new environment that is not shared is returned.
+	 *
+	 * @param project the project
+	 * @return the type environment, which remembers subtypes
+	 */
+	public TypeEnvironment getTypeEnvironment(IJavaProject project) {
+		List<TypeEnvironment> environments= fEnvironments.computeIfAbsent(project, p -> new CopyOnWriteArrayList<>());
+		TypeEnvironment environment= null;
+		boolean hit= false;
+		for (TypeEnvironment shared : environments) {
+			if (shared.beginSubTypeScope()) {
+				environment= shared;
+				hit= true;
+				break;
+			}
+		}
+		if (environment == null) {
+			// the subtypes of the other refactorings must not be mixed in
+			synchronized (environments) {
+				if (environments.size() < MAX_ENVIRONMENTS_PER_PROJECT) {
+					environment= new TypeEnvironment(true, false, true);
+					environment.beginSubTypeScope();
+					environments.add(environment);
+				}
+			}
+			if (environment == null) {
+				environment= new TypeEnvironment(true);
+			}
+		}
+		if (hit) {
+			countHit();
+		} else {
+			countMiss();
+		}
+		if (JavaManipulationPlugin.DEBUG_TYPE_CONSTRAINTS) {
+			System.out.println("SharedTypeEnvironments - " + (hit ? "reusing" : "creating") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " environment of " + project.getElementName() + ", hit rate: " + getHitCount() + "/" + (getHitCount() + getMissCount())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return environment;
+	}
+
+	/**
+	 * Drops all environments.
+	 */
+	public void clear() {
+		fEnvironments.clear();
+	}
+
+	@Override
+	protected void invalidateAll() {
+		if (!fEnvironments.isEmpty()) {
+			countInvalidation();
+		}
+		clear();
+	}
+}
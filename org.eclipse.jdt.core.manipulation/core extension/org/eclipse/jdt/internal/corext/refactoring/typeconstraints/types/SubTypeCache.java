@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The results of the subtype checks of a {@link TypeEnvironment}.
+ * <p>
+ * The cache is split into segments by the hash code of the type pairs. Each segment keeps its
+ * most recently used entries and is locked separately, so that threads that check different
+ * pairs rarely wait for each other.
+ * </p>
+ */
+final class SubTypeCache {
+
+	private static final class Segment extends LinkedHashMap<TypeTuple, Boolean> {
+		private static final long serialVersionUID= 1L;
+
+		private final int fMaxEntries;
+
+		Segment(int maxEntries) {
+			super(50, 0.75f, true);
+			fMaxEntries= maxEntries;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TypeTuple, Boolean> eldest) {
+			return size() > fMaxEntries;
+		}
+	}
+
+	private final Segment[] fSegments;
+
+	/**
+	 * @param segments the number of segments, a power of two
+	 * @param maxEntriesPerSegment the number of entries a segment keeps
+	 */
+	SubTypeCache(int segments, int maxEntriesPerSegment) {
+		fSegments= new Segment[segments];
+		for (int i= 0; i < segments; i++) {
+			fSegments[i]= new Segment(maxEntriesPerSegment);
+		}
+	}
+
+	private Segment getSegment(TypeTuple key) {
+		int hash= key.hashCode();
+		hash^= hash >>> 16;
+		return fSegments[hash & (fSegments.length - 1)];
+	}
+
+	Boolean get(TypeTuple key) {
+		Segment segment= getSegment(key);
+		synchronized (segment) {
+			return segment.get(key);
+		}
+	}
+
+	void put(TypeTuple key, Boolean value) {
+		Segment segment= getSegment(key);
+		synchronized (segment) {
+			segment.put(key, value);
+		}
+	}
+}
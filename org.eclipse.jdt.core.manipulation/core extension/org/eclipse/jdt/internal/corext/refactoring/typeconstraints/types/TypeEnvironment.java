@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,9 +16,11 @@ package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -40,6 +42,11 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
  * A type environment comprises a set of {@link TType}s that stand for Java {@link ITypeBinding}s.
  * In contrast to type bindings, TTypes of the same type environment also work across project boundaries and
  * across compiler environments, i.e. a type environment can handle bindings from multiple {@link ASTParser} sessions.
+ * <p>
+ * A type environment can be used by several threads. A shared type environment keeps its types across
+ * refactorings, see {@link SharedTypeEnvironments}. A shared environment that remembers subtypes only
+ * knows the subtypes within a subtype scope, see {@link #beginSubTypeScope()}.
+ * </p>
  *
  * @see TType
  */
@@ -104,7 +111,7 @@ public class TypeEnvironment {
 		"java.lang.Double",  //$NON-NLS-1$
 		"java.lang.Byte"};  //$NON-NLS-1$
 
-	private TType OBJECT_TYPE= null;
+	private volatile TType OBJECT_TYPE= null;
 
 	private List<Map<TType, ArrayType>>      fArrayTypes= new ArrayList<>();
 	private Map<IJavaElement, StandardType>  fStandardTypes= new HashMap<>();
@@ -118,19 +125,29 @@ public class TypeEnvironment {
 	private UnboundWildcardType fUnboundWildcardType= null;
 
 	private static final int MAX_ENTRIES= 1024;
-	private Map<TypeTuple, Boolean> fSubTypeCache= new LinkedHashMap<>(50, 0.75f, true) {
-		private static final long serialVersionUID= 1L;
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<TypeTuple, Boolean> eldest) {
-			return size() > MAX_ENTRIES;
-		}
-	};
+	private static final int SHARED_SEGMENTS= 16;
+	private static final int SHARED_MAX_ENTRIES_PER_SEGMENT= 4096;
+	private final SubTypeCache fSubTypeCache;
 
 	/**
 	 * Map from TType to its known subtypes, or <code>null</code> iff subtype
-	 * information was not requested in the constructor.
+	 * information was not requested in the constructor or a shared environment
+	 * is outside of a subtype scope.
 	 */
 	private Map<TType, ArrayList<TType>> fSubTypes;
+	/**
+	 * Map from the types of a shared environment that remembers subtypes to the types that have
+	 * been created or looked up while creating them, or <code>null</code>.
+	 */
+	private final Map<TType, TType[]> fReferencedTypes;
+	/**
+	 * The types created or looked up by the current {@link #create(ITypeBinding)} call.
+	 */
+	private ArrayList<TType> fCurrentReferences;
+	/**
+	 * The types of the current subtype scope, or <code>null</code>.
+	 */
+	private Set<TType> fScopeTypes;
 	/**
 	 * If <code>true</code>, replace all capture types by their wildcard type.
 	 * @since 3.7
@@ -176,17 +193,119 @@ public class TypeEnvironment {
 	}
 
 	public TypeEnvironment(boolean rememberSubtypes, boolean removeCapures) {
-		if (rememberSubtypes) {
-			fSubTypes= new HashMap<>();
+		this(rememberSubtypes, removeCapures, false);
+	}
+
+	/**
+	 * @param rememberSubtypes whether the environment remembers the subtypes of its types, see
+	 *            {@link TType#getSubTypes()}
+	 * @param removeCapures whether capture types are replaced by their wildcard type
+	 * @param shared whether the environment is used by several refactorings or threads, a shared
+	 *            environment caches many more subtype checks in a cache that is split into segments
+	 *            and only remembers the subtypes within a subtype scope
+	 */
+	public TypeEnvironment(boolean rememberSubtypes, boolean removeCapures, boolean shared) {
+		if (rememberSubtypes && shared) {
+			fReferencedTypes= new HashMap<>();
+		} else {
+			fReferencedTypes= null;
+			if (rememberSubtypes) {
+				fSubTypes= new HashMap<>();
+			}
 		}
 		fRemoveCapures= removeCapures;
+		if (shared) {
+			fSubTypeCache= new SubTypeCache(SHARED_SEGMENTS, SHARED_MAX_ENTRIES_PER_SEGMENT);
+		} else {
+			fSubTypeCache= new SubTypeCache(1, MAX_ENTRIES);
+		}
 	}
 
-	Map<TypeTuple, Boolean> getSubTypeCache() {
+	SubTypeCache getSubTypeCache() {
 		return fSubTypeCache;
 	}
 
-	public TType create(ITypeBinding binding) {
+	/**
+	 * Starts a subtype scope of a shared environment that remembers subtypes. Within the scope,
+	 * {@link TType#getSubTypes()} only returns the types that have been created or looked up since
+	 * the scope has been started, as in an environment that is used by a single refactoring.
+	 *
+	 * @return <code>true</code> if the scope has been started, <code>false</code> if another
+	 *         scope is active or the environment is not a shared environment that remembers
+	 *         subtypes
+	 * @see #endSubTypeScope()
+	 */
+	public synchronized boolean beginSubTypeScope() {
+		if (fReferencedTypes == null || fScopeTypes != null)
+			return false;
+		fScopeTypes= new HashSet<>();
+		fSubTypes= new HashMap<>();
+		return true;
+	}
+
+	/**
+	 * Ends the subtype scope started by {@link #beginSubTypeScope()}. Does nothing if no scope is
+	 * active.
+	 */
+	public synchronized void endSubTypeScope() {
+		if (fReferencedTypes == null)
+			return;
+		fScopeTypes= null;
+		fSubTypes= null;
+	}
+
+	public synchronized TType create(ITypeBinding binding) {
+		return track(() -> createType(binding));
+	}
+
+	/**
+	 * Creates a type and remembers the types it refers to in a shared environment that remembers
+	 * subtypes, so that they can be added to later subtype scopes.
+	 *
+	 * @param creator creates or looks up the type
+	 * @return the type
+	 */
+	private <T extends TType> T track(Supplier<T> creator) {
+		if (fReferencedTypes == null)
+			return creator.get();
+		ArrayList<TType> outer= fCurrentReferences;
+		ArrayList<TType> references= new ArrayList<>();
+		fCurrentReferences= references;
+		T result;
+		try {
+			result= creator.get();
+		} finally {
+			fCurrentReferences= outer;
+		}
+		if (result != null) {
+			// the first call creates the type, later calls only look it up
+			fReferencedTypes.putIfAbsent(result, references.isEmpty() ? TType.EMPTY_TYPE_ARRAY : references.toArray(new TType[references.size()]));
+			if (outer != null)
+				outer.add(result);
+			addToScope(result);
+		}
+		return result;
+	}
+
+	/*
+	 * Adds the type and the types it refers to to the current subtype scope, in the order in which
+	 * a new environment would have created them.
+	 */
+	private void addToScope(TType type) {
+		if (fScopeTypes == null || !fScopeTypes.add(type))
+			return;
+		TType[] references= fReferencedTypes.get(type);
+		if (references != null) {
+			for (TType reference : references) {
+				addToScope(reference);
+			}
+		}
+		if (type instanceof GenericType || type instanceof ParameterizedType || type instanceof RawType) {
+			cacheSubTypes((HierarchyType) type);
+		}
+	}
+
+	private TType createType(ITypeBinding binding) {
 		if (binding.isPrimitive()) {
 			return createPrimitiveType(binding);
 		} else if (binding.isArray()) {
@@ -249,11 +368,11 @@ public class TypeEnvironment {
 		Assert.isTrue(objectType.isJavaLangObject());
 	}
 
-	void initializeJavaLangObject(ITypeBinding object) {
+	synchronized void initializeJavaLangObject(ITypeBinding object) {
 		if (OBJECT_TYPE != null)
 			return;
 
-		TType objectType= createStandardType(object);
+		TType objectType= track(() -> createStandardType(object));
 		Assert.isTrue(objectType.isJavaLangObject());
 	}
 
@@ -274,21 +393,31 @@ public class TypeEnvironment {
 	private StandardType createStandardType(String fullyQualifiedName, IJavaProject focus) {
 		try {
 			IType javaElementType= focus.findType(fullyQualifiedName);
-			StandardType result= fStandardTypes.get(javaElementType);
-			if (result != null)
-				return result;
+			synchronized (this) {
+				StandardType result= fStandardTypes.get(javaElementType);
+				if (result != null)
+					return track(() -> result);
+			}
 			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
 			parser.setProject(focus);
 			IBinding[] bindings= parser.createBindings(new IJavaElement[] {javaElementType} , null);
-			return createStandardType((ITypeBinding)bindings[0]);
+			synchronized (this) {
+				return track(() -> createStandardType((ITypeBinding)bindings[0]));
+			}
 		} catch (JavaModelException e) {
 			// fall through
 		}
 		return null;
 	}
 
-	Map<TType, ArrayList<TType>> getSubTypes() {
-		return fSubTypes;
+	synchronized TType[] getSubTypes(TType type) throws IllegalStateException {
+		if (fSubTypes == null)
+			throw new IllegalStateException("This TypeEnvironment does not remember subtypes"); //$NON-NLS-1$
+		List<TType> subtypes= fSubTypes.get(type);
+		if (subtypes == null)
+			return TType.EMPTY_TYPE_ARRAY;
+		else
+			return subtypes.toArray(new TType[subtypes.size()]);
 	}
 
 	private void cacheSubType(TType supertype, TType result) {
@@ -313,6 +442,17 @@ public class TypeEnvironment {
 		}
 	}
 
+	private void cacheSubTypes(HierarchyType result) {
+		cacheSubType(result.getSuperclass(), result);
+		cacheSubTypes(result.getInterfaces(), result);
+	}
+
+	private void cacheSubTypesOfNewType(HierarchyType result) {
+		// a shared environment adds the subtypes when the type is added to a subtype scope
+		if (fReferencedTypes == null)
+			cacheSubTypes(result);
+	}
+
 	private TType createPrimitiveType(ITypeBinding binding) {
 		String name= binding.getName();
 		String[] names= PrimitiveType.NAMES;
@@ -338,7 +478,11 @@ public class TypeEnvironment {
 		return result;
 	}
 
-	public ArrayType createArrayType(TType elementType, int dimensions) {
+	public synchronized ArrayType createArrayType(TType elementType, int dimensions) {
+		return track(() -> createArrayTypeOf(elementType, dimensions));
+	}
+
+	private ArrayType createArrayTypeOf(TType elementType, int dimensions) {
 		Assert.isTrue(! elementType.isArrayType());
 		Assert.isTrue(! elementType.isAnonymous());
 		Assert.isTrue(dimensions > 0);
@@ -388,8 +532,7 @@ public class TypeEnvironment {
 		result= new GenericType(this);
 		fGenericTypes.put(javaElement, result);
 		result.initialize(binding, (IType)javaElement);
-		cacheSubType(result.getSuperclass(), result);
-		cacheSubTypes(result.getInterfaces(), result);
+		cacheSubTypesOfNewType(result);
 		return result;
 	}
 
@@ -403,8 +546,7 @@ public class TypeEnvironment {
 		result= new ParameterizedType(this);
 		fParameterizedTypes.put(pair, result);
 		result.initialize(binding, (IType)binding.getJavaElement());
-		cacheSubType(result.getSuperclass(), result);
-		cacheSubTypes(result.getInterfaces(), result);
+		cacheSubTypesOfNewType(result);
 		return result;
 	}
 
@@ -416,8 +558,7 @@ public class TypeEnvironment {
 		result= new RawType(this);
 		fRawTypes.put(javaElement, result);
 		result.initialize(binding, (IType)javaElement);
-		cacheSubType(result.getSuperclass(), result);
-		cacheSubTypes(result.getInterfaces(), result);
+		cacheSubTypesOfNewType(result);
 		return result;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -41,7 +40,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	/**
 	 * Set containing the TTypes in this EnumeratedTypeSet.
 	 */
-	Set<TType> fMembers= new LinkedHashSet<>();
+	Set<TType> fMembers;
 
 	/**
 	 * Constructs a new EnumeratedTypeSet with the members of Set s in it.
@@ -52,6 +51,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	 */
 	public EnumeratedTypeSet(Iterator<TType> types, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
+		fMembers= typeSetEnvironment.createMemberSet();
 		while (types.hasNext()) {
 			fMembers.add(types.next());
 		}
@@ -65,6 +65,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	 */
 	public EnumeratedTypeSet(TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
+		fMembers= typeSetEnvironment.createMemberSet();
 		sCount++;
 	}
 
@@ -76,6 +77,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	 */
 	public EnumeratedTypeSet(TType t, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
+		fMembers= typeSetEnvironment.createMemberSet();
 		Assert.isNotNull(t);
 		fMembers.add(t);
 		sCount++;
@@ -152,8 +154,7 @@ public class EnumeratedTypeSet extends TypeSet {
 			// More than an optimization: the universe never contains array types, so
 			// if s2 has array types, the following will retain them, as it should.
 			EnumeratedTypeSet ets2= (EnumeratedTypeSet) s2;
-			fMembers= new LinkedHashSet<>();
-			fMembers.addAll(ets2.fMembers);
+			fMembers= getTypeSetEnvironment().createMemberSet(ets2.fMembers);
 		} else
 			retainAll(s2);
 	}
@@ -211,7 +212,7 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	public void clear() {
 		if (isUniverse())
-			fMembers= new LinkedHashSet<>();
+			fMembers= getTypeSetEnvironment().createMemberSet();
 		else
 			fMembers.clear();
 	}
@@ -245,7 +246,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	private Set<TType> cloneSet(Set<TType> members) {
-		return new LinkedHashSet<>(members);
+		return getTypeSetEnvironment().createMemberSet(members);
 	}
 
 	public boolean addAll(TypeSet s) {
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+
+/**
+ * A set of {@code TType}s that stores the ids the types have in a {@link TypeSetEnvironment}
+ * in a {@link BitSet}.
+ * <p>
+ * The bulk operations with other sets of the same environment are operations on the bit sets.
+ * The set iterates over the types in the order in which the environment interned them.
+ * </p>
+ */
+final class TypeIdSet extends AbstractSet<TType> {
+
+	private final TypeSetEnvironment fEnvironment;
+	private final BitSet fIds;
+
+	/** the hash code of the types, or <code>-1</code> if not computed */
+	private int fHashCode= -1;
+
+	TypeIdSet(TypeSetEnvironment environment) {
+		fEnvironment= environment;
+		fIds= new BitSet();
+	}
+
+	TypeIdSet(TypeIdSet other) {
+		fEnvironment= other.fEnvironment;
+		fIds= (BitSet) other.fIds.clone();
+		fHashCode= other.fHashCode;
+	}
+
+	private TypeIdSet asTypeIdSet(Collection<?> c) {
+		if (c instanceof TypeIdSet && ((TypeIdSet) c).fEnvironment == fEnvironment)
+			return (TypeIdSet) c;
+		return null;
+	}
+
+	@Override
+	public int size() {
+		return fIds.cardinality();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fIds.isEmpty();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof TType))
+			return false;
+		int id= fEnvironment.findTypeId((TType) o);
+		return id >= 0 && fIds.get(id);
+	}
+
+	@Override
+	public boolean add(TType t) {
+		int id= fEnvironment.getTypeId(t);
+		if (fIds.get(id))
+			return false;
+		fIds.set(id);
+		fHashCode= -1;
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!(o instanceof TType))
+			return false;
+		int id= fEnvironment.findTypeId((TType) o);
+		if (id < 0 || !fIds.get(id))
+			return false;
+		fIds.clear(id);
+		fHashCode= -1;
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		fIds.clear();
+		fHashCode= -1;
+	}
+
+	@Override
+	public boolean containsAll(Collection<?> c) {
+		TypeIdSet other= asTypeIdSet(c);
+		if (other == null)
+			return super.containsAll(c);
+		BitSet missing= (BitSet) other.fIds.clone();
+		missing.andNot(fIds);
+		return missing.isEmpty();
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends TType> c) {
+		TypeIdSet other= asTypeIdSet(c);
+		if (other == null)
+			return super.addAll(c);
+		int size= size();
+		fIds.or(other.fIds);
+		return changed(size);
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		TypeIdSet other= asTypeIdSet(c);
+		if (other == null)
+			return super.retainAll(c);
+		int size= size();
+		fIds.and(other.fIds);
+		return changed(size);
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		TypeIdSet other= asTypeIdSet(c);
+		if (other == null)
+			return super.removeAll(c);
+		int size= size();
+		fIds.andNot(other.fIds);
+		return changed(size);
+	}
+
+	private boolean changed(int oldSize) {
+		if (size() == oldSize)
+			return false;
+		fHashCode= -1;
+		return true;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		TypeIdSet other= o instanceof Collection ? asTypeIdSet((Collection<?>) o) : null;
+		if (other == null)
+			return super.equals(o);
+		return fIds.equals(other.fIds);
+	}
+
+	@Override
+	public int hashCode() {
+		// same as the hash code of other sets, but computed only once per modification
+		if (fHashCode == -1)
+			fHashCode= super.hashCode();
+		return fHashCode;
+	}
+
+	@Override
+	public Iterator<TType> iterator() {
+		return new Iterator<>() {
+			private int fNext= fIds.nextSetBit(0);
+			private int fLast= -1;
+
+			@Override
+			public boolean hasNext() {
+				return fNext >= 0;
+			}
+
+			@Override
+			public TType next() {
+				if (fNext < 0)
+					throw new NoSuchElementException();
+				fLast= fNext;
+				fNext= fIds.nextSetBit(fNext + 1);
+				return fEnvironment.getType(fLast);
+			}
+
+			@Override
+			public void remove() {
+				if (fLast < 0)
+					throw new IllegalStateException();
+				fIds.clear(fLast);
+				fHashCode= -1;
+				fLast= -1;
+			}
+		};
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,13 @@
 
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
@@ -36,12 +41,84 @@ public class TypeSetEnvironment {
 	private int fgCommonExprHits= 0;
 	private int fgCommonExprMisses= 0;
 
+	/**
+	 * The interned types and their ids, or <code>null</code> if the members of enumerated type
+	 * sets are kept in hash sets.
+	 */
+	private final Map<TType, Integer> fTypeIds;
+	private final List<TType> fTypes;
+
 	public TypeSetEnvironment(TypeEnvironment typeEnvironment) {
+		this(typeEnvironment, false);
+	}
+
+	/**
+	 * Creates a type set environment.
+	 *
+	 * @param typeEnvironment the type environment
+	 * @param useTypeIds <code>true</code> to intern the types and keep the members of enumerated
+	 *            type sets in bit sets of the type ids. Intersections and containment checks of
+	 *            large sets are much cheaper, but the members are enumerated in the order in which
+	 *            the types have been interned.
+	 */
+	public TypeSetEnvironment(TypeEnvironment typeEnvironment, boolean useTypeIds) {
 		fTypeEnvironment= typeEnvironment;
+		if (useTypeIds) {
+			fTypeIds= new HashMap<>();
+			fTypes= new ArrayList<>();
+		} else {
+			fTypeIds= null;
+			fTypes= null;
+		}
 		fUniverse= new TypeUniverseSet(this);
 		fEmptyTypeSet= new EmptyTypeSet(this);
 	}
 
+	/**
+	 * @return a new empty set for the members of an enumerated type set
+	 */
+	Set<TType> createMemberSet() {
+		if (fTypeIds != null)
+			return new TypeIdSet(this);
+		return new LinkedHashSet<>();
+	}
+
+	/**
+	 * @param members the members of an enumerated type set
+	 * @return a new set with the given members
+	 */
+	Set<TType> createMemberSet(Set<TType> members) {
+		if (members instanceof TypeIdSet)
+			return new TypeIdSet((TypeIdSet) members);
+		return new LinkedHashSet<>(members);
+	}
+
+	int getTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		if (id == null) {
+			id= Integer.valueOf(fTypes.size());
+			fTypes.add(type);
+			fTypeIds.put(type, id);
+		}
+		return id.intValue();
+	}
+
+	int findTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		return id != null ? id.intValue() : -1;
+	}
+
+	TType getType(int id) {
+		return fTypes.get(id);
+	}
+
+	/**
+	 * @return the number of interned types
+	 */
+	public int getTypeCount() {
+		return fTypes != null ? fTypes.size() : 0;
+	}
+
 	public TType getJavaLangObject() {
 		return fTypeEnvironment.getJavaLangObject();
 	}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+
+/**
+ * A cache of results that depend on the structure of the Java model, kept until a Java element
+ * delta changes the types.
+ * <p>
+ * All entries are dropped if a delta adds or removes types or type parameters, changes the super
+ * types or the modifiers of a type, changes imports or package declarations, or changes classpaths.
+ * All entries are also dropped if a unit changes without a fine grained delta or a primary working
+ * copy is discarded. Changes of the working copies of other owners are ignored. The deltas of
+ * members are passed to {@link #memberChanged(IJavaElementDelta)}.
+ * </p>
+ * <p>
+ * The cache counts the requests that could be answered from its entries and the invalidations.
+ * </p>
+ */
+public abstract class StructuralDeltaCache implements IElementChangedListener {
+
+	/**
+	 * Flags of a project, package fragment root or package fragment delta after which types can
+	 * resolve differently.
+	 */
+	public static final int CLASSPATH_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_REORDER | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	private final AtomicInteger fHitCount= new AtomicInteger();
+	private final AtomicInteger fMissCount= new AtomicInteger();
+	private final AtomicInteger fInvalidationCount= new AtomicInteger();
+
+	/**
+	 * Tells whether the delta of a project, package fragment root or package fragment adds or
+	 * removes the element or changes the classpath.
+	 *
+	 * @param delta the delta of a project, package fragment root or package fragment
+	 * @return <code>true</code> if types can resolve differently after the delta
+	 */
+	public static boolean isClasspathChange(IJavaElementDelta delta) {
+		return delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0;
+	}
+
+	/**
+	 * @return the number of requests that have been answered from the cache
+	 */
+	public int getHitCount() {
+		return fHitCount.get();
+	}
+
+	/**
+	 * @return the number of requests that could not be answered from the cache
+	 */
+	public int getMissCount() {
+		return fMissCount.get();
+	}
+
+	/**
+	 * @return the number of times entries have been removed because of a delta
+	 */
+	public int getInvalidationCount() {
+		return fInvalidationCount.get();
+	}
+
+	protected final void countHit() {
+		fHitCount.incrementAndGet();
+	}
+
+	protected final void countMiss() {
+		fMissCount.incrementAndGet();
+	}
+
+	protected final void countInvalidation() {
+		fInvalidationCount.incrementAndGet();
+	}
+
+	/**
+	 * Drops all entries because of a delta, and counts the invalidation if there were entries.
+	 */
+	protected abstract void invalidateAll();
+
+	/**
+	 * Called for the deltas of fields, methods, initializers and other members of types. The
+	 * children of the delta are processed afterwards.
+	 *
+	 * @param delta the delta of a member
+	 */
+	protected void memberChanged(IJavaElementDelta delta) {
+		// members can contain local and anonymous types, their changes have fine grained deltas
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		processDelta(event.getDelta());
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (isClasspathChange(delta)) {
+					invalidateAll();
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= (ICompilationUnit) element;
+				if (cu.isWorkingCopy() && !cu.isPrimary()) {
+					// working copies of other owners are not cached
+					return;
+				}
+				if ((flags & IJavaElementDelta.F_PRIMARY_WORKING_COPY) != 0 && !cu.isWorkingCopy()) {
+					// a discarded working copy, the unit has the content of the file again
+					invalidateAll();
+					return;
+				}
+				//$FALL-THROUGH$
+			case IJavaElement.CLASS_FILE:
+				if (kind != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED)) == IJavaElementDelta.F_CONTENT) {
+					// no fine grained delta, the types might have changed
+					invalidateAll();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_DECLARATION:
+			case IJavaElement.IMPORT_CONTAINER:
+			case IJavaElement.IMPORT_DECLARATION:
+			case IJavaElement.TYPE_PARAMETER:
+				// the super types and bounds might resolve to other types
+				invalidateAll();
+				return;
+			case IJavaElement.TYPE:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_MODIFIERS)) != 0) {
+					invalidateAll();
+					return;
+				}
+				break;
+			default:
+				memberChanged(delta);
+				break;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -26,17 +26,27 @@ import org.eclipse.jdt.core.JavaModelException;
 
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * Hierarchies are indexed by their focus type in a concurrent map, so lookups do not block each
+ * other. The cache is bounded by the number of hierarchies and by their total weight, which is
+ * the number of types they contain. When a bound is exceeded, the least recently accessed
+ * hierarchies are evicted.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private volatile ITypeHierarchy fTypeHierarchy;
+		private final IType fFocusType;
+		private final int fWeight;
+		private volatile long fLastAccess;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
+			fFocusType= hierarchy.getType();
+			fWeight= Math.max(1, hierarchy.getAllTypes().length);
 			fTypeHierarchy.addTypeHierarchyChangedListener(this);
 			markAsAccessed();
 		}
@@ -50,15 +60,23 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
+		public IType getFocusType() {
+			return fFocusType;
+		}
+
+		public int getWeight() {
+			return fWeight;
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fLastAccess= fgAccessCount.incrementAndGet();
 		}
 
 		public long getLastAccess() {
 			return fLastAccess;
 		}
 
-		public void dispose() {
+		public synchronized void dispose() {
 			if (fTypeHierarchy != null) {
 				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
 				fTypeHierarchy= null;
@@ -67,19 +85,45 @@ public class SuperTypeHierarchyCache {
 
 		@Override
 		public String toString() {
-			return "Super hierarchy of: " + fTypeHierarchy.getType().getElementName(); //$NON-NLS-1$
+			return "Super hierarchy of: " + fFocusType.getElementName(); //$NON-NLS-1$
 		}
 
 	}
 
 
-	private static final int CACHE_SIZE= 8;
+	/**
+	 * The default maximal number of cached hierarchies.
+	 */
+	private static final int DEFAULT_MAX_ENTRIES= Integer.getInteger("org.eclipse.jdt.ui.superTypeHierarchyCache.maxEntries", 32).intValue(); //$NON-NLS-1$
+
+	/**
+	 * The default maximal number of types contained in all cached hierarchies.
+	 */
+	private static final int DEFAULT_MAX_WEIGHT= Integer.getInteger("org.eclipse.jdt.ui.superTypeHierarchyCache.maxWeight", 20000).intValue(); //$NON-NLS-1$
+
+	private static final ConcurrentHashMap<IType, HierarchyCacheEntry> fgHierarchyCache= new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new ConcurrentHashMap<>();
+
+	/**
+	 * Serializes additions and evictions. Lookups do not take this lock. Additions only happen
+	 * after a new hierarchy has been created, and the bounds apply to all entries, so a single
+	 * lock is used.
+	 */
+	private static final Object fgEvictionLock= new Object();
+
+	/**
+	 * Orders the accesses of the entries. Unlike the system time it is monotonic and distinguishes
+	 * accesses in the same millisecond.
+	 */
+	private static final AtomicLong fgAccessCount= new AtomicLong();
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	private static volatile int fgMaxEntries= Math.max(1, DEFAULT_MAX_ENTRIES);
+	private static volatile int fgMaxWeight= Math.max(1, DEFAULT_MAX_WEIGHT);
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	private static final AtomicInteger fgCacheWeight= new AtomicInteger();
+	private static final AtomicInteger fgCacheHits= new AtomicInteger();
+	private static final AtomicInteger fgCacheMisses= new AtomicInteger();
+	private static final AtomicInteger fgCacheEvictions= new AtomicInteger();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -97,32 +141,23 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
+		MethodOverrideTester test= fgMethodOverrideTesterCache.get(type);
 		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
+			ITypeHierarchy hierarchy= getTypeHierarchy(type);
+			test= new MethodOverrideTester(type, hierarchy);
+			MethodOverrideTester existing= fgMethodOverrideTesterCache.putIfAbsent(type, test);
+			if (existing != null) {
+				test= existing;
+			} else if (!isInCache(hierarchy)) {
+				// the hierarchy has been evicted in the meantime, don't keep a tester for it
+				fgMethodOverrideTesterCache.remove(type, test);
 			}
 		}
 		return test;
 	}
 
 	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
-		}
+		fgMethodOverrideTesterCache.values().removeIf(curr -> curr.getTypeHierarchy().equals(hierarchy));
 	}
 
 	/**
@@ -140,42 +175,54 @@ public class SuperTypeHierarchyCache {
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
 		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
 		if (hierarchy == null) {
-			fgCacheMisses++;
+			fgCacheMisses.incrementAndGet();
 			hierarchy= type.newSupertypeHierarchy(progressMonitor);
 			addTypeHierarchyToCache(hierarchy);
 		} else {
-			fgCacheHits++;
+			fgCacheHits.incrementAndGet();
 		}
 		return hierarchy;
 	}
 
 	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
-		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
-				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
-				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
-					}
+		HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+		synchronized (fgEvictionLock) {
+			// remove obsolete entries and entries that are subsumed by the new hierarchy
+			for (HierarchyCacheEntry entry : fgHierarchyCache.values()) {
+				ITypeHierarchy curr= entry.getTypeHierarchy();
+				if (curr == null || !curr.exists() || hierarchy.contains(entry.getFocusType())) {
+					removeHierarchyEntryFromCache(entry);
 				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
+			}
+
+			HierarchyCacheEntry previous= fgHierarchyCache.put(newEntry.getFocusType(), newEntry);
+			fgCacheWeight.addAndGet(newEntry.getWeight());
+			if (previous != null) {
+				fgCacheWeight.addAndGet(-previous.getWeight());
+				disposeEntry(previous);
+			}
+			evict(newEntry);
+		}
+	}
+
+	/**
+	 * Removes the least recently accessed entries until the cache fits its limits. Must be
+	 * called while holding {@link #fgEvictionLock}.
+	 *
+	 * @param keep the entry that must not be evicted
+	 */
+	private static void evict(HierarchyCacheEntry keep) {
+		while (fgHierarchyCache.size() > fgMaxEntries || (fgCacheWeight.get() > fgMaxWeight && fgHierarchyCache.size() > 1)) {
+			HierarchyCacheEntry oldest= null;
+			for (HierarchyCacheEntry entry : fgHierarchyCache.values()) {
+				if (entry != keep && (oldest == null || entry.getLastAccess() < oldest.getLastAccess())) {
+					oldest= entry;
 				}
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
-			fgHierarchyCache.add(newEntry);
+			if (oldest == null)
+				return;
+			removeHierarchyEntryFromCache(oldest);
+			fgCacheEvictions.incrementAndGet();
 		}
 	}
 
@@ -189,40 +236,73 @@ public class SuperTypeHierarchyCache {
 		return findTypeHierarchyInCache(type) != null;
 	}
 
+	private static boolean isInCache(ITypeHierarchy hierarchy) {
+		HierarchyCacheEntry entry= fgHierarchyCache.get(hierarchy.getType());
+		return entry != null && entry.getTypeHierarchy() == hierarchy;
+	}
 
 	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
+		HierarchyCacheEntry entry= fgHierarchyCache.get(type);
+		if (entry != null) {
+			ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+			if (hierarchy != null && hierarchy.exists()) {
+				entry.markAsAccessed();
+				return hierarchy;
+			}
+			removeHierarchyEntryFromCache(entry);
+		}
+
+		// the type may be contained in a hierarchy that is based on a subtype
+		for (HierarchyCacheEntry curr : fgHierarchyCache.values()) {
+			ITypeHierarchy hierarchy= curr.getTypeHierarchy();
+			if (hierarchy == null) {
+				continue;
+			}
+			if (!hierarchy.exists()) {
+				removeHierarchyEntryFromCache(curr);
+			} else if (hierarchy.contains(type)) {
+				curr.markAsAccessed();
+				return hierarchy;
 			}
 		}
 		return null;
 	}
 
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
-		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
-			entry.dispose();
-			fgHierarchyCache.remove(entry);
+		if (fgHierarchyCache.remove(entry.getFocusType(), entry)) {
+			fgCacheWeight.addAndGet(-entry.getWeight());
+		}
+		disposeEntry(entry);
+	}
+
+	private static void disposeEntry(HierarchyCacheEntry entry) {
+		ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+		if (hierarchy != null) {
+			removeMethodOverrideTester(hierarchy);
 		}
+		entry.dispose();
 	}
 
+	/**
+	 * Sets the limits of the cache. Entries exceeding the new limits are evicted.
+	 *
+	 * @param maxEntries the maximal number of cached hierarchies
+	 * @param maxWeight the maximal number of types in all cached hierarchies
+	 */
+	public static void setCacheLimits(int maxEntries, int maxWeight) {
+		synchronized (fgEvictionLock) {
+			fgMaxEntries= Math.max(1, maxEntries);
+			fgMaxWeight= Math.max(1, maxWeight);
+			evict(null);
+		}
+	}
 
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
 	 * @return Returns a int
 	 */
 	public static int getCacheHits() {
-		return fgCacheHits;
+		return fgCacheHits.get();
 	}
 
 	/**
@@ -230,7 +310,29 @@ public class SuperTypeHierarchyCache {
 	 * @return Returns a int
 	 */
 	public static int getCacheMisses() {
-		return fgCacheMisses;
+		return fgCacheMisses.get();
+	}
+
+	/**
+	 * Gets the number of hierarchies that were removed because the cache exceeded its limits.
+	 * @return the number of evicted hierarchies
+	 */
+	public static int getCacheEvictions() {
+		return fgCacheEvictions.get();
+	}
+
+	/**
+	 * @return the number of currently cached hierarchies
+	 */
+	public static int getCacheSize() {
+		return fgHierarchyCache.size();
+	}
+
+	/**
+	 * @return the number of types contained in all currently cached hierarchies
+	 */
+	public static int getCacheWeight() {
+		return fgCacheWeight.get();
 	}
 
 	private SuperTypeHierarchyCache() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@ package org.eclipse.jdt.internal.corext.refactoring.rename;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -114,6 +116,11 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 	private static final String ATTRIBUTE_RENAME_SETTER= "setter"; //$NON-NLS-1$
 	private static final String ATTRIBUTE_DELEGATE= "delegate"; //$NON-NLS-1$
 	private static final String ATTRIBUTE_DEPRECATE= "deprecate"; //$NON-NLS-1$
+	/**
+	 * Whether the references after the rename are found by resolving the changed compilation
+	 * units in batches instead of searching them in reconciled working copies.
+	 */
+	private static final boolean DEFAULT_BATCHED_ANALYSIS= Boolean.getBoolean("org.eclipse.jdt.ui.rename.batchedAnalysis"); //$NON-NLS-1$
 	private static final GroupCategorySet CATEGORY_LOCAL_RENAME= new GroupCategorySet(new GroupCategory("org.eclipse.jdt.internal.corext.refactoring.rename.renameType.local", RefactoringCoreMessages.RenameTypeProcessor_changeCategory_local_variables, RefactoringCoreMessages.RenameTypeProcessor_changeCategory_local_variables_description)); //$NON-NLS-1$
 
 	protected IField fField;
@@ -133,6 +140,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 	private GroupCategorySet fCategorySet;
 	private boolean fDelegateUpdating;
 	private boolean fDelegateDeprecation;
+	private boolean fBatchedAnalysis;
 	private CompilationUnit fCompUnit;
 
 	/**
@@ -176,6 +184,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		fDelegateDeprecation= true;
 		fIsComposite= true;
 		fIsRecordComponent= false;
+		fBatchedAnalysis= DEFAULT_BATCHED_ANALYSIS;
 	}
 
 	private void initialize(IField field) {
@@ -474,6 +483,17 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		return fDelegateDeprecation;
 	}
 
+	/**
+	 * Sets whether the shadowing analysis resolves the changed compilation units in batches and
+	 * compares the binding keys of the names with the renamed field, instead of reconciling a
+	 * working copy of each changed unit and searching the references of the renamed field again.
+	 *
+	 * @param batched <code>true</code> to resolve the changed units in batches
+	 */
+	public void setBatchedAnalysis(boolean batched) {
+		fBatchedAnalysis= batched;
+	}
+
 	/**
 	 * Returns the maximum number of delegates which can
 	 * be created for the input elements of this refactoring.
@@ -1068,6 +1088,9 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 
 	//----------------
 	private RefactoringStatus analyzeRenameChanges(IProgressMonitor pm) throws CoreException {
+		if (fBatchedAnalysis)
+			return analyzeRenameChangesInBatches(pm);
+
 		ICompilationUnit[] newWorkingCopies= null;
 		WorkingCopyOwner newWCOwner= new WorkingCopyOwner() { /* must subclass */ };
 		try {
@@ -1103,6 +1126,50 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		}
 	}
 
+	private RefactoringStatus analyzeRenameChangesInBatches(IProgressMonitor pm) throws CoreException {
+		WorkingCopyOwner newWCOwner= new WorkingCopyOwner() { /* must subclass */ };
+		RenameOccurrencesResolver resolver= new RenameOccurrencesResolver(fChangeManager, newWCOwner, getNewElementName());
+		try {
+			pm.beginTask("", 2); //$NON-NLS-1$
+			RefactoringStatus result= new RefactoringStatus();
+			SearchResultGroup[] oldReferences= fReferences;
+
+			Set<ICompilationUnit> compilationUnitsToModify= new LinkedHashSet<>();
+			if (fIsComposite) {
+				// limited change set, no accessors.
+				for (SearchResultGroup oldReference : oldReferences) {
+					compilationUnitsToModify.add(oldReference.getCompilationUnit());
+				}
+				compilationUnitsToModify.add(fField.getCompilationUnit());
+			} else {
+				// include all cus, including accessors
+				compilationUnitsToModify.addAll(Arrays.asList(fChangeManager.getAllCompilationUnits()));
+			}
+
+			ICompilationUnit[] newWorkingCopies= resolver.createNewWorkingCopies(compilationUnitsToModify.toArray(new ICompilationUnit[compilationUnitsToModify.size()]),
+					new ICompilationUnit[] { fField.getCompilationUnit() }, Progress.subMonitor(pm, 1));
+
+			SearchResultGroup[] newReferences= new SearchResultGroup[0];
+			ICompilationUnit declaringCuWorkingCopy= RenameAnalyzeUtil.findWorkingCopyForCu(newWorkingCopies, fField.getCompilationUnit());
+			IField field= declaringCuWorkingCopy != null ? getFieldInWorkingCopy(declaringCuWorkingCopy, getNewElementName()) : null;
+			if (field != null && field.exists()) {
+				IField[] excluded= new IField[0];
+				if (fDelegateUpdating && RefactoringAvailabilityTesterCore.isDelegateCreationAvailable(getField())) {
+					// There will be two new matches inside the delegate (the invocation
+					// and the javadoc) which are OK and must not be reported.
+					excluded= new IField[] { getFieldInWorkingCopy(declaringCuWorkingCopy, getCurrentElementName()) };
+				}
+				IJavaSearchScope scope= RefactoringScopeFactory.create(fField, true, true);
+				newReferences= resolver.findNewOccurrences(new IField[] { field }, excluded, scope, Progress.subMonitor(pm, 1));
+			}
+			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, oldReferences, newReferences, getNewElementName()));
+			return result;
+		} finally {
+			pm.done();
+			resolver.dispose();
+		}
+	}
+
 	private SearchResultGroup[] getNewReferences(IProgressMonitor pm, RefactoringStatus status, WorkingCopyOwner owner, ICompilationUnit[] newWorkingCopies) throws CoreException {
 		pm.beginTask("", 2); //$NON-NLS-1$
 		ICompilationUnit declaringCuWorkingCopy= RenameAnalyzeUtil.findWorkingCopyForCu(newWorkingCopies, fField.getCompilationUnit());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -105,6 +106,12 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	private static final String ATTRIBUTE_DELEGATE= "delegate"; //$NON-NLS-1$
 	private static final String ATTRIBUTE_DEPRECATE= "deprecate"; //$NON-NLS-1$
 
+	/**
+	 * Whether the references after the rename are found by resolving the changed compilation
+	 * units in batches instead of searching them in reconciled working copies.
+	 */
+	private static final boolean DEFAULT_BATCHED_ANALYSIS= Boolean.getBoolean("org.eclipse.jdt.ui.rename.batchedAnalysis"); //$NON-NLS-1$
+
 	private SearchResultGroup[] fOccurrences;
 	private boolean fUpdateReferences;
 	private IMethod fMethod;
@@ -115,6 +122,7 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	private GroupCategorySet fCategorySet;
 	private boolean fDelegateUpdating;
 	private boolean fDelegateDeprecation;
+	private boolean fBatchedAnalysis;
 	protected boolean fInitialized= false;
 
 	/**
@@ -142,6 +150,7 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 		fDelegateUpdating= false;
 		fDelegateDeprecation= true;
 		fIsComposite= true;
+		fBatchedAnalysis= DEFAULT_BATCHED_ANALYSIS;
 	}
 
 	protected void initialize(IMethod method) {
@@ -317,6 +326,17 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 		fDelegateDeprecation= deprecate;
 	}
 
+	/**
+	 * Sets whether the shadowing analysis resolves the changed compilation units in batches and
+	 * compares the binding keys of the names with the renamed methods, instead of reconciling a
+	 * working copy of each changed unit and searching the references of the renamed methods again.
+	 *
+	 * @param batched <code>true</code> to resolve the changed units in batches
+	 */
+	public void setBatchedAnalysis(boolean batched) {
+		fBatchedAnalysis= batched;
+	}
+
 	//----------- preconditions ------------------
 
 	@Override
@@ -547,6 +567,9 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	//-------
 
 	private RefactoringStatus analyzeRenameChanges(IProgressMonitor pm) throws CoreException {
+		if (fBatchedAnalysis)
+			return analyzeRenameChangesInBatches(pm);
+
 		ICompilationUnit[] newDeclarationWCs= null;
 		try {
 			pm.beginTask("", 4); //$NON-NLS-1$
@@ -588,6 +611,45 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 		}
 	}
 
+	private RefactoringStatus analyzeRenameChangesInBatches(IProgressMonitor pm) throws CoreException {
+		RenameOccurrencesResolver resolver= new RenameOccurrencesResolver(fChangeManager, fWorkingCopyOwner, getNewElementName());
+		try {
+			pm.beginTask("", 4); //$NON-NLS-1$
+			RefactoringStatus result= new RefactoringStatus();
+			ICompilationUnit[] declarationCUs= getDeclarationCUs();
+			Set<ICompilationUnit> cus= new LinkedHashSet<>(Arrays.asList(declarationCUs));
+			for (SearchResultGroup occurrence : fOccurrences) {
+				ICompilationUnit cu= occurrence.getCompilationUnit();
+				if (cu != null)
+					cus.add(cu);
+			}
+			ICompilationUnit[] newWCs= resolver.createNewWorkingCopies(cus.toArray(new ICompilationUnit[cus.size()]), declarationCUs, Progress.subMonitor(pm, 1));
+
+			List<IMethod> wcOldMethods= new ArrayList<>(fMethodsToRename.size());
+			List<IMethod> wcNewMethods= new ArrayList<>(fMethodsToRename.size());
+			for (IMethod method : fMethodsToRename) {
+				ICompilationUnit newCu= RenameAnalyzeUtil.findWorkingCopyForCu(newWCs, method.getCompilationUnit());
+				IType typeWc= (IType) JavaModelUtil.findInCompilationUnit(newCu, method.getDeclaringType());
+				if (typeWc == null)
+					continue; // should not happen
+				wcOldMethods.add(getMethodInWorkingCopy(method, getCurrentElementName(), typeWc));
+				wcNewMethods.add(getMethodInWorkingCopy(method, getNewElementName(), typeWc));
+			}
+
+			IMethod[] newMethods= wcNewMethods.toArray(new IMethod[wcNewMethods.size()]);
+			// The delegates contain an invocation and a javadoc reference of the new method, which are OK
+			IMethod[] excluded= getDelegateUpdating() ? wcOldMethods.toArray(new IMethod[wcOldMethods.size()]) : new IMethod[0];
+			IJavaSearchScope scope= RefactoringScopeFactory.createProjectsScope(newMethods, true);
+			SearchResultGroup[] newOccurrences= resolver.findNewOccurrences(newMethods, excluded, scope, Progress.subMonitor(pm, 3));
+
+			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, fOccurrences, newOccurrences, getNewElementName()));
+			return result;
+		} finally {
+			pm.done();
+			resolver.dispose();
+		}
+	}
+
 	//Lower memory footprint than batchFindNewOccurrences. Not used because it is too slow.
 	//Final solution is maybe to do searches in chunks of ~ 50 CUs.
 //	private SearchResultGroup[] findNewOccurrences(IMethod[] newMethods, ICompilationUnit[] newDeclarationWCs, IProgressMonitor pm) throws CoreException {
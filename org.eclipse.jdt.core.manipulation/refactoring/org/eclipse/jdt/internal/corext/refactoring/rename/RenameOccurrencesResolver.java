@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.rename;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+import org.eclipse.jdt.internal.corext.util.SearchUtils;
+
+import org.eclipse.jdt.internal.ui.util.Progress;
+
+/**
+ * Finds the occurrences of renamed methods or fields after a rename, for the analysis of
+ * {@link RenameAnalyzeUtil#analyzeRenameChanges2(TextChangeManager, SearchResultGroup[], SearchResultGroup[], String)}.
+ * <p>
+ * Instead of reconciling a working copy of every changed compilation unit and searching the
+ * references of the renamed elements in the working copies, the changed units are resolved in
+ * batched {@link ASTParser#createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)}
+ * passes. The binding keys of the names are compared with the keys of the renamed declarations.
+ * Only the working copies of the declaring units are reconciled, as they are the only ones whose
+ * structure changes. Unchanged units are only resolved if they already reference an element with
+ * the new name, since only such references can bind to a renamed element.
+ * </p>
+ */
+public final class RenameOccurrencesResolver {
+
+	/**
+	 * The maximal number of compilation units resolved in one batch.
+	 */
+	private static final int BATCH_SIZE= 150;
+
+	private static final class Occurrence {
+		final ICompilationUnit fUnit;
+		final IJavaElement fEnclosingElement;
+		final int fOffset;
+		final int fLength;
+		final String fKey;
+
+		Occurrence(ICompilationUnit unit, IJavaElement enclosingElement, int offset, int length, String key) {
+			fUnit= unit;
+			fEnclosingElement= enclosingElement;
+			fOffset= offset;
+			fLength= length;
+			fKey= key;
+		}
+	}
+
+	private final TextChangeManager fManager;
+	private final WorkingCopyOwner fOwner;
+	private final String fNewName;
+
+	private final List<ICompilationUnit> fWorkingCopies= new ArrayList<>();
+	private int fResolvedUnitCount;
+
+	/**
+	 * @param manager the change manager with the changes of the rename
+	 * @param owner the owner of the working copies with the new contents
+	 * @param newName the new name of the renamed elements
+	 */
+	public RenameOccurrencesResolver(TextChangeManager manager, WorkingCopyOwner owner, String newName) {
+		fManager= manager;
+		fOwner= owner;
+		fNewName= newName;
+	}
+
+	/**
+	 * Creates working copies with the contents after the rename. Only the working copies of the
+	 * units that declare renamed elements are reconciled.
+	 *
+	 * @param units the changed compilation units
+	 * @param declaringUnits the compilation units that declare renamed elements
+	 * @param pm the progress monitor
+	 * @return the working copies, in the order of <code>units</code>
+	 * @throws CoreException if the preview contents could not be computed
+	 */
+	public ICompilationUnit[] createNewWorkingCopies(ICompilationUnit[] units, ICompilationUnit[] declaringUnits, IProgressMonitor pm) throws CoreException {
+		pm.beginTask("", units.length); //$NON-NLS-1$
+		Set<ICompilationUnit> declaring= new HashSet<>(Arrays.asList(declaringUnits));
+		ICompilationUnit[] result= new ICompilationUnit[units.length];
+		for (int i= 0; i < units.length; i++) {
+			ICompilationUnit cu= units[i];
+			if (declaring.contains(cu)) {
+				result[i]= RenameAnalyzeUtil.createNewWorkingCopy(cu, fManager, fOwner, Progress.subMonitor(pm, 1));
+			} else {
+				result[i]= cu.getWorkingCopy(fOwner, null);
+				result[i].getBuffer().setContents(fManager.get(cu).getPreviewContent(new NullProgressMonitor()));
+				pm.worked(1);
+			}
+			fWorkingCopies.add(result[i]);
+		}
+		pm.done();
+		return result;
+	}
+
+	/**
+	 * Finds the references to the renamed elements in the new working copies and in the unchanged
+	 * compilation units of the scope.
+	 *
+	 * @param newElements the renamed methods or fields in the new working copies
+	 * @param excludedElements the elements in the new working copies whose references must not be
+	 *            reported, e.g. delegates with the old name
+	 * @param scope the scope of the references
+	 * @param pm the progress monitor
+	 * @return the references, grouped by compilation unit
+	 * @throws CoreException if the unchanged units with references to the new name could not be
+	 *             searched
+	 */
+	public SearchResultGroup[] findNewOccurrences(IMember[] newElements, IJavaElement[] excludedElements, IJavaSearchScope scope, IProgressMonitor pm) throws CoreException {
+		pm.beginTask("", 10); //$NON-NLS-1$
+		fResolvedUnitCount= 0;
+		try {
+			if (newElements.length == 0)
+				return new SearchResultGroup[0];
+			boolean methods= newElements[0].getElementType() == IJavaElement.METHOD;
+
+			Set<ICompilationUnit> units= new LinkedHashSet<>(fWorkingCopies);
+			Set<ICompilationUnit> changed= new HashSet<>();
+			for (ICompilationUnit workingCopy : fWorkingCopies) {
+				changed.add(workingCopy.getPrimary());
+			}
+			for (ICompilationUnit cu : findUnitsReferencingNewName(methods, scope, Progress.subMonitor(pm, 2))) {
+				if (!changed.contains(cu.getPrimary()))
+					units.add(cu);
+			}
+
+			Set<IJavaElement> declarations= new HashSet<>(Arrays.asList(newElements));
+			Set<IJavaElement> excluded= new HashSet<>(Arrays.asList(excludedElements));
+			Set<String> keys= new HashSet<>();
+			List<Occurrence> occurrences= new ArrayList<>();
+			resolve(units, methods, declarations, excluded, keys, occurrences, Progress.subMonitor(pm, 8));
+
+			SearchParticipant participant= SearchEngine.getDefaultSearchParticipant();
+			Map<ICompilationUnit, List<SearchMatch>> matches= new LinkedHashMap<>();
+			for (Occurrence occurrence : occurrences) {
+				if (keys.contains(occurrence.fKey)) {
+					SearchMatch match= new SearchMatch(occurrence.fEnclosingElement, SearchMatch.A_ACCURATE, occurrence.fOffset, occurrence.fLength, participant, occurrence.fUnit.getResource());
+					matches.computeIfAbsent(occurrence.fUnit, k -> new ArrayList<>()).add(match);
+				}
+			}
+			List<SearchResultGroup> result= new ArrayList<>(matches.size());
+			for (Entry<ICompilationUnit, List<SearchMatch>> entry : matches.entrySet()) {
+				List<SearchMatch> unitMatches= entry.getValue();
+				result.add(new SearchResultGroup(entry.getKey().getResource(), unitMatches.toArray(new SearchMatch[unitMatches.size()])));
+			}
+			return result.toArray(new SearchResultGroup[result.size()]);
+		} finally {
+			pm.done();
+		}
+	}
+
+	private Set<ICompilationUnit> findUnitsReferencingNewName(boolean methods, IJavaSearchScope scope, IProgressMonitor pm) throws CoreException {
+		Set<ICompilationUnit> result= new LinkedHashSet<>();
+		int searchFor= methods ? IJavaSearchConstants.METHOD : IJavaSearchConstants.FIELD;
+		SearchPattern pattern= SearchPattern.createPattern(fNewName, searchFor, IJavaSearchConstants.REFERENCES, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+		if (pattern == null) {
+			pm.done();
+			return result;
+		}
+		new SearchEngine().search(pattern, SearchUtils.getDefaultSearchParticipants(), scope, new SearchRequestor() {
+			@Override
+			public void acceptSearchMatch(SearchMatch match) {
+				ICompilationUnit cu= SearchUtils.getCompilationUnit(match);
+				if (cu != null)
+					result.add(cu);
+			}
+		}, pm);
+		return result;
+	}
+
+	private void resolve(Set<ICompilationUnit> units, boolean methods, Set<IJavaElement> declarations, Set<IJavaElement> excluded, Set<String> keys, List<Occurrence> occurrences, IProgressMonitor pm) {
+		Map<IJavaProject, List<ICompilationUnit>> projects= new LinkedHashMap<>();
+		for (ICompilationUnit cu : units) {
+			projects.computeIfAbsent(cu.getJavaProject(), k -> new ArrayList<>()).add(cu);
+		}
+
+		pm.beginTask("", units.size()); //$NON-NLS-1$
+		try {
+			for (Entry<IJavaProject, List<ICompilationUnit>> entry : projects.entrySet()) {
+				IJavaProject project= entry.getKey();
+				List<ICompilationUnit> projectUnits= entry.getValue();
+				for (int start= 0; start < projectUnits.size(); start+= BATCH_SIZE) {
+					List<ICompilationUnit> batch= projectUnits.subList(start, Math.min(start + BATCH_SIZE, projectUnits.size()));
+					ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+					parser.setWorkingCopyOwner(fOwner);
+					parser.setProject(project);
+					parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
+					parser.setResolveBindings(true);
+					parser.setBindingsRecovery(true);
+					parser.createASTs(batch.toArray(new ICompilationUnit[batch.size()]), new String[0], new ASTRequestor() {
+						@Override
+						public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+							fResolvedUnitCount++;
+							ast.accept(new OccurrenceCollector(source, methods, declarations, excluded, keys, occurrences));
+							pm.worked(1);
+							if (pm.isCanceled())
+								throw new OperationCanceledException();
+						}
+					}, new NullProgressMonitor());
+				}
+			}
+		} finally {
+			pm.done();
+		}
+	}
+
+	private final class OccurrenceCollector extends ASTVisitor {
+
+		private final ICompilationUnit fUnit;
+		private final boolean fMethods;
+		private final Set<IJavaElement> fDeclarations;
+		private final Set<IJavaElement> fExcluded;
+		private final Set<String> fKeys;
+		private final List<Occurrence> fOccurrences;
+
+		OccurrenceCollector(ICompilationUnit unit, boolean methods, Set<IJavaElement> declarations, Set<IJavaElement> excluded, Set<String> keys, List<Occurrence> occurrences) {
+			super(true);
+			fUnit= unit;
+			fMethods= methods;
+			fDeclarations= declarations;
+			fExcluded= excluded;
+			fKeys= keys;
+			fOccurrences= occurrences;
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			if (!fNewName.equals(node.getIdentifier()))
+				return false;
+			String key= getDeclarationKey(node.resolveBinding());
+			if (key == null)
+				return false;
+			if (node.isDeclaration()) {
+				if (fDeclarations.contains(node.resolveBinding().getJavaElement()))
+					fKeys.add(key);
+			} else {
+				IJavaElement enclosing= getEnclosingElement(node);
+				if (!fExcluded.contains(enclosing))
+					fOccurrences.add(new Occurrence(fUnit, enclosing, node.getStartPosition(), node.getLength(), key));
+			}
+			return false;
+		}
+
+		private String getDeclarationKey(IBinding binding) {
+			if (fMethods && binding instanceof IMethodBinding)
+				return ((IMethodBinding) binding).getMethodDeclaration().getKey();
+			if (!fMethods && binding instanceof IVariableBinding && ((IVariableBinding) binding).isField())
+				return ((IVariableBinding) binding).getVariableDeclaration().getKey();
+			return null;
+		}
+
+		private IJavaElement getEnclosingElement(ASTNode node) {
+			IJavaElement element= null;
+			for (ASTNode parent= node.getParent(); parent != null && element == null; parent= parent.getParent()) {
+				if (parent instanceof MethodDeclaration) {
+					IMethodBinding binding= ((MethodDeclaration) parent).resolveBinding();
+					if (binding != null)
+						element= binding.getJavaElement();
+				} else if (parent instanceof VariableDeclarationFragment && parent.getParent() instanceof FieldDeclaration) {
+					IVariableBinding binding= ((VariableDeclarationFragment) parent).resolveBinding();
+					if (binding != null)
+						element= binding.getJavaElement();
+				} else if (parent instanceof AbstractTypeDeclaration || parent instanceof AnonymousClassDeclaration) {
+					IBinding binding= parent instanceof AbstractTypeDeclaration
+							? ((AbstractTypeDeclaration) parent).resolveBinding()
+							: ((AnonymousClassDeclaration) parent).resolveBinding();
+					if (binding != null)
+						element= binding.getJavaElement();
+				}
+			}
+			return element != null ? element : fUnit;
+		}
+	}
+
+	/**
+	 * @return the number of compilation units resolved by the last search
+	 */
+	public int getResolvedUnitCount() {
+		return fResolvedUnitCount;
+	}
+
+	/**
+	 * Discards the working copies created by this resolver.
+	 *
+	 * @throws CoreException if a working copy could not be discarded
+	 */
+	public void dispose() throws CoreException {
+		for (ICompilationUnit workingCopy : fWorkingCopies) {
+			workingCopy.discardWorkingCopy();
+		}
+		fWorkingCopies.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,28 +16,39 @@ package org.eclipse.jdt.internal.corext.refactoring.rename;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProduct;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
@@ -62,11 +73,13 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaModel;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ILocalVariable;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
@@ -85,6 +98,7 @@ import org.eclipse.jdt.core.refactoring.descriptors.JavaRefactoringDescriptor;
 import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.TypeReferenceMatch;
@@ -129,6 +143,7 @@ import org.eclipse.jdt.internal.corext.util.SearchUtils;
 import org.eclipse.jdt.ui.refactoring.IRefactoringProcessorIdsCore;
 import org.eclipse.jdt.ui.refactoring.IRefactoringSaveModes;
 
+import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.util.Progress;
 
 public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpdating, IReferenceUpdating, IQualifiedNameUpdating, ISimilarDeclarationUpdating, IResourceMapper, IJavaElementMapper {
@@ -139,6 +154,19 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 	private static final String ATTRIBUTE_SIMILAR_DECLARATIONS= "similarDeclarations"; //$NON-NLS-1$
 	private static final String ATTRIBUTE_MATCHING_STRATEGY= "matchStrategy"; //$NON-NLS-1$
 
+	/**
+	 * The number of worker threads used to search the references, to create the reference updates
+	 * and to parse the compilation units of similarly named local variables, or <code>1</code> to
+	 * do this sequentially on the calling thread.
+	 */
+	private static final int DEFAULT_PARALLELISM= Integer.getInteger("org.eclipse.jdt.ui.rename.parallelism", Math.min(4, Runtime.getRuntime().availableProcessors())).intValue(); //$NON-NLS-1$
+
+	/**
+	 * The minimal number of compilation units per worker. Smaller renames are processed on the
+	 * calling thread, since starting the workers would take longer.
+	 */
+	private static final int DEFAULT_MIN_PARTITION_SIZE= 50;
+
 	private static final GroupCategorySet CATEGORY_TYPE_RENAME= new GroupCategorySet(new GroupCategory("org.eclipse.jdt.internal.corext.refactoring.rename.renameType.type", RefactoringCoreMessages.RenameTypeProcessor_changeCategory_type, RefactoringCoreMessages.RenameTypeProcessor_changeCategory_type_description)); //$NON-NLS-1$
 	private static final GroupCategorySet CATEGORY_METHOD_RENAME= new GroupCategorySet(new GroupCategory("org.eclipse.jdt.internal.corext.refactoring.rename.renameType.method", RefactoringCoreMessages.RenameTypeProcessor_changeCategory_method, RefactoringCoreMessages.RenameTypeProcessor_changeCategory_method_description)); //$NON-NLS-1$
 	private static final GroupCategorySet CATEGORY_FIELD_RENAME= new GroupCategorySet(new GroupCategory("org.eclipse.jdt.internal.corext.refactoring.rename.renameType.field", RefactoringCoreMessages.RenameTypeProcessor_changeCategory_fields, RefactoringCoreMessages.RenameTypeProcessor_changeCategory_fields_description)); //$NON-NLS-1$
@@ -153,6 +181,9 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 
 	private boolean fUpdateTextualMatches;
 
+	private int fParallelism;
+	private int fMinPartitionSize;
+
 	private boolean fUpdateQualifiedNames;
 	private String fFilePatterns;
 
@@ -174,6 +205,53 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 	private int fCachedRenamingStrategy= -1;
 	private RefactoringStatus fCachedRefactoringStatus= null;
 
+	/**
+	 * Parses the compilation units of the similarly named local variables with bindings. With
+	 * several workers the units are parsed ahead, in the order in which they are requested. At
+	 * most two units per worker are parsed ahead, so only a few ASTs are held at the same time.
+	 */
+	private static final class ResolvedUnitParser {
+
+		private final Iterator<ICompilationUnit> fUnits;
+		private final Map<ICompilationUnit, Future<CompilationUnit>> fParsed;
+		private final ExecutorService fExecutor;
+		private final int fLookAhead;
+
+		ResolvedUnitParser(Set<ICompilationUnit> units, int parallelism) {
+			fUnits= units.iterator();
+			fParsed= new HashMap<>();
+			fExecutor= parallelism > 1 && units.size() > 1 ? createExecutor(parallelism) : null;
+			fLookAhead= 2 * parallelism;
+		}
+
+		CompilationUnit parse(ICompilationUnit cu) throws CoreException {
+			if (fExecutor == null)
+				return parseUnit(cu);
+			parseAhead();
+			Future<CompilationUnit> future= fParsed.remove(cu);
+			if (future == null)
+				return parseUnit(cu);
+			parseAhead();
+			return getResult(future);
+		}
+
+		private void parseAhead() {
+			while (fParsed.size() < fLookAhead && fUnits.hasNext()) {
+				ICompilationUnit unit= fUnits.next();
+				fParsed.put(unit, fExecutor.submit(() -> parseUnit(unit)));
+			}
+		}
+
+		private static CompilationUnit parseUnit(ICompilationUnit cu) {
+			return new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(cu, true);
+		}
+
+		void dispose() {
+			if (fExecutor != null)
+				fExecutor.shutdownNow();
+		}
+	}
+
 	public static final class ParticipantDescriptorFilter implements IParticipantDescriptorFilter {
 
 		@Override
@@ -200,6 +278,8 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		fUpdateTextualMatches= false;
 		fUpdateSimilarElements= false; // default is no
 		fRenamingStrategy= RenamingNameSuggestor.STRATEGY_EXACT;
+		fParallelism= Math.max(1, DEFAULT_PARALLELISM);
+		fMinPartitionSize= DEFAULT_MIN_PARTITION_SIZE;
 	}
 
 	public RenameTypeProcessor(JavaRefactoringArguments arguments, RefactoringStatus status) {
@@ -343,6 +423,26 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		fUpdateTextualMatches= update;
 	}
 
+	/**
+	 * Sets the number of worker threads used by the rename. With a value greater than
+	 * <code>1</code> the compilation units in the search scope are partitioned among the workers,
+	 * which search the references in their units. The references are then partitioned again, and
+	 * each worker creates the updates of its units in its own change manager. The compilation
+	 * units of similarly named local variables are parsed ahead of their use. The resulting
+	 * change is the same as the one created sequentially.
+	 *
+	 * @param parallelism the number of worker threads, <code>1</code> for sequential processing
+	 * @param minPartitionSize the minimal number of compilation units per worker
+	 */
+	public void setParallelism(int parallelism, int minPartitionSize) {
+		fParallelism= Math.max(1, parallelism);
+		fMinPartitionSize= Math.max(1, minPartitionSize);
+	}
+
+	private int getPartitionCount(int unitCount) {
+		return Math.max(1, Math.min(fParallelism, unitCount / fMinPartitionSize));
+	}
+
 	//---- IReferenceUpdating --------------------------------------
 
 	@Override
@@ -612,12 +712,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 			String binaryRefsDescription= Messages.format(RefactoringCoreMessages.ReferencesInBinaryContext_ref_in_binaries_description , BasicElementLabels.getJavaElementName(fType.getElementName()));
 			ReferencesInBinaryContext binaryRefs= new ReferencesInBinaryContext(binaryRefsDescription);
 
-			fReferences= RefactoringSearchEngine.search(
-					pattern,
-					RefactoringScopeFactory.create(fType, true, false),
-					new TypeOccurrenceCollector(fType, binaryRefs),
-					monitor,
-					fCachedRefactoringStatus);
+			fReferences= searchReferences(pattern, RefactoringScopeFactory.create(fType, true, false), binaryRefs, monitor);
 
 			binaryRefs.addErrorIfNecessary(fCachedRefactoringStatus);
 			fReferences= Checks.excludeCompilationUnits(fReferences, fCachedRefactoringStatus);
@@ -716,6 +811,112 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		return fCachedRefactoringStatus;
 	}
 
+	private SearchResultGroup[] searchReferences(SearchPattern pattern, IJavaSearchScope scope, ReferencesInBinaryContext binaryRefs, IProgressMonitor monitor) throws JavaModelException {
+		long start= System.currentTimeMillis();
+		List<IJavaSearchScope> partitions= fParallelism > 1 ? partitionScope(scope) : Collections.emptyList();
+		SearchResultGroup[] result;
+		if (partitions.size() > 1) {
+			result= searchReferencesInParallel(pattern, partitions, binaryRefs, monitor);
+		} else {
+			result= RefactoringSearchEngine.search(pattern, scope, new TypeOccurrenceCollector(fType, binaryRefs), monitor, fCachedRefactoringStatus);
+		}
+		if (JavaManipulationPlugin.DEBUG_RENAME_TYPE)
+			System.out.println("RenameTypeProcessor - found references in " + result.length + " units with " + Math.max(1, partitions.size()) + " workers in " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		return result;
+	}
+
+	/**
+	 * Splits the source compilation units enclosed by the given scope into contiguous ranges, in
+	 * the order of the projects, package fragment roots and packages. The binary package fragment
+	 * roots of the scope are searched with the first range.
+	 *
+	 * @param scope the scope of the reference search
+	 * @return the scopes of the ranges, or an empty list if the scope is not worth splitting
+	 * @throws JavaModelException if the elements of the scope could not be accessed
+	 */
+	private List<IJavaSearchScope> partitionScope(IJavaSearchScope scope) throws JavaModelException {
+		IJavaModel model= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot());
+		Set<IPackageFragmentRoot> roots= new LinkedHashSet<>();
+		for (IPath path : scope.enclosingProjectsAndJars()) {
+			if (path.segmentCount() != 1)
+				continue; // archives are also roots of the enclosing projects
+			IJavaProject project= model.getJavaProject(path.lastSegment());
+			if (!project.exists())
+				continue;
+			for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+				if (scope.encloses(root))
+					roots.add(root);
+			}
+		}
+
+		List<IJavaElement> binaryRoots= new ArrayList<>();
+		List<ICompilationUnit> units= new ArrayList<>();
+		for (IPackageFragmentRoot root : roots) {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE) {
+				binaryRoots.add(root);
+				continue;
+			}
+			for (IJavaElement child : root.getChildren()) {
+				units.addAll(Arrays.asList(((IPackageFragment) child).getCompilationUnits()));
+			}
+		}
+
+		int partitionCount= getPartitionCount(units.size());
+		if (partitionCount < 2)
+			return Collections.emptyList();
+
+		List<IJavaSearchScope> result= new ArrayList<>(partitionCount);
+		int partitionSize= (units.size() + partitionCount - 1) / partitionCount;
+		for (int start= 0; start < units.size(); start+= partitionSize) {
+			List<IJavaElement> elements= new ArrayList<>(units.subList(start, Math.min(start + partitionSize, units.size())));
+			if (start == 0)
+				elements.addAll(binaryRoots);
+			result.add(SearchEngine.createJavaSearchScope(elements.toArray(new IJavaElement[elements.size()]), false));
+		}
+		return result;
+	}
+
+	/**
+	 * Searches the references in the given scopes on worker threads, each with its own
+	 * collector. The matches are grouped in the order of the scopes, so the result does not
+	 * depend on the order in which the workers finish.
+	 */
+	private SearchResultGroup[] searchReferencesInParallel(SearchPattern pattern, List<IJavaSearchScope> partitions, ReferencesInBinaryContext binaryRefs, IProgressMonitor monitor) throws JavaModelException {
+		monitor.beginTask("", partitions.size()); //$NON-NLS-1$
+		ExecutorService executor= createExecutor(partitions.size());
+		try {
+			IProgressMonitor cancelMonitor= createCancelMonitor(monitor);
+			List<ReferencesInBinaryContext> partitionBinaryRefs= new ArrayList<>(partitions.size());
+			List<Future<TypeOccurrenceCollector>> futures= new ArrayList<>(partitions.size());
+			for (IJavaSearchScope partition : partitions) {
+				ReferencesInBinaryContext partitionRefs= new ReferencesInBinaryContext(binaryRefs.getDescription());
+				partitionBinaryRefs.add(partitionRefs);
+				futures.add(executor.submit(() -> {
+					TypeOccurrenceCollector collector= new TypeOccurrenceCollector(fType, partitionRefs);
+					new SearchEngine().search(pattern, SearchUtils.getDefaultSearchParticipants(), partition, collector, cancelMonitor);
+					return collector;
+				}));
+			}
+
+			List<SearchMatch> matches= new ArrayList<>();
+			for (int i= 0; i < futures.size(); i++) {
+				matches.addAll(getResult(futures.get(i)).getResults());
+				for (SearchMatch match : partitionBinaryRefs.get(i).getMatches()) {
+					binaryRefs.add(match);
+				}
+				monitor.worked(1);
+			}
+			return RefactoringSearchEngine.groupByCu(matches, fCachedRefactoringStatus);
+		} catch (JavaModelException e) {
+			throw e;
+		} catch (CoreException e) {
+			throw new JavaModelException(e);
+		} finally {
+			executor.shutdownNow();
+			monitor.done();
+		}
+	}
+
 	/**
 	 * @param matchOffset offset of the match
 	 * @param parentElement parent element of the match
@@ -1200,20 +1401,133 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		}
 	}
 
-	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) {
+	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) throws CoreException {
 		pm.beginTask("", fReferences.length); //$NON-NLS-1$
+		long start= System.currentTimeMillis();
+		int partitionCount= getPartitionCount(fReferences.length);
+		if (partitionCount > 1) {
+			addReferenceUpdatesInParallel(manager, partitionCount, pm);
+		} else {
+			for (SearchResultGroup reference : fReferences) {
+				addReferenceUpdates(manager, reference);
+				pm.worked(1);
+			}
+		}
+		if (JavaManipulationPlugin.DEBUG_RENAME_TYPE)
+			System.out.println("RenameTypeProcessor - updated references in " + fReferences.length + " units with " + partitionCount + " workers in " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	private void addReferenceUpdates(TextChangeManager manager, SearchResultGroup reference) {
+		ICompilationUnit cu= reference.getCompilationUnit();
+		if (cu == null)
+			return;
+
+		String name= RefactoringCoreMessages.RenameTypeRefactoring_update_reference;
+
+		for (SearchMatch match : reference.getSearchResults()) {
+			ReplaceEdit replaceEdit= new ReplaceEdit(match.getOffset(), match.getLength(), getNewElementName());
+			TextChangeCompatibility.addTextEdit(manager.get(cu), name, replaceEdit, CATEGORY_TYPE_RENAME);
+		}
+	}
+
+	/**
+	 * Partitions the references into contiguous ranges of compilation units which are updated by
+	 * worker threads, each into its own change manager. The changes are merged in the order of the
+	 * references, so the result is the same as the sequential one. The compilation units that
+	 * already have a change, for example from similarly named elements, and the units of several
+	 * reference groups are updated on the calling thread while merging.
+	 */
+	private void addReferenceUpdatesInParallel(TextChangeManager manager, int partitionCount, IProgressMonitor pm) throws CoreException {
+		Set<ICompilationUnit> units= new HashSet<>();
+		Set<ICompilationUnit> shared= new HashSet<>();
 		for (SearchResultGroup reference : fReferences) {
 			ICompilationUnit cu= reference.getCompilationUnit();
-			if (cu == null)
-				continue;
+			if (cu != null && (!units.add(cu) || manager.containsChangesIn(cu)))
+				shared.add(cu);
+		}
+
+		int partitionSize= (fReferences.length + partitionCount - 1) / partitionCount;
+		ExecutorService executor= createExecutor(partitionCount);
+		try {
+			IProgressMonitor cancelMonitor= createCancelMonitor(pm);
+			List<SearchResultGroup[]> partitions= new ArrayList<>(partitionCount);
+			List<Future<TextChangeManager>> futures= new ArrayList<>(partitionCount);
+			for (int start= 0; start < fReferences.length; start+= partitionSize) {
+				SearchResultGroup[] partition= Arrays.copyOfRange(fReferences, start, Math.min(start + partitionSize, fReferences.length));
+				partitions.add(partition);
+				futures.add(executor.submit(() -> createReferenceUpdates(partition, shared, cancelMonitor)));
+			}
 
-			String name= RefactoringCoreMessages.RenameTypeRefactoring_update_reference;
+			for (int i= 0; i < futures.size(); i++) {
+				TextChangeManager partial= getResult(futures.get(i));
+				for (SearchResultGroup reference : partitions.get(i)) {
+					ICompilationUnit cu= reference.getCompilationUnit();
+					if (cu == null)
+						continue;
+					if (shared.contains(cu))
+						addReferenceUpdates(manager, reference);
+					else if (partial.containsChangesIn(cu))
+						manager.manage(cu, partial.get(cu));
+				}
+				pm.worked(partitions.get(i).length);
 
-			for (SearchMatch match : reference.getSearchResults()) {
-				ReplaceEdit replaceEdit= new ReplaceEdit(match.getOffset(), match.getLength(), getNewElementName());
-				TextChangeCompatibility.addTextEdit(manager.get(cu), name, replaceEdit, CATEGORY_TYPE_RENAME);
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
 			}
-			pm.worked(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private TextChangeManager createReferenceUpdates(SearchResultGroup[] references, Set<ICompilationUnit> shared, IProgressMonitor cancelMonitor) {
+		TextChangeManager manager= new TextChangeManager(true);
+		for (SearchResultGroup reference : references) {
+			if (cancelMonitor.isCanceled())
+				throw new OperationCanceledException();
+			ICompilationUnit cu= reference.getCompilationUnit();
+			if (cu != null && !shared.contains(cu))
+				addReferenceUpdates(manager, reference);
+		}
+		return manager;
+	}
+
+	/**
+	 * @param monitor the monitor of the calling thread
+	 * @return a monitor for the workers which only forwards the cancellation
+	 */
+	private static IProgressMonitor createCancelMonitor(IProgressMonitor monitor) {
+		return new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+	}
+
+	private static ExecutorService createExecutor(int threads) {
+		AtomicInteger threadCount= new AtomicInteger();
+		return Executors.newFixedThreadPool(threads, r -> {
+			Thread thread= new Thread(r, "Rename Type Worker-" + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static <T> T getResult(Future<T> future) throws CoreException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException)
+				throw (CoreException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
 		}
 	}
 
@@ -1291,6 +1605,29 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		Assert.isNotNull(fPreloadedElementToName);
 		Assert.isNotNull(fPreloadedElementToSelection);
 
+		ResolvedUnitParser parser= new ResolvedUnitParser(getUnitsOfSelectedLocals(), fParallelism);
+		try {
+			return initializeSimilarElementsRenameProcessors(progressMonitor, context, parser);
+		} finally {
+			parser.dispose();
+		}
+	}
+
+	/**
+	 * @return the compilation units of the selected similarly named local variables, in the order
+	 *         of the preloaded elements
+	 */
+	private Set<ICompilationUnit> getUnitsOfSelectedLocals() {
+		Set<ICompilationUnit> units= new LinkedHashSet<>();
+		for (IJavaElement element : fPreloadedElementToName.keySet()) {
+			if (element instanceof ILocalVariable && fPreloadedElementToSelection.get(element).booleanValue())
+				units.add((ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT));
+		}
+		return units;
+	}
+
+	private RefactoringStatus initializeSimilarElementsRenameProcessors(IProgressMonitor progressMonitor, CheckConditionsContext context, ResolvedUnitParser parser) throws CoreException {
+
 		final RefactoringStatus status= new RefactoringStatus();
 		final Set<IMethod> handledTopLevelMethods= new HashSet<>();
 		final Set<Warning> warnings= new HashSet<>();
@@ -1343,7 +1680,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 				final ILocalVariable currentLocal= (ILocalVariable) element;
 
 				if (currentResolvedCU == null)
-					currentResolvedCU= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(currentCU, true);
+					currentResolvedCU= parser.parse(currentCU);
 
 				processor= createLocalRenameProcessor(currentLocal, newName, currentResolvedCU);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,6 +45,14 @@ public class JUnitPreferencesConstants {
 
 	public static final boolean ENABLE_ASSERTIONS_DEFAULT= true;
 
+	/**
+	 * Boolean preference controlling whether the test runner is asked to report its results in the
+	 * binary protocol instead of the line-based text protocol.
+	 */
+	public static final String BINARY_PROTOCOL= JUnitCorePlugin.PLUGIN_ID + ".binary_protocol"; //$NON-NLS-1$
+
+	public static final boolean BINARY_PROTOCOL_DEFAULT= true;
+
 	/**
 	 * List of active stack filters. A String containing a comma separated list
 	 * of fully qualified type names/patterns.
@@ -217,6 +225,10 @@ public class JUnitPreferencesConstants {
 		return Platform.getPreferencesService().getBoolean(JUnitCorePlugin.CORE_PLUGIN_ID, DO_FILTER_STACK, true, null);
 	}
 
+	public static boolean getBinaryProtocol() {
+		return Platform.getPreferencesService().getBoolean(JUnitCorePlugin.CORE_PLUGIN_ID, BINARY_PROTOCOL, BINARY_PROTOCOL_DEFAULT, null);
+	}
+
 	public static void setFilterStack(boolean filter) {
 		InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).putBoolean(DO_FILTER_STACK, filter);
 	}
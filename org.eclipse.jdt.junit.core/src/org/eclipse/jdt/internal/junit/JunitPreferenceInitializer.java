@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ public class JunitPreferenceInitializer extends AbstractPreferenceInitializer {
 
 		prefs.putBoolean(JUnitPreferencesConstants.SHOW_ON_ERROR_ONLY, false);
 		prefs.putBoolean(JUnitPreferencesConstants.ENABLE_ASSERTIONS, JUnitPreferencesConstants.ENABLE_ASSERTIONS_DEFAULT);
+		prefs.putBoolean(JUnitPreferencesConstants.BINARY_PROTOCOL, JUnitPreferencesConstants.BINARY_PROTOCOL_DEFAULT);
 
 		String[] filters= JUnitPreferencesConstants.createDefaultStackFiltersList();
 		String active= JUnitPreferencesConstants.serializeList(filters);
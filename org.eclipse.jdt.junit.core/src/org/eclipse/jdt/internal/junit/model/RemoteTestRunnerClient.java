@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
@@ -25,11 +30,13 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.SafeRunner;
 
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
 import org.eclipse.jdt.internal.junit.runner.MessageIds;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
 
@@ -237,6 +244,14 @@ public class RemoteTestRunnerClient {
 	private int fPort= -1;
 	private PrintWriter fWriter;
 	private PushbackReader fPushbackReader;
+	/**
+	 * The input if the RemoteTestRunner uses the binary protocol
+	 */
+	private DataInputStream fBinaryInput;
+	/**
+	 * The arguments shared by several messages of the binary protocol, indexed by their handle
+	 */
+	private final ArrayList<String> fSharedArguments= new ArrayList<>();
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
@@ -262,24 +277,44 @@ public class RemoteTestRunnerClient {
 	 */
 	private class ServerConnection extends Thread {
 		int fServerPort;
+		ServerSocket fBoundSocket;
 
 		public ServerConnection(int port) {
 			super("ServerConnection"); //$NON-NLS-1$
 			fServerPort= port;
 		}
 
+		public ServerConnection(ServerSocket serverSocket) {
+			this(serverSocket.getLocalPort());
+			fBoundSocket= serverSocket;
+		}
+
 		@Override
 		public void run() {
 			try {
 				if (fDebug)
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
-				fServerSocket= new ServerSocket(fServerPort);
+				fServerSocket= fBoundSocket != null ? fBoundSocket : new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
-				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				InputStream input= new BufferedInputStream(fSocket.getInputStream());
+				// the first line tells whether the runner switches to the binary protocol
+				String message= readFirstMessage(input);
+				if (message != null && message.startsWith(MessageIds.BINARY_PROTOCOL)) {
+					if (fDebug)
+						System.out.println("Binary protocol " + message.substring(MessageIds.MSG_HEADER_LENGTH)); //$NON-NLS-1$
+					fBinaryInput= new DataInputStream(input);
+					// messages of the binary protocol may span several lines
+					fLastLineDelimiter= "\n"; //$NON-NLS-1$
+					while (fBinaryInput != null && (message= readBinaryMessage(fBinaryInput)) != null)
+						receiveMessage(message);
+				} else {
+					fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+					if (message != null)
+						receiveMessage(message);
+					while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+						receiveMessage(message);
+				}
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
 			} catch (IOException e) {
@@ -304,6 +339,20 @@ public class RemoteTestRunnerClient {
 		connection.start();
 	}
 
+	/**
+	 * Start listening to a test run on a server socket that is already bound, for example to a
+	 * free port chosen by the system.
+	 *
+	 * @param listeners listeners to inform
+	 * @param serverSocket the bound server socket, which is closed when the client shuts down
+	 */
+	public synchronized void startListening(ITestRunListener2[] listeners, ServerSocket serverSocket) {
+		fListeners= listeners;
+		fPort= serverSocket.getLocalPort();
+		ServerConnection connection= new ServerConnection(serverSocket);
+		connection.start();
+	}
+
 	/**
 	 * Requests to stop the remote test run.
 	 */
@@ -335,6 +384,13 @@ public class RemoteTestRunnerClient {
 			}
 		} catch(IOException e) {
 		}
+		try {
+			if (fBinaryInput != null) {
+				fBinaryInput.close();
+				fBinaryInput= null;
+			}
+		} catch(IOException e) {
+		}
 		try {
 			if (fSocket != null) {
 				fSocket.close();
@@ -383,6 +439,75 @@ public class RemoteTestRunnerClient {
 		return buf.toString();
 	}
 
+	/**
+	 * Reads the first line sent by the RemoteTestRunner without reading ahead, so that the rest of
+	 * the input can be read in either protocol.
+	 *
+	 * @param in the input
+	 * @return the first line, or <code>null</code> if the input is empty
+	 * @throws IOException if reading fails
+	 */
+	private String readFirstMessage(InputStream in) throws IOException {
+		ByteArrayOutputStream buf= new ByteArrayOutputStream(128);
+		int b;
+		while ((b= in.read()) != -1) {
+			if (b == '\n') {
+				byte[] bytes= buf.toByteArray();
+				int length= bytes.length;
+				if (length > 0 && bytes[length - 1] == '\r') {
+					fLastLineDelimiter= "\r\n"; //$NON-NLS-1$
+					length--;
+				} else {
+					fLastLineDelimiter= "\n"; //$NON-NLS-1$
+				}
+				return new String(bytes, 0, length, StandardCharsets.UTF_8);
+			}
+			buf.write(b);
+		}
+		fLastLineDelimiter= null;
+		if (buf.size() == 0)
+			return null;
+		return new String(buf.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads a message of the binary protocol.
+	 *
+	 * @param in the input
+	 * @return the message in the format of the text protocol, or <code>null</code> at the end of
+	 *         the input
+	 * @throws IOException if reading fails
+	 * @see BinaryMessageWriter
+	 */
+	private String readBinaryMessage(DataInputStream in) throws IOException {
+		try {
+			int opcode= in.read();
+			if (opcode == -1)
+				return null;
+			if (opcode == BinaryMessageWriter.RAW)
+				return readBinaryString(in);
+
+			String header= BinaryMessageWriter.HEADERS[opcode - 1];
+			int handle= in.readInt();
+			if (handle >= 0)
+				return header + fSharedArguments.get(handle);
+
+			String argument= readBinaryString(in);
+			if (handle == BinaryMessageWriter.DEFINE)
+				fSharedArguments.add(argument);
+			return header + argument;
+		} catch (EOFException e) {
+			// the runner terminated in the middle of a message
+			return null;
+		}
+	}
+
+	private static String readBinaryString(DataInputStream in) throws IOException {
+		byte[] bytes= new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
 	private void receiveMessage(String message) {
 	    fCurrentState= fCurrentState.readMessage(message);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -194,6 +194,14 @@ public abstract class TestElement implements ITestElement {
 	private String fExpected;
 	private String fActual;
 
+	/**
+	 * Offset of the failure trace in the trace file of the test run session, or <code>-1</code> if
+	 * the failure trace is held in {@link #fTrace}, {@link #fExpected} and {@link #fActual}. The
+	 * offset is set when the session is swapped in and is resolved lazily, so it and the trace
+	 * fields are only accessed while holding the lock of this element.
+	 */
+	private long fTraceOffset= -1;
+
 	private boolean fAssumptionFailed;
 
 	/**
@@ -261,9 +269,12 @@ public abstract class TestElement implements ITestElement {
 	@Override
 	public FailureTrace getFailureTrace() {
 		Result testResult= getTestResult(false);
-		if (testResult == Result.ERROR || testResult == Result.FAILURE
-				|| (testResult == Result.IGNORED && fTrace != null)) {
-			return new FailureTrace(fTrace, fExpected, fActual);
+		synchronized (this) {
+			readFailureTrace();
+			if (testResult == Result.ERROR || testResult == Result.FAILURE
+					|| (testResult == Result.IGNORED && fTrace != null)) {
+				return new FailureTrace(fTrace, fExpected, fActual);
+			}
 		}
 		return null;
 	}
@@ -304,34 +315,77 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public void setStatus(Status status, String trace, String expected, String actual) {
-		if (trace != null && fTrace != null) {
-			//don't overwrite first trace if same test run logs multiple errors
-			fTrace= fTrace + trace;
-		} else {
-			fTrace= trace;
-			fExpected= expected;
-			fActual= actual;
+		synchronized (this) {
+			readFailureTrace();
+			if (trace != null && fTrace != null) {
+				//don't overwrite first trace if same test run logs multiple errors
+				fTrace= fTrace + trace;
+			} else {
+				fTrace= trace;
+				fExpected= expected;
+				fActual= actual;
+			}
+		}
+		setStatus(status);
+	}
+
+	/**
+	 * Sets the status of this element. The failure trace stays in the trace file of the test run
+	 * session until it is requested.
+	 *
+	 * @param status the status
+	 * @param traceOffset the offset of the failure trace in the trace file
+	 */
+	void setStatus(Status status, long traceOffset) {
+		synchronized (this) {
+			fTrace= null;
+			fExpected= null;
+			fActual= null;
+			fTraceOffset= traceOffset;
 		}
 		setStatus(status);
 	}
 
+	/**
+	 * Reads the failure trace from the trace file of the test run session, unless it has already
+	 * been read.
+	 */
+	synchronized void readFailureTrace() {
+		long offset= fTraceOffset;
+		if (offset < 0)
+			return;
+		fTraceOffset= -1;
+		if (getTestRunSession() instanceof TestRunSession session) {
+			FailureTrace failureTrace= session.readFailureTrace(offset);
+			if (failureTrace != null) {
+				fTrace= failureTrace.getTrace();
+				fExpected= failureTrace.getExpected();
+				fActual= failureTrace.getActual();
+			}
+		}
+	}
+
 	public Status getStatus() {
 		return fStatus;
 	}
 
-	public String getTrace() {
+	public synchronized String getTrace() {
+		readFailureTrace();
 		return fTrace;
 	}
 
-	public String getExpected() {
+	public synchronized String getExpected() {
+		readFailureTrace();
 		return fExpected;
 	}
 
-	public String getActual() {
+	public synchronized String getActual() {
+		readFailureTrace();
 		return fActual;
 	}
 
-	public boolean isComparisonFailure() {
+	public synchronized boolean isComparisonFailure() {
+		readFailureTrace();
 		return fExpected != null && fActual != null;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElement.FailureTrace;
 import org.eclipse.jdt.junit.model.ITestElementContainer;
 import org.eclipse.jdt.junit.model.ITestRunSession;
 
@@ -88,6 +89,22 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private HashMap<String, TestElement> fIdToTest;
 
+	/**
+	 * Map from the joined parameter types to the shared parameter types array.
+	 */
+	private final HashMap<String, String[]> fParameterTypes= new HashMap<>();
+
+	/**
+	 * <code>true</code> iff the swap files contain the current test tree.
+	 */
+	private boolean fSwapFileValid;
+
+	/**
+	 * Guards the trace file, which is read lazily by the test elements while it may be deleted by
+	 * {@link #removeSwapFile()}. Never held while acquiring another lock.
+	 */
+	private final Object fTraceFileLock= new Object();
+
 	/**
 	 * The TestSuites for which additional children are expected.
 	 */
@@ -239,6 +256,7 @@ public class TestRunSession implements ITestRunSession {
 		fTestRoot= new TestRoot(this);
 		fTestResult= null;
 		fIdToTest= new HashMap<>();
+		fSwapFileValid= false;
 	}
 
 	@Override
@@ -368,9 +386,11 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		try {
-			File swapFile= getSwapFile();
-
-			JUnitModel.exportTestRunSession(this, swapFile);
+			// a test tree that has been swapped in cannot change anymore
+			if (!fSwapFileValid) {
+				TestRunSessionStore.write(this, getSwapFile(), getTraceFile());
+				fSwapFileValid= true;
+			}
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
 			fTestRunnerClient= null;
@@ -389,17 +409,58 @@ public class TestRunSession implements ITestRunSession {
 	}
 
 
-	public void removeSwapFile() {
+	public synchronized void removeSwapFile() {
+		fSwapFileValid= false;
 		File swapFile= getSwapFile();
 		if (swapFile.exists())
 			swapFile.delete();
+		// the test tree may still refer to failure traces in the trace file
+		if (fTestRoot != null)
+			loadFailureTraces(fTestRoot);
+		synchronized (fTraceFileLock) {
+			File traceFile= getTraceFile();
+			if (traceFile.exists())
+				traceFile.delete();
+		}
+	}
+
+	private static void loadFailureTraces(TestElement element) {
+		element.readFailureTrace();
+		if (element instanceof TestSuiteElement suite) {
+			for (ITestElement child : suite.getChildren())
+				loadFailureTraces((TestElement) child);
+		}
 	}
 
 	private File getSwapFile() throws IllegalStateException {
+		return getHistoryFile(".swap"); //$NON-NLS-1$
+	}
+
+	private File getTraceFile() throws IllegalStateException {
+		return getHistoryFile(".trace"); //$NON-NLS-1$
+	}
+
+	private File getHistoryFile(String extension) throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
-		return new File(historyDir, swapFileName);
+		return new File(historyDir, isoTime + extension);
+	}
+
+	/**
+	 * Reads a failure trace that has been left in the trace file when this session was swapped in.
+	 *
+	 * @param offset the offset of the failure trace in the trace file
+	 * @return the failure trace, or <code>null</code> if it could not be read
+	 */
+	FailureTrace readFailureTrace(long offset) {
+		synchronized (fTraceFileLock) {
+			try {
+				return TestRunSessionStore.readFailureTrace(getTraceFile(), offset);
+			} catch (IllegalStateException | CoreException e) {
+				JUnitCorePlugin.log(e);
+				return null;
+			}
+		}
 	}
 
 
@@ -408,7 +469,8 @@ public class TestRunSession implements ITestRunSession {
 			return;
 
 		try {
-			JUnitModel.importIntoTestRunSession(getSwapFile(), this);
+			TestRunSessionStore.read(getSwapFile(), this);
+			fSwapFileValid= true;
 		} catch (IllegalStateException | CoreException e) {
 			JUnitCorePlugin.log(e);
 			fTestRoot= new TestRoot(this);
@@ -568,6 +630,11 @@ public class TestRunSession implements ITestRunSession {
 		if (parameterTypes != null && parameterTypes.length > 1) {
 			parameterTypes= Arrays.stream(parameterTypes).map(String::trim).toArray(String[]::new);
 		}
+		if (parameterTypes != null) {
+			// parameterized tests repeat the same parameter types for every invocation
+			String[] types= parameterTypes;
+			parameterTypes= fParameterTypes.computeIfAbsent(String.join(",", types), key -> types); //$NON-NLS-1$
+		}
 		if (isSuite) {
 			TestSuiteElement testSuiteElement= new TestSuiteElement(parent, id, testName, testCount, displayName, parameterTypes, uniqueId);
 			testElement= testSuiteElement;
@@ -814,6 +881,15 @@ public class TestRunSession implements ITestRunSession {
 
 	public void registerTestFailureStatus(TestElement testElement, Status status, String trace, String expected, String actual) {
 		testElement.setStatus(status, trace, expected, actual);
+		countFailure(testElement, status);
+	}
+
+	void registerTestFailureStatus(TestElement testElement, Status status, long traceOffset) {
+		testElement.setStatus(status, traceOffset);
+		countFailure(testElement, status);
+	}
+
+	private void countFailure(TestElement testElement, Status status) {
 		if (!testElement.isAssumptionFailure()) {
 			if (status.isError()) {
 				fErrorCount++;
@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElement.FailureTrace;
+import org.eclipse.jdt.junit.model.ITestElement.ProgressState;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+
+import org.eclipse.jdt.internal.junit.BasicElementLabels;
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.Messages;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Stores the test tree of a swapped out {@link TestRunSession} in a compact binary format.
+ * <p>
+ * The tree is written in preorder to the swap file. Every string is written once and referenced
+ * by its index afterwards, and the results are stored as flags and numbers. Failure traces are
+ * written to a separate trace file and are only read when a test element is asked for its trace.
+ * </p>
+ * <p>
+ * The swap files only live as long as the workbench. Test runs are exported and imported in the
+ * XML format by {@link JUnitModel}.
+ * </p>
+ */
+final class TestRunSessionStore {
+
+	private static final int MAGIC= 0x4A555453;
+	private static final int VERSION= 1;
+
+	private static final int NULL= -1;
+	private static final int DEFINE= -2;
+
+	private static final int FLAG_SUITE= 1 << 0;
+	private static final int FLAG_INCOMPLETE= 1 << 1;
+	private static final int FLAG_IGNORED= 1 << 2;
+	private static final int FLAG_DYNAMIC= 1 << 3;
+	private static final int FLAG_ASSUMPTION_FAILED= 1 << 4;
+
+	private static final int FAILURE_NONE= 0;
+	private static final int FAILURE_ERROR= 1;
+	private static final int FAILURE_FAILURE= 2;
+
+	private static final int BUFFER_SIZE= 64 * 1024;
+
+	private static final class Writer {
+		private final DataOutputStream fTree;
+		private final DataOutputStream fTraces;
+		private final HashMap<String, Integer> fStrings= new HashMap<>();
+		private long fTraceOffset;
+
+		Writer(DataOutputStream tree, DataOutputStream traces) {
+			fTree= tree;
+			fTraces= traces;
+		}
+
+		void writeRoot(TestRoot root) throws IOException {
+			fTree.writeInt(MAGIC);
+			fTree.writeInt(VERSION);
+			writeChildren(root);
+		}
+
+		private void writeChildren(TestSuiteElement suite) throws IOException {
+			ITestElement[] children= suite.getChildren();
+			fTree.writeInt(children.length);
+			for (ITestElement child : children) {
+				writeElement((TestElement) child);
+			}
+		}
+
+		private void writeElement(TestElement element) throws IOException {
+			int flags= 0;
+			if (element instanceof TestSuiteElement)
+				flags|= FLAG_SUITE;
+			if (element.getProgressState() != ProgressState.COMPLETED)
+				flags|= FLAG_INCOMPLETE;
+			if (element instanceof TestCaseElement) {
+				TestCaseElement testCase= (TestCaseElement) element;
+				if (testCase.isIgnored())
+					flags|= FLAG_IGNORED;
+				if (testCase.isDynamicTest())
+					flags|= FLAG_DYNAMIC;
+			}
+			if (element.isAssumptionFailure())
+				flags|= FLAG_ASSUMPTION_FAILED;
+
+			FailureTrace failureTrace= element.getFailureTrace();
+			int failure= FAILURE_NONE;
+			if (failureTrace != null && !element.isAssumptionFailure())
+				failure= element.getTestResult(false) == Result.ERROR ? FAILURE_ERROR : FAILURE_FAILURE;
+
+			fTree.writeByte(flags);
+			fTree.writeByte(failure);
+			fTree.writeDouble(element.getElapsedTimeInSeconds());
+			writeString(element.getTestName());
+			writeString(element.getDisplayName());
+			writeString(element.getUniqueId());
+			String[] parameterTypes= element.getParameterTypes();
+			if (parameterTypes == null) {
+				fTree.writeInt(NULL);
+			} else {
+				fTree.writeInt(parameterTypes.length);
+				for (String parameterType : parameterTypes) {
+					writeString(parameterType);
+				}
+			}
+			fTree.writeLong(failureTrace != null ? writeFailureTrace(failureTrace) : NULL);
+
+			if (element instanceof TestSuiteElement)
+				writeChildren((TestSuiteElement) element);
+		}
+
+		private void writeString(String value) throws IOException {
+			if (value == null) {
+				fTree.writeInt(NULL);
+				return;
+			}
+			Integer index= fStrings.get(value);
+			if (index != null) {
+				fTree.writeInt(index.intValue());
+			} else {
+				fStrings.put(value, Integer.valueOf(fStrings.size()));
+				fTree.writeInt(DEFINE);
+				writeBytes(fTree, value);
+			}
+		}
+
+		private long writeFailureTrace(FailureTrace failureTrace) throws IOException {
+			long offset= fTraceOffset;
+			fTraceOffset+= writeBytes(fTraces, failureTrace.getTrace());
+			fTraceOffset+= writeBytes(fTraces, failureTrace.getExpected());
+			fTraceOffset+= writeBytes(fTraces, failureTrace.getActual());
+			return offset;
+		}
+	}
+
+	private static final class Reader {
+		private final DataInputStream fTree;
+		private final TestRunSession fSession;
+		private final ArrayList<String> fStrings= new ArrayList<>();
+		private int fNextId;
+
+		Reader(DataInputStream tree, TestRunSession session) {
+			fTree= tree;
+			fSession= session;
+		}
+
+		void readRoot() throws IOException {
+			if (fTree.readInt() != MAGIC || fTree.readInt() != VERSION)
+				throw new IOException("Unsupported swap file format"); //$NON-NLS-1$
+			fSession.reset();
+			readChildren(fSession.getTestRoot());
+		}
+
+		private void readChildren(TestSuiteElement parent) throws IOException {
+			int count= fTree.readInt();
+			for (int i= 0; i < count; i++) {
+				readElement(parent);
+			}
+		}
+
+		private void readElement(TestSuiteElement parent) throws IOException {
+			int flags= fTree.readByte();
+			int failure= fTree.readByte();
+			double time= fTree.readDouble();
+			String testName= readString();
+			String displayName= readString();
+			String uniqueId= readString();
+			String[] parameterTypes= null;
+			int parameterCount= fTree.readInt();
+			if (parameterCount != NULL) {
+				parameterTypes= new String[parameterCount];
+				for (int i= 0; i < parameterCount; i++) {
+					parameterTypes[i]= readString();
+				}
+			}
+			long traceOffset= fTree.readLong();
+
+			boolean isSuite= (flags & FLAG_SUITE) != 0;
+			TestElement element= fSession.createTestElement(parent, Integer.toString(fNextId++), testName, isSuite, 0, (flags & FLAG_DYNAMIC) != 0, displayName, parameterTypes, uniqueId);
+			if (element instanceof TestCaseElement)
+				((TestCaseElement) element).setIgnored((flags & FLAG_IGNORED) != 0);
+			if (!Double.isNaN(time))
+				element.setElapsedTimeInSeconds(time);
+			if ((flags & FLAG_ASSUMPTION_FAILED) != 0)
+				element.setAssumptionFailed(true);
+			if (failure == FAILURE_ERROR)
+				fSession.registerTestFailureStatus(element, Status.ERROR, traceOffset);
+			else if (failure == FAILURE_FAILURE)
+				fSession.registerTestFailureStatus(element, Status.FAILURE, traceOffset);
+			else if (traceOffset != NULL)
+				fSession.registerTestFailureStatus(element, Status.OK, traceOffset);
+
+			if (isSuite)
+				readChildren((TestSuiteElement) element);
+			fSession.registerTestEnded(element, (flags & FLAG_INCOMPLETE) == 0);
+		}
+
+		private String readString() throws IOException {
+			int index= fTree.readInt();
+			if (index == NULL)
+				return null;
+			if (index == DEFINE) {
+				String value= readBytes(fTree);
+				fStrings.add(value);
+				return value;
+			}
+			return fStrings.get(index);
+		}
+	}
+
+	private TestRunSessionStore() {
+	}
+
+	/**
+	 * Writes the test tree of the given session.
+	 *
+	 * @param session the test run session
+	 * @param swapFile the file to write the test tree to
+	 * @param traceFile the file to write the failure traces to
+	 * @throws CoreException if the files could not be written
+	 */
+	public static void write(TestRunSession session, File swapFile, File traceFile) throws CoreException {
+		// write next to the old files, whose traces may still be read while writing
+		File tempSwapFile= new File(swapFile.getPath() + ".tmp"); //$NON-NLS-1$
+		File tempTraceFile= new File(traceFile.getPath() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream tree= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempSwapFile), BUFFER_SIZE));
+					DataOutputStream traces= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempTraceFile), BUFFER_SIZE))) {
+				new Writer(tree, traces).writeRoot(session.getTestRoot());
+			}
+			Files.move(tempTraceFile.toPath(), traceFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.move(tempSwapFile.toPath(), swapFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			tempSwapFile.delete();
+			tempTraceFile.delete();
+			throw createException(ModelMessages.JUnitModel_could_not_write, swapFile, e);
+		}
+	}
+
+	/**
+	 * Reads the test tree of the given session. The failure traces stay in the trace file until
+	 * they are read by {@link #readFailureTrace(File, long)}.
+	 *
+	 * @param swapFile the file to read the test tree from
+	 * @param session the test run session
+	 * @throws CoreException if the file could not be read
+	 */
+	public static void read(File swapFile, TestRunSession session) throws CoreException {
+		try (DataInputStream tree= new DataInputStream(new BufferedInputStream(new FileInputStream(swapFile), BUFFER_SIZE))) {
+			new Reader(tree, session).readRoot();
+		} catch (IOException | IndexOutOfBoundsException e) {
+			throw createException(ModelMessages.JUnitModel_could_not_read, swapFile, e);
+		}
+	}
+
+	/**
+	 * Reads a failure trace from a trace file.
+	 *
+	 * @param traceFile the trace file
+	 * @param offset the offset of the failure trace
+	 * @return the failure trace
+	 * @throws CoreException if the file could not be read
+	 */
+	public static FailureTrace readFailureTrace(File traceFile, long offset) throws CoreException {
+		try (RandomAccessFile file= new RandomAccessFile(traceFile, "r")) { //$NON-NLS-1$
+			file.seek(offset);
+			String trace= readBytes(file);
+			String expected= readBytes(file);
+			String actual= readBytes(file);
+			return new FailureTrace(trace, expected, actual);
+		} catch (IOException e) {
+			throw createException(ModelMessages.JUnitModel_could_not_read, traceFile, e);
+		}
+	}
+
+	private static int writeBytes(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(NULL);
+			return 4;
+		}
+		byte[] bytes= value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+		return 4 + bytes.length;
+	}
+
+	private static String readBytes(DataInput in) throws IOException {
+		int length= in.readInt();
+		if (length == NULL)
+			return null;
+		byte[] bytes= new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static CoreException createException(String message, File file, Exception e) {
+		return new CoreException(new org.eclipse.core.runtime.Status(IStatus.ERROR,
+				JUnitCorePlugin.getPluginId(),
+				Messages.format(message, BasicElementLabels.getPathLabel(file)),
+				e));
+	}
+}
@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * Writes the messages of the RemoteTestRunner in the binary protocol.
+ * <p>
+ * The stream starts with the text line {@link MessageIds#BINARY_PROTOCOL} followed by the
+ * protocol version, so that a client which does not support the binary protocol sees an unknown
+ * message. All further data consists of records:
+ * </p>
+ * <pre>
+ * record := RAW string
+ *         | header-opcode argument
+ * argument := handle (&gt;= 0, a previously defined argument)
+ *           | INLINE string
+ *           | DEFINE string (the argument gets the next handle)
+ * string := length (int) UTF-8-bytes
+ * </pre>
+ * <p>
+ * The header opcode of a message is its index in {@link #HEADERS} plus one. Test identifiers
+ * are sent once and referenced by their handle afterwards.
+ * </p>
+ * <p>
+ * Records are buffered. The flush points of the runner after every test event are ignored by
+ * {@link #flush()}; the buffer is sent when it holds {@link #FLUSH_THRESHOLD} bytes, when records
+ * have waited for the flush interval, {@link #FLUSH_INTERVAL} by default (checked by a timer, also
+ * while no further messages are written), and when the test run ends or a rerun completes.
+ * </p>
+ *
+ * @see MessageIds
+ */
+public class BinaryMessageWriter implements MessageSender {
+
+	/**
+	 * The version of the binary protocol.
+	 */
+	public static final String VERSION= "1"; //$NON-NLS-1$
+
+	/**
+	 * Opcode of a message that is sent as is.
+	 */
+	public static final int RAW= 0;
+
+	/**
+	 * Argument marker of an argument that is sent inline.
+	 */
+	public static final int INLINE= -1;
+
+	/**
+	 * Argument marker of an argument that is sent inline and receives the next handle.
+	 */
+	public static final int DEFINE= -2;
+
+	/**
+	 * The message headers, in opcode order.
+	 */
+	public static final String[] HEADERS= {
+		MessageIds.TRACE_START,
+		MessageIds.TRACE_END,
+		MessageIds.EXPECTED_START,
+		MessageIds.EXPECTED_END,
+		MessageIds.ACTUAL_START,
+		MessageIds.ACTUAL_END,
+		MessageIds.RTRACE_START,
+		MessageIds.RTRACE_END,
+		MessageIds.TEST_RUN_START,
+		MessageIds.TEST_START,
+		MessageIds.TEST_END,
+		MessageIds.TEST_ERROR,
+		MessageIds.TEST_FAILED,
+		MessageIds.TEST_RUN_END,
+		MessageIds.TEST_STOPPED,
+		MessageIds.TEST_RERAN,
+		MessageIds.TEST_TREE,
+	};
+
+	/**
+	 * Maximum time in milliseconds that a message is kept in the buffer.
+	 */
+	public static final long FLUSH_INTERVAL= 200;
+
+	/**
+	 * Number of buffered bytes from which on the buffer is sent.
+	 */
+	public static final int FLUSH_THRESHOLD= 32 * 1024;
+
+	private static final int BUFFER_SIZE= 64 * 1024;
+
+	private static final int MAX_HANDLES= 1 << 20;
+
+	private final DataOutputStream fOut;
+
+	private final HashMap<String, Integer> fHandles= new HashMap<>();
+
+	private final long fFlushInterval;
+
+	/**
+	 * The timer that sends records that have waited for the flush interval, or <code>null</code>.
+	 */
+	private final Timer fFlushTimer;
+
+	/**
+	 * The number of bytes written since the last flush.
+	 */
+	private int fPendingBytes;
+
+	/**
+	 * The time of the first message that has not been flushed yet, or <code>-1</code>.
+	 */
+	private long fFirstPending= -1;
+
+	private IOException fError;
+
+	/**
+	 * Creates a writer and announces the binary protocol.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the announcement could not be written
+	 */
+	public BinaryMessageWriter(OutputStream out) throws IOException {
+		this(out, FLUSH_INTERVAL);
+	}
+
+	/**
+	 * Creates a writer and announces the binary protocol.
+	 *
+	 * @param out the stream to write to
+	 * @param flushInterval the maximum time in milliseconds that a message is kept in the buffer,
+	 *            or <code>0</code> to send the buffer only when it is full and when the test run
+	 *            ends
+	 * @throws IOException if the announcement could not be written
+	 */
+	public BinaryMessageWriter(OutputStream out, long flushInterval) throws IOException {
+		fOut= new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+		fOut.write((MessageIds.BINARY_PROTOCOL + VERSION + '\n').getBytes(StandardCharsets.UTF_8));
+		flushBuffer();
+		fFlushInterval= flushInterval;
+		if (flushInterval > 0) {
+			fFlushTimer= new Timer("BinaryMessageWriter", true); //$NON-NLS-1$
+			fFlushTimer.schedule(new TimerTask() {
+				@Override
+				public void run() {
+					flushPending();
+				}
+			}, flushInterval, flushInterval);
+		} else {
+			fFlushTimer= null;
+		}
+	}
+
+	/**
+	 * Returns the opcode of the given message.
+	 *
+	 * @param message the message
+	 * @return the index of the header in {@link #HEADERS} plus one, or {@link #RAW}
+	 */
+	public static int getOpcode(String message) {
+		if (message.length() < MessageIds.MSG_HEADER_LENGTH)
+			return RAW;
+		for (int i= 0; i < HEADERS.length; i++) {
+			if (message.startsWith(HEADERS[i]))
+				return i + 1;
+		}
+		return RAW;
+	}
+
+	/**
+	 * Tells whether the arguments of messages with the given opcode refer to a test and are
+	 * sent only once.
+	 *
+	 * @param opcode the opcode
+	 * @return <code>true</code> if the argument is shared by a handle
+	 */
+	public static boolean isShared(int opcode) {
+		if (opcode == RAW)
+			return false;
+		String header= HEADERS[opcode - 1];
+		return MessageIds.TEST_START.equals(header) || MessageIds.TEST_END.equals(header)
+				|| MessageIds.TEST_ERROR.equals(header) || MessageIds.TEST_FAILED.equals(header);
+	}
+
+	public synchronized void writeMessage(String message) throws IOException {
+		int opcode= getOpcode(message);
+		fOut.writeByte(opcode);
+		fPendingBytes++;
+		if (opcode == RAW) {
+			writeString(message);
+		} else {
+			String argument= message.substring(MessageIds.MSG_HEADER_LENGTH);
+			boolean shared= isShared(opcode);
+			Integer handle= shared ? fHandles.get(argument) : null;
+			if (handle != null) {
+				fOut.writeInt(handle.intValue());
+				fPendingBytes+= 4;
+			} else if (shared && fHandles.size() < MAX_HANDLES) {
+				fHandles.put(argument, Integer.valueOf(fHandles.size()));
+				fOut.writeInt(DEFINE);
+				fPendingBytes+= 4;
+				writeString(argument);
+			} else {
+				fOut.writeInt(INLINE);
+				fPendingBytes+= 4;
+				writeString(argument);
+			}
+		}
+
+		if (fFirstPending == -1)
+			fFirstPending= System.currentTimeMillis();
+		if (isEndOfRun(opcode) || fPendingBytes >= FLUSH_THRESHOLD)
+			flushBuffer();
+	}
+
+	private static boolean isEndOfRun(int opcode) {
+		if (opcode == RAW)
+			return false;
+		String header= HEADERS[opcode - 1];
+		return MessageIds.TEST_RUN_END.equals(header) || MessageIds.TEST_STOPPED.equals(header) || MessageIds.TEST_RERAN.equals(header);
+	}
+
+	private void writeString(String value) throws IOException {
+		byte[] bytes= value.getBytes(StandardCharsets.UTF_8);
+		fOut.writeInt(bytes.length);
+		fOut.write(bytes);
+		fPendingBytes+= 4 + bytes.length;
+	}
+
+	/**
+	 * Writes the given message. An {@link IOException} is remembered, see {@link #getError()}.
+	 *
+	 * @param message the message
+	 */
+	@Override
+	public void sendMessage(String message) {
+		try {
+			writeMessage(message);
+		} catch (IOException e) {
+			setError(e);
+		}
+	}
+
+	/**
+	 * Ignored, the records stay buffered until the buffer is full, until they have waited for the
+	 * flush interval, or until the test run ends.
+	 */
+	@Override
+	public void flush() {
+		// the runner flushes after every test event, batching is done by this writer
+	}
+
+	/**
+	 * Sends the buffered records.
+	 *
+	 * @throws IOException if the records could not be sent
+	 */
+	public synchronized void flushBuffer() throws IOException {
+		fOut.flush();
+		fPendingBytes= 0;
+		fFirstPending= -1;
+	}
+
+	private synchronized void flushPending() {
+		if (fFirstPending != -1 && System.currentTimeMillis() - fFirstPending >= fFlushInterval) {
+			try {
+				flushBuffer();
+			} catch (IOException e) {
+				setError(e);
+			}
+		}
+	}
+
+	private synchronized void setError(IOException e) {
+		if (fError == null)
+			fError= e;
+	}
+
+	/**
+	 * @return the first exception that occurred while writing in the background or in
+	 *         {@link #sendMessage(String)}, or <code>null</code>
+	 */
+	public synchronized IOException getError() {
+		return fError;
+	}
+
+	public synchronized void close() throws IOException {
+		if (fFlushTimer != null)
+			fFlushTimer.cancel();
+		fFirstPending= -1;
+		fOut.close();
+	}
+}
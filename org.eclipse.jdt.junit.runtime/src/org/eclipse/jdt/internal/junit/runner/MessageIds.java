@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -123,6 +123,13 @@ public class MessageIds {
 	 * See: ITestRunListener2#testTreeEntry
 	 */
 	public static final String TEST_TREE= "%TSTTREE"; //$NON-NLS-1$
+	/**
+	 * Notification that the following messages are sent in the binary protocol.
+	 * BINARY_PROTOCOL + version. Only sent if the runner was started with
+	 * <code>-binaryprotocol</code>.
+	 * See: BinaryMessageWriter
+	 */
+	public static final String BINARY_PROTOCOL= "%BINARY "; //$NON-NLS-1$
 	/**
 	 * Request to stop the current test run.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -91,6 +91,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Print writer for sending messages
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Writer for sending messages in the binary protocol, or <code>null</code>
+	 * if the text protocol is used
+	 */
+	private BinaryMessageWriter fBinaryWriter;
+	/**
+	 * Has the binary protocol been requested (argument -binaryprotocol)?
+	 */
+	private boolean fBinaryProtocol= false;
 	/**
 	 * Reader for incoming messages
 	 */
@@ -202,6 +211,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * -host: the host to connect to default local host
 	 * -port: the port to connect to, mandatory argument
 	 * -keepalive: keep the process alive after a test run
+	 * -binaryprotocol: send the messages in the binary protocol, see BinaryMessageWriter
      * </pre>
      */
 	public static void main(String[] args) {
@@ -301,6 +311,9 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			else if("-keepalive".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fKeepAlive= true;
 			}
+			else if("-binaryprotocol".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				fBinaryProtocol= true;
+			}
 			else if("-debugging".equalsIgnoreCase(args[i]) || "-debug".equalsIgnoreCase(args[i])){ //$NON-NLS-1$ //$NON-NLS-2$
 			    fDebugMode= true;
 
@@ -649,11 +662,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		for (int i= 1; i < 20; i++) {
 			try{
 				fClientSocket= new Socket(fHost, fPort);
-				try {
-				    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
-	            } catch (UnsupportedEncodingException e1) {
-	                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
-	            }
+				if (fBinaryProtocol) {
+					fBinaryWriter= new BinaryMessageWriter(fClientSocket.getOutputStream());
+				} else {
+					try {
+					    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
+		            } catch (UnsupportedEncodingException e1) {
+		                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
+		            }
+				}
 				try {
 				    fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream(), StandardCharsets.UTF_8));
                 } catch (UnsupportedEncodingException e1) {
@@ -682,6 +699,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			fWriter.close();
 			fWriter= null;
 		}
+		if (fBinaryWriter != null) {
+			try {
+				fBinaryWriter.close();
+			} catch (IOException e) {
+				if (fDebugMode)
+					e.printStackTrace();
+			}
+			fBinaryWriter= null;
+		}
 		try {
 			if (fReaderThread != null)   {
 				// interrupt reader thread so that we don't block on close
@@ -711,6 +737,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
+		if (fBinaryWriter != null) {
+			try {
+				fBinaryWriter.writeMessage(msg);
+			} catch (IOException e) {
+				if (fDebugMode)
+					e.printStackTrace();
+			}
+			return;
+		}
 		if(fWriter == null)
 			return;
 		fWriter.println(msg);
@@ -751,6 +786,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
+		if (fBinaryWriter != null) {
+			// the binary writer batches the records of several tests and ignores these flush points
+			fBinaryWriter.flush();
+			return;
+		}
 	    fWriter.flush();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,11 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
 import org.eclipse.jdt.text.tests.codemining.CodeMiningTriggerTest;
+import org.eclipse.jdt.text.tests.codemining.JavaElementCountServiceTest;
 import org.eclipse.jdt.text.tests.codemining.ParameterNamesCodeMiningTest;
 import org.eclipse.jdt.text.tests.contentassist.ContentAssistTestSuite;
+import org.eclipse.jdt.text.tests.spelling.CompiledSpellDictionaryTest;
+import org.eclipse.jdt.text.tests.spelling.DefaultSpellCheckerTest;
 import org.eclipse.jdt.text.tests.spelling.SpellCheckEngineTestCase;
 import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 
@@ -51,9 +54,12 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	MarkOccurrenceTest1d8.class,
 	BracketInserterTest.class,
 	SpellCheckEngineTestCase.class,
+	CompiledSpellDictionaryTest.class,
+	DefaultSpellCheckerTest.class,
 	SemanticHighlightingTest.class,
 	AutoboxingSemanticHighlightingTest.class,
 	Java23SemanticHighlightingTest.class,
+	LargeUnitSemanticHighlightingTest.class,
 	NewForLoopJavaContextTest.class,
 	IteratorForLoopJavaContextTest.class,
 	ArrayWithTempVarForLoopJavaContextTest.class,
@@ -67,6 +73,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	TemplatesTestSuite.class,
 	JavaElementPrefixPatternMatcherTest.class,
 	CodeMiningTriggerTest.class,
+	JavaElementCountServiceTest.class,
 	ParameterNamesCodeMiningTest.class,
 })
 public class JdtTextTestSuite {
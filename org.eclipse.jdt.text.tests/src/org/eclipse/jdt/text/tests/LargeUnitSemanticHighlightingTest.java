@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.graphics.Point;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.TextPresentation;
+import org.eclipse.jface.text.source.ISourceViewer;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlighting;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingPresenter;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+import org.eclipse.jdt.internal.ui.text.JavaPresentationReconciler;
+
+/**
+ * Tests that the semantic highlighting of a large compilation unit presents the visible region
+ * first.
+ */
+public class LargeUnitSemanticHighlightingTest {
+
+	private static final String PROJECT= "LargeUnitSHTest";
+
+	private static final int MIN_LENGTH= 150000;
+
+	private static class RecordingPresenter extends SemanticHighlightingPresenter {
+
+		private final List<List<Position>> fPresentedPositions= Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public TextPresentation createPresentation(List<Position> addedPositions, List<Position> removedPositions) {
+			fPresentedPositions.add(new ArrayList<>(addedPositions));
+			return super.createPresentation(addedPositions, removedPositions);
+		}
+	}
+
+	private IJavaProject fJavaProject;
+	private JavaEditor fEditor;
+	private RecordingPresenter fPresenter;
+	private SemanticHighlightingReconciler fReconciler;
+
+	@Before
+	public void setUp() throws Exception {
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		store.setValue(SemanticHighlightings.getEnabledPreferenceKey(getFieldHighlighting()), true);
+
+		fJavaProject= JavaProjectHelper.createJavaProject(PROJECT, "bin");
+		JavaProjectHelper.addRTJar(fJavaProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		IPackageFragment pack= root.createPackageFragment("p", true, null);
+
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("public class Large {\n");
+		for (int i= 0; buf.length() < MIN_LENGTH; i++) {
+			buf.append("    int field").append(i).append(";\n");
+			buf.append("    void method").append(i).append("() {\n");
+			buf.append("        field").append(i).append("++;\n");
+			buf.append("    }\n");
+		}
+		buf.append("}\n");
+		ICompilationUnit cu= pack.createCompilationUnit("Large.java", buf.toString(), true, null);
+
+		fEditor= (JavaEditor) JavaUI.openInEditor(cu);
+		assertNotNull(fEditor);
+		assertTrue(EditorTestHelper.joinReconciler((JavaSourceViewer) fEditor.getViewer(), 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fReconciler != null) {
+			fReconciler.uninstall();
+			fReconciler= null;
+		}
+		if (fPresenter != null) {
+			fPresenter.uninstall();
+			fPresenter= null;
+		}
+		EditorTestHelper.closeEditor(fEditor);
+		fEditor= null;
+		if (fJavaProject != null) {
+			JavaProjectHelper.delete(fJavaProject);
+			fJavaProject= null;
+		}
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		store.setToDefault(SemanticHighlightings.getEnabledPreferenceKey(getFieldHighlighting()));
+	}
+
+	private static SemanticHighlighting getFieldHighlighting() {
+		for (SemanticHighlighting semanticHighlighting : SemanticHighlightings.getSemanticHighlightings()) {
+			if (SemanticHighlightings.FIELD.equals(semanticHighlighting.getPreferenceKey()))
+				return semanticHighlighting;
+		}
+		throw new AssertionError("no field highlighting");
+	}
+
+	private void installReconciler(JavaSourceViewer sourceViewer) {
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(fEditor, JavaEditor.class).get("fSemanticManager");
+		assertNotNull(manager);
+		Accessor managerAccessor= new Accessor(manager, SemanticHighlightingManager.class);
+		JavaPresentationReconciler presentationReconciler= (JavaPresentationReconciler) managerAccessor.get("fPresentationReconciler");
+		SemanticHighlighting[] semanticHighlightings= (SemanticHighlighting[]) managerAccessor.get("fSemanticHighlightings");
+		Object highlightings= managerAccessor.get("fHighlightings");
+
+		fPresenter= new RecordingPresenter();
+		fPresenter.install(sourceViewer, presentationReconciler);
+		fReconciler= new SemanticHighlightingReconciler() {
+			@Override
+			protected boolean registerAsEditorReconcilingListener() {
+				return false;
+			}
+		};
+		// the highlighting styles are not visible outside of the editor package
+		new Accessor(fReconciler, SemanticHighlightingReconciler.class).invoke("install",
+				new Class[] { JavaEditor.class, ISourceViewer.class, SemanticHighlightingPresenter.class, SemanticHighlighting[].class, highlightings.getClass() },
+				new Object[] { fEditor, sourceViewer, fPresenter, semanticHighlightings, highlightings });
+	}
+
+	@Test
+	public void testVisibleRegionIsPresentedFirst() throws Exception {
+		JavaSourceViewer sourceViewer= (JavaSourceViewer) fEditor.getViewer();
+		installReconciler(sourceViewer);
+
+		int visibleStart= sourceViewer.getTopIndexStartOffset();
+		int visibleEnd= sourceViewer.getBottomIndexEndOffset();
+		int documentLength= sourceViewer.getDocument().getLength();
+		assertTrue(documentLength > 100000);
+		assertTrue("the whole unit is visible", visibleEnd < documentLength / 2);
+
+		CompilationUnit ast= SharedASTProviderCore.getAST(fEditor.getInputJavaElement(), SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(ast);
+		fReconciler.reconciled(ast, false, new NullProgressMonitor());
+
+		List<List<Position>> presented= fPresenter.fPresentedPositions;
+		assertTrue("the visible region is not presented separately", presented.size() >= 2);
+
+		List<Position> first= presented.get(0);
+		assertFalse("no positions in the visible region", first.isEmpty());
+		for (Position position : first) {
+			assertTrue("position " + position + " is outside of the visible region [" + visibleStart + ", " + visibleEnd + ")",
+					position.getOffset() >= visibleStart && position.getOffset() < visibleEnd);
+		}
+
+		boolean presentedBelow= false;
+		for (List<Position> positions : presented.subList(1, presented.size())) {
+			for (Position position : positions) {
+				presentedBelow|= position.getOffset() >= visibleEnd;
+			}
+		}
+		assertTrue("the positions after the visible region are not presented", presentedBelow);
+	}
+
+	@Test
+	public void testVisibleRegionFollowsResize() throws Exception {
+		JavaSourceViewer sourceViewer= (JavaSourceViewer) fEditor.getViewer();
+		installReconciler(sourceViewer);
+		Accessor reconcilerAccessor= new Accessor(fReconciler, SemanticHighlightingReconciler.class);
+		IRegion before= (IRegion) reconcilerAccessor.get("fVisibleRegion");
+		assertNotNull(before);
+
+		StyledText textWidget= sourceViewer.getTextWidget();
+		Point size= textWidget.getSize();
+		textWidget.setSize(size.x, size.y / 2);
+		try {
+			IRegion after= (IRegion) reconcilerAccessor.get("fVisibleRegion");
+			assertNotNull(after);
+			assertEquals(sourceViewer.getBottomIndexEndOffset(), after.getOffset() + after.getLength());
+			assertTrue("the visible region did not shrink", after.getLength() < before.getLength());
+		} finally {
+			textWidget.setSize(size);
+		}
+	}
+}
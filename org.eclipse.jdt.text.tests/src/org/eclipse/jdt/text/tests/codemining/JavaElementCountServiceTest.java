@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.codemining;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaElementCountService;
+
+public class JavaElementCountServiceTest {
+
+	private IJavaProject fProject;
+	private IPackageFragment fPackage;
+	private JavaElementCountService fService;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar_17(fProject, true);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+		fService= JavaElementCountService.getDefault();
+		fService.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fService.clear();
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private static long get(CompletableFuture<Long> future) throws Exception {
+		return future.get(30, TimeUnit.SECONDS).longValue();
+	}
+
+	@Test
+	public void testCounts() throws Exception {
+		ICompilationUnit cuI= fPackage.createCompilationUnit("I.java", """
+			package p;
+			public interface I {
+				void run();
+			}
+			""", true, null);
+		fPackage.createCompilationUnit("A.java", """
+			package p;
+			public class A implements I {
+				public void run() {
+				}
+			}
+			""", true, null);
+		fPackage.createCompilationUnit("B.java", """
+			package p;
+			public class B implements I {
+				public void run() {
+					new A().run();
+					new A();
+				}
+			}
+			""", true, null);
+
+		IType typeI= cuI.getType("I");
+		IMethod run= typeI.getMethod("run", new String[0]);
+		IType typeA= fProject.findType("p.A");
+		long hierarchies= fService.getHierarchyCount();
+
+		CompletableFuture<Long> references= fService.countReferences(typeA, new NullProgressMonitor());
+		CompletableFuture<Long> implementations= fService.countImplementations(typeI, new NullProgressMonitor());
+		CompletableFuture<Long> methodImplementations= fService.countImplementations(run, new NullProgressMonitor());
+		assertEquals(2, get(references));
+		assertEquals(2, get(implementations));
+		assertEquals(2, get(methodImplementations));
+		assertEquals(hierarchies + 1, fService.getHierarchyCount());
+	}
+
+	@Test
+	public void testCoalescedRequests() throws Exception {
+		fPackage.createCompilationUnit("A.java", """
+			package p;
+			public class A {
+			}
+			""", true, null);
+		ICompilationUnit cuB= fPackage.createCompilationUnit("B.java", """
+			package p;
+			public class B {
+				A a1;
+				A a2;
+			}
+			""", true, null);
+
+		IType typeA= fProject.findType("p.A");
+		IType typeB= cuB.getType("B");
+		long searches= fService.getSearchCount();
+		long batches= fService.getBatchCount();
+
+		CompletableFuture<Long> first= fService.countReferences(typeB.getField("a1"), new NullProgressMonitor());
+		CompletableFuture<Long> second= fService.countReferences(typeB.getField("a1"), new NullProgressMonitor());
+		CompletableFuture<Long> third= fService.countReferences(typeB, new NullProgressMonitor());
+		assertEquals(0, get(first));
+		assertEquals(0, get(second));
+		assertEquals(0, get(third));
+		assertEquals(batches + 1, fService.getBatchCount());
+		assertEquals(searches + 2, fService.getSearchCount());
+
+		assertEquals(2, get(fService.countReferences(typeA, new NullProgressMonitor())));
+		long hits= fService.getCacheHits();
+		searches= fService.getSearchCount();
+		assertEquals(2, get(fService.countReferences(typeA, new NullProgressMonitor())));
+		assertEquals(searches, fService.getSearchCount());
+		assertEquals(hits + 1, fService.getCacheHits());
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		fPackage.createCompilationUnit("A.java", """
+			package p;
+			public class A {
+			}
+			""", true, null);
+		fPackage.createCompilationUnit("B.java", """
+			package p;
+			public class B {
+				A a;
+			}
+			""", true, null);
+		ICompilationUnit cuC= fPackage.createCompilationUnit("C.java", """
+			package p;
+			public class C {
+			}
+			""", true, null);
+
+		IType typeA= fProject.findType("p.A");
+		assertEquals(1, get(fService.countReferences(typeA, new NullProgressMonitor())));
+		assertEquals(0, get(fService.countImplementations(typeA, new NullProgressMonitor())));
+
+		// a change that does not mention A keeps the counts
+		cuC.getBuffer().setContents("""
+			package p;
+			public class C {
+				int i;
+			}
+			""");
+		cuC.save(null, true);
+		long searches= fService.getSearchCount();
+		assertEquals(1, get(fService.countReferences(typeA, new NullProgressMonitor())));
+		assertEquals(0, get(fService.countImplementations(typeA, new NullProgressMonitor())));
+		assertEquals(searches, fService.getSearchCount());
+		long hierarchies= fService.getHierarchyCount();
+
+		// a new reference and a new subtype drop the counts
+		cuC.getBuffer().setContents("""
+			package p;
+			public class C extends A {
+			}
+			""");
+		cuC.save(null, true);
+		assertEquals(2, get(fService.countReferences(typeA, new NullProgressMonitor())));
+		assertEquals(1, get(fService.countImplementations(typeA, new NullProgressMonitor())));
+		assertEquals(searches + 1, fService.getSearchCount());
+		assertEquals(hierarchies + 1, fService.getHierarchyCount());
+		assertSame(fService.getTypeHierarchy(typeA, null), fService.getTypeHierarchy(typeA, null));
+
+		// removing the referencing unit drops the count
+		cuC.delete(true, null);
+		assertEquals(1, get(fService.countReferences(typeA, new NullProgressMonitor())));
+		assertEquals(0, get(fService.countImplementations(typeA, new NullProgressMonitor())));
+		assertTrue(fService.getSearchCount() > searches + 1);
+	}
+}
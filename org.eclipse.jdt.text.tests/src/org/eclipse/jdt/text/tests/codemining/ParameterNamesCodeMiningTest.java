@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -38,6 +39,7 @@ import org.eclipse.core.runtime.Platform;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
+import org.eclipse.jface.text.codemining.ICodeMining;
 import org.eclipse.jface.text.codemining.ICodeMiningProvider;
 import org.eclipse.jface.text.source.projection.ProjectionViewer;
 import org.eclipse.jface.text.tests.util.DisplayHelper;
@@ -63,6 +65,7 @@ import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaMethodParameterCodeMiningCollector;
 import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaMethodParameterCodeMiningProvider;
 
 public class ParameterNamesCodeMiningTest {
@@ -458,6 +461,63 @@ public class ParameterNamesCodeMiningTest {
 		assertEquals(0, fParameterNameCodeMiningProvider.provideCodeMinings(viewer, new NullProgressMonitor()).get().size());
 	}
 
+	@Test
+	public void testIncrementalCollection() throws Exception {
+		String contents= """
+			public class Foo {
+				int max(int a, int b) {
+					return a > b ? a : b;
+				}
+				void first() {
+					max(1, 2);
+				}
+				void second() {
+					max(3, 4);
+				}
+			}
+			""";
+		ICompilationUnit compilationUnit= fPackage.createCompilationUnit("Foo.java", contents, true, new NullProgressMonitor());
+		compilationUnit.becomeWorkingCopy(null);
+		JavaMethodParameterCodeMiningCollector collector= new JavaMethodParameterCodeMiningCollector(fParameterNameCodeMiningProvider);
+		try {
+			assertEquals(4, collector.collect(compilationUnit, null).size());
+			assertEquals(1, collector.getFullParseCount());
+
+			// a change inside a method body only resolves that body
+			int offset= contents.indexOf("max(1, 2);");
+			compilationUnit.getBuffer().replace(offset, 0, "max(5, 6);\n\t\t");
+			List<ICodeMining> minings= collector.collect(compilationUnit, null);
+			assertEquals(1, collector.getIncrementalCount());
+			assertEquals(1, collector.getFullParseCount());
+			assertSameMinings(compilationUnit, minings);
+
+			// a change of a method signature parses the whole unit
+			offset= compilationUnit.getSource().indexOf("int b");
+			compilationUnit.getBuffer().replace(offset, "int b".length(), "int c");
+			minings= collector.collect(compilationUnit, null);
+			assertEquals(1, collector.getIncrementalCount());
+			assertEquals(2, collector.getFullParseCount());
+			assertSameMinings(compilationUnit, minings);
+		} finally {
+			collector.dispose();
+			compilationUnit.discardWorkingCopy();
+		}
+	}
+
+	private void assertSameMinings(ICompilationUnit compilationUnit, List<ICodeMining> minings) throws Exception {
+		JavaMethodParameterCodeMiningCollector collector= new JavaMethodParameterCodeMiningCollector(fParameterNameCodeMiningProvider);
+		try {
+			List<ICodeMining> expected= collector.collect(compilationUnit, null);
+			assertEquals(expected.size(), minings.size());
+			for (int i= 0; i < expected.size(); i++) {
+				assertEquals(expected.get(i).getPosition(), minings.get(i).getPosition());
+				assertEquals(expected.get(i).getLabel(), minings.get(i).getLabel());
+			}
+		} finally {
+			collector.dispose();
+		}
+	}
+
 	private static boolean welcomeClosed;
 	private static void closeIntro(final IWorkbench wb) {
 		IWorkbenchWindow window= wb.getActiveWorkbenchWindow();
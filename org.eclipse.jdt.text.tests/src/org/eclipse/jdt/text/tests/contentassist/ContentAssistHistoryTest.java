@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -243,6 +243,23 @@ public class ContentAssistHistoryTest {
 		assertEqualMap(map(LIST, list(ARRAY_LIST), COLLECTION, list(ARRAY_LIST), ITERABLE, list(ARRAY_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
 	}
 
+	@Test
+	public void testLoadXML() throws Exception {
+		Preferences prefs= new Preferences();
+		String key= "myKey";
+		prefs.setValue(key, "<?xml version=\"1.0\" encoding=\"UTF-8\"?><history maxLHS=\"100\" maxRHS=\"10\">"
+				+ "<lhs name=\"" + LIST + "\"><rhs name=\"" + LINKED_LIST + "\"/><rhs name=\"" + ARRAY_LIST + "\"/></lhs>"
+				+ "<lhs name=\"" + CHAR_SEQUENCE + "\"><rhs name=\"" + STRING + "\"/></lhs>"
+				+ "</history>");
+		ContentAssistHistory loaded= ContentAssistHistory.load(prefs, key);
+
+		assertEqualMap(map(LIST, list(LINKED_LIST, ARRAY_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
+
+		ContentAssistHistory.store(loaded, prefs, key);
+		assertTrue(!prefs.getString(key).startsWith("<"));
+		assertEqualMap(map(LIST, list(LINKED_LIST, ARRAY_LIST), CHAR_SEQUENCE, list(STRING)), ContentAssistHistory.load(prefs, key).getEntireHistory());
+	}
+
 	private static void assertEqualMap(Map<String, List<String>> expected, Map<String, RHSHistory> actual) {
 		assertEqualMap("", expected, actual);
 	}
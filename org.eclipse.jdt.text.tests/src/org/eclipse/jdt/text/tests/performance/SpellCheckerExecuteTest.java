@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Locale;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckIterator;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.LocaleSensitiveSpellDictionary;
+
+
+/**
+ * Measures the time a {@link DefaultSpellChecker} needs to check all words of a large, Javadoc
+ * heavy compilation unit, once with a new checker per run and once with a checker that is reused
+ * and so answers repeated words from its verdict cache.
+ *
+ * @since 3.33
+ */
+public class SpellCheckerExecuteTest extends TextPerformanceTestCase {
+
+	private static final Class<SpellCheckerExecuteTest> THIS= SpellCheckerExecuteTest.class;
+
+	private static final String FILE= PerformanceTestSetup.STYLED_TEXT;
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 20;
+
+	private IDocument fDocument;
+
+	private ISpellDictionary fDictionary;
+
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+
+		PreferenceConstants.getPreferenceStore().setValue(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD, Integer.MAX_VALUE);
+
+		Enumeration<URL> locations= SpellCheckEngine.getDictionaryLocations();
+		assertTrue(locations != null && locations.hasMoreElements());
+		fDictionary= new LocaleSensitiveSpellDictionary(Locale.US, locations.nextElement());
+
+		IFile file= ResourceTestHelper.findFile(FILE);
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		try {
+			manager.connect(file.getFullPath(), LocationKind.IFILE, null);
+			ITextFileBuffer fileBuffer= manager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+			fDocument= fileBuffer.getDocument();
+		} catch (CoreException e) {
+			throw e;
+		} finally {
+			manager.disconnect(file.getFullPath(), LocationKind.IFILE, null);
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		PreferenceConstants.getPreferenceStore().setToDefault(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+		fDictionary.unload();
+	}
+
+	public void testNewChecker() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), false);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Spelling: check unit with a new checker");
+		measure(performanceMeter, getMeasuredRuns(), false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testReusedChecker() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), true);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Spelling: check unit with a reused checker");
+		measure(performanceMeter, getMeasuredRuns(), true);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, boolean reuse) {
+		DefaultSpellChecker checker= reuse ? createChecker() : null;
+		for (int i= 0; i < runs; i++) {
+			if (!reuse)
+				checker= createChecker();
+			SpellCheckIterator iterator= new SpellCheckIterator(fDocument, new Region(0, fDocument.getLength()), Locale.US, null);
+			int[] problems= new int[1];
+			performanceMeter.start();
+			checker.execute(event -> problems[0]++, iterator);
+			performanceMeter.stop();
+			assertTrue(problems[0] > 0);
+		}
+	}
+
+	private DefaultSpellChecker createChecker() {
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		DefaultSpellChecker checker= new DefaultSpellChecker(store, Locale.US);
+		checker.addDictionary(fDictionary);
+		return checker;
+	}
+}
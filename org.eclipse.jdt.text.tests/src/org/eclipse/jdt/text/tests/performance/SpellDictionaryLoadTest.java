@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Locale;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.LocaleSensitiveSpellDictionary;
+
+
+/**
+ * Measures the time and the heap needed to load the English spelling dictionary from its text
+ * format and from its compiled format.
+ *
+ * @since 3.33
+ */
+public class SpellDictionaryLoadTest extends TextPerformanceTestCase {
+
+	private static final Class<SpellDictionaryLoadTest> THIS= SpellDictionaryLoadTest.class;
+
+	private static final int WARM_UP_RUNS= 2;
+
+	private static final int MEASURED_RUNS= 10;
+
+	private URL fLocation;
+
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+
+		Enumeration<URL> locations= SpellCheckEngine.getDictionaryLocations();
+		assertTrue(locations != null && locations.hasMoreElements());
+		fLocation= locations.nextElement();
+	}
+
+	public void testTextFormat() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), false);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Spelling: load text dictionary");
+		measure(performanceMeter, getMeasuredRuns(), false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testCompiledFormat() throws Exception {
+		// the first warm up run compiles the dictionary into the state location
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), true);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Spelling: load compiled dictionary");
+		measure(performanceMeter, getMeasuredRuns(), true);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, boolean compiled) {
+		for (int i= 0; i < runs; i++) {
+			ISpellDictionary dictionary= createDictionary(compiled);
+			performanceMeter.start();
+			assertTrue(dictionary.isCorrect("dictionary"));
+			assertFalse(dictionary.isCorrect("dictionnary"));
+			performanceMeter.stop();
+			dictionary.unload();
+		}
+	}
+
+	private ISpellDictionary createDictionary(final boolean compiled) {
+		return new LocaleSensitiveSpellDictionary(Locale.US, fLocation) {
+			@Override
+			protected boolean useCompiledFormat() {
+				return compiled;
+			}
+		};
+	}
+}
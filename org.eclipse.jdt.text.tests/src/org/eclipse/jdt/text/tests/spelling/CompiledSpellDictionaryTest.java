@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.LocaleSensitiveSpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+/**
+ * Tests that a dictionary answers the same from its compiled format as from its text format.
+ */
+public class CompiledSpellDictionaryTest {
+
+	private static final String[] WORDS= { "dictionary", "Dictionary", "DICTIONARY", "dictionnary", "the", "teh", "receive",
+			"recieve", "beautiful", "beatiful", "sentence", "Sentence", "sentense", "a", "xyzzy" };
+
+	private ISpellDictionary fTextDictionary;
+	private ISpellDictionary fCompiledDictionary;
+
+	@Before
+	public void setUp() throws Exception {
+		Enumeration<URL> locations= SpellCheckEngine.getDictionaryLocations();
+		assertTrue(locations != null && locations.hasMoreElements());
+		URL location= locations.nextElement();
+		fTextDictionary= createDictionary(location, false);
+		fCompiledDictionary= createDictionary(location, true);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fTextDictionary.unload();
+		fCompiledDictionary.unload();
+	}
+
+	private static ISpellDictionary createDictionary(URL location, final boolean compiled) {
+		return new LocaleSensitiveSpellDictionary(Locale.US, location) {
+			@Override
+			protected boolean useCompiledFormat() {
+				return compiled;
+			}
+		};
+	}
+
+	private static List<String> toSortedList(Set<RankedWordProposal> proposals) {
+		List<String> result= new ArrayList<>(proposals.size());
+		for (RankedWordProposal proposal : proposals) {
+			result.add(proposal.getText() + ":" + proposal.getRank());
+		}
+		Collections.sort(result);
+		return result;
+	}
+
+	@Test
+	public void testIsCorrect() {
+		assertTrue(fCompiledDictionary.isCorrect("dictionary"));
+		assertFalse(fCompiledDictionary.isCorrect("dictionnary"));
+		for (String word : WORDS) {
+			assertEquals(word, fTextDictionary.isCorrect(word), fCompiledDictionary.isCorrect(word));
+		}
+	}
+
+	@Test
+	public void testProposals() {
+		for (String word : WORDS) {
+			for (boolean sentence : new boolean[] { false, true }) {
+				List<String> expected= toSortedList(fTextDictionary.getProposals(word, sentence));
+				List<String> actual= toSortedList(fCompiledDictionary.getProposals(word, sentence));
+				assertEquals(word, expected, actual);
+			}
+		}
+		assertFalse(fCompiledDictionary.getProposals("dictionnary", false).isEmpty());
+	}
+
+	@Test
+	public void testReloadFromCompiledFile() {
+		fCompiledDictionary.isCorrect("dictionary");
+		fCompiledDictionary.unload();
+		for (String word : WORDS) {
+			assertEquals(word, fTextDictionary.isCorrect(word), fCompiledDictionary.isCorrect(word));
+		}
+	}
+}
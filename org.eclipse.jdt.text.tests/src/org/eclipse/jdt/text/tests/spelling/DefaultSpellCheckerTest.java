@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jface.preference.PreferenceStore;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckIterator;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+/**
+ * Tests that the cached verdicts of a {@link DefaultSpellChecker} follow the changes of its
+ * dictionaries, its ignored words and its preferences.
+ */
+public class DefaultSpellCheckerTest {
+
+	private static class CountingDictionary implements ISpellDictionary {
+
+		private final Set<String> fWords= new HashSet<>();
+		private boolean fStripNonLetters;
+		int fLookups;
+
+		@Override
+		public boolean acceptsWords() {
+			return true;
+		}
+
+		@Override
+		public void addWord(String word) {
+			fWords.add(word);
+		}
+
+		@Override
+		public Set<RankedWordProposal> getProposals(String word, boolean sentence) {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public boolean isCorrect(String word) {
+			fLookups++;
+			if (fStripNonLetters)
+				word= word.replaceAll("^[^\\p{L}]+|[^\\p{L}]+$", "");
+			return fWords.contains(word.toLowerCase());
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return true;
+		}
+
+		@Override
+		public void unload() {
+		}
+
+		@Override
+		public void setStripNonLetters(boolean state) {
+			fStripNonLetters= state;
+		}
+	}
+
+	private static class WordIterator implements ISpellCheckIterator {
+
+		private final String[] fWords;
+		private int fIndex;
+		private int fOffset;
+
+		WordIterator(String... words) {
+			fWords= words;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return fIndex < fWords.length;
+		}
+
+		@Override
+		public String next() {
+			String word= fWords[fIndex++];
+			fOffset+= word.length() + 1;
+			return word;
+		}
+
+		@Override
+		public int getBegin() {
+			return fOffset - fWords[fIndex - 1].length() - 1;
+		}
+
+		@Override
+		public int getEnd() {
+			return fOffset - 2;
+		}
+
+		@Override
+		public boolean startsSentence() {
+			return false;
+		}
+
+		@Override
+		public void setIgnoreSingleLetters(boolean state) {
+		}
+	}
+
+	private PreferenceStore fPreferences;
+	private CountingDictionary fDictionary;
+	private DefaultSpellChecker fChecker;
+
+	@Before
+	public void setUp() {
+		fPreferences= new PreferenceStore();
+		fPreferences.setValue(PreferenceConstants.SPELLING_IGNORE_SENTENCE, true);
+		fPreferences.setValue(PreferenceConstants.SPELLING_IGNORE_NON_LETTERS, false);
+		fDictionary= new CountingDictionary();
+		fDictionary.addWord("truck");
+		fChecker= new DefaultSpellChecker(fPreferences, Locale.US);
+		fChecker.addDictionary(fDictionary);
+	}
+
+	private List<String> execute(String... words) {
+		List<String> misspelled= new ArrayList<>();
+		fChecker.execute(event -> misspelled.add(event.getWord()), new WordIterator(words));
+		return misspelled;
+	}
+
+	@Test
+	public void testVerdictIsCached() {
+		assertTrue(fChecker.isCorrect("truck"));
+		assertFalse(fChecker.isCorrect("lorry"));
+		assertTrue(fChecker.isCorrect("truck"));
+		assertFalse(fChecker.isCorrect("lorry"));
+		assertEquals(2, fDictionary.fLookups);
+	}
+
+	@Test
+	public void testIgnoreWordInvalidatesVerdicts() {
+		assertFalse(fChecker.isCorrect("lorry"));
+		fChecker.ignoreWord("lorry");
+		assertTrue(fChecker.isCorrect("lorry"));
+		assertEquals(List.of(), execute("truck", "lorry"));
+	}
+
+	@Test
+	public void testCheckWordInvalidatesVerdicts() {
+		fChecker.ignoreWord("lorry");
+		assertTrue(fChecker.isCorrect("lorry"));
+		fChecker.checkWord("lorry");
+		assertFalse(fChecker.isCorrect("lorry"));
+		assertEquals(List.of("lorry"), execute("truck", "lorry"));
+	}
+
+	@Test
+	public void testAddWordInvalidatesVerdicts() {
+		assertEquals(List.of("lorry"), execute("truck", "lorry"));
+		fChecker.addWord("Lorry");
+		assertTrue(fChecker.isCorrect("lorry"));
+		assertEquals(List.of(), execute("truck", "lorry"));
+	}
+
+	@Test
+	public void testStripNonLettersInvalidatesVerdicts() {
+		assertEquals(List.of("truck."), execute("truck."));
+		assertFalse(fChecker.isCorrect("truck."));
+
+		fPreferences.setValue(PreferenceConstants.SPELLING_IGNORE_NON_LETTERS, true);
+		assertEquals(List.of(), execute("truck."));
+		assertTrue(fChecker.isCorrect("truck."));
+
+		fPreferences.setValue(PreferenceConstants.SPELLING_IGNORE_NON_LETTERS, false);
+		assertEquals(List.of("truck."), execute("truck."));
+	}
+
+	@Test
+	public void testDictionaryChangeInvalidatesVerdicts() {
+		assertFalse(fChecker.isCorrect("lorry"));
+		CountingDictionary ukDictionary= new CountingDictionary();
+		ukDictionary.addWord("lorry");
+		fChecker.addDictionary(ukDictionary);
+		assertTrue(fChecker.isCorrect("lorry"));
+		fChecker.removeDictionary(ukDictionary);
+		assertFalse(fChecker.isCorrect("lorry"));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -111,6 +111,8 @@ public abstract class GenericRefactoringTest {
 	public boolean fIsVerbose= false;
 	public boolean fIsPreDeltaTest= false;
 
+	private String fFixtureName;
+
 	public static final String TEST_PATH_PREFIX= "";
 
 	protected static final String TEST_INPUT_INFIX= "/in/";
@@ -134,9 +136,21 @@ public abstract class GenericRefactoringTest {
 	}
 
 	protected String getName() {
+		if (fFixtureName != null)
+			return fFixtureName;
 		return tn.getMethodName();
 	}
 
+	/**
+	 * Makes the current test use the resources of another test. This allows to run an existing
+	 * test again with a different configuration.
+	 *
+	 * @param testName the name of the test method whose resources are used
+	 */
+	protected void useFixtureOf(String testName) {
+		fFixtureName= testName;
+	}
+
 	protected void mustPerformDummySearch() throws Exception {
 		JavaProjectHelper.mustPerformDummySearch(getPackageP());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,8 +45,10 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTester;
 import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.SharedTypeEnvironments;
 
 import org.eclipse.jdt.ui.tests.refactoring.infra.ZipTools;
 import org.eclipse.jdt.ui.tests.refactoring.rules.Java1d6Setup;
@@ -57,6 +59,7 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 
 	private boolean fAssumeCloneReturnsSameType= true;
 	private boolean fLeaveUnconstrainedRaw= true;
+	private boolean fScalableSolver= false;
 
 	public InferTypeArgumentsTests() {
 		rts= new Java1d6Setup();
@@ -97,6 +100,7 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 
 		refactoring.setAssumeCloneReturnsSameType(fAssumeCloneReturnsSameType);
 		refactoring.setLeaveUnconstrainedRaw(fLeaveUnconstrainedRaw);
+		refactoring.setScalableSolver(fScalableSolver);
 
 		PerformRefactoringOperation op= new PerformRefactoringOperation(
 				refactoring, CheckConditionsOperation.FINAL_CONDITIONS);
@@ -523,4 +527,169 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 		performCuOK();
 	}
 
+	@Test
+	public void testCuAddAllScalable() throws Exception {
+		useFixtureOf("testCuAddAll");
+		fScalableSolver= true;
+		testCuAddAll();
+	}
+
+	@Test
+	public void testCuNestedCells1Scalable() throws Exception {
+		useFixtureOf("testCuNestedCells1");
+		fScalableSolver= true;
+		testCuNestedCells1();
+	}
+
+	@Test
+	public void testCuNestedVectors0Scalable() throws Exception {
+		useFixtureOf("testCuNestedVectors0");
+		fScalableSolver= true;
+		testCuNestedVectors0();
+	}
+
+	@Test
+	public void testJUnitScalable() throws Exception {
+		useFixtureOf("testJUnit");
+		fScalableSolver= true;
+		testJUnit();
+	}
+
+	@Test
+	public void testJUnitWithCloneNotRawScalable() throws Exception {
+		useFixtureOf("testJUnitWithCloneNotRaw");
+		fScalableSolver= true;
+		testJUnitWithCloneNotRaw();
+	}
+
+	@Test
+	public void testPairDanceScalable() throws Exception {
+		useFixtureOf("testPairDance");
+		fScalableSolver= true;
+		testPairDance();
+	}
+
+	@Test
+	public void testCuMethodAndTypeGeneric01Scalable() throws Exception {
+		useFixtureOf("testCuMethodAndTypeGeneric01");
+		fScalableSolver= true;
+		testCuMethodAndTypeGeneric01();
+	}
+
+	@Test
+	public void testCuSuperAndSubScalable() throws Exception {
+		useFixtureOf("testCuSuperAndSub");
+		fScalableSolver= true;
+		testCuSuperAndSub();
+	}
+
+	@Test
+	public void testCuCommonSuperScalable() throws Exception {
+		useFixtureOf("testCuCommonSuper");
+		fScalableSolver= true;
+		testCuCommonSuper();
+	}
+
+	@Test
+	public void testCuCollectionsMinScalable() throws Exception {
+		useFixtureOf("testCuCollectionsMin");
+		fScalableSolver= true;
+		testCuCollectionsMin();
+	}
+
+	@Test
+	public void testCuRippleMethodsScalable() throws Exception {
+		useFixtureOf("testCuRippleMethods");
+		fScalableSolver= true;
+		testCuRippleMethods();
+	}
+
+	@Test
+	public void testCuArrays01Scalable() throws Exception {
+		useFixtureOf("testCuArrays01");
+		fScalableSolver= true;
+		testCuArrays01();
+	}
+
+	@Test
+	public void testCuToArray01Scalable() throws Exception {
+		useFixtureOf("testCuToArray01");
+		fScalableSolver= true;
+		testCuToArray01();
+	}
+
+	@Test
+	public void testSharedTypeEnvironmentIndependentOfPriorRuns() throws Exception {
+		String target= """
+			package %s;
+			import java.util.ArrayList;
+			import java.util.List;
+			public class Target {
+				void m() {
+					List list= new ArrayList();
+					list.add(Integer.valueOf(1));
+					Number n= (Number) list.get(0);
+				}
+			}
+			""";
+		String prior1= """
+			package prior1;
+			import java.util.ArrayList;
+			public class Prior {
+				static class IntegerList extends ArrayList {
+				}
+				void m() {
+					ArrayList list= new IntegerList();
+					list.add(Integer.valueOf(1));
+				}
+			}
+			""";
+		String prior2= """
+			package prior2;
+			import java.util.Vector;
+			public class Prior {
+				void m() {
+					Vector vector= new Vector();
+					vector.add("");
+					Comparable c= (Comparable) vector.get(0);
+				}
+			}
+			""";
+		String expected= performAfterPriorRun(null, target, "target0");
+		assertEqualLines(expected, performAfterPriorRun(prior1, target, "target1").replace("target1", "target0"));
+		assertEqualLines(expected, performAfterPriorRun(prior2, target, "target2").replace("target2", "target0"));
+	}
+
+	/*
+	 * Checks the final conditions of the refactoring on the prior unit, which does not change the
+	 * workspace and keeps the shared environment, and performs the refactoring on the target.
+	 */
+	private String performAfterPriorRun(String prior, String target, String packageName) throws Exception {
+		ICompilationUnit targetCu= createCU(getRoot().createPackageFragment(packageName, true, null), "Target.java", target.formatted(packageName));
+		ICompilationUnit priorCu= null;
+		if (prior != null) {
+			String priorPackage= prior.substring("package ".length(), prior.indexOf(';'));
+			priorCu= createCU(getRoot().createPackageFragment(priorPackage, true, null), "Prior.java", prior);
+		}
+
+		SharedTypeEnvironments environments= new SharedTypeEnvironments();
+		JavaManipulationPlugin.getDefault().setSharedTypeEnvironments(priorCu != null ? environments : null);
+		try {
+			if (priorCu != null) {
+				InferTypeArgumentsRefactoring refactoring= new InferTypeArgumentsRefactoring(new IJavaElement[] { priorCu });
+				NullProgressMonitor pm= new NullProgressMonitor();
+				assertTrue(refactoring.checkInitialConditions(pm).isOK());
+				assertTrue(refactoring.checkFinalConditions(pm).isOK());
+			}
+			assertTrue(perform(new IJavaElement[] { targetCu }, RefactoringStatus.OK, RefactoringStatus.OK));
+			if (priorCu != null) {
+				assertEquals(1, environments.getMissCount());
+				assertEquals(1, environments.getHitCount());
+			}
+		} finally {
+			JavaManipulationPlugin.getDefault().setSharedTypeEnvironments(null);
+		}
+		return targetCu.getSource();
+	}
+
 }
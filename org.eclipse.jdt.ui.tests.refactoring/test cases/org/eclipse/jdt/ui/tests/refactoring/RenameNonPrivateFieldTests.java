@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -63,6 +63,7 @@ public class RenameNonPrivateFieldTests extends GenericRefactoringTest {
 	private boolean fUpdateTextualMatches= false;
 	private boolean fRenameGetter= false;
 	private boolean fRenameSetter= false;
+	private boolean fBatchedAnalysis= false;
 
 	public RenameNonPrivateFieldTests() {
 		rts= new RefactoringTestSetup();
@@ -95,6 +96,12 @@ public class RenameNonPrivateFieldTests extends GenericRefactoringTest {
 		return "";
 	}
 
+	private RenameRefactoring createRenameRefactoring(RenameJavaElementDescriptor descriptor) throws CoreException {
+		RenameRefactoring refactoring= (RenameRefactoring) createRefactoring(descriptor);
+		((RenameFieldProcessor) refactoring.getProcessor()).setBatchedAnalysis(fBatchedAnalysis);
+		return refactoring;
+	}
+
 	private void helper1_0(String fieldName, String newFieldName) throws Exception{
 		IType classA= getType(createCUfromTestFile(getPackageP(), "A"), "A");
 		IField field= classA.getField(fieldName);
@@ -102,7 +109,7 @@ public class RenameNonPrivateFieldTests extends GenericRefactoringTest {
 		descriptor.setJavaElement(field);
 		descriptor.setUpdateReferences(true);
 		descriptor.setNewName(newFieldName);
-		RefactoringStatus result= performRefactoring(descriptor);
+		RefactoringStatus result= performRefactoring(createRenameRefactoring(descriptor));
 		assertNotNull("precondition was supposed to fail", result);
 	}
 
@@ -135,7 +142,7 @@ public class RenameNonPrivateFieldTests extends GenericRefactoringTest {
 			descriptor.setKeepOriginal(createDelegates);
 			descriptor.setDeprecateDelegate(true);
 		}
-		RenameRefactoring refactoring= (RenameRefactoring) createRefactoring(descriptor);
+		RenameRefactoring refactoring= createRenameRefactoring(descriptor);
 		RenameFieldProcessor processor= (RenameFieldProcessor) refactoring.getProcessor();
 
 		List<IAnnotatable> elements= new ArrayList<>();
@@ -506,6 +513,64 @@ public class RenameNonPrivateFieldTests extends GenericRefactoringTest {
 		assertEqualLines(getExpectedFileConent("messages"), getContents(file));
 	}
 
+//--- the shadowing analysis with batched resolution of the changed units ---
+
+	@Test
+	public void testFail5Batched() throws Exception{
+		useFixtureOf("testFail5");
+		fBatchedAnalysis= true;
+		testFail5();
+	}
+
+	@Test
+	public void testFail7Batched() throws Exception{
+		useFixtureOf("testFail7");
+		fBatchedAnalysis= true;
+		testFail7();
+	}
+
+	@Test
+	public void testFail8Batched() throws Exception{
+		useFixtureOf("testFail8");
+		fBatchedAnalysis= true;
+		testFail8();
+	}
+
+	@Test
+	public void testFail9Batched() throws Exception{
+		useFixtureOf("testFail9");
+		fBatchedAnalysis= true;
+		testFail9();
+	}
+
+	@Test
+	public void test1Batched() throws Exception{
+		useFixtureOf("test1");
+		fBatchedAnalysis= true;
+		test1();
+	}
+
+	@Test
+	public void test23Batched() throws Exception{
+		useFixtureOf("test23");
+		fBatchedAnalysis= true;
+		test23();
+	}
+
+	@Test
+	public void testStaticImportBatched() throws Exception{
+		useFixtureOf("testStaticImport");
+		fBatchedAnalysis= true;
+		testStaticImport();
+	}
+
+	@Test
+	public void testEnumConstBatched() throws Exception{
+		useFixtureOf("testEnumConst");
+		fBatchedAnalysis= true;
+		testEnumConst();
+	}
+
 	private String getExpectedFileConent(String propertyName) throws IOException {
 		String fileName= getOutputTestFileName(propertyName);
 		fileName= fileName.substring(0, fileName.length() - ".java".length()) + ".properties";
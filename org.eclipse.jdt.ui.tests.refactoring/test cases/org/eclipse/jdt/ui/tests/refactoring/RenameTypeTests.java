@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 
 import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.participants.RenameArguments;
@@ -70,6 +71,8 @@ public class RenameTypeTests extends GenericRefactoringTest {
 
 	private static final String REFACTORING_PATH= "RenameType/";
 
+	private int fParallelism= 1;
+
 	public RenameTypeTests() {
 		rts= new RefactoringTestSetup();
 	}
@@ -79,6 +82,12 @@ public class RenameTypeTests extends GenericRefactoringTest {
 		return REFACTORING_PATH;
 	}
 
+	private Refactoring createRenameRefactoring(RefactoringDescriptor descriptor) throws CoreException {
+		Refactoring refactoring= createRefactoring(descriptor);
+		((RenameTypeProcessor) ((RenameRefactoring) refactoring).getProcessor()).setParallelism(fParallelism, 1);
+		return refactoring;
+	}
+
 	private IType getClassFromTestFile(IPackageFragment pack, String className) throws Exception{
 		return getType(createCUfromTestFile(pack, className), className);
 	}
@@ -118,7 +127,7 @@ public class RenameTypeTests extends GenericRefactoringTest {
 		RenameJavaElementDescriptor descriptor= createRefactoringDescriptor(classA, newName);
 		descriptor.setUpdateReferences(updateReferences);
 		descriptor.setUpdateTextualOccurrences(updateTextualMatches);
-		Refactoring refactoring= createRefactoring(descriptor);
+		Refactoring refactoring= createRenameRefactoring(descriptor);
 		assertNull("was supposed to pass", performRefactoring(refactoring));
 		ICompilationUnit newcu= pack.getCompilationUnit(newCUName + ".java");
 		assertTrue("cu " + newcu.getElementName()+ " does not exist", newcu.exists());
@@ -163,7 +172,7 @@ public class RenameTypeTests extends GenericRefactoringTest {
 
 	private void helper3(String oldName, String newName, boolean updateRef, boolean updateTextual, boolean updateSimilar, String nonJavaFiles) throws JavaModelException, CoreException, IOException, Exception {
 		RefactoringDescriptor descriptor= initWithAllOptions(oldName, oldName, newName, updateRef, updateTextual, updateSimilar, nonJavaFiles, RenamingNameSuggestor.STRATEGY_EMBEDDED);
-		Refactoring ref= createRefactoring(descriptor);
+		Refactoring ref= createRenameRefactoring(descriptor);
 		RefactoringStatus status= performRefactoring(ref);
 		assertNull("was supposed to pass", status);
 		checkResultInClass(newName);
@@ -172,7 +181,7 @@ public class RenameTypeTests extends GenericRefactoringTest {
 
 	private void helper3_inner(String oldName, String oldInnerName, String newName, String innerNewName, boolean updateRef, boolean updateTextual, boolean updateSimilar, String nonJavaFiles) throws JavaModelException, CoreException, IOException, Exception {
 		RefactoringDescriptor descriptor= initWithAllOptions(oldName, oldInnerName, innerNewName, updateRef, updateTextual, updateSimilar, nonJavaFiles, RenamingNameSuggestor.STRATEGY_EMBEDDED);
-		Refactoring ref= createRefactoring(descriptor);
+		Refactoring ref= createRenameRefactoring(descriptor);
 		assertNull("was supposed to pass", performRefactoring(ref));
 		checkResultInClass(newName);
 		checkMappedSimilarElementsExist(ref);
@@ -196,12 +205,12 @@ public class RenameTypeTests extends GenericRefactoringTest {
 
 	private void helper3_fail(String oldName, String newName, boolean updateSimilar, boolean updateTextual, boolean updateRef, int matchStrategy) throws JavaModelException, CoreException, IOException, Exception {
 		RefactoringDescriptor descriptor= initWithAllOptions(oldName, oldName, newName, updateRef, updateTextual, updateSimilar, null, matchStrategy);
-		assertNotNull("was supposed to fail", performRefactoring(descriptor));
+		assertNotNull("was supposed to fail", performRefactoring(createRenameRefactoring(descriptor)));
 	}
 
 	private void helper3_fail(String oldName, String newName, boolean updateSimilar, boolean updateTextual, boolean updateRef) throws JavaModelException, CoreException, IOException, Exception {
 		RefactoringDescriptor descriptor= initWithAllOptions(oldName, oldName, newName, updateRef, updateTextual, updateSimilar, null, RenamingNameSuggestor.STRATEGY_SUFFIX);
-		assertNotNull("was supposed to fail", performRefactoring(descriptor));
+		assertNotNull("was supposed to fail", performRefactoring(createRenameRefactoring(descriptor)));
 	}
 
 	private RefactoringDescriptor initWithAllOptions(String oldName, String innerOldName, String innerNewName, boolean updateReferences, boolean updateTextualMatches, boolean updateSimilar, String nonJavaFiles, int matchStrategy) throws Exception, JavaModelException, CoreException {
@@ -1926,4 +1935,105 @@ public class RenameTypeTests extends GenericRefactoringTest {
 		// Test references in annotations and type parameters
 		helper3("Try", "Bla", true, false, true);
 	}
+
+	// --------------- Several workers -----------------
+
+	@Test
+	public void testSimilarElements00Parallel() throws Exception {
+		useFixtureOf("testSimilarElements00");
+		fParallelism= 4;
+		testSimilarElements00();
+	}
+
+	@Test
+	public void testSimilarElements04Parallel() throws Exception {
+		useFixtureOf("testSimilarElements04");
+		fParallelism= 4;
+		testSimilarElements04();
+	}
+
+	@Test
+	public void testSimilarElements28Parallel() throws Exception {
+		useFixtureOf("testSimilarElements28");
+		fParallelism= 4;
+		testSimilarElements28();
+	}
+
+	@Test
+	public void testSimilarElements30Parallel() throws Exception {
+		useFixtureOf("testSimilarElements30");
+		fParallelism= 4;
+		testSimilarElements30();
+	}
+
+	@Test
+	public void testSimilarElements31Parallel() throws Exception {
+		useFixtureOf("testSimilarElements31");
+		fParallelism= 4;
+		testSimilarElements31();
+	}
+
+	@Test
+	public void testSimilarElements32Parallel() throws Exception {
+		useFixtureOf("testSimilarElements32");
+		fParallelism= 4;
+		testSimilarElements32();
+	}
+
+	@Test
+	public void testSimilarElements33Parallel() throws Exception {
+		useFixtureOf("testSimilarElements33");
+		fParallelism= 4;
+		testSimilarElements33();
+	}
+
+	@Test
+	public void testSimilarLocalsInSeveralUnitsParallel() throws Exception {
+		// the references are searched and updated and the units of the locals are parsed by the workers
+		createCU(getPackageP(), "SomeClass.java", """
+			package p;
+			public class SomeClass {
+			}
+			""");
+		ICompilationUnit[] units= new ICompilationUnit[6];
+		String[] given= new String[units.length];
+		for (int i= 0; i < units.length; i++) {
+			given[i]= """
+				package p;
+				public class User%d {
+					SomeClass fSomeClassSuf1;
+					void foo(SomeClass pmSomeClass_pm) {
+						SomeClass someClass= new SomeClass();
+						SomeClass lvSomeClass_lv= pmSomeClass_pm;
+						someClass.equals(lvSomeClass_lv);
+					}
+				}
+				""".formatted(Integer.valueOf(i));
+			units[i]= createCU(getPackageP(), "User" + i + ".java", given[i]);
+		}
+
+		String[] sequential= renameSimilarElements(units, 1);
+		RefactoringCore.getUndoManager().performUndo(null, new NullProgressMonitor());
+		for (int i= 0; i < units.length; i++)
+			assertEqualLines("invalid undo", given[i], units[i].getSource());
+
+		String[] parallel= renameSimilarElements(units, 4);
+		for (int i= 0; i < units.length; i++) {
+			assertTrue(parallel[i], parallel[i].contains("SomeClass2 someClass2= new SomeClass2();"));
+			assertTrue(parallel[i], parallel[i].contains("SomeClass2 lvSomeClass2_lv= pmSomeClass2_pm;"));
+			assertEqualLines(sequential[i], parallel[i]);
+		}
+	}
+
+	private String[] renameSimilarElements(ICompilationUnit[] units, int parallelism) throws Exception {
+		IType type= getPackageP().getCompilationUnit("SomeClass.java").getType("SomeClass");
+		RenameJavaElementDescriptor descriptor= createRefactoringDescriptor(type, "SomeClass2");
+		setTheOptions(descriptor, true, false, true, null, RenamingNameSuggestor.STRATEGY_EXACT);
+		fParallelism= parallelism;
+		assertNull("was supposed to pass", performRefactoring(createRenameRefactoring(descriptor)));
+		String[] result= new String[units.length];
+		for (int i= 0; i < units.length; i++)
+			result[i]= units[i].getSource();
+		return result;
+	}
 }
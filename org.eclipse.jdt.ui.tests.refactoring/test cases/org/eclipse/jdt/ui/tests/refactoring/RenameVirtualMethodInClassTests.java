@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,8 @@ public class RenameVirtualMethodInClassTests extends GenericRefactoringTest {
 
 	private static final String REFACTORING_PATH= "RenameVirtualMethodInClass/";
 
+	private boolean fBatchedAnalysis;
+
 	public RenameVirtualMethodInClassTests() {
 		rts= new RefactoringTestSetup();
 	}
@@ -68,6 +70,7 @@ public class RenameVirtualMethodInClassTests extends GenericRefactoringTest {
 		RenameMethodProcessor processor= new RenameVirtualMethodProcessor(classA.getMethod(methodName, signatures));
 		RenameRefactoring ref= new RenameRefactoring(processor);
 		processor.setNewElementName(newMethodName);
+		processor.setBatchedAnalysis(fBatchedAnalysis);
 		RefactoringStatus result= performRefactoring(ref);
 		assertNotNull("precondition was supposed to fail", result);
 	}
@@ -90,6 +93,7 @@ public class RenameVirtualMethodInClassTests extends GenericRefactoringTest {
 		final Refactoring refactoring= descriptor.createRefactoring(status);
 		assertNotNull("Refactoring should not be null", refactoring);
 		assertTrue("status should be ok", status.isOK());
+		((RenameMethodProcessor) ((RenameRefactoring) refactoring).getProcessor()).setBatchedAnalysis(fBatchedAnalysis);
 		assertNull("was supposed to pass", performRefactoring(refactoring));
 		if (!shouldPass){
 			assertNotEquals("incorrect renaming because of java model", getFileContents(getOutputTestFileName("A")), cu.getSource());
@@ -402,6 +406,41 @@ public class RenameVirtualMethodInClassTests extends GenericRefactoringTest {
 		helper1();
 	}
 
+	@Test
+	public void testFail36Batched() throws Exception{
+		useFixtureOf("testFail36");
+		fBatchedAnalysis= true;
+		testFail36();
+	}
+
+	@Test
+	public void testFail37Batched() throws Exception{
+		useFixtureOf("testFail37");
+		fBatchedAnalysis= true;
+		testFail37();
+	}
+
+	@Test
+	public void testFail39Batched() throws Exception{
+		useFixtureOf("testFail39");
+		fBatchedAnalysis= true;
+		testFail39();
+	}
+
+	@Test
+	public void testFail40Batched() throws Exception{
+		useFixtureOf("testFail40");
+		fBatchedAnalysis= true;
+		testFail40();
+	}
+
+	@Test
+	public void testFail41Batched() throws Exception{
+		useFixtureOf("testFail41");
+		fBatchedAnalysis= true;
+		testFail41();
+	}
+
 	@Test
 	public void test1() throws Exception{
 		ParticipantTesting.reset();
@@ -660,6 +699,41 @@ public class RenameVirtualMethodInClassTests extends GenericRefactoringTest {
 		helper2();
 	}
 
+	@Test
+	public void test26Batched() throws Exception{
+		useFixtureOf("test26");
+		fBatchedAnalysis= true;
+		test26();
+	}
+
+	@Test
+	public void test33Batched() throws Exception{
+		useFixtureOf("test33");
+		fBatchedAnalysis= true;
+		test33();
+	}
+
+	@Test
+	public void testGenerics1Batched() throws Exception{
+		useFixtureOf("testGenerics1");
+		fBatchedAnalysis= true;
+		testGenerics1();
+	}
+
+	@Test
+	public void testAnon0Batched() throws Exception{
+		useFixtureOf("testAnon0");
+		fBatchedAnalysis= true;
+		testAnon0();
+	}
+
+	@Test
+	public void testLocal0Batched() throws Exception{
+		useFixtureOf("testLocal0");
+		fBatchedAnalysis= true;
+		testLocal0();
+	}
+
 	@Test
 	public void testDelegate01() throws Exception {
 		// simple delegate
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,10 @@ import static org.junit.Assert.assertTrue;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -30,8 +33,11 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodFinder2;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodIndex;
 
 import org.eclipse.jdt.ui.tests.refactoring.infra.AbstractJunit4CUTestCase;
 import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringTestPlugin;
@@ -139,4 +145,65 @@ public class RippleMethodFinderTests extends AbstractJunit4CUTestCase {
 		perform();
 	}
 
+
+	@Test
+	public void testIndex() throws Exception {
+		String str= """
+			package p;
+			class A {
+				void m() {}
+			}
+			class B extends A {
+				void m() {}
+			}
+			class C {
+				void m() {}
+			}
+			""";
+		ICompilationUnit cu= createCU(rts.getPackageP(), "A.java", str);
+		IMethod target= cu.getType("A").getMethod("m", new String[0]);
+		IMethod rippleB= cu.getType("B").getMethod("m", new String[0]);
+		IMethod rippleC= cu.getType("C").getMethod("m", new String[0]);
+
+		RippleMethodIndex index= new RippleMethodIndex();
+		JavaManipulationPlugin.getDefault().setRippleMethodIndex(index);
+		try {
+			assertEquals(Set.of(target, rippleB), getRelatedMethods(target));
+			assertEquals(0, index.getHitCount());
+			assertEquals(1, index.getMissCount());
+
+			assertEquals(Set.of(target, rippleB), getRelatedMethods(target));
+			assertEquals(1, index.getHitCount());
+
+			cu.becomeWorkingCopy(null);
+			try {
+				// an added method with another name keeps the entry
+				IType typeC= cu.getType("C");
+				typeC.createMethod("void n() {}", null, false, null);
+				cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+				assertEquals(Set.of(target, rippleB), getRelatedMethods(target));
+				assertEquals(2, index.getHitCount());
+
+				// a changed super type clears the index
+				String contents= cu.getBuffer().getContents();
+				cu.getBuffer().replace(contents.indexOf("class C"), "class C".length(), "class C extends A");
+				cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+				assertEquals(Set.of(target, rippleB, rippleC), getRelatedMethods(target));
+				assertEquals(2, index.getHitCount());
+				assertEquals(2, index.getMissCount());
+			} finally {
+				cu.discardWorkingCopy();
+			}
+
+			// the discarded working copy clears the index
+			assertEquals(Set.of(target, rippleB), getRelatedMethods(target));
+			assertEquals(3, index.getMissCount());
+		} finally {
+			JavaManipulationPlugin.getDefault().setRippleMethodIndex(null);
+		}
+	}
+
+	private static Set<IMethod> getRelatedMethods(IMethod method) throws Exception {
+		return new HashSet<>(Arrays.asList(RippleMethodFinder2.getRelatedMethods(method, new NullProgressMonitor(), null)));
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,9 +30,17 @@ public abstract class AbstractRenameTypePerfTest extends RepeatingRefactoringPer
 		IType type= cunit.findPrimaryType();
 		RenameTypeProcessor processor= new RenameTypeProcessor(type);
 		processor.setNewElementName("B");
+		processor.setParallelism(getParallelism(), 1);
 		executeRefactoring(new RenameRefactoring(processor), measure);
 	}
 
+	/**
+	 * @return the number of worker threads used by the rename type processor
+	 */
+	protected int getParallelism() {
+		return 1;
+	}
+
 	private ICompilationUnit generateSources(int numberOfCus, int numberOfRefs) throws Exception {
 		IPackageFragment definition= fTestProject.getSourceFolder().createPackageFragment("def", false, null);
 		String str= """
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,10 +24,12 @@ import org.junit.platform.suite.api.Suite;
 	RenameTypePerfAcceptanceTests.class,
 	RenameTypePerfTests1.class,
 	RenameTypePerfTests2.class,
+	RenameTypeParallelPerfTests.class,
 
 	RenameMethodPerfTests1.class,
 	RenameMethodPerfTests2.class,
 	RenameMethodWithOverloadPerfTests.class,
+	RenameMethodShadowingPerfTests.class,
 
 	MoveCompilationUnitPerfTests1.class,
 	MoveCompilationUnitPerfTests2.class,
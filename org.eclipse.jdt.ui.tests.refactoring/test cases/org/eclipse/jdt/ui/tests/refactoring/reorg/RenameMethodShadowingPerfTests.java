@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.reorg;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameVirtualMethodProcessor;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Measures rename method with a ripple method in each compilation unit and a method with the new
+ * name, which requires the shadowing analysis. The analysis searches the new references in
+ * reconciled working copies, or resolves the changed units in batches.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RenameMethodShadowingPerfTests extends RepeatingRefactoringPerformanceTestCaseCommon {
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	private boolean fBatchedAnalysis;
+
+	@Test
+	public void testACold_10_10() throws Exception {
+		executeRefactoring(10, 10, false, 3);
+	}
+
+	@Test
+	public void testB_Search_100_10() throws Exception {
+		fBatchedAnalysis= false;
+		executeRefactoring(100, 10, true, 10);
+	}
+
+	@Test
+	public void testC_Batched_100_10() throws Exception {
+		fBatchedAnalysis= true;
+		executeRefactoring(100, 10, true, 10);
+	}
+
+	@Test
+	public void testD_Search_1000_10() throws Exception {
+		fBatchedAnalysis= false;
+		executeRefactoring(1000, 10, true, 5);
+	}
+
+	@Test
+	public void testE_Batched_1000_10() throws Exception {
+		tagAsSummary("Rename method - shadowing analysis of 1000 ripple methods", Dimension.ELAPSED_PROCESS);
+		fBatchedAnalysis= true;
+		executeRefactoring(1000, 10, true, 5);
+	}
+
+	@Override
+	protected void doExecuteRefactoring(int numberOfCus, int numberOfRefs, boolean measure) throws Exception {
+		ICompilationUnit cunit= generateSources(numberOfCus, numberOfRefs);
+		IMethod method= cunit.findPrimaryType().getMethod("foo", new String[0]);
+		RenameVirtualMethodProcessor processor= new RenameVirtualMethodProcessor(method);
+		processor.setNewElementName("foo2");
+		processor.setBatchedAnalysis(fBatchedAnalysis);
+		executeRefactoring(new RenameRefactoring(processor), measure);
+	}
+
+	private ICompilationUnit generateSources(int numberOfCus, int numberOfRefs) throws Exception {
+		IPackageFragment definition= fTestProject.getSourceFolder().createPackageFragment("def", false, null);
+		String str= """
+			package def;
+			public interface I {
+			    void foo();
+			}
+			""";
+		ICompilationUnit result= definition.createCompilationUnit("I.java", str, false, null);
+		String other= """
+			package def;
+			public class Other {
+			    public void foo2() {
+			    }
+			}
+			""";
+		definition.createCompilationUnit("Other.java", other, false, null);
+
+		IPackageFragment references= fTestProject.getSourceFolder().createPackageFragment("ref", false, null);
+		for (int i= 0; i < numberOfCus; i++) {
+			createImplementationCu(references, i, numberOfRefs);
+		}
+		return result;
+	}
+
+	private void createImplementationCu(IPackageFragment pack, int index, int numberOfRefs) throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package " + pack.getElementName() + ";\n");
+		buf.append("import def.I;\n");
+		buf.append("public class Impl" + index + " implements I {\n");
+		buf.append("    public void foo() {\n");
+		buf.append("    }\n");
+		buf.append("    public void ref(I i) {\n");
+		for (int i= 0; i < numberOfRefs; i++) {
+			buf.append("        i.foo();\n");
+		}
+		buf.append("    }\n");
+		buf.append("}\n");
+		pack.createCompilationUnit("Impl" + index + ".java", buf.toString(), false, null);
+	}
+}
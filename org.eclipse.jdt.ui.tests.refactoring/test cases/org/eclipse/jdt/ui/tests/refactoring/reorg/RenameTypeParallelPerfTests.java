@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.reorg;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Measures rename type with 1000, 10000 and 50000 references, with the references searched and
+ * updated by several worker threads. {@link RenameTypePerfTests1} measures the sequential case.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RenameTypeParallelPerfTests extends AbstractRenameTypePerfTest {
+
+	private static final int PARALLELISM= 4;
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	@Override
+	protected int getParallelism() {
+		return PARALLELISM;
+	}
+
+	@Test
+	public void testACold_10_10() throws Exception {
+		executeRefactoring(10, 10, false, 3);
+	}
+
+	@Test
+	public void testB_100_10() throws Exception {
+		executeRefactoring(100, 10, true, 10);
+	}
+
+	@Test
+	public void testC_1000_10() throws Exception {
+		executeRefactoring(1000, 10, true, 10);
+	}
+
+	@Test
+	public void testD_5000_10() throws Exception {
+		tagAsSummary("Rename type - 5000 CUs, 10 Refs, 4 workers", Dimension.ELAPSED_PROCESS);
+		executeRefactoring(5000, 10, true, 3);
+	}
+
+	@Override
+	protected void assertMeasurements() {
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+}
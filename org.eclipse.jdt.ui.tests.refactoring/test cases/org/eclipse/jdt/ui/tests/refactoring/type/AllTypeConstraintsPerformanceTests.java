@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,8 @@ import org.junit.platform.suite.api.Suite;
 
 @Suite
 @SelectClasses({
-	ExtractInterfacePerfAcceptanceTests.class
+	ExtractInterfacePerfAcceptanceTests.class,
+	InferTypeArgumentsPerfAcceptanceTests.class
 })
 public class AllTypeConstraintsPerformanceTests {
 }
\ No newline at end of file
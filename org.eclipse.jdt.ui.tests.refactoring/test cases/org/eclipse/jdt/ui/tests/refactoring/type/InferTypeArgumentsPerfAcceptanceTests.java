@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.type;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsConstraintsSolver.SolverStatistics;
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsRefactoring;
+
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Measures Infer Generic Type Arguments with the default and the scalable constraint solver, on
+ * the JUnit 3.8.1 sources and on generated units with many raw collections. The numbers of the
+ * solver runs are written to the console.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class InferTypeArgumentsPerfAcceptanceTests extends RefactoringPerformanceTestCaseCommon {
+
+	private IJavaProject fProject;
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		fProject= JavaProjectHelper.createJavaProject("InferTypeArgumentsPerf", "bin");
+		IPackageFragmentRoot jdk= JavaProjectHelper.addRTJar(fProject);
+		assertNotNull(jdk);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		if (fProject != null && fProject.exists())
+			JavaProjectHelper.delete(fProject);
+		super.tearDown();
+	}
+
+	@Test
+	public void testAJUnit() throws Exception {
+		addJUnitSources();
+		executeInferTypeArguments(false);
+	}
+
+	@Test
+	public void testBJUnitScalable() throws Exception {
+		addJUnitSources();
+		executeInferTypeArguments(true);
+	}
+
+	@Test
+	public void testCRawCollections_500() throws Exception {
+		addRawCollections(500);
+		executeInferTypeArguments(false);
+	}
+
+	@Test
+	public void testDRawCollectionsScalable_500() throws Exception {
+		tagAsSummary("Infer Type Arguments - scalable solver, 500 units", Dimension.ELAPSED_PROCESS);
+		addRawCollections(500);
+		executeInferTypeArguments(true);
+	}
+
+	private void executeInferTypeArguments(boolean scalable) throws Exception {
+		InferTypeArgumentsRefactoring refactoring= new InferTypeArgumentsRefactoring(new IJavaElement[] { fProject });
+		refactoring.setAssumeCloneReturnsSameType(true);
+		refactoring.setLeaveUnconstrainedRaw(false);
+		refactoring.setScalableSolver(scalable);
+		executeRefactoring(refactoring, true);
+
+		SolverStatistics statistics= refactoring.getSolverStatistics();
+		assertNotNull(statistics);
+		System.out.println(getClass().getSimpleName() + (scalable ? " - scalable: " : " - default: ") + statistics);
+	}
+
+	private void addJUnitSources() throws Exception {
+		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+		assertNotNull(junitSrcArchive);
+		assertTrue(junitSrcArchive.exists());
+		JavaProjectHelper.addSourceContainerWithImport(fProject, "src", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+	}
+
+	/*
+	 * Each unit passes its raw collections to the next one, so the estimates propagate along the chain.
+	 */
+	private void addRawCollections(int numberOfCus) throws Exception {
+		IPackageFragmentRoot src= JavaProjectHelper.addSourceContainer(fProject, "src");
+		IPackageFragment pack= src.createPackageFragment("p", false, null);
+		for (int i= 0; i < numberOfCus; i++) {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package p;\n");
+			buf.append("import java.util.*;\n");
+			buf.append("public class C" + i + " {\n");
+			buf.append("    List list= new ArrayList();\n");
+			buf.append("    Map map= new HashMap();\n");
+			buf.append("    void fill(" + (i > 0 ? "C" + (i - 1) + " previous" : "") + ") {\n");
+			buf.append("        list.add(\"element" + i + "\");\n");
+			if (i > 0) {
+				buf.append("        list.addAll(previous.list);\n");
+				buf.append("        map.putAll(previous.map);\n");
+			}
+			buf.append("        map.put(Integer.valueOf(" + i + "), list);\n");
+			buf.append("    }\n");
+			buf.append("    Object first() {\n");
+			buf.append("        return list.iterator().next();\n");
+			buf.append("    }\n");
+			buf.append("}\n");
+			pack.createCompilationUnit("C" + i + ".java", buf.toString(), false, null);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@ package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
@@ -42,7 +44,9 @@ import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.dom.HierarchicalASTVisitor;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.SharedTypeEnvironments;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
 
@@ -340,6 +344,122 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 		testBindings(collector.getResult());
 	}
 
+	@Test
+	public void testSharedAssignments() throws Exception {
+		ASTNode node= createAST(MyTestSetup.getGenericPackage());
+		TypeBindingCollector collector= new TypeBindingCollector();
+		node.accept(collector);
+		final ITypeBinding[] bindings= collector.getResult();
+		final boolean[][] expected= new boolean[bindings.length][bindings.length];
+		for (int o= 0; o < bindings.length; o++) {
+			for (int i= 0; i < bindings.length; i++) {
+				expected[o][i]= bindings[o].isAssignmentCompatible(bindings[i]);
+			}
+		}
+
+		final TypeEnvironment environment= new TypeEnvironment(true, false, true);
+		final TType[][] types= new TType[4][];
+		final Throwable[] failures= new Throwable[types.length];
+		Thread[] threads= new Thread[types.length];
+		for (int t= 0; t < threads.length; t++) {
+			final int thread= t;
+			threads[t]= new Thread(() -> {
+				try {
+					TType[] created= environment.create(bindings);
+					for (int o= 0; o < created.length; o++) {
+						for (int i= 0; i < created.length; i++) {
+							assertEquals("Different assignment rule(" + created[i].getPrettySignature() + "= " + created[o].getPrettySignature() + "): ",
+									expected[o][i], created[o].canAssignTo(created[i]));
+						}
+					}
+					types[thread]= created;
+				} catch (Throwable e) {
+					failures[thread]= e;
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		for (int t= 0; t < types.length; t++) {
+			assertNull("Failure in thread " + t, failures[t]);
+			for (int i= 0; i < bindings.length; i++) {
+				assertSame("Not same type", types[0][i], types[t][i]);
+			}
+		}
+	}
+
+	@Test
+	public void testSharedTypeEnvironments() throws Exception {
+		String str= """
+			package generic;
+			public class TestShared {
+				void m() {}
+			}
+			""";
+		ICompilationUnit cu= createCU(MyTestSetup.getGenericPackage(), "TestShared.java", str);
+		IJavaProject project= mts.getProject();
+
+		SharedTypeEnvironments environments= new SharedTypeEnvironments();
+		JavaManipulationPlugin.getDefault().setSharedTypeEnvironments(environments);
+		try {
+			TypeEnvironment environment= environments.getTypeEnvironment(project);
+			environment.endSubTypeScope();
+			assertSame(environment, environments.getTypeEnvironment(project));
+			assertEquals(1, environments.getHitCount());
+			assertEquals(1, environments.getMissCount());
+
+			// a refactoring that runs at the same time gets its own environment
+			TypeEnvironment other= environments.getTypeEnvironment(project);
+			assertNotSame(environment, other);
+			TypeEnvironment third= environments.getTypeEnvironment(project);
+			assertNotSame(environment, third);
+			assertNotSame(other, third);
+			third.endSubTypeScope();
+			other.endSubTypeScope();
+			environment.endSubTypeScope();
+			assertEquals(3, environments.getMissCount());
+
+			// the first two environments are shared
+			assertSame(environment, environments.getTypeEnvironment(project));
+			assertSame(other, environments.getTypeEnvironment(project));
+			assertNotSame(third, environments.getTypeEnvironment(project));
+			environment.endSubTypeScope();
+			other.endSubTypeScope();
+			assertEquals(3, environments.getHitCount());
+			assertEquals(4, environments.getMissCount());
+
+			cu.becomeWorkingCopy(null);
+			try {
+				// a changed method body keeps the environment
+				String contents= cu.getBuffer().getContents();
+				cu.getBuffer().replace(contents.indexOf("{}"), 2, "{ m(); }");
+				cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+				assertSame(environment, environments.getTypeEnvironment(project));
+				environment.endSubTypeScope();
+				assertEquals(0, environments.getInvalidationCount());
+
+				// a changed super type drops the environment
+				contents= cu.getBuffer().getContents();
+				cu.getBuffer().replace(contents.indexOf("class TestShared"), "class TestShared".length(), "class TestShared implements java.io.Serializable");
+				cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+				assertEquals(1, environments.getInvalidationCount());
+				TypeEnvironment recreated= environments.getTypeEnvironment(project);
+				assertNotSame(environment, recreated);
+				recreated.endSubTypeScope();
+				assertEquals(5, environments.getMissCount());
+			} finally {
+				cu.discardWorkingCopy();
+			}
+
+			// the discarded working copy drops the environment
+			assertEquals(2, environments.getInvalidationCount());
+		} finally {
+			JavaManipulationPlugin.getDefault().setSharedTypeEnvironments(null);
+		}
+	}
+
 	public void _testAssignment() throws Exception {
 		ASTNode node= createAST(MyTestSetup.getGenericPackage());
 		TypeBindingCollector collector= new TypeBindingCollector();
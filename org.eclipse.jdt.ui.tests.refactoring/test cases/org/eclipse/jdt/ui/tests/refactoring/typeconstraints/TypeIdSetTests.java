@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.EnumeratedTypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Tests the members of {@link EnumeratedTypeSet}s in a {@link TypeSetEnvironment} that uses type
+ * ids. Each operation is compared with the same operation on the members of a type set
+ * environment that keeps the members in hash sets.
+ */
+public class TypeIdSetTests {
+
+	private static final String[] TYPE_NAMES= {
+			"java.lang.Object", "java.lang.String", "java.lang.Integer", "java.lang.Number",
+			"java.util.Collection", "java.util.List", "java.util.ArrayList", "java.util.Map" };
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private TType[] fTypes;
+	private TypeSetEnvironment fIdEnvironment;
+	private TypeSetEnvironment fHashEnvironment;
+
+	@Before
+	public void setUp() throws Exception {
+		IJavaProject project= rts.getProject();
+		IJavaElement[] elements= new IJavaElement[TYPE_NAMES.length];
+		for (int i= 0; i < TYPE_NAMES.length; i++) {
+			elements[i]= project.findType(TYPE_NAMES[i]);
+			assertNotNull(TYPE_NAMES[i], elements[i]);
+		}
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(project);
+		IBinding[] bindings= parser.createBindings(elements, null);
+
+		TypeEnvironment environment= new TypeEnvironment();
+		fTypes= new TType[bindings.length];
+		for (int i= 0; i < bindings.length; i++) {
+			fTypes[i]= environment.create((ITypeBinding) bindings[i]);
+		}
+		fIdEnvironment= new TypeSetEnvironment(environment, true);
+		fHashEnvironment= new TypeSetEnvironment(environment, false);
+	}
+
+	private EnumeratedTypeSet createSet(TypeSetEnvironment environment, int... indices) {
+		EnumeratedTypeSet result= new EnumeratedTypeSet(environment);
+		for (int index : indices) {
+			result.add(fTypes[index]);
+		}
+		return result;
+	}
+
+	private static Set<TType> getMembers(EnumeratedTypeSet set) {
+		return new HashSet<>(Arrays.asList(set.toArray()));
+	}
+
+	private static void assertSameMembers(EnumeratedTypeSet expected, EnumeratedTypeSet actual) {
+		assertEquals(getMembers(expected), getMembers(actual));
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.hashCode(), actual.hashCode());
+		assertTrue(actual.equals(expected));
+		assertTrue(expected.equals(actual));
+	}
+
+	@Test
+	public void testBulkOperations() throws Exception {
+		int[] first= { 0, 1, 2, 3 };
+		int[] second= { 2, 3, 4, 5 };
+
+		EnumeratedTypeSet ids= createSet(fIdEnvironment, first);
+		EnumeratedTypeSet hash= createSet(fHashEnvironment, first);
+		assertTrue(ids.addAll(createSet(fIdEnvironment, second)));
+		assertTrue(hash.addAll(createSet(fHashEnvironment, second)));
+		assertSameMembers(hash, ids);
+		assertFalse(ids.addAll(createSet(fIdEnvironment, second)));
+		assertTrue(ids.containsAll(createSet(fIdEnvironment, second)));
+		assertFalse(ids.containsAll(createSet(fIdEnvironment, 6)));
+
+		ids= createSet(fIdEnvironment, first);
+		hash= createSet(fHashEnvironment, first);
+		assertTrue(ids.retainAll(createSet(fIdEnvironment, second)));
+		assertTrue(hash.retainAll(createSet(fHashEnvironment, second)));
+		assertSameMembers(hash, ids);
+		assertFalse(ids.retainAll(createSet(fIdEnvironment, second)));
+
+		ids= createSet(fIdEnvironment, first);
+		hash= createSet(fHashEnvironment, first);
+		assertTrue(ids.removeAll(createSet(fIdEnvironment, second)));
+		assertTrue(hash.removeAll(createSet(fHashEnvironment, second)));
+		assertSameMembers(hash, ids);
+		assertFalse(ids.removeAll(createSet(fIdEnvironment, second)));
+
+		// sets of another environment are not bit sets
+		ids= createSet(fIdEnvironment, first);
+		hash= createSet(fHashEnvironment, first);
+		assertTrue(ids.addAll(createSet(fHashEnvironment, second)));
+		assertTrue(hash.addAll(createSet(fHashEnvironment, second)));
+		assertSameMembers(hash, ids);
+		assertTrue(ids.retainAll(createSet(fHashEnvironment, first)));
+		assertTrue(hash.retainAll(createSet(fHashEnvironment, first)));
+		assertSameMembers(hash, ids);
+	}
+
+	@Test
+	public void testIteratorRemove() throws Exception {
+		EnumeratedTypeSet ids= createSet(fIdEnvironment, 0, 1, 2, 3, 4);
+		assertSameMembers(createSet(fHashEnvironment, 0, 1, 2, 3, 4), ids);
+
+		for (Iterator<TType> iter= ids.iterator(); iter.hasNext();) {
+			TType type= iter.next();
+			if (type == fTypes[1] || type == fTypes[3])
+				iter.remove();
+		}
+		assertFalse(ids.contains(fTypes[1]));
+		assertFalse(ids.contains(fTypes[3]));
+		assertTrue(ids.contains(fTypes[4]));
+		assertSameMembers(createSet(fHashEnvironment, 0, 2, 4), ids);
+
+		Iterator<TType> iter= ids.iterator();
+		try {
+			iter.remove();
+			throw new AssertionError("remove() before next() must fail");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		iter.next();
+		iter.remove();
+		try {
+			iter.remove();
+			throw new AssertionError("second remove() must fail");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		assertSameMembers(createSet(fHashEnvironment, 2, 4), ids);
+	}
+
+	@Test
+	public void testHashCodeAfterMutation() throws Exception {
+		EnumeratedTypeSet ids= createSet(fIdEnvironment, 0, 1);
+		EnumeratedTypeSet hash= createSet(fHashEnvironment, 0, 1);
+		assertEquals(hash.hashCode(), ids.hashCode());
+
+		ids.add(fTypes[5]);
+		hash.add(fTypes[5]);
+		assertEquals(hash.hashCode(), ids.hashCode());
+
+		ids.remove(fTypes[0]);
+		hash.remove(fTypes[0]);
+		assertEquals(hash.hashCode(), ids.hashCode());
+
+		ids.addAll(createSet(fIdEnvironment, 6, 7));
+		hash.addAll(createSet(fHashEnvironment, 6, 7));
+		assertEquals(hash.hashCode(), ids.hashCode());
+
+		ids.retainAll(createSet(fIdEnvironment, 1, 6));
+		hash.retainAll(createSet(fHashEnvironment, 1, 6));
+		assertEquals(hash.hashCode(), ids.hashCode());
+
+		ids.removeAll(createSet(fIdEnvironment, 6));
+		hash.removeAll(createSet(fHashEnvironment, 6));
+		assertEquals(hash.hashCode(), ids.hashCode());
+
+		EnumeratedTypeSet clone= (EnumeratedTypeSet) ids.makeClone();
+		clone.add(fTypes[2]);
+		assertEquals(hash.hashCode(), ids.hashCode());
+		assertEquals(createSet(fHashEnvironment, 1, 2).hashCode(), clone.hashCode());
+
+		ids.clear();
+		hash.clear();
+		assertEquals(hash.hashCode(), ids.hashCode());
+		assertTrue(ids.isEmpty());
+	}
+}
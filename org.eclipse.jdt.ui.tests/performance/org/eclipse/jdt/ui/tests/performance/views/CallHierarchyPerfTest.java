@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyExpander;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyIndex;
+import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures the expansion of a caller hierarchy in the JUnit sources without and with the call
+ * hierarchy index, and with a serial and a parallel {@link CallHierarchyExpander}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CallHierarchyPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int DEPTH= 3;
+	private static final int RUNS= 10;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar13(fJProject1));
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Override
+	public void tearDown() throws Exception {
+		CallHierarchyCore.getDefault().setIndexEnabled(true);
+		super.tearDown();
+	}
+
+	@Test
+	public void testAWithoutIndex() throws Exception {
+		CallHierarchyCore.getDefault().setIndexEnabled(false);
+		IMethod method= getMethod();
+		expandCallers(method);
+
+		for (int i= 0; i < RUNS; i++) {
+			joinBackgroudActivities();
+			startMeasuring();
+			expandCallers(method);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	@Test
+	public void testBWithIndex() throws Exception {
+		CallHierarchyIndex index= CallHierarchyCore.getDefault().getIndex();
+		index.clear();
+		IMethod method= getMethod();
+		int count= expandCallers(method);
+		int misses= index.getMisses();
+
+		for (int i= 0; i < RUNS; i++) {
+			joinBackgroudActivities();
+			startMeasuring();
+			assertEquals(count, expandCallers(method));
+			stopMeasuring();
+		}
+		assertEquals(misses, index.getMisses());
+		assertTrue(index.getHits() > 0);
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	@Test
+	public void testCSerialExpansion() throws Exception {
+		measureExpander(1);
+	}
+
+	@Test
+	public void testDParallelExpansion() throws Exception {
+		measureExpander(4);
+	}
+
+	private void measureExpander(int parallelism) throws Exception {
+		CallHierarchyCore.getDefault().setIndexEnabled(false);
+		IMethod method= getMethod();
+		int count= expandCallers(method);
+
+		for (int i= 0; i < RUNS; i++) {
+			MethodWrapper[] roots= CallHierarchyCore.getDefault().getCallerRoots(new IMember[] { method });
+			CallHierarchyExpander expander= new CallHierarchyExpander(DEPTH, Integer.MAX_VALUE, parallelism);
+			joinBackgroudActivities();
+			startMeasuring();
+			int expanded= expander.expand(roots, (parent, calls) -> {
+				// measure the searches only
+			}, new NullProgressMonitor());
+			stopMeasuring();
+			assertTrue(expanded > 0 && expanded <= count);
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static IMethod getMethod() throws Exception {
+		IType type= MyTestSetup.fJProject1.findType("junit.framework.Assert");
+		IMethod method= type.getMethod("assertTrue", new String[] { "QString;", "Z" });
+		assertTrue(method.exists());
+		return method;
+	}
+
+	private static int expandCallers(IMethod method) {
+		MethodWrapper[] roots= CallHierarchyCore.getDefault().getCallerRoots(new IMember[] { method });
+		int count= 0;
+		for (MethodWrapper root : roots) {
+			count+= expand(root, DEPTH);
+		}
+		return count;
+	}
+
+	private static int expand(MethodWrapper wrapper, int depth) {
+		if (depth == 0 || wrapper.isRecursive())
+			return 0;
+		int count= 0;
+		for (MethodWrapper call : wrapper.getCalls(new NullProgressMonitor())) {
+			count+= 1 + expand(call, depth - 1);
+		}
+		return count;
+	}
+}
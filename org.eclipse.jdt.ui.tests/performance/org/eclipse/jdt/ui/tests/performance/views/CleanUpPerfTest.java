@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@
 package org.eclipse.jdt.ui.tests.performance.views;
 
 import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -136,6 +138,48 @@ public class CleanUpPerfTest extends JdtPerformanceTestCaseCommon {
 		}
 	}
 
+	/**
+	 * Samples the heap that is still in use after a garbage collection, until it is stopped.
+	 */
+	private static class PeakHeapSampler extends Thread {
+		private static final long SAMPLING_INTERVAL= 20;
+
+		private final MemoryMXBean fMemoryBean= ManagementFactory.getMemoryMXBean();
+		private volatile boolean fStopped;
+		private long fPeak;
+
+		public PeakHeapSampler() {
+			super("Peak Heap Sampler");
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			while (!fStopped) {
+				sample();
+				try {
+					Thread.sleep(SAMPLING_INTERVAL);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		}
+
+		private synchronized void sample() {
+			System.gc();
+			fPeak= Math.max(fPeak, fMemoryBean.getHeapMemoryUsage().getUsed());
+		}
+
+		/**
+		 * @return the peak of the used heap in bytes
+		 */
+		public synchronized long stopSampling() {
+			fStopped= true;
+			sample();
+			return fPeak;
+		}
+	}
+
 	@Rule
 	public MyTestSetup stup= new MyTestSetup();
 
@@ -306,6 +350,94 @@ public class CleanUpPerfTest extends JdtPerformanceTestCaseCommon {
 		doCleanUp(cleanUpRefactoring);
 	}
 
+	@Test
+	public void testParallelCodeStyleCleanUp() throws Exception {
+		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
+		cleanUpRefactoring.setParallelism(4, 10);
+		addAllCUs(cleanUpRefactoring, MyTestSetup.fJProject1.getChildren());
+
+		storeCodeStyleThisSettings();
+
+		cleanUpRefactoring.addCleanUp(new CodeStyleCleanUpCore());
+
+		doCleanUp(cleanUpRefactoring);
+	}
+
+	@Test
+	public void testStreamingCleanUp() throws Exception {
+		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
+		cleanUpRefactoring.setStreaming(10);
+		addAllCUs(cleanUpRefactoring, MyTestSetup.fJProject1.getChildren());
+
+		storeCodeStyleThisSettings();
+
+		cleanUpRefactoring.addCleanUp(new CodeStyleCleanUpCore());
+
+		doCleanUp(cleanUpRefactoring);
+	}
+
+	@Test
+	public void testStreamingCleanUpPeakHeap() throws Exception {
+		storeCodeStyleThisSettings();
+
+		long inMemory= measurePeakHeap(0);
+		long streaming= measurePeakHeap(10);
+		System.out.println("Clean up peak heap: in memory " + inMemory / 1024 + " KB, streaming " + streaming / 1024 + " KB");
+
+		Assert.assertTrue("streaming peak heap " + streaming + " exceeds in memory peak heap " + inMemory, streaming <= inMemory + inMemory / 10);
+	}
+
+	/**
+	 * Performs the code style clean up on all compilation units and measures the peak of the
+	 * heap still in use after garbage collections, including the undo change.
+	 *
+	 * @param maxRetainedUnits the maximal number of compilation units whose changes are kept in
+	 *            memory, or <code>0</code> to calculate all changes up front
+	 * @return the smallest peak heap in bytes of several runs
+	 */
+	private long measurePeakHeap(int maxRetainedUnits) throws Exception {
+		long result= Long.MAX_VALUE;
+		for (int i= 0; i < 3; i++) {
+			CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
+			cleanUpRefactoring.setStreaming(maxRetainedUnits);
+			cleanUpRefactoring.setUseOptionsFromProfile(true);
+			addAllCUs(cleanUpRefactoring, MyTestSetup.fJProject1.getChildren());
+			cleanUpRefactoring.addCleanUp(new CodeStyleCleanUpCore());
+
+			joinBackgroudActivities();
+			RefactoringCore.getUndoManager().flush();
+			System.gc();
+			PeakHeapSampler sampler= new PeakHeapSampler();
+			sampler.start();
+			PerformRefactoringOperation operation= new PerformRefactoringOperation(cleanUpRefactoring, CheckConditionsOperation.ALL_CONDITIONS);
+			try {
+				ResourcesPlugin.getWorkspace().run(operation, null);
+				result= Math.min(result, sampler.stopSampling());
+			} finally {
+				sampler.stopSampling();
+				sampler.join();
+			}
+			Assert.assertTrue(operation.getConditionStatus().getSeverity() <= IStatus.WARNING);
+			Assert.assertTrue(operation.getValidationStatus().isOK());
+
+			RefactoringCore.getUndoManager().performUndo(null, null);
+			RefactoringCore.getUndoManager().flush();
+			System.gc();
+		}
+		return result;
+	}
+
+	private static void storeCodeStyleThisSettings() throws CoreException {
+		Map<String, String> node= getNullSettings();
+
+		node.put(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS_ALWAYS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_METHOD_USE_THIS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_METHOD_USE_THIS_ALWAYS, CleanUpOptions.TRUE);
+
+		storeSettings(node);
+	}
+
 	@Test
 	public void testControlStatementsCleanUp() throws Exception {
 		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.jdt.internal.corext.util.QualifiedTypeNameHistory;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Measures the first access of a type history that is read from the xml format of older versions
+ * and from the binary format.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HistoryLoadPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final String FILE_NAME= "HistoryLoadPerfTest.xml";
+	private static final String BINARY_FILE_NAME= "HistoryLoadPerfTest.dat";
+	private static final int TYPE_COUNT= 60;
+	private static final int RUNS= 20;
+
+	private File fXmlFile;
+	private File fBinaryFile;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		IPath stateLocation= JavaPlugin.getDefault().getStateLocation();
+		fXmlFile= stateLocation.append(FILE_NAME).toFile();
+		fBinaryFile= stateLocation.append(BINARY_FILE_NAME).toFile();
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		fXmlFile.delete();
+		fBinaryFile.delete();
+		super.tearDown();
+	}
+
+	@Test
+	public void testAXmlFormat() throws Exception {
+		for (int i= 0; i < RUNS; i++) {
+			writeXmlHistory();
+			fBinaryFile.delete();
+
+			startMeasuring();
+			QualifiedTypeNameHistory history= new QualifiedTypeNameHistory(FILE_NAME);
+			assertFalse(history.isEmpty());
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	@Test
+	public void testBBinaryFormat() throws Exception {
+		writeXmlHistory();
+		QualifiedTypeNameHistory migrated= new QualifiedTypeNameHistory(FILE_NAME);
+		assertFalse(migrated.isEmpty());
+		migrated.save();
+		assertTrue(fBinaryFile.exists());
+		assertFalse(fXmlFile.exists());
+
+		for (int i= 0; i < RUNS; i++) {
+			startMeasuring();
+			QualifiedTypeNameHistory history= new QualifiedTypeNameHistory(FILE_NAME);
+			assertFalse(history.isEmpty());
+			stopMeasuring();
+			assertEquals(TYPE_COUNT - 1, history.getPosition(getTypeName(TYPE_COUNT - 1)));
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private void writeXmlHistory() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<qualifiedTypeNameHistroy>\n");
+		for (int i= 0; i < TYPE_COUNT; i++) {
+			buf.append("<fullyQualifiedTypeName name=\"").append(getTypeName(i)).append("\"/>\n");
+		}
+		buf.append("</qualifiedTypeNameHistroy>\n");
+		Files.write(fXmlFile.toPath(), buf.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String getTypeName(int i) {
+		return "org.eclipse.jdt.ui.tests.performance.history.Type" + i;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+import org.eclipse.jdt.core.manipulation.TypeNameMatchIndex;
 
 import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
 
@@ -97,8 +98,8 @@ public class OrganizeImportsPerfTest extends JdtPerformanceTestCaseCommon {
 
 	@Test
 	public void testOrganizeImport() throws Exception {
-		measure(Performance.getDefault().getNullPerformanceMeter(), 10);
-		measure(fPerformanceMeter, 10);
+		measure(Performance.getDefault().getNullPerformanceMeter(), 10, false);
+		measure(fPerformanceMeter, 10, false);
 
 		// test is too short and hence the relative numbers spread too far (but still in an acceptable absolute band)
 //		tagAsSummary("Organize Imports", Dimension.ELAPSED_PROCESS);
@@ -107,7 +108,16 @@ public class OrganizeImportsPerfTest extends JdtPerformanceTestCaseCommon {
 		Performance.getDefault().assertPerformance(fPerformanceMeter);
 	}
 
-	private void measure(PerformanceMeter performanceMeter, int runs) throws Exception {
+	@Test
+	public void testOrganizeImportWithIndex() throws Exception {
+		measure(Performance.getDefault().getNullPerformanceMeter(), 10, true);
+		measure(fPerformanceMeter, 10, true);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, boolean useIndex) throws Exception {
 		for (int j= 0; j < runs; j++) {
 			List<IJavaElement> cusList= new ArrayList<>();
 			addAllCUs(MyTestSetup.fJProject1.getChildren(), cusList);
@@ -117,8 +127,10 @@ public class OrganizeImportsPerfTest extends JdtPerformanceTestCaseCommon {
 			joinBackgroudActivities();
 
 			performanceMeter.start();
+			TypeNameMatchIndex index= useIndex ? new TypeNameMatchIndex() : null;
 			for (int i= 0; i < roots.length; i++) {
 				OrganizeImportsOperation op= new OrganizeImportsOperation(cus[i], roots[i], true, true, true, null);
+				op.setTypeNameMatchIndex(index);
 				op.run(new NullProgressMonitor());
 			}
 			performanceMeter.stop();
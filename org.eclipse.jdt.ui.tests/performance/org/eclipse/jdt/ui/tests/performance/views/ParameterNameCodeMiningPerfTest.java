@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaMethodParameterCodeMiningCollector;
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaMethodParameterCodeMiningProvider;
+
+/**
+ * Measures the parameter name code minings of a large generated compilation unit after a change
+ * inside a method body, with a complete parse and with the incremental collection.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ParameterNameCodeMiningPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int METHODS= 500;
+	private static final int CALLS= 10;
+	private static final int RUNS= 20;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static IJavaProject fJProject1;
+		public static ICompilationUnit fUnit;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+			IPackageFragment pack= root.createPackageFragment("p", true, null);
+			fUnit= pack.createCompilationUnit("Large.java", createSource(), true, null);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+
+		private static String createSource() {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package p;\n");
+			buf.append("public class Large {\n");
+			buf.append("    int sum(int first, int second, int third) {\n");
+			buf.append("        return first + second + third;\n");
+			buf.append("    }\n");
+			for (int i= 0; i < METHODS; i++) {
+				buf.append("    void m").append(i).append("() {\n");
+				for (int j= 0; j < CALLS; j++) {
+					buf.append("        sum(").append(i).append(", ").append(j).append(", ").append(i + j).append(");\n");
+				}
+				buf.append("    }\n");
+			}
+			buf.append("}\n");
+			return buf.toString();
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testAFullParse() throws Exception {
+		ICompilationUnit unit= MyTestSetup.fUnit;
+		unit.becomeWorkingCopy(null);
+		try {
+			for (int i= 0; i < RUNS; i++) {
+				editMethodBody(unit, i);
+				JavaMethodParameterCodeMiningCollector collector= new JavaMethodParameterCodeMiningCollector(new JavaMethodParameterCodeMiningProvider());
+				joinBackgroudActivities();
+				startMeasuring();
+				collector.collect(unit, null);
+				stopMeasuring();
+				assertEquals(1, collector.getFullParseCount());
+				collector.dispose();
+			}
+		} finally {
+			unit.discardWorkingCopy();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	@Test
+	public void testBIncremental() throws Exception {
+		ICompilationUnit unit= MyTestSetup.fUnit;
+		unit.becomeWorkingCopy(null);
+		JavaMethodParameterCodeMiningCollector collector= new JavaMethodParameterCodeMiningCollector(new JavaMethodParameterCodeMiningProvider());
+		try {
+			collector.collect(unit, null);
+			for (int i= 0; i < RUNS; i++) {
+				editMethodBody(unit, i);
+				joinBackgroudActivities();
+				startMeasuring();
+				collector.collect(unit, null);
+				stopMeasuring();
+			}
+			assertEquals(RUNS, collector.getIncrementalCount());
+		} finally {
+			collector.dispose();
+			unit.discardWorkingCopy();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static void editMethodBody(ICompilationUnit unit, int run) throws CoreException {
+		String method= "void m" + (METHODS / 2) + "() {\n";
+		int offset= unit.getSource().indexOf(method) + method.length();
+		unit.getBuffer().replace(offset, 0, "        sum(" + run + ", 0, 0);\n");
+	}
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.internal.junit.model.ITestRunListener2;
+import org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.MessageSender;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures the time until a {@link RemoteTestRunnerClient} has received a large test run in the
+ * text and in the binary protocol, and reports the events per second of both sides.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RemoteTestRunnerProtocolPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int TEST_COUNT= 50000;
+	private static final int RUNS= 10;
+
+	private static class EndListener implements ITestRunListener2 {
+		final CountDownLatch fRunEnded= new CountDownLatch(1);
+		int fEnded;
+
+		@Override
+		public void testRunStarted(int testCount) {
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			fRunEnded.countDown();
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			fRunEnded.countDown();
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			fEnded++;
+		}
+
+		@Override
+		public void testRunTerminated() {
+			fRunEnded.countDown();
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+		}
+	}
+
+	@Test
+	public void testATextProtocol() throws Exception {
+		measureProtocol(false);
+	}
+
+	@Test
+	public void testBBinaryProtocol() throws Exception {
+		measureProtocol(true);
+	}
+
+	private void measureProtocol(boolean binary) throws Exception {
+		runProtocol(binary, false);
+		for (int i= 0; i < RUNS; i++) {
+			runProtocol(binary, true);
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private void runProtocol(boolean binary, boolean measure) throws Exception {
+		EndListener listener= new EndListener();
+		RemoteTestRunnerClient client= new RemoteTestRunnerClient();
+		ServerSocket serverSocket= new ServerSocket(0);
+		client.startListening(new ITestRunListener2[] { listener }, serverSocket);
+
+		try (Socket socket= new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort())) {
+			BinaryMessageWriter binaryWriter= null;
+			MessageSender sender;
+			if (binary) {
+				binaryWriter= new BinaryMessageWriter(socket.getOutputStream());
+				sender= binaryWriter;
+			} else {
+				PrintWriter writer= new PrintWriter(new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)), false);
+				sender= new MessageSender() {
+					@Override
+					public void sendMessage(String message) {
+						writer.println(message);
+					}
+
+					@Override
+					public void flush() {
+						writer.flush();
+					}
+				};
+			}
+
+			if (measure)
+				startMeasuring();
+			long start= System.nanoTime();
+			sender.sendMessage(MessageIds.TEST_RUN_START + TEST_COUNT + " v2");
+			sender.sendMessage(MessageIds.TEST_TREE + "1,p.ATest,true," + TEST_COUNT + ",false,-1,ATest,,");
+			for (int i= 2; i < TEST_COUNT + 2; i++) {
+				sender.sendMessage(MessageIds.TEST_TREE + i + ",test[" + i + "](p.ATest),false,1,false,-1,test[" + i + "],,");
+			}
+			for (int i= 2; i < TEST_COUNT + 2; i++) {
+				// the flush points of FirstRunExecutionListener
+				String test= i + ",test[" + i + "](p.ATest)";
+				sender.sendMessage(MessageIds.TEST_START + test);
+				sender.flush();
+				sender.sendMessage(MessageIds.TEST_END + test);
+				sender.flush();
+			}
+			sender.sendMessage(MessageIds.TEST_RUN_END + 1);
+			sender.flush();
+			long sent= System.nanoTime();
+
+			assertTrue("test run did not end", listener.fRunEnded.await(5, TimeUnit.MINUTES));
+			long received= System.nanoTime();
+			if (measure) {
+				stopMeasuring();
+				int events= 3 * TEST_COUNT + 3;
+				System.out.println((binary ? "binary" : "text") + " protocol: sent " + eventsPerSecond(events, sent - start)
+						+ " events/s, received " + eventsPerSecond(events, received - start) + " events/s");
+			}
+			if (binaryWriter != null) {
+				assertNull(binaryWriter.getError());
+				binaryWriter.close();
+			}
+		} finally {
+			client.stopWaiting();
+		}
+		assertEquals(TEST_COUNT, listener.fEnded);
+	}
+
+	private static long eventsPerSecond(int events, long nanos) {
+		return events * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+	}
+}
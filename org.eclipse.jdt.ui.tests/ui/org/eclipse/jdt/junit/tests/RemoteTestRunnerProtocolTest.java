@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.ITestRunListener2;
+import org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.MessageSender;
+
+/**
+ * Sends a large synthetic test run to a {@link RemoteTestRunnerClient} in the text and in the
+ * binary protocol, flushing after every test event like the runner does, and checks that the
+ * binary protocol batches the records of many tests. The binary writer is created without a flush
+ * timer, so that the number of writes does not depend on the speed of the machine.
+ */
+public class RemoteTestRunnerProtocolTest {
+
+	private static final int TEST_COUNT= 50000;
+
+	private static final String TRACE= "java.lang.AssertionError: expected:<1> but was:<2>\n\tat p.ATest.test(ATest.java:12)\n";
+
+	private static class CountingListener implements ITestRunListener2 {
+		final CountDownLatch fRunEnded= new CountDownLatch(1);
+		int fTreeEntries;
+		int fStarted;
+		int fEnded;
+		int fFailed;
+		String fLastName;
+		String fTrace;
+
+		@Override
+		public void testRunStarted(int testCount) {
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			fRunEnded.countDown();
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			fRunEnded.countDown();
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			fStarted++;
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			fEnded++;
+			fLastName= testName;
+		}
+
+		@Override
+		public void testRunTerminated() {
+			fRunEnded.countDown();
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			fTreeEntries++;
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			fFailed++;
+			fTrace= trace;
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+		}
+	}
+
+	/**
+	 * Counts the writes and flushes that reach the socket, until the counting is stopped.
+	 */
+	private static class CountingOutputStream extends FilterOutputStream {
+		final AtomicInteger fWrites= new AtomicInteger();
+		final AtomicInteger fFlushes= new AtomicInteger();
+		private volatile boolean fCounting= true;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (fCounting)
+				fWrites.incrementAndGet();
+			out.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (fCounting)
+				fWrites.incrementAndGet();
+			out.write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (fCounting)
+				fFlushes.incrementAndGet();
+			out.flush();
+		}
+
+		void stopCounting() {
+			fCounting= false;
+		}
+	}
+
+	@Test
+	public void textProtocol() throws Exception {
+		List<String> messages= createMessages();
+		CountingOutputStream stream= runProtocol(messages, false);
+		assertEquals(getFlushPoints(messages), stream.fFlushes.get());
+	}
+
+	@Test
+	public void binaryProtocol() throws Exception {
+		List<String> messages= createMessages();
+		CountingOutputStream stream= runProtocol(messages, true);
+		int expected= getExpectedBinaryFlushes(messages);
+		assertEquals(expected, stream.fWrites.get());
+		assertEquals(expected, stream.fFlushes.get());
+		assertTrue("flushes: " + expected, expected < TEST_COUNT / 100);
+	}
+
+	/**
+	 * Creates the messages of a test run, with <code>null</code> at the flush points of
+	 * FirstRunExecutionListener.
+	 */
+	private static List<String> createMessages() {
+		List<String> messages= new ArrayList<>();
+		messages.add(MessageIds.TEST_RUN_START + TEST_COUNT + " v2");
+		messages.add(MessageIds.TEST_TREE + "1,p.ATest,true," + TEST_COUNT + ",false,-1,ATest,,");
+		for (int i= 2; i < TEST_COUNT + 2; i++) {
+			messages.add(MessageIds.TEST_TREE + i + ",test[" + i + "](p.ATest),false,1,false,-1,test[" + i + "],,");
+		}
+		for (int i= 2; i < TEST_COUNT + 2; i++) {
+			String test= i + ",test[" + i + "](p.ATest)";
+			messages.add(MessageIds.TEST_START + test);
+			messages.add(null);
+			if (i == 2) {
+				messages.add(MessageIds.TEST_FAILED + test);
+				messages.add(MessageIds.TRACE_START);
+				messages.add(TRACE);
+				messages.add(MessageIds.TRACE_END);
+				messages.add(null);
+			}
+			messages.add(MessageIds.TEST_END + test);
+			messages.add(null);
+		}
+		messages.add(MessageIds.TEST_RUN_END + 1);
+		messages.add(null);
+		return messages;
+	}
+
+	private static int getFlushPoints(List<String> messages) {
+		int result= 0;
+		for (String message : messages) {
+			if (message == null)
+				result++;
+		}
+		return result;
+	}
+
+	/**
+	 * Computes how often a binary writer without flush timer sends its buffer: after the
+	 * announcement, whenever the records reach {@link BinaryMessageWriter#FLUSH_THRESHOLD} bytes,
+	 * and at the end of the run. The sizes of the records follow the format described in
+	 * {@link BinaryMessageWriter}.
+	 */
+	private static int getExpectedBinaryFlushes(List<String> messages) {
+		Set<String> definedArguments= new HashSet<>();
+		int flushes= 1;
+		int pending= 0;
+		for (String message : messages) {
+			if (message == null)
+				continue;
+			int opcode= BinaryMessageWriter.getOpcode(message);
+			pending++;
+			if (opcode == BinaryMessageWriter.RAW) {
+				pending+= 4 + message.getBytes(StandardCharsets.UTF_8).length;
+			} else {
+				String argument= message.substring(MessageIds.MSG_HEADER_LENGTH);
+				pending+= 4;
+				if (!BinaryMessageWriter.isShared(opcode) || definedArguments.add(argument))
+					pending+= 4 + argument.getBytes(StandardCharsets.UTF_8).length;
+			}
+			if (message.startsWith(MessageIds.TEST_RUN_END) || pending >= BinaryMessageWriter.FLUSH_THRESHOLD) {
+				flushes++;
+				pending= 0;
+			}
+		}
+		return flushes;
+	}
+
+	private CountingOutputStream runProtocol(List<String> messages, boolean binary) throws Exception {
+		CountingListener listener= new CountingListener();
+		RemoteTestRunnerClient client= new RemoteTestRunnerClient();
+		ServerSocket serverSocket= new ServerSocket(0);
+		client.startListening(new ITestRunListener2[] { listener }, serverSocket);
+
+		CountingOutputStream stream;
+		try (Socket socket= new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort())) {
+			stream= new CountingOutputStream(socket.getOutputStream());
+			BinaryMessageWriter binaryWriter= null;
+			MessageSender sender;
+			if (binary) {
+				binaryWriter= new BinaryMessageWriter(stream, 0);
+				sender= binaryWriter;
+			} else {
+				PrintWriter writer= new PrintWriter(new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8)), false);
+				sender= new MessageSender() {
+					@Override
+					public void sendMessage(String message) {
+						writer.println(message);
+					}
+
+					@Override
+					public void flush() {
+						writer.flush();
+					}
+				};
+			}
+
+			for (String message : messages) {
+				if (message == null)
+					sender.flush();
+				else
+					sender.sendMessage(message);
+			}
+
+			assertTrue("test run did not end", listener.fRunEnded.await(5, TimeUnit.MINUTES));
+			stream.stopCounting();
+			if (binaryWriter != null) {
+				assertNull(binaryWriter.getError());
+				binaryWriter.close();
+			}
+		} finally {
+			client.stopWaiting();
+		}
+
+		assertEquals(TEST_COUNT + 1, listener.fTreeEntries);
+		assertEquals(TEST_COUNT, listener.fStarted);
+		assertEquals(TEST_COUNT, listener.fEnded);
+		assertEquals("test[" + (TEST_COUNT + 1) + "](p.ATest)", listener.fLastName);
+		assertEquals(1, listener.fFailed);
+		assertTrue(listener.fTrace, listener.fTrace.startsWith(TRACE));
+		return stream;
+	}
+}
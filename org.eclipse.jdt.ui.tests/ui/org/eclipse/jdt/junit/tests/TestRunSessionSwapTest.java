@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.parsers.SAXParserFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestRoot;
+import org.eclipse.jdt.internal.junit.model.TestRunHandler;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Tests that the failure traces of a test run session survive swapping the session out and in.
+ */
+public class TestRunSessionSwapTest {
+
+	private static final String TRACE= """
+		junit.framework.ComparisonFailure: expected:<[Hello]> but was:<[World]>
+			at pack.Failures.compareTheStuff(Failures.java:12)
+		""";
+
+	private static final String XML= """
+		<?xml version="1.0" encoding="UTF-8"?>
+		<testrun name="Failures" project="JUnitTests" tests="2" started="2" failures="2" errors="0" ignored="0">
+		  <testsuite name="pack.Failures" time="0.0">
+		    <testcase name="compareTheStuff" classname="pack.Failures" time="0.0">
+		      <failure>%s<expected>Hello</expected><actual>World</actual></failure>
+		    </testcase>
+		    <testcase name="failTheStuff" classname="pack.Failures" time="0.0">
+		      <failure>junit.framework.AssertionFailedError</failure>
+		    </testcase>
+		  </testsuite>
+		</testrun>
+		""".formatted(TRACE);
+
+	private TestRunSession fSession;
+
+	@Before
+	public void setUp() throws Exception {
+		TestRunHandler handler= new TestRunHandler();
+		SAXParserFactory.newInstance().newSAXParser().parse(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)), handler);
+		fSession= handler.getTestRunSession();
+	}
+
+	@After
+	public void tearDown() {
+		fSession.removeSwapFile();
+	}
+
+	private TestElement getTestCase(String name) {
+		TestSuiteElement suite= (TestSuiteElement) fSession.getTestRoot().getChildren()[0];
+		for (ITestElement child : suite.getChildren()) {
+			TestElement testCase= (TestElement) child;
+			if (name.equals(testCase.getTestName()))
+				return testCase;
+		}
+		throw new AssertionError("test case not found: " + name);
+	}
+
+	private void swapOutAndIn() {
+		TestRoot root= fSession.getTestRoot();
+		fSession.swapOut();
+		assertNotSame("the session has not been swapped out", root, fSession.getTestRoot());
+	}
+
+	@Test
+	public void testFailureTraceAfterSwapIn() throws Exception {
+		TestElement comparison= getTestCase("compareTheStuff");
+		String trace= comparison.getTrace();
+		assertTrue(trace, trace.contains("ComparisonFailure"));
+		String failure= getTestCase("failTheStuff").getTrace();
+
+		swapOutAndIn();
+
+		TestElement swappedIn= getTestCase("compareTheStuff");
+		assertNotSame(comparison, swappedIn);
+		assertEquals(trace, swappedIn.getTrace());
+		assertEquals("Hello", swappedIn.getExpected());
+		assertEquals("World", swappedIn.getActual());
+		assertTrue(swappedIn.isComparisonFailure());
+		assertEquals(failure, getTestCase("failTheStuff").getTrace());
+	}
+
+	@Test
+	public void testFailureTraceAfterSwapFileRemoved() throws Exception {
+		String trace= getTestCase("compareTheStuff").getTrace();
+
+		swapOutAndIn();
+		fSession.removeSwapFile();
+
+		TestElement swappedIn= getTestCase("compareTheStuff");
+		assertEquals(trace, swappedIn.getTrace());
+		assertEquals("Hello", swappedIn.getExpected());
+		assertEquals("World", swappedIn.getActual());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,9 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -41,12 +44,15 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 
 /**
  * Tests the AST provider.
@@ -112,6 +118,7 @@ public class ASTProviderTest extends CoreTests {
 
 	@After
 	public void tearDown() throws Exception {
+		JavaPlugin.getActivePage().closeAllEditors(false);
 		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
 	}
 
@@ -142,6 +149,86 @@ public class ASTProviderTest extends CoreTests {
 		cu.getBuffer().save(null, true);
 	}
 
+	@Test
+	public void testASTFuture() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("E1.java", str, false, null);
+
+		CompilationUnit ast= SharedASTProviderCore.getASTFuture(cu).get(30, TimeUnit.SECONDS);
+		assertNotNull(ast);
+		assertEquals(str, ast.toString());
+
+		JavaUI.openInEditor(cu);
+
+		ast= SharedASTProviderCore.getASTFuture(cu).get(30, TimeUnit.SECONDS);
+		assertNotNull(ast);
+		assertEquals(cu.getBuffer().getContents(), ast.toString());
+	}
+
+	@Test
+	public void testRecentAST() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", str, false, null);
+		String str2= """
+			package test1;
+			public class E2 {
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", str2, false, null);
+
+		CoreASTProvider.getInstance().setRecentASTCacheSize(3);
+		try {
+			JavaUI.openInEditor(cu1);
+			assertNotNull(SharedASTProviderCore.getAST(cu1, SharedASTProviderCore.WAIT_YES, null));
+			assertNull(SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_NO, null));
+
+			JavaUI.openInEditor(cu2);
+			assertEquals(cu2, CoreASTProvider.getInstance().getActiveJavaElement());
+
+			CompilationUnit ast= SharedASTProviderCore.getAST(cu1, SharedASTProviderCore.WAIT_NO, null);
+			assertNotNull(ast);
+			assertEquals(str, ast.toString());
+		} finally {
+			CoreASTProvider.getInstance().setRecentASTCacheSize(0);
+		}
+	}
+
+	@Test
+	public void testNoRecentASTByDefault() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", str, false, null);
+		String str2= """
+			package test1;
+			public class E2 {
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", str2, false, null);
+
+		JavaUI.openInEditor(cu1);
+		assertNotNull(SharedASTProviderCore.getAST(cu1, SharedASTProviderCore.WAIT_YES, null));
+
+		JavaUI.openInEditor(cu2);
+		assertEquals(cu2, CoreASTProvider.getInstance().getActiveJavaElement());
+
+		assertNull(SharedASTProviderCore.getAST(cu1, SharedASTProviderCore.WAIT_NO, null));
+		assertNull(SharedASTProviderCore.getAST(cu1, SharedASTProviderCore.WAIT_ACTIVE_ONLY, null));
+	}
+
 	private static String getNormalizeNumber(int number) {
 		if (number < 10) {
 			return "000" + number;
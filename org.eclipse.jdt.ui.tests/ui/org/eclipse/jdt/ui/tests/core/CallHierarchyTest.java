@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,7 +22,9 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Before;
@@ -36,6 +38,9 @@ import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyExpander;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyIndex;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -523,6 +528,90 @@ public class CallHierarchyTest {
 		checkCalls(component, expectedCaller);
     }
 
+    @Test
+    public void indexedCallers() throws Exception {
+        helper.createSimpleClasses();
+
+        CallHierarchyIndex index= CallHierarchyCore.getDefault().getIndex();
+        assertNotNull(index);
+        index.clear();
+
+        IMethod method= helper.getMethod1();
+        Collection<IMember> expectedMethods= new ArrayList<>();
+        expectedMethods.add(helper.getMethod2());
+        expectedMethods.add(helper.getMethod3());
+
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+        assertEquals(0, index.getHits());
+
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+        assertEquals(1, index.getHits());
+
+        IMethod method5= helper.getType2().createMethod("public void method5() { method1(); }\n", null, true, null);
+        expectedMethods.add(method5);
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+        assertEquals(1, index.getHits());
+    }
+
+    @Test
+    public void indexedCallees() throws Exception {
+        helper.createSimpleClasses();
+
+        CallHierarchyIndex index= CallHierarchyCore.getDefault().getIndex();
+        assertNotNull(index);
+        index.clear();
+
+        IMethod method= helper.getMethod3();
+        Collection<IMember> expectedMethods= new ArrayList<>();
+        expectedMethods.add(helper.getMethod1());
+        expectedMethods.add(helper.getMethod2());
+
+        helper.assertCalls(expectedMethods, getSingleCalleeRoot(method).getCalls(new NullProgressMonitor()));
+        helper.assertCalls(expectedMethods, getSingleCalleeRoot(method).getCalls(new NullProgressMonitor()));
+        assertEquals(1, index.getHits());
+
+        helper.getMethod2().delete(true, null);
+        expectedMethods.remove(helper.getMethod2());
+        helper.assertCalls(expectedMethods, getSingleCalleeRoot(method).getCalls(new NullProgressMonitor()));
+        assertEquals(1, index.getHits());
+    }
+
+    @Test
+    public void parallelExpansion() throws Exception {
+        helper.createSimpleClasses();
+
+        Map<IMember, MethodWrapper[]> found= new HashMap<>();
+        CallHierarchyExpander expander= new CallHierarchyExpander(10, 100, 2);
+        int count= expander.expand(new MethodWrapper[] { getSingleCallerRoot(helper.getMethod1()) }, (parent, calls) -> {
+            assertFalse("expanded twice: " + parent.getName(), found.containsKey(parent.getMember()));
+            found.put(parent.getMember(), calls);
+        }, new NullProgressMonitor());
+
+        assertEquals(4, count);
+        assertFalse(expander.isBudgetExhausted());
+        helper.assertCalls(new IMember[] { helper.getMethod2(), helper.getMethod3() }, found.get(helper.getMethod1()));
+        helper.assertCalls(new IMember[] { helper.getMethod3() }, found.get(helper.getMethod2()));
+        helper.assertCalls(new IMember[] { helper.getMethod4() }, found.get(helper.getMethod3()));
+        helper.assertCalls(new IMember[0], found.get(helper.getMethod4()));
+    }
+
+    @Test
+    public void parallelExpansionLimits() throws Exception {
+        helper.createSimpleClasses();
+
+        CallHierarchyExpander expander= new CallHierarchyExpander(1, 100, 2);
+        assertEquals(2, expander.expand(new MethodWrapper[] { getSingleCallerRoot(helper.getMethod1()) }, (parent, calls) -> {
+            assertEquals(1, parent.getLevel());
+        }, new NullProgressMonitor()));
+        assertFalse(expander.isBudgetExhausted());
+
+        expander= new CallHierarchyExpander(10, 2, 2);
+        assertEquals(2, expander.expand(new MethodWrapper[] { getSingleCallerRoot(helper.getMethod1()) }, (parent, calls) -> {
+            // only the root is expanded
+        }, new NullProgressMonitor()));
+        assertTrue(expander.isBudgetExhausted());
+    }
+
     private void checkCalls(IMember memberToCheck, IMethod... expectedCallers) {
         MethodWrapper[] methodWrappers = CallHierarchy.getDefault().getCallerRoots(new IMember[] { memberToCheck });
         MethodWrapper[] callers = methodWrappers[0].getCalls(new NullProgressMonitor());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,8 @@ PartialASTTest.class,
 ScopeAnalyzerTest.class,
 TemplateStoreTest.class,
 TypeHierarchyTest.class,
+SuperTypeHierarchyCacheTest.class,
+ProblemSeverityIndexTest.class,
 TypeHierarchyViewPartTest.class,
 TypeRulesTest.class,
 TypeInfoTest.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
+import org.eclipse.jdt.core.manipulation.TypeNameMatchIndex;
 import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.ui.JavaUI;
@@ -465,6 +466,60 @@ public class ImportOrganizeTest extends CoreTests {
 		assertEqualString(cu.getSource(), str1);
 	}
 
+	@Test
+	public void testTypeNameMatchIndex() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class List {
+			}
+			""";
+		pack1.createCompilationUnit("List.java", str, false, null);
+
+		IPackageFragment pack2= sourceFolder.createPackageFragment("test2", false, null);
+		str= """
+			package test2;
+			public class C extends Vector {
+				List list;
+			}
+			""";
+		ICompilationUnit cu1= pack2.createCompilationUnit("C.java", str, false, null);
+		str= """
+			package test2;
+			public class D {
+				Vector vector;
+				Map map;
+			}
+			""";
+		ICompilationUnit cu2= pack2.createCompilationUnit("D.java", str, false, null);
+
+		TypeNameMatchIndex index= new TypeNameMatchIndex();
+		String[] order= new String[0];
+
+		IChooseImportQuery query= createQuery("C", new String[] { "test1.List" }, new int[] { 2 });
+		OrganizeImportsOperation op= createOperation(cu1, order, 99, false, true, true, query);
+		op.setTypeNameMatchIndex(index);
+		op.run(null);
+
+		query= createQuery("D", new String[] {}, new int[] {});
+		op= createOperation(cu2, order, 99, false, true, true, query);
+		op.setTypeNameMatchIndex(index);
+		op.run(null);
+
+		assertImports(cu1, new String[] {
+			"java.util.Vector",
+			"test1.List"
+		});
+		assertImports(cu2, new String[] {
+			"java.util.Map",
+			"java.util.Vector"
+		});
+		assertEquals(1, index.getSearchCount());
+		assertEquals(4, index.getLookupCount());
+	}
+
 	@Test
 	public void testReplaceImports() throws Exception {
 		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityIndex;
+
+public class ProblemSeverityIndexTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJavaProject;
+	private IPackageFragmentRoot fSourceFolder;
+	private ProblemSeverityIndex fIndex;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= pts.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		fIndex= new ProblemSeverityIndex();
+		JavaPlugin.getWorkspace().addResourceChangeListener(fIndex, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaPlugin.getWorkspace().removeResourceChangeListener(fIndex);
+		JavaProjectHelper.clear(fJavaProject, pts.getDefaultClasspath());
+	}
+
+	private static IMarker createProblem(IResource resource, int severity) throws Exception {
+		IMarker marker= resource.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		return marker;
+	}
+
+	@Test
+	public void severities() throws Exception {
+		IPackageFragment pack= fSourceFolder.createPackageFragment("pack1", true, null);
+		IPackageFragment subPack= fSourceFolder.createPackageFragment("pack1.sub", true, null);
+		ICompilationUnit a= pack.createCompilationUnit("A.java", "package pack1;\npublic class A {\n}\n", true, null);
+		ICompilationUnit b= subPack.createCompilationUnit("B.java", "package pack1.sub;\npublic class B {\n}\n", true, null);
+		IResource project= fJavaProject.getResource();
+
+		assertEquals(-1, fIndex.getMaxSeverity(project, IResource.DEPTH_INFINITE));
+		assertEquals(-1, fIndex.getPackageSeverity(pack));
+
+		IMarker warning= createProblem(a.getResource(), IMarker.SEVERITY_WARNING);
+		IMarker error= createProblem(b.getResource(), IMarker.SEVERITY_ERROR);
+		assertEquals(IMarker.SEVERITY_ERROR, fIndex.getMaxSeverity(project, IResource.DEPTH_INFINITE));
+		assertEquals(IMarker.SEVERITY_WARNING, fIndex.getMaxSeverity(a.getResource(), IResource.DEPTH_ZERO));
+		assertEquals(IMarker.SEVERITY_WARNING, fIndex.getPackageSeverity(pack));
+		assertEquals(IMarker.SEVERITY_ERROR, fIndex.getPackageSeverity(subPack));
+
+		// answered from the index
+		int computeCount= fIndex.getComputeCount();
+		assertEquals(IMarker.SEVERITY_ERROR, fIndex.getMaxSeverity(project, IResource.DEPTH_INFINITE));
+		assertEquals(IMarker.SEVERITY_WARNING, fIndex.getPackageSeverity(pack));
+		assertEquals(computeCount, fIndex.getComputeCount());
+
+		error.delete();
+		assertEquals(IMarker.SEVERITY_WARNING, fIndex.getMaxSeverity(project, IResource.DEPTH_INFINITE));
+		assertEquals(-1, fIndex.getPackageSeverity(subPack));
+
+		warning.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+		assertEquals(IMarker.SEVERITY_INFO, fIndex.getMaxSeverity(project, IResource.DEPTH_INFINITE));
+		assertEquals(IMarker.SEVERITY_INFO, fIndex.getPackageSeverity(pack));
+
+		createProblem(b.getResource(), IMarker.SEVERITY_ERROR);
+		assertEquals(IMarker.SEVERITY_ERROR, fIndex.getMaxSeverity(project, IResource.DEPTH_INFINITE));
+		assertEquals(IMarker.SEVERITY_INFO, fIndex.getPackageSeverity(pack));
+
+		b.delete(true, null);
+		assertEquals(IMarker.SEVERITY_INFO, fIndex.getMaxSeverity(project, IResource.DEPTH_INFINITE));
+		assertEquals(-1, fIndex.getPackageSeverity(subPack));
+	}
+}
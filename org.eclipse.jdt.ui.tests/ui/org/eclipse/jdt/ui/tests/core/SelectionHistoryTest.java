@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.fail;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -116,10 +118,12 @@ public class SelectionHistoryTest {
 			super("");
 		}
 		@Override
-		protected void setAttributes(Object object, Element element) {}
-		@Override
 		protected String createFromElement(Element type) {return null;}
 		@Override
+		protected void write(String object, DataOutputStream out) {}
+		@Override
+		protected String read(DataInputStream in) {return null;}
+		@Override
 		protected String getKey(String object) {return object;}
 
 	}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class SuperTypeHierarchyCacheTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJavaProject;
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= pts.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		fPackage= root.createPackageFragment("pack1", true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SuperTypeHierarchyCache.setCacheLimits(32, 20000);
+		JavaProjectHelper.clear(fJavaProject, pts.getDefaultClasspath());
+	}
+
+	private IType createType(String name, String declaration) throws Exception {
+		ICompilationUnit cu= fPackage.getCompilationUnit(name + ".java");
+		return cu.createType(declaration, null, true, null);
+	}
+
+	@Test
+	public void hitsAndMisses() throws Exception {
+		IType a= createType("A", "public class A {\n}\n");
+		IType b= createType("B", "public class B extends A {\n}\n");
+
+		int hits= SuperTypeHierarchyCache.getCacheHits();
+		int misses= SuperTypeHierarchyCache.getCacheMisses();
+
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(b);
+		assertEquals(misses + 1, SuperTypeHierarchyCache.getCacheMisses());
+
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(b));
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(a));
+		assertEquals(hits + 2, SuperTypeHierarchyCache.getCacheHits());
+		assertEquals(misses + 1, SuperTypeHierarchyCache.getCacheMisses());
+		assertTrue(SuperTypeHierarchyCache.hasInCache(a));
+	}
+
+	@Test
+	public void evictsLeastRecentlyAccessed() throws Exception {
+		SuperTypeHierarchyCache.setCacheLimits(2, 20000);
+		IType a= createType("A", "public class A {\n}\n");
+		IType b= createType("B", "public class B {\n}\n");
+		IType c= createType("C", "public class C {\n}\n");
+
+		SuperTypeHierarchyCache.getTypeHierarchy(a);
+		SuperTypeHierarchyCache.getTypeHierarchy(b);
+		int evictions= SuperTypeHierarchyCache.getCacheEvictions();
+		SuperTypeHierarchyCache.getTypeHierarchy(a);
+		SuperTypeHierarchyCache.getTypeHierarchy(c);
+
+		assertEquals(2, SuperTypeHierarchyCache.getCacheSize());
+		assertEquals(evictions + 1, SuperTypeHierarchyCache.getCacheEvictions());
+		assertTrue(SuperTypeHierarchyCache.hasInCache(a));
+		assertFalse(SuperTypeHierarchyCache.hasInCache(b));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(c));
+	}
+
+	@Test
+	public void evictsByWeight() throws Exception {
+		IType a= createType("A", "public class A {\n}\n");
+		IType b= createType("B", "public class B {\n}\n");
+
+		SuperTypeHierarchyCache.getTypeHierarchy(a);
+		SuperTypeHierarchyCache.setCacheLimits(1, 20000);
+		int weight= SuperTypeHierarchyCache.getCacheWeight();
+		SuperTypeHierarchyCache.setCacheLimits(32, weight);
+
+		SuperTypeHierarchyCache.getTypeHierarchy(b);
+
+		assertFalse(SuperTypeHierarchyCache.hasInCache(a));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(b));
+	}
+}
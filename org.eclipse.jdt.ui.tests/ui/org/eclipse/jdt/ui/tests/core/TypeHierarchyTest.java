@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,12 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
@@ -28,6 +34,7 @@ import org.eclipse.jface.text.IDocument;
 import org.eclipse.ui.IEditorPart;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
@@ -41,6 +48,7 @@ import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
 
 public class TypeHierarchyTest {
 	@Rule
@@ -268,4 +276,143 @@ public class TypeHierarchyTest {
 		assertEquals("Should contain 3 types, contains: " + allTypes.length, 3, allTypes.length);
 		assertEquals("Update count should be 1, is: " + updateCount[0], 1, updateCount[0]);
 	}
+
+	@Test
+	public void keepHierarchyOnBodyChange() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu1= pack1.createCompilationUnit("A.java", "package pack1;\npublic class A {\n}\n", true, null);
+		ICompilationUnit cu2= pack1.createCompilationUnit("B.java", "package pack1;\npublic class B extends A {\n    void foo() {\n    }\n}\n", true, null);
+		ICompilationUnit cu3= pack1.createCompilationUnit("C.java", "package pack1;\npublic class C {\n}\n", true, null);
+		IType typeA= cu1.getType("A");
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		List<IType[]> changes= new ArrayList<>();
+		lifeCycle.addChangedListener((typeHierarchyProvider, changedTypes) -> changes.add(changedTypes));
+		try {
+			lifeCycle.doHierarchyRefresh(new IJavaElement[] { typeA }, null);
+			ITypeHierarchy hierarchy= lifeCycle.getHierarchy();
+			assertEquals(1, hierarchy.getAllSubtypes(typeA).length);
+
+			// a changed method body keeps the hierarchy
+			cu2.getBuffer().setContents("package pack1;\npublic class B extends A {\n    void foo() {\n        foo();\n    }\n}\n");
+			cu2.save(null, true);
+			assertEquals(1, lifeCycle.getKeptHierarchyCount());
+			assertSame(hierarchy, lifeCycle.getHierarchy());
+			assertEquals(1, changes.size());
+			assertEquals(cu2.getType("B"), changes.get(0)[0]);
+
+			// the hierarchy does not report changes again, later deltas are analyzed as well
+			cu2.getBuffer().setContents("package pack1;\npublic class B extends A {\n    void foo() {\n        foo();\n        foo();\n    }\n}\n");
+			cu2.save(null, true);
+			assertSame(hierarchy, lifeCycle.getHierarchy());
+			assertEquals(2, changes.size());
+			assertEquals(cu2.getType("B"), changes.get(1)[0]);
+
+			// a new subtype needs a new hierarchy
+			cu3.getBuffer().setContents("package pack1;\npublic class C extends A {\n}\n");
+			cu3.save(null, true);
+			assertEquals(1, lifeCycle.getKeptHierarchyCount());
+			assertNull(changes.get(changes.size() - 1));
+
+			lifeCycle.doHierarchyRefresh(new IJavaElement[] { typeA }, null);
+			assertEquals(2, lifeCycle.getComputedHierarchyCount());
+			assertNotSame(hierarchy, lifeCycle.getHierarchy());
+			assertEquals(2, lifeCycle.getHierarchy().getAllSubtypes(typeA).length);
+		} finally {
+			lifeCycle.freeHierarchy();
+		}
+	}
+
+	@Test
+	public void refreshHierarchyOnImportChange() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+		IPackageFragment pack2= root1.createPackageFragment("pack2", true, null);
+		IPackageFragment pack3= root1.createPackageFragment("pack3", true, null);
+
+		ICompilationUnit cu1= pack1.createCompilationUnit("A.java", "package pack1;\npublic class A {\n}\n", true, null);
+		pack2.createCompilationUnit("A.java", "package pack2;\npublic class A {\n}\n", true, null);
+		ICompilationUnit cu3= pack3.createCompilationUnit("B.java", "package pack3;\nimport pack1.A;\npublic class B extends A {\n}\n", true, null);
+		IType typeA= cu1.getType("A");
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		List<IType[]> changes= new ArrayList<>();
+		lifeCycle.addChangedListener((typeHierarchyProvider, changedTypes) -> changes.add(changedTypes));
+		try {
+			lifeCycle.doHierarchyRefresh(new IJavaElement[] { typeA }, null);
+			assertEquals(1, lifeCycle.getHierarchy().getAllSubtypes(typeA).length);
+
+			// the same simple name, but another super type
+			cu3.getBuffer().setContents("package pack3;\nimport pack2.A;\npublic class B extends A {\n}\n");
+			cu3.save(null, true);
+			assertEquals(0, lifeCycle.getKeptHierarchyCount());
+			assertEquals(1, changes.size());
+			assertNull(changes.get(0));
+
+			lifeCycle.doHierarchyRefresh(new IJavaElement[] { typeA }, null);
+			assertEquals(0, lifeCycle.getHierarchy().getAllSubtypes(typeA).length);
+		} finally {
+			lifeCycle.freeHierarchy();
+		}
+	}
+
+	@Test
+	public void refreshHierarchyOnShadowingType() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+		IPackageFragment pack2= root1.createPackageFragment("pack2", true, null);
+
+		pack2.createCompilationUnit("Base.java", "package pack2;\npublic class Base {\n}\n", true, null);
+		ICompilationUnit cu1= pack1.createCompilationUnit("Sub.java", "package pack1;\nimport pack2.*;\npublic class Sub extends Base {\n}\n", true, null);
+		IType typeSub= cu1.getType("Sub");
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		List<IType[]> changes= new ArrayList<>();
+		lifeCycle.addChangedListener((typeHierarchyProvider, changedTypes) -> changes.add(changedTypes));
+		try {
+			lifeCycle.doHierarchyRefresh(new IJavaElement[] { typeSub }, null);
+			assertEquals("pack2.Base", lifeCycle.getHierarchy().getSuperclass(typeSub).getFullyQualifiedName());
+
+			// a type of the own package shadows the type of the on demand import
+			pack1.createCompilationUnit("Base.java", "package pack1;\npublic class Base {\n}\n", true, null);
+			assertEquals(0, lifeCycle.getKeptHierarchyCount());
+			assertEquals(1, changes.size());
+			assertNull(changes.get(0));
+
+			lifeCycle.doHierarchyRefresh(new IJavaElement[] { typeSub }, null);
+			assertEquals("pack1.Base", lifeCycle.getHierarchy().getSuperclass(typeSub).getFullyQualifiedName());
+		} finally {
+			lifeCycle.freeHierarchy();
+		}
+	}
+
+	@Test
+	public void refreshHierarchyOnShadowedJavaLangType() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu1= pack1.createCompilationUnit("Sub.java", "package pack1;\npublic class Sub extends Exception {\n}\n", true, null);
+		IType typeSub= cu1.getType("Sub");
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		List<IType[]> changes= new ArrayList<>();
+		lifeCycle.addChangedListener((typeHierarchyProvider, changedTypes) -> changes.add(changedTypes));
+		try {
+			lifeCycle.doHierarchyRefresh(new IJavaElement[] { typeSub }, null);
+			assertEquals("java.lang.Exception", lifeCycle.getHierarchy().getSuperclass(typeSub).getFullyQualifiedName());
+
+			// a type of the own package shadows the type of java.lang
+			pack1.createCompilationUnit("Exception.java", "package pack1;\npublic class Exception {\n}\n", true, null);
+			assertEquals(0, lifeCycle.getKeptHierarchyCount());
+			assertEquals(1, changes.size());
+			assertNull(changes.get(0));
+
+			lifeCycle.doHierarchyRefresh(new IJavaElement[] { typeSub }, null);
+			assertEquals("pack1.Exception", lifeCycle.getHierarchy().getSuperclass(typeSub).getFullyQualifiedName());
+		} finally {
+			lifeCycle.freeHierarchy();
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 
+import org.eclipse.jdt.internal.ui.packageview.PackageExplorerContentProvider;
 import org.eclipse.jdt.internal.ui.util.CoreUtility;
 
 
@@ -293,6 +294,31 @@ public class ContentProviderTests3{
 	}
 
 
+	@Test
+	public void testCoalescePendingUpdates() throws Exception {
+		IElementChangedListener listener= (IElementChangedListener) fProvider;
+		IJavaElementDelta[] deltas= {
+				TestDelta.createCUDelta(new ICompilationUnit[] { fCU2, fCU3 }, fPack6, IJavaElementDelta.REMOVED),
+				TestDelta.createCUDelta(new ICompilationUnit[] { fCU2 }, fPack6, IJavaElementDelta.REMOVED),
+				TestDelta.createCUDelta(new ICompilationUnit[] { fCU2, fCU3 }, fPack6, IJavaElementDelta.REMOVED),
+				TestDelta.createCUDelta(new ICompilationUnit[] { fCU3 }, fPack6, IJavaElementDelta.REMOVED)
+		};
+
+		//send the deltas from a background thread, the updates are pending until the display runs them
+		Thread thread= new Thread(() -> {
+			for (IJavaElementDelta delta : deltas) {
+				listener.elementChanged(new ElementChangedEvent(delta, ElementChangedEvent.POST_CHANGE));
+			}
+		});
+		thread.start();
+		thread.join();
+		((PackageExplorerContentProvider) fProvider).runPendingUpdates();
+
+		// the refresh of the package covers the removes and the second refresh
+		assertEquals("One refresh", 1, fMyPart.getRefreshedObject().size()); //$NON-NLS-1$
+		assertFalse("No remove", fMyPart.hasRemoveHappened()); //$NON-NLS-1$
+	}
+
 	/*
 	 * @see TestCase#setUp()
 	 */
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
+import org.eclipse.jdt.internal.ui.fix.CodeStyleCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.ControlStatementsCleanUp;
+import org.eclipse.jdt.internal.ui.fix.ImportsCleanUp;
+import org.eclipse.jdt.internal.ui.fix.Java50CleanUp;
+import org.eclipse.jdt.internal.ui.fix.RedundantSemicolonsCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.SortMembersCleanUp;
+import org.eclipse.jdt.internal.ui.fix.StringCleanUp;
+import org.eclipse.jdt.internal.ui.fix.UnusedCodeCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.UnusedSuppressWarningsCleanUp;
+
+public class CleanUpParallelTest extends CleanUpTestCase {
+
+	private static final int UNIT_COUNT= 12;
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	@Override
+	protected IJavaProject getProject() {
+		return projectSetup.getProject();
+	}
+
+	@Override
+	protected IClasspathEntry[] getDefaultClasspath() throws CoreException {
+		return projectSetup.getDefaultClasspath();
+	}
+
+	private ICompilationUnit[] createUnits(String packageName) throws CoreException {
+		IPackageFragment pack= fSourceFolder.createPackageFragment(packageName, false, null);
+		ICompilationUnit[] result= new ICompilationUnit[UNIT_COUNT];
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			String given= """
+				package %s;
+				public class E%d {
+				    private int count;
+				    public void foo(boolean b) {
+				        if (b)
+				            count++;
+				        for (int j= 0; j < %d; j++)
+				            bar(count + j);
+				    }
+				    private int bar(int i) {
+				        return count + i;
+				    }
+				    private String name;
+				}
+				""".formatted(packageName, Integer.valueOf(i), Integer.valueOf(i));
+			result[i]= pack.createCompilationUnit("E" + i + ".java", given, false, null);
+		}
+		return result;
+	}
+
+	private ICleanUp[] createCleanUps() {
+		return new ICleanUp[] { new ControlStatementsCleanUp(), new CodeStyleCleanUpCore(), new SortMembersCleanUp() };
+	}
+
+	private void performCleanUp(ICompilationUnit[] cus, int parallelism) throws CoreException {
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setParallelism(parallelism, 3);
+		performRefactoring(ref, cus, createCleanUps(), null);
+	}
+
+	@Test
+	public void testParallelResultEqualsSequentialResult() throws Exception {
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS);
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS_ALWAYS);
+		enable(CleanUpConstants.SORT_MEMBERS);
+		enable(CleanUpConstants.SORT_MEMBERS_ALL);
+
+		assertTrue(CleanUpRefactoring.isThreadSafe(createCleanUps()));
+
+		ICompilationUnit[] sequential= createUnits("test1");
+		ICompilationUnit[] parallel= createUnits("test2");
+		String[] given= new String[UNIT_COUNT];
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			given[i]= parallel[i].getBuffer().getContents();
+		}
+
+		performCleanUp(sequential, 1);
+		performCleanUp(parallel, 4);
+
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			String expected= sequential[i].getBuffer().getContents().replace("package test1;", "package test2;");
+			String actual= parallel[i].getBuffer().getContents();
+			assertNotEquals(given[i], actual);
+			assertEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testOrganizeImportsInParallel() throws Exception {
+		enable(CleanUpConstants.ORGANIZE_IMPORTS);
+
+		assertTrue(CleanUpRefactoring.isThreadSafe(new ICleanUp[] { new ImportsCleanUp() }));
+
+		ICompilationUnit[] sequential= createImportingUnits("test1");
+		ICompilationUnit[] parallel= createImportingUnits("test2");
+
+		performImportsCleanUp(sequential, 1);
+		performImportsCleanUp(parallel, 4);
+
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			String expected= sequential[i].getBuffer().getContents().replace("package test1;", "package test2;");
+			String actual= parallel[i].getBuffer().getContents();
+			assertTrue(actual, actual.contains("import java.util.ArrayList;"));
+			assertFalse(actual, actual.contains("import java.io.File;"));
+			assertEquals(expected, actual);
+		}
+	}
+
+	private ICompilationUnit[] createImportingUnits(String packageName) throws CoreException {
+		IPackageFragment pack= fSourceFolder.createPackageFragment(packageName, false, null);
+		ICompilationUnit[] result= new ICompilationUnit[UNIT_COUNT];
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			String given= """
+				package %s;
+				import java.io.File;
+				public class E%d {
+				    public ArrayList<String> foo() {
+				        return new ArrayList<>();
+				    }
+				}
+				""".formatted(packageName, Integer.valueOf(i));
+			result[i]= pack.createCompilationUnit("E" + i + ".java", given, false, null);
+		}
+		return result;
+	}
+
+	private void performImportsCleanUp(ICompilationUnit[] cus, int parallelism) throws CoreException {
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setParallelism(parallelism, 3);
+		performRefactoring(ref, cus, new ICleanUp[] { new ImportsCleanUp() }, null);
+	}
+
+	@Test
+	public void testNotThreadSafeCleanUp() throws Exception {
+		AbstractCleanUp cleanUp= new AbstractCleanUp() {
+		};
+		assertFalse(CleanUpRefactoring.isThreadSafe(new ICleanUp[] { new ControlStatementsCleanUp(), cleanUp }));
+	}
+
+	@Test
+	public void testMultiFixesWithStateAreNotThreadSafe() throws Exception {
+		assertTrue(new Java50CleanUp().isThreadSafe());
+		assertTrue(new UnusedCodeCleanUpCore().isThreadSafe());
+
+		// these keep the unit or the fix of the last createFix call in fields
+		assertFalse(new StringCleanUp().isThreadSafe());
+		assertFalse(new UnusedSuppressWarningsCleanUp().isThreadSafe());
+		assertFalse(new RedundantSemicolonsCleanUpCore().isThreadSafe());
+		assertFalse(CleanUpRefactoring.isThreadSafe(JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps()));
+	}
+}
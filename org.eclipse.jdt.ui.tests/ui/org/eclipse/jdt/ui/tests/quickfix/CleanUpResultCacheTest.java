@@ -0,0 +1,380 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+import org.eclipse.jdt.internal.corext.fix.CleanUpResultCache;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
+import org.eclipse.jdt.internal.ui.fix.ControlStatementsCleanUp;
+import org.eclipse.jdt.internal.ui.fix.Java50CleanUp;
+import org.eclipse.jdt.internal.ui.fix.SortMembersCleanUp;
+
+public class CleanUpResultCacheTest extends CleanUpTestCase {
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	@Override
+	protected IJavaProject getProject() {
+		return projectSetup.getProject();
+	}
+
+	@Override
+	protected IClasspathEntry[] getDefaultClasspath() throws CoreException {
+		return projectSetup.getDefaultClasspath();
+	}
+
+	private static ICleanUp[] createUnitLocalCleanUps() {
+		return new ICleanUp[] { new ControlStatementsCleanUp(), new SortMembersCleanUp() };
+	}
+
+	private void performCachedCleanUp(ICompilationUnit cu) throws CoreException {
+		performCachedCleanUp(cu, createUnitLocalCleanUps());
+	}
+
+	private void performCachedCleanUp(ICompilationUnit cu, ICleanUp[] cleanUps) throws CoreException {
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setUseResultCache(true);
+		performRefactoring(ref, new ICompilationUnit[] { cu }, cleanUps, null);
+	}
+
+	@Test
+	public void testCleanUnitIsSkipped() throws Exception {
+		CleanUpResultCache cache= CleanUpResultCache.getDefault();
+		cache.clear();
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String given= """
+			package test1;
+			public class E1 {
+			    public void foo(boolean b) {
+			        if (b) {
+			            foo(false);
+			        }
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", given, false, null);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		performCachedCleanUp(cu1);
+		assertEquals(0, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.size());
+
+		performCachedCleanUp(cu1);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(given, cu1.getBuffer().getContents());
+	}
+
+	@Test
+	public void testStreamedUnitsAreRecorded() throws Exception {
+		CleanUpResultCache cache= CleanUpResultCache.getDefault();
+		cache.clear();
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String given= """
+			package test1;
+			public class E1 {
+			    public void foo(boolean b) {
+			        if (b) {
+			            foo(false);
+			        }
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", given, false, null);
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", given.replace("E1", "E2"), false, null);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setUseResultCache(true);
+		ref.setStreaming(1);
+		performRefactoring(ref, new ICompilationUnit[] { cu1, cu2 }, createUnitLocalCleanUps(), null);
+		assertEquals(2, cache.getMisses());
+		assertEquals(2, cache.size());
+
+		performCachedCleanUp(cu1);
+		assertEquals(1, cache.getHits());
+		assertEquals(given, cu1.getBuffer().getContents());
+	}
+
+	@Test
+	public void testOptionChangeInvalidates() throws Exception {
+		CleanUpResultCache cache= CleanUpResultCache.getDefault();
+		cache.clear();
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String given= """
+			package test1;
+			public class E1 {
+			    public int get() {
+			        return i;
+			    }
+			    private int i;
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", given, false, null);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		performCachedCleanUp(cu1);
+		assertEquals(1, cache.getMisses());
+		assertEquals(given, cu1.getBuffer().getContents());
+
+		enable(CleanUpConstants.SORT_MEMBERS);
+		enable(CleanUpConstants.SORT_MEMBERS_ALL);
+
+		performCachedCleanUp(cu1);
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+
+		String actual= cu1.getBuffer().getContents();
+		assertTrue(actual, actual.indexOf("private int i;") < actual.indexOf("public int get()"));
+	}
+
+	@Test
+	public void testContentChangeInvalidates() throws Exception {
+		CleanUpResultCache cache= CleanUpResultCache.getDefault();
+		cache.clear();
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String given= """
+			package test1;
+			public class E1 {
+			    public void foo(boolean b) {
+			        if (b) {
+			            foo(false);
+			        }
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", given, false, null);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		performCachedCleanUp(cu1);
+		assertEquals(1, cache.getMisses());
+
+		given= """
+			package test1;
+			public class E1 {
+			    public void foo(boolean b) {
+			        if (b)
+			            foo(false);
+			    }
+			}
+			""";
+		cu1= pack1.createCompilationUnit("E1.java", given, true, null);
+
+		performCachedCleanUp(cu1);
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+
+		String expected= """
+			package test1;
+			public class E1 {
+			    public void foo(boolean b) {
+			        if (b) {
+			            foo(false);
+			        }
+			    }
+			}
+			""";
+		assertEquals(expected, cu1.getBuffer().getContents());
+	}
+
+	@Test
+	public void testUnitWithProblemsIsNotRecorded() throws Exception {
+		CleanUpResultCache cache= CleanUpResultCache.getDefault();
+		cache.clear();
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String given= """
+			package test1;
+			public class E1 {
+			    public void foo(boolean b) {
+			        if (b) {
+			            foo(false);
+			        }
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", given, false, null);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		AbstractCleanUp warningCleanUp= new AbstractCleanUp() {
+			@Override
+			public RefactoringStatus checkPostConditions(IProgressMonitor monitor) {
+				return RefactoringStatus.createWarningStatus("warning");
+			}
+
+			@Override
+			public boolean reportsPostConditionProblems() {
+				return true;
+			}
+
+			@Override
+			public boolean isUnitLocal() {
+				return true;
+			}
+		};
+		ICleanUp[] unitLocal= createUnitLocalCleanUps();
+		ICleanUp[] cleanUps= Arrays.copyOf(unitLocal, unitLocal.length + 1);
+		cleanUps[unitLocal.length]= warningCleanUp;
+
+		performCachedCleanUp(cu1, cleanUps);
+		assertEquals(1, cache.getMisses());
+		assertEquals(0, cache.size());
+
+		performCachedCleanUp(cu1, cleanUps);
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(given, cu1.getBuffer().getContents());
+	}
+
+	@Test
+	public void testOnlyAbstractCleanUpsAreCached() throws Exception {
+		ICleanUp[] unitLocal= createUnitLocalCleanUps();
+		assertNotNull(CleanUpResultCache.getConfigurationKey(getProject(), unitLocal));
+
+		ICleanUp cleanUp= new ICleanUp() {
+			@Override
+			public void setOptions(CleanUpOptions options) {
+			}
+
+			@Override
+			public String[] getStepDescriptions() {
+				return new String[0];
+			}
+
+			@Override
+			public CleanUpRequirements getRequirements() {
+				return new CleanUpRequirements(false, false, false, null);
+			}
+
+			@Override
+			public RefactoringStatus checkPreConditions(IJavaProject project, ICompilationUnit[] compilationUnits, IProgressMonitor monitor) {
+				return new RefactoringStatus();
+			}
+
+			@Override
+			public ICleanUpFix createFix(CleanUpContext context) {
+				return null;
+			}
+
+			@Override
+			public RefactoringStatus checkPostConditions(IProgressMonitor monitor) {
+				return new RefactoringStatus();
+			}
+		};
+		ICleanUp[] cleanUps= Arrays.copyOf(unitLocal, unitLocal.length + 1);
+		cleanUps[unitLocal.length]= cleanUp;
+		assertNull(CleanUpResultCache.getConfigurationKey(getProject(), cleanUps));
+	}
+
+	@Test
+	public void testCleanUpsDependingOnOtherUnitsAreNotCached() throws Exception {
+		CleanUpResultCache cache= CleanUpResultCache.getDefault();
+		cache.clear();
+
+		// a missing @Override depends on the super type, which is not part of the key
+		assertNull(CleanUpResultCache.getConfigurationKey(getProject(), new ICleanUp[] { new ControlStatementsCleanUp(), new Java50CleanUp() }));
+		assertNull(CleanUpResultCache.getConfigurationKey(getProject(), JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps()));
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		pack1.createCompilationUnit("A.java", """
+			package test1;
+			public class A {
+			}
+			""", false, null);
+		String given= """
+			package test1;
+			public class E1 extends A {
+			    public void foo() {
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", given, false, null);
+
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS);
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS_OVERRIDE);
+
+		ICleanUp[] cleanUps= { new Java50CleanUp() };
+		performCachedCleanUp(cu1, cleanUps);
+		assertEquals(0, cache.size());
+		assertEquals(given, cu1.getBuffer().getContents());
+
+		pack1.createCompilationUnit("A.java", """
+			package test1;
+			public class A {
+			    public void foo() {
+			    }
+			}
+			""", true, null);
+
+		performCachedCleanUp(cu1, cleanUps);
+		assertEquals(0, cache.getHits());
+		String expected= """
+			package test1;
+			public class E1 extends A {
+			    @Override
+			    public void foo() {
+			    }
+			}
+			""";
+		assertEquals(expected, cu1.getBuffer().getContents());
+	}
+}
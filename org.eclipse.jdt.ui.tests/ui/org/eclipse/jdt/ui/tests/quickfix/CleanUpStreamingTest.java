@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.ltk.core.refactoring.IUndoManager;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
+import org.eclipse.jdt.internal.ui.fix.ControlStatementsCleanUp;
+
+public class CleanUpStreamingTest extends CleanUpTestCase {
+
+	private static final int UNIT_COUNT= 5;
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	@Override
+	protected IJavaProject getProject() {
+		return projectSetup.getProject();
+	}
+
+	@Override
+	protected IClasspathEntry[] getDefaultClasspath() throws CoreException {
+		return projectSetup.getDefaultClasspath();
+	}
+
+	private ICompilationUnit[] createUnits(String[] given) throws CoreException {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit[] units= new ICompilationUnit[given.length];
+		for (int i= 0; i < given.length; i++) {
+			given[i]= """
+				package test1;
+				public class E%d {
+				    public void foo(boolean b) {
+				        if (b)
+				            foo(false);
+				        while (b)
+				            b= false;
+				    }
+				}
+				""".formatted(Integer.valueOf(i));
+			units[i]= pack1.createCompilationUnit("E" + i + ".java", given[i], false, null);
+		}
+		return units;
+	}
+
+	private String[] performCleanUp(ICompilationUnit[] units, int maxRetainedUnits, ICleanUp... cleanUps) throws CoreException {
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setStreaming(maxRetainedUnits);
+		performRefactoring(ref, units, cleanUps, null);
+		return getContents(units);
+	}
+
+	private static String[] getContents(ICompilationUnit[] units) throws CoreException {
+		String[] result= new String[units.length];
+		for (int i= 0; i < units.length; i++)
+			result[i]= units[i].getBuffer().getContents();
+		return result;
+	}
+
+	private static void assertContents(String[] expected, ICompilationUnit[] units) throws CoreException {
+		for (int i= 0; i < units.length; i++)
+			assertEquals(units[i].getElementName(), expected[i], units[i].getBuffer().getContents());
+	}
+
+	private static void undo() throws CoreException {
+		IUndoManager undoManager= RefactoringCore.getUndoManager();
+		undoManager.performUndo(null, new NullProgressMonitor());
+		assertFalse("a single undo is expected", undoManager.anythingToUndo());
+	}
+
+	@Test
+	public void testStreamedResultEqualsInMemoryResult() throws Exception {
+		String[] given= new String[UNIT_COUNT];
+		ICompilationUnit[] units= createUnits(given);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		String[] inMemory= performCleanUp(units, 0, new ControlStatementsCleanUp());
+		for (int i= 0; i < units.length; i++)
+			assertNotEquals(given[i], inMemory[i]);
+		undo();
+		assertContents(given, units);
+
+		String[] streamed= performCleanUp(units, 2, new ControlStatementsCleanUp());
+		for (int i= 0; i < units.length; i++)
+			assertEquals(inMemory[i], streamed[i]);
+	}
+
+	@Test
+	public void testSingleUndoRestoresAllStreamedUnits() throws Exception {
+		String[] given= new String[UNIT_COUNT];
+		ICompilationUnit[] units= createUnits(given);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		performCleanUp(units, 1, new ControlStatementsCleanUp());
+		undo();
+		assertContents(given, units);
+	}
+
+	@Test
+	public void testFailureRollsBackStreamedUnits() throws Exception {
+		String[] given= new String[UNIT_COUNT];
+		ICompilationUnit[] units= createUnits(given);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		// fails on the last unit, after the previous chunks have been applied
+		AbstractCleanUp failingCleanUp= new AbstractCleanUp() {
+			private int fCalls;
+
+			@Override
+			public CleanUpRequirements getRequirements() {
+				return new CleanUpRequirements(true, false, false, null);
+			}
+
+			@Override
+			public ICleanUpFix createFix(CleanUpContext context) throws CoreException {
+				if (++fCalls == UNIT_COUNT)
+					throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), "failure"));
+				return null;
+			}
+		};
+
+		try {
+			performCleanUp(units, 1, new ControlStatementsCleanUp(), failingCleanUp);
+			fail("the clean up was supposed to fail");
+		} catch (CoreException e) {
+			// expected
+		}
+		assertContents(given, units);
+	}
+}
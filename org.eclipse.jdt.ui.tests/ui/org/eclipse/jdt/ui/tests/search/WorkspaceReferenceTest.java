@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,21 @@
 package org.eclipse.jdt.ui.tests.search;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.eclipse.search.ui.text.Match;
+
+import org.eclipse.jdt.core.search.SearchMatch;
+
 import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
 
+import org.eclipse.jdt.internal.ui.search.JavaElementMatch;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+
 public class WorkspaceReferenceTest {
 
 	@Rule
@@ -34,4 +43,19 @@ public class WorkspaceReferenceTest {
 	public void testFindOverridden() throws Exception {
 		assertEquals(6, SearchTestHelper.countMethodRefs("junit.framework.TestCase", "countTestCases", new String[0]));
 	}
+
+	@Test
+	public void testSharedEnclosingElements() throws Exception {
+		JavaSearchResult result= (JavaSearchResult) SearchTestHelper.runTypeRefQuery("junit.framework.Test").getSearchResult();
+		assertTrue(result.getMatchCount() > 0);
+		int matchCount= 0;
+		for (Object element : result.getElements()) {
+			for (Match match : result.getMatches(element)) {
+				assertSame(element, match.getElement());
+				assertEquals(SearchMatch.A_ACCURATE, ((JavaElementMatch) match).getAccuracy());
+				matchCount++;
+			}
+		}
+		assertEquals(result.getMatchCount(), matchCount);
+	}
 }
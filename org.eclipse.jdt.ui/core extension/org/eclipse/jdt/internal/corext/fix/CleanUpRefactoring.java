@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,18 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -87,6 +94,7 @@ import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -239,6 +247,23 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return fIndex + fFlushCount;
 		}
 
+		/**
+		 * Accounts for a batch of compilation units that has been processed by a worker
+		 * thread on behalf of this monitor.
+		 *
+		 * @param work the number of compilation units in the batch
+		 * @param flushCount the number of compilation units for which all clean ups have been
+		 *            applied
+		 */
+		public void batchDone(int work, int flushCount) {
+			super.worked(work);
+			fFlushCount+= flushCount;
+		}
+
+		public int getFlushCount() {
+			return fFlushCount;
+		}
+
 		public String getSubTaskMessage(ICompilationUnit source) {
 			String typeName= BasicElementLabels.getFileName(source);
 			return Messages.format(FixMessages.CleanUpRefactoring_ProcessingCompilationUnit_message, new Object[] {Integer.valueOf(getIndex()), Integer.valueOf(fSize), typeName});
@@ -323,21 +348,54 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	/**
+	 * The outcome of parsing a batch of compilation units and calculating their clean up
+	 * solutions on a worker thread.
+	 */
+	private static class CleanUpBatchResult {
+
+		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
+		private final List<ParseListElement> fUndoneElements;
+		private final int fSize;
+		private final int fFlushCount;
+		private final long fTime;
+
+		public CleanUpBatchResult(Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, List<ParseListElement> undoneElements, int size, int flushCount, long time) {
+			fSolutions= solutions;
+			fUndoneElements= undoneElements;
+			fSize= size;
+			fFlushCount= flushCount;
+			fTime= time;
+		}
+	}
+
 	private class CleanUpFixpointIterator {
 
 		private List<ParseListElement> fParseList;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
 		private final Map<String, String> fCleanUpOptions;
+		private final Map<ICompilationUnit, String> fResultCacheKeys; // map from primary to result cache key
 		private final int fSize;
 		private int fIndex;
 
-		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+		public CleanUpFixpointIterator(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps) {
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
+			fResultCacheKeys= new Hashtable<>();
 
+			String configurationKey= fUseResultCache ? CleanUpResultCache.getConfigurationKey(project, cleanUps) : null;
 			fParseList= new ArrayList<>(targets.length);
 			for (CleanUpTarget target : targets) {
+				if (configurationKey != null && !(target instanceof MultiFixTarget)) {
+					ICompilationUnit unit= target.getCompilationUnit();
+					String key= CleanUpResultCache.getUnitKey(configurationKey, unit);
+					if (key != null) {
+						if (CleanUpResultCache.getDefault().isClean(key))
+							continue;
+						fResultCacheKeys.put(unit, key);
+					}
+				}
 				fParseList.add(new ParseListElement(target, cleanUps));
 			}
 
@@ -358,6 +416,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 		public void next(IProgressMonitor monitor) throws CoreException {
 			List<ICompilationUnit> parseList= new ArrayList<>();
+			List<ParseListElement> parseElements= new ArrayList<>();
 			List<ICompilationUnit> sourceList= new ArrayList<>();
 
 			try {
@@ -375,6 +434,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 					if (requiresAST(element.getCleanUps())) {
 						parseList.add(compilationUnit);
+						parseElements.add(element);
 					} else {
 						sourceList.add(compilationUnit);
 					}
@@ -382,22 +442,13 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
 				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
-				if (parseList.size() > 0) {
-					ASTBatchParser parser= new ASTBatchParser() {
-						@Override
-						protected ASTParser createParser(IJavaProject project) {
-							ASTParser result= createCleanUpASTParser();
-							result.setProject(project);
-
-							Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
-							options.putAll(fCleanUpOptions);
-							result.setCompilerOptions(options);
-							return result;
-						}
-					};
+				List<ParseListElement> undoneElements= new ArrayList<>();
+				if (fParallelism > 1 && parseList.size() > fBatchSize && isThreadSafe(parseElements)) {
+					undoneElements.addAll(parseInBatches(parseList, parseElements, cuMonitor));
+				} else if (parseList.size() > 0) {
 					try {
 						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
-						parser.createASTs(units, new String[0], requestor, cuMonitor);
+						createBatchParser().createASTs(units, new String[0], requestor, cuMonitor);
 					} catch (FixCalculationException e) {
 						throw e.getException();
 					}
@@ -412,12 +463,120 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 						throw new OperationCanceledException();
 				}
 
-				fParseList= requestor.getUndoneElements();
+				undoneElements.addAll(requestor.getUndoneElements());
+				fParseList= undoneElements;
 				fIndex= cuMonitor.getIndex();
 			} finally {
 			}
 		}
 
+		private ASTBatchParser createBatchParser() {
+			return new ASTBatchParser() {
+				@Override
+				protected ASTParser createParser(IJavaProject project) {
+					ASTParser result= createCleanUpASTParser();
+					result.setProject(project);
+
+					Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+					options.putAll(fCleanUpOptions);
+					result.setCompilerOptions(options);
+					return result;
+				}
+			};
+		}
+
+		/**
+		 * Splits the units to parse into batches of at most {@link CleanUpRefactoring#fBatchSize}
+		 * units, parses them and calculates their solutions on a pool of worker threads. The
+		 * solutions are merged into {@link #fSolutions} in batch order, so the result does not
+		 * depend on the order in which the batches complete.
+		 *
+		 * @param parseList the units to parse
+		 * @param parseElements the parse list elements, in the same order as <code>parseList</code>
+		 * @param monitor the monitor to report progress to, only accessed from the calling thread
+		 * @return the elements for which not all clean ups could be applied, in batch order
+		 * @throws CoreException if the calculation of a solution failed
+		 */
+		private List<ParseListElement> parseInBatches(List<ICompilationUnit> parseList, List<ParseListElement> parseElements, CleanUpRefactoringProgressMonitor monitor) throws CoreException {
+			int batchCount= (parseList.size() + fBatchSize - 1) / fBatchSize;
+			monitor.beginTask("", parseList.size()); //$NON-NLS-1$
+
+			AtomicInteger threadCount= new AtomicInteger();
+			ExecutorService executor= Executors.newFixedThreadPool(Math.min(fParallelism, batchCount), r -> {
+				Thread thread= new Thread(r, "Clean Up Worker-" + threadCount.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			try {
+				IProgressMonitor cancelMonitor= new NullProgressMonitor() {
+					@Override
+					public boolean isCanceled() {
+						return monitor.isCanceled();
+					}
+				};
+
+				List<Future<CleanUpBatchResult>> futures= new ArrayList<>(batchCount);
+				for (int start= 0; start < parseList.size(); start+= fBatchSize) {
+					int end= Math.min(start + fBatchSize, parseList.size());
+					List<ICompilationUnit> units= parseList.subList(start, end);
+					List<ParseListElement> elements= parseElements.subList(start, end);
+					futures.add(executor.submit(() -> parseBatch(units, elements, cancelMonitor)));
+				}
+
+				List<ParseListElement> result= new ArrayList<>();
+				for (int i= 0; i < futures.size(); i++) {
+					CleanUpBatchResult batch= getBatchResult(futures.get(i));
+					if (JavaPlugin.DEBUG_CLEAN_UP)
+						System.out.println("CleanUpRefactoring - batch " + (i + 1) + "/" + batchCount + ": " + batch.fSize + " units in " + batch.fTime + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+					for (Entry<ICompilationUnit, List<CleanUpChange>> entry : batch.fSolutions.entrySet()) {
+						List<CleanUpChange> changes= fSolutions.get(entry.getKey());
+						if (changes == null) {
+							changes= new ArrayList<>();
+							fSolutions.put(entry.getKey(), changes);
+						}
+						changes.addAll(entry.getValue());
+					}
+					result.addAll(batch.fUndoneElements);
+					monitor.batchDone(batch.fSize, batch.fFlushCount);
+					monitor.subTask(monitor.getSubTaskMessage(parseList.get(Math.min((i + 1) * fBatchSize, parseList.size()) - 1)));
+
+					if (monitor.isCanceled())
+						throw new OperationCanceledException();
+				}
+				return result;
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		private CleanUpBatchResult parseBatch(List<ICompilationUnit> units, List<ParseListElement> elements, IProgressMonitor cancelMonitor) {
+			long start= System.currentTimeMillis();
+			Hashtable<ICompilationUnit, List<CleanUpChange>> solutions= new Hashtable<>(units.size());
+			CleanUpRefactoringProgressMonitor batchMonitor= new CleanUpRefactoringProgressMonitor(cancelMonitor, units.size(), fSize, fIndex);
+			CleanUpASTRequestor requestor= new CleanUpASTRequestor(elements, solutions, batchMonitor);
+			createBatchParser().createASTs(units.toArray(new ICompilationUnit[units.size()]), new String[0], requestor, batchMonitor);
+			return new CleanUpBatchResult(solutions, requestor.getUndoneElements(), units.size(), batchMonitor.getFlushCount(), System.currentTimeMillis() - start);
+		}
+
+		private CleanUpBatchResult getBatchResult(Future<CleanUpBatchResult> future) throws CoreException {
+			try {
+				return future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof FixCalculationException)
+					throw ((FixCalculationException) cause).getException();
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				if (cause instanceof Error)
+					throw (Error) cause;
+				throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
+			}
+		}
+
 		public void dispose() {
 			for (ICompilationUnit cu : fWorkingCopies.values()) {
 				try {
@@ -429,6 +588,14 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			fWorkingCopies.clear();
 		}
 
+		private boolean isThreadSafe(List<ParseListElement> elements) {
+			for (ParseListElement element : elements) {
+				if (!CleanUpRefactoring.isThreadSafe(element.getCleanUps()))
+					return false;
+			}
+			return true;
+		}
+
 		private boolean requiresAST(ICleanUp[] cleanUps) {
 			for (ICleanUp cleanUp : cleanUps) {
 				if (cleanUp.getRequirements().requiresAST()) {
@@ -438,8 +605,19 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return false;
 		}
 
-		public Change[] getResult() {
+		/**
+		 * @return the result cache keys of the units for which no change has been calculated
+		 */
+		public List<String> getCleanUnitKeys() {
+			List<String> result= new ArrayList<>();
+			for (Entry<ICompilationUnit, String> entry : fResultCacheKeys.entrySet()) {
+				if (!fSolutions.containsKey(entry.getKey()))
+					result.add(entry.getValue());
+			}
+			return result;
+		}
 
+		public Change[] getResult() {
 			Change[] result= new Change[fSolutions.size()];
 			int i=0;
 			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
@@ -494,6 +672,125 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	/**
+	 * A change which calculates and applies the clean ups of a project only when it is
+	 * performed. The targets are processed in chunks of at most
+	 * {@link CleanUpRefactoring#fMaxRetainedUnits} compilation units, and the changes of a chunk
+	 * are released as soon as they have been applied. Only the undo edits are kept, so the
+	 * change can still be undone as a whole.
+	 */
+	private class StreamingCleanUpChange extends Change {
+
+		private final IJavaProject fProject;
+		private final CleanUpTarget[] fTargets;
+		private final ICleanUp[] fCleanUpsArray;
+
+		public StreamingCleanUpChange(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+			fProject= project;
+			fTargets= targets;
+			fCleanUpsArray= cleanUps;
+		}
+
+		@Override
+		public String getName() {
+			return Messages.format(FixMessages.CleanUpRefactoring_streaming_change_name, BasicElementLabels.getResourceName(fProject.getProject()));
+		}
+
+		@Override
+		public Object getModifiedElement() {
+			return fProject;
+		}
+
+		public CleanUpTarget[] getTargets() {
+			return fTargets;
+		}
+
+		@Override
+		public void initializeValidationData(IProgressMonitor pm) {
+			// each chunk is validated right before it is applied
+		}
+
+		@Override
+		public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+			return new RefactoringStatus();
+		}
+
+		@Override
+		public Change perform(IProgressMonitor pm) throws CoreException {
+			if (pm == null)
+				pm= new NullProgressMonitor();
+
+			List<Change> undos= new ArrayList<>();
+			List<String> cleanUnitKeys= new ArrayList<>();
+			pm.beginTask("", 2 * fTargets.length * fCleanUpsArray.length + 4 * fCleanUpsArray.length); //$NON-NLS-1$
+			try {
+				// the clean ups have been configured for the last project in checkFinalConditions
+				RefactoringStatus preConditions= fUseOptionsFromProfile ? setOptionsFromProfile(fProject, fCleanUpsArray) : new RefactoringStatus();
+				if (!preConditions.hasFatalError())
+					preConditions.merge(checkPreConditions(fProject, fTargets, Progress.subMonitor(pm, 3 * fCleanUpsArray.length)));
+				if (preConditions.hasFatalError())
+					throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, preConditions.getMessageMatchingSeverity(RefactoringStatus.FATAL), null));
+
+				for (int start= 0; start < fTargets.length; start+= fMaxRetainedUnits) {
+					CleanUpTarget[] chunk= Arrays.copyOfRange(fTargets, start, Math.min(start + fMaxRetainedUnits, fTargets.length));
+					Change[] changes= cleanUpProject(fProject, chunk, fCleanUpsArray, cleanUnitKeys, pm);
+					for (int i= 0; i < changes.length; i++) {
+						Change change= changes[i];
+						changes[i]= null;
+						Change undo= performChunkChange(change);
+						if (undo != null)
+							undos.add(undo);
+					}
+
+					if (pm.isCanceled())
+						throw new OperationCanceledException();
+				}
+
+				// only clean ups whose post conditions are always OK are streamed, see reportsPostConditionProblems(ICleanUp[])
+				RefactoringStatus status= checkPostConditions(Progress.subMonitor(pm, fCleanUpsArray.length));
+				if (!status.isOK())
+					throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, status.getMessageMatchingSeverity(status.getSeverity()), null));
+				if (preConditions.isOK())
+					markClean(cleanUnitKeys);
+			} catch (CoreException | RuntimeException e) {
+				rollback(undos);
+				throw e;
+			} finally {
+				pm.done();
+			}
+
+			Collections.reverse(undos);
+			return new CompositeChange(getName(), undos.toArray(new Change[undos.size()]));
+		}
+
+		private Change performChunkChange(Change change) throws CoreException {
+			NullProgressMonitor monitor= new NullProgressMonitor();
+			try {
+				change.initializeValidationData(monitor);
+				RefactoringStatus status= change.isValid(monitor);
+				if (status.hasFatalError())
+					throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, status.getMessageMatchingSeverity(RefactoringStatus.FATAL), null));
+
+				Change undo= change.perform(monitor);
+				if (undo != null)
+					undo.initializeValidationData(monitor);
+				return undo;
+			} finally {
+				change.dispose();
+			}
+		}
+
+		private void rollback(List<Change> undos) {
+			for (int i= undos.size() - 1; i >= 0; i--) {
+				try {
+					undos.get(i).perform(new NullProgressMonitor());
+				} catch (CoreException e) {
+					JavaPlugin.log(e);
+				}
+			}
+		}
+	}
+
 	private static final RefactoringTickProvider CLEAN_UP_REFACTORING_TICK_PROVIDER= new RefactoringTickProvider(1, 1, 0, 0);
 
 	/**
@@ -502,6 +799,22 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * The number of worker threads used to parse and clean up compilation units, or
+	 * <code>1</code> to process them sequentially on the calling thread.
+	 */
+	private static final int DEFAULT_PARALLELISM= Integer.getInteger("org.eclipse.jdt.ui.cleanup.parallelism", 1).intValue(); //$NON-NLS-1$
+
+	/**
+	 * The maximal number of compilation units a worker thread parses at once.
+	 */
+	private static final int DEFAULT_BATCH_SIZE= 100;
+
+	/**
+	 * Whether compilation units which a previous run proved to be clean are skipped.
+	 */
+	private static final boolean DEFAULT_USE_RESULT_CACHE= Boolean.getBoolean("org.eclipse.jdt.ui.cleanup.resultCache"); //$NON-NLS-1$
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -510,6 +823,11 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private boolean fUseOptionsFromProfile;
 
+	private int fParallelism;
+	private int fBatchSize;
+	private int fMaxRetainedUnits;
+	private boolean fUseResultCache;
+
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
 	}
@@ -519,12 +837,90 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fParallelism= Math.max(1, DEFAULT_PARALLELISM);
+		fBatchSize= DEFAULT_BATCH_SIZE;
+		fMaxRetainedUnits= 0;
+		fUseResultCache= DEFAULT_USE_RESULT_CACHE;
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets the number of worker threads used to parse compilation units and calculate their
+	 * clean ups. With a value greater than <code>1</code> the units of a project are split into
+	 * batches of at most <code>batchSize</code> units which are processed concurrently, provided
+	 * that all clean ups are thread safe, see {@link #isThreadSafe(ICleanUp[])}. Otherwise the
+	 * units are processed sequentially. The resulting change is the same as the one computed
+	 * sequentially.
+	 *
+	 * @param parallelism the number of worker threads, <code>1</code> for sequential processing
+	 * @param batchSize the maximal number of compilation units per batch
+	 */
+	public void setParallelism(int parallelism, int batchSize) {
+		fParallelism= Math.max(1, parallelism);
+		fBatchSize= Math.max(1, batchSize);
+	}
+
+	/**
+	 * Tells whether fixes of the given clean ups can be created for several compilation units
+	 * at the same time. Only clean ups which declare it with {@link AbstractCleanUp#isThreadSafe()}
+	 * are considered thread safe.
+	 *
+	 * @param cleanUps the clean ups to test
+	 * @return <code>true</code> if all clean ups are thread safe
+	 */
+	public static boolean isThreadSafe(ICleanUp[] cleanUps) {
+		for (ICleanUp cleanUp : cleanUps) {
+			if (!(cleanUp instanceof AbstractCleanUp) || !((AbstractCleanUp) cleanUp).isThreadSafe())
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Enables or disables the streaming mode. In streaming mode the clean ups are not
+	 * calculated by {@link #checkFinalConditions(IProgressMonitor)} but when the change is
+	 * performed. At most <code>maxRetainedUnits</code> compilation units are cleaned up at once,
+	 * and their changes are applied and released before the next ones are processed. The change
+	 * can not be previewed, but its undo change restores all modified compilation units.
+	 * <p>
+	 * The post conditions of the clean ups can only be checked after all changes have been
+	 * applied. If a clean up can report problems in its post conditions, see
+	 * {@link AbstractCleanUp#reportsPostConditionProblems()}, the changes are calculated up front
+	 * so that the problems are shown before the changes are applied.
+	 * </p>
+	 *
+	 * @param maxRetainedUnits the maximal number of compilation units whose changes are kept in
+	 *            memory, or <code>0</code> to calculate all changes up front
+	 */
+	public void setStreaming(int maxRetainedUnits) {
+		fMaxRetainedUnits= Math.max(0, maxRetainedUnits);
+	}
+
+	private static boolean reportsPostConditionProblems(ICleanUp[] cleanUps) {
+		for (ICleanUp cleanUp : cleanUps) {
+			if (!(cleanUp instanceof AbstractCleanUp) || ((AbstractCleanUp) cleanUp).reportsPostConditionProblems())
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Enables or disables the result cache. If enabled, compilation units for which a previous
+	 * run with the same clean ups, clean up options and compiler options did not produce a
+	 * change are skipped as long as their contents did not change. This also applies to the units
+	 * of a streaming change, see {@link #setStreaming(int)}. Units are only recorded if the pre and
+	 * post conditions of the clean ups are OK, and only for clean ups that do not depend on other
+	 * compilation units, see {@link AbstractCleanUp#isUnitLocal()}.
+	 *
+	 * @param enabled <code>true</code> to use the {@link CleanUpResultCache}
+	 */
+	public void setUseResultCache(boolean enabled) {
+		fUseResultCache= enabled;
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -637,13 +1033,25 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					if (result.hasFatalError())
 						return result;
 				}
-				result.merge(checkPreConditions(project, targets, Progress.subMonitor(pm, 3 * cleanUps.length)));
+				RefactoringStatus preConditionStatus= checkPreConditions(project, targets, Progress.subMonitor(pm, 3 * cleanUps.length));
+				result.merge(preConditionStatus);
 				if (result.hasFatalError())
 					return result;
-				Change[] changes= cleanUpProject(project, targets, cleanUps, pm);
-				result.merge(checkPostConditions(Progress.subMonitor(pm, cleanUps.length)));
+				if (fMaxRetainedUnits > 0 && !reportsPostConditionProblems(cleanUps)) {
+					pm.worked(2 * targets.length * cleanUps.length + cleanUps.length);
+					change.add(new StreamingCleanUpChange(project, targets, cleanUps));
+					continue;
+				}
+				List<String> cleanUnitKeys= new ArrayList<>();
+				Change[] changes= cleanUpProject(project, targets, cleanUps, cleanUnitKeys, pm);
+				RefactoringStatus postConditionStatus= checkPostConditions(Progress.subMonitor(pm, cleanUps.length));
+				result.merge(postConditionStatus);
 				if (result.hasFatalError())
 					return result;
+				if (preConditionStatus.isOK() && postConditionStatus.isOK()) {
+					// a clean up that reports a problem might have skipped units that still need a change
+					markClean(cleanUnitKeys);
+				}
 				for (Change c : changes) {
 					change.add(c);
 				}
@@ -664,6 +1072,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		for (Change child : change.getChildren()) {
 			if (child instanceof CompositeChange) {
 				findFilesToBeModified((CompositeChange)child, result);
+			} else if (child instanceof StreamingCleanUpChange) {
+				for (CleanUpTarget target : ((StreamingCleanUpChange)child).getTargets()) {
+					result.add(target.getCompilationUnit().getCorrespondingResource());
+				}
 			} else if (child instanceof MultiStateCompilationUnitChange) {
 				result.add(((MultiStateCompilationUnitChange)child).getCompilationUnit().getCorrespondingResource());
 			} else if (child instanceof CompilationUnitChange) {
@@ -672,8 +1084,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
-	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
-		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps);
+	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, List<String> cleanUnitKeys, IProgressMonitor monitor) throws CoreException {
+		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(project, targets, cleanUps);
 
 		IProgressMonitor subMonitor= Progress.subMonitor(monitor, 2 * targets.length * cleanUps.length);
 		subMonitor.beginTask("", targets.length); //$NON-NLS-1$
@@ -683,6 +1095,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				iter.next(subMonitor);
 			}
 
+			cleanUnitKeys.addAll(iter.getCleanUnitKeys());
 			return iter.getResult();
 		} finally {
 			iter.dispose();
@@ -690,6 +1103,19 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	private static void markClean(List<String> cleanUnitKeys) {
+		if (cleanUnitKeys.isEmpty())
+			return;
+
+		CleanUpResultCache cache= CleanUpResultCache.getDefault();
+		for (String key : cleanUnitKeys) {
+			cache.markClean(key);
+		}
+		cache.save();
+		if (JavaPlugin.DEBUG_CLEAN_UP)
+			System.out.println("CleanUpRefactoring - " + cache); //$NON-NLS-1$
+	}
+
 	private RefactoringStatus setOptionsFromProfile(IJavaProject javaProject, ICleanUp[] cleanUps) {
 		Map<String, String> options= CleanUpPreferenceUtil.loadOptions(new ProjectScope(javaProject.getProject()));
 		if (options == null)
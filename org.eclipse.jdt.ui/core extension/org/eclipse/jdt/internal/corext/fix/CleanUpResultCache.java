@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
+
+/**
+ * A persistent cache of compilation units for which a set of clean ups did not produce any
+ * change. An entry is keyed by a digest of the unit's contents, the options and requirements of
+ * the clean ups and the compiler options of the project, so any change to one of them results in
+ * a cache miss. Units are only recorded if the conditions of the clean ups were OK and if the
+ * clean ups do not depend on other compilation units.
+ *
+ * @since 3.33
+ */
+public final class CleanUpResultCache {
+
+	private static final String FILE_NAME= "cleanUpResultCache.dat"; //$NON-NLS-1$
+	private static final int VERSION= 1;
+	private static final int MAX_ENTRIES= 100000;
+
+	private static CleanUpResultCache fgInstance;
+
+	public static synchronized CleanUpResultCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new CleanUpResultCache();
+			fgInstance.load();
+		}
+		return fgInstance;
+	}
+
+	private final LinkedHashMap<String, Boolean> fCleanUnits;
+	private boolean fDirty;
+	private int fHits;
+	private int fMisses;
+
+	private CleanUpResultCache() {
+		fCleanUnits= new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID= 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > MAX_ENTRIES;
+			}
+		};
+	}
+
+	/**
+	 * Computes a fingerprint of the given clean ups and the compiler options of
+	 * <code>project</code>. The fingerprint is the base for the keys of all compilation units of
+	 * the project.
+	 * <p>
+	 * Only the options of an {@link AbstractCleanUp} are known. The results of other clean ups
+	 * can depend on state that is not part of the fingerprint, so they are not cached. The key
+	 * does not cover the other compilation units of the project either, so the results are only
+	 * cached if all clean ups only look at the unit itself, see
+	 * {@link AbstractCleanUp#isUnitLocal()}.
+	 * </p>
+	 *
+	 * @param project the project the clean ups are applied to
+	 * @param cleanUps the clean ups
+	 * @return the fingerprint, or <code>null</code> if the results of the clean ups must not be
+	 *         cached
+	 */
+	public static String getConfigurationKey(IJavaProject project, ICleanUp[] cleanUps) {
+		StringBuilder buf= new StringBuilder();
+		for (ICleanUp cleanUp : cleanUps) {
+			if (!(cleanUp instanceof AbstractCleanUp) || !((AbstractCleanUp) cleanUp).isUnitLocal())
+				return null;
+
+			buf.append(cleanUp.getClass().getName()).append('\n');
+
+			CleanUpRequirements requirements= cleanUp.getRequirements();
+			buf.append(requirements.requiresAST()).append(requirements.requiresFreshAST()).append(requirements.requiresChangedRegions()).append('\n');
+			appendSorted(buf, requirements.getCompilerOptions());
+
+			String[] descriptions= cleanUp.getStepDescriptions();
+			if (descriptions != null) {
+				buf.append(Arrays.toString(descriptions)).append('\n');
+			}
+
+			CleanUpOptions options= ((AbstractCleanUp) cleanUp).getOptions();
+			if (options != null) {
+				Map<String, String> map= new TreeMap<>();
+				for (String key : options.getKeys()) {
+					map.put(key, options.getValue(key));
+				}
+				appendSorted(buf, map);
+			}
+		}
+		appendSorted(buf, project.getOptions(true));
+		return digest(buf.toString());
+	}
+
+	/**
+	 * @param configurationKey the non-<code>null</code> key returned by
+	 *            {@link #getConfigurationKey(IJavaProject, ICleanUp[])}
+	 * @param unit the compilation unit
+	 * @return the key of <code>unit</code> with its current contents, or <code>null</code> if the
+	 *         contents are not available
+	 */
+	public static String getUnitKey(String configurationKey, ICompilationUnit unit) {
+		try {
+			String source= unit.getSource();
+			if (source == null)
+				return null;
+			return digest(configurationKey + '\n' + unit.getPath().toString() + '\n' + source);
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Tells whether a previous run proved that the unit denoted by <code>unitKey</code> does not
+	 * need to be cleaned up. Updates the hit and miss statistics.
+	 *
+	 * @param unitKey the key returned by {@link #getUnitKey(String, ICompilationUnit)}
+	 * @return <code>true</code> if the unit is known to be clean
+	 */
+	public synchronized boolean isClean(String unitKey) {
+		if (fCleanUnits.get(unitKey) != null) {
+			fHits++;
+			return true;
+		}
+		fMisses++;
+		return false;
+	}
+
+	public synchronized void markClean(String unitKey) {
+		if (fCleanUnits.put(unitKey, Boolean.TRUE) == null)
+			fDirty= true;
+	}
+
+	public synchronized int getHits() {
+		return fHits;
+	}
+
+	public synchronized int getMisses() {
+		return fMisses;
+	}
+
+	public synchronized int size() {
+		return fCleanUnits.size();
+	}
+
+	public synchronized void clear() {
+		fCleanUnits.clear();
+		fHits= 0;
+		fMisses= 0;
+		fDirty= true;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "CleanUpResultCache [entries=" + fCleanUnits.size() + ", hits=" + fHits + ", misses=" + fMisses + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	public synchronized void save() {
+		if (!fDirty)
+			return;
+
+		File file= JavaPlugin.getDefault().getStateLocation().append(FILE_NAME).toFile();
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(VERSION);
+			out.writeInt(fCleanUnits.size());
+			for (String key : fCleanUnits.keySet()) {
+				out.writeUTF(key);
+			}
+			fDirty= false;
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+	}
+
+	private synchronized void load() {
+		File file= JavaPlugin.getDefault().getStateLocation().append(FILE_NAME).toFile();
+		if (!file.exists())
+			return;
+
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION)
+				return;
+			int size= in.readInt();
+			for (int i= 0; i < size; i++) {
+				fCleanUnits.put(in.readUTF(), Boolean.TRUE);
+			}
+		} catch (IOException e) {
+			fCleanUnits.clear();
+			JavaPlugin.log(e);
+		}
+	}
+
+	private static void appendSorted(StringBuilder buf, Map<String, String> map) {
+		if (map == null)
+			return;
+		for (Map.Entry<String, String> entry : new TreeMap<>(map).entrySet()) {
+			buf.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+		}
+	}
+
+	private static String digest(String value) {
+		try {
+			byte[] hash= MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			StringBuilder buf= new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				buf.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return buf.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
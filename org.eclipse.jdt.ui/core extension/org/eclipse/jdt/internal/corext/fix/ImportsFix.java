@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
+import org.eclipse.jdt.core.manipulation.TypeNameMatchIndex;
 import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.internal.corext.codemanipulation.CodeGenerationSettings;
@@ -37,6 +38,23 @@ import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 public class ImportsFix extends TextEditFix {
 
 	public static ICleanUpFix createCleanUp(final CompilationUnit cu, CodeGenerationSettings settings, boolean organizeImports, RefactoringStatus status) throws CoreException {
+		return createCleanUp(cu, settings, organizeImports, null, status);
+	}
+
+	/**
+	 * Creates a fix that organizes the imports of the given compilation unit.
+	 *
+	 * @param cu the compilation unit
+	 * @param settings the code generation settings
+	 * @param organizeImports <code>false</code> to not create a fix
+	 * @param typeNameMatchIndex the index shared by the compilation units of a clean up, or
+	 *            <code>null</code> to search the unresolved type names of the unit
+	 * @param status the status to which unresolvable names and parse errors are added, can be
+	 *            shared by several threads
+	 * @return the fix or <code>null</code> if the imports do not change
+	 * @throws CoreException if the fix could not be created
+	 */
+	public static ICleanUpFix createCleanUp(final CompilationUnit cu, CodeGenerationSettings settings, boolean organizeImports, TypeNameMatchIndex typeNameMatchIndex, RefactoringStatus status) throws CoreException {
 		if (!organizeImports)
 			return null;
 
@@ -48,13 +66,18 @@ public class ImportsFix extends TextEditFix {
 
 		final ICompilationUnit unit= (ICompilationUnit)cu.getJavaElement();
 		OrganizeImportsOperation op= new OrganizeImportsOperation(unit, cu, settings.importIgnoreLowercase, false, false, query);
+		op.setTypeNameMatchIndex(typeNameMatchIndex);
 		final TextEdit edit= op.createTextEdit(null);
 		if (hasAmbiguity[0]) {
-			status.addInfo(Messages.format(ActionMessages.OrganizeImportsAction_multi_error_unresolvable, getLocationString(cu)));
+			synchronized (status) {
+				status.addInfo(Messages.format(ActionMessages.OrganizeImportsAction_multi_error_unresolvable, getLocationString(cu)));
+			}
 		}
 
 		if (op.getParseError() != null) {
-			status.addInfo(Messages.format(ActionMessages.OrganizeImportsAction_multi_error_parse, getLocationString(cu)));
+			synchronized (status) {
+				status.addInfo(Messages.format(ActionMessages.OrganizeImportsAction_multi_error_parse, getLocationString(cu)));
+			}
 			return null;
 		}
 
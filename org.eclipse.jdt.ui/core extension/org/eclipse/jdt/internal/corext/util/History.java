@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,35 +13,29 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Hashtable;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactoryConfigurationError;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -63,7 +57,9 @@ import org.eclipse.jdt.internal.ui.util.XmlProcessorFactoryJdtUi;
  * MAX_HISTORY_SIZE. If the list exceeds this size the eldest element is removed
  * from the list. An element can be added/renewed with a call to <code>accessed(Object)</code>.
  *
- * The history can be stored to/loaded from an xml file.
+ * The history is stored in a binary file. Histories written by older versions as xml file are
+ * migrated when they are loaded for the first time. The file is only read when the history is
+ * first used.
  *
  * @param <K> key type
  * @param <V> value type
@@ -73,6 +69,7 @@ public abstract class History<K, V> {
 	private static final String DEFAULT_ROOT_NODE_NAME= "histroyRootNode"; //$NON-NLS-1$
 	private static final String DEFAULT_INFO_NODE_NAME= "infoNode"; //$NON-NLS-1$
 	private static final int MAX_HISTORY_SIZE= 60;
+	private static final int VERSION= 1;
 
 	private static JavaUIException createException(Throwable t, String message) {
 		return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, t));
@@ -81,8 +78,10 @@ public abstract class History<K, V> {
 	private final Map<K, V> fHistory;
 	private final Hashtable<K, Integer> fPositions;
 	private final String fFileName;
+	private final String fBinaryFileName;
 	private final String fRootNodeName;
 	private final String fInfoNodeName;
+	private boolean fLoadPending;
 
 	public History(String fileName, String rootNodeName, String infoNodeName) {
 		fHistory= new LinkedHashMap<>(80, 0.75f, true) {
@@ -93,6 +92,7 @@ public abstract class History<K, V> {
 			}
 		};
 		fFileName= fileName;
+		fBinaryFileName= (fileName.endsWith(".xml") ? fileName.substring(0, fileName.length() - 4) : fileName) + ".dat"; //$NON-NLS-1$ //$NON-NLS-2$
 		fRootNodeName= rootNodeName;
 		fInfoNodeName= infoNodeName;
 		fPositions= new Hashtable<>(MAX_HISTORY_SIZE);
@@ -103,29 +103,35 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void accessed(V object) {
+		ensureLoaded();
 		fHistory.put(getKey(object), object);
 		rebuildPositions();
 	}
 
 	public synchronized boolean contains(V object) {
+		ensureLoaded();
 		return fHistory.containsKey(getKey(object));
 	}
 
 	public synchronized boolean containsKey(K key) {
+		ensureLoaded();
 		return fHistory.containsKey(key);
 	}
 
 	public synchronized boolean isEmpty() {
+		ensureLoaded();
 		return fHistory.isEmpty();
 	}
 
 	public synchronized Object remove(V object) {
+		ensureLoaded();
 		Object removed= fHistory.remove(getKey(object));
 		rebuildPositions();
 		return removed;
 	}
 
 	public synchronized Object removeKey(Object key) {
+		ensureLoaded();
 		Object removed= fHistory.remove(key);
 		rebuildPositions();
 		return removed;
@@ -141,6 +147,7 @@ public abstract class History<K, V> {
 	 * @return value in [0.0, 1.0] the lower the older the element
 	 */
 	public synchronized float getNormalizedPosition(K key) {
+		ensureLoaded();
 		if (!containsKey(key))
 			return 0.0f;
 
@@ -159,59 +166,79 @@ public abstract class History<K, V> {
 	 * @return value between 0 and MAX_HISTORY_SIZE - 1, or -1
 	 */
 	public synchronized int getPosition(K key) {
+		ensureLoaded();
 		if (!containsKey(key))
 			return -1;
 
 		return fPositions.get(key);
 	}
 
+	/**
+	 * Loads the history from the plug-in state location. The file is read when the history is
+	 * first accessed.
+	 */
 	public synchronized void load() {
-		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
-		File file= stateLocation.toFile();
-		if (file.exists()) {
-			try (InputStreamReader reader= new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
-				load(new InputSource(reader));
-			} catch (IOException | CoreException e) {
-				JavaPlugin.log(e);
-			}
-		}
+		fLoadPending= true;
 	}
 
 	public synchronized void save() {
-		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
-		File file= stateLocation.toFile();
-		try (OutputStream out= new FileOutputStream(file)) {
-			save(out);
-		} catch (IOException | CoreException | TransformerFactoryConfigurationError e) {
-			// The XML library can be misconficgured (e.g. via
-			// -Djava.endorsed.dirs=C:\notExisting\xerces-2_7_1)
+		if (fLoadPending)
+			return; // not used, the stored history is still up to date
+
+		IPath stateLocation= JavaPlugin.getDefault().getStateLocation();
+		File file= stateLocation.append(fBinaryFileName).toFile();
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(VERSION);
+			out.writeInt(fHistory.size());
+			for (V object : fHistory.values()) {
+				write(object, out);
+			}
+		} catch (IOException e) {
 			JavaPlugin.log(e);
+			return;
 		}
+
+		File xmlFile= stateLocation.append(fFileName).toFile();
+		if (xmlFile.exists())
+			xmlFile.delete();
 	}
 
 	protected Set<K> getKeys() {
+		ensureLoaded();
 		return fHistory.keySet();
 	}
 
 	protected Collection<V> getValues() {
+		ensureLoaded();
 		return fHistory.values();
 	}
 
 	/**
-	 * Store <code>Object</code> in <code>Element</code>
+	 * Return a new instance of an Object given <code>element</code> of a history xml file written
+	 * by older versions
+	 *
+	 * @param element The element containing required information to create the Object
+	 * @return return a new instance of an Object given <code>element</code>
+	 */
+	protected abstract V createFromElement(Element element);
+
+	/**
+	 * Write <code>object</code> to the binary history file
 	 *
 	 * @param object The object to store
-	 * @param element The Element to store to
+	 * @param out The stream to write to
+	 * @throws IOException if writing fails
 	 */
-	protected abstract void setAttributes(Object object, Element element);
+	protected abstract void write(V object, DataOutputStream out) throws IOException;
 
 	/**
-	 * Return a new instance of an Object given <code>element</code>
+	 * Read an object written by {@link #write(Object, DataOutputStream)}
 	 *
-	 * @param element The element containing required information to create the Object
-	 * @return return a new instance of an Object given <code>element</code>
+	 * @param in The stream to read from
+	 * @return a new instance of an Object, or <code>null</code> if the stored object is no longer valid
+	 * @throws IOException if reading fails
 	 */
-	protected abstract V createFromElement(Element element);
+	protected abstract V read(DataInputStream in) throws IOException;
 
 	/**
 	 * Get key for object
@@ -230,6 +257,50 @@ public abstract class History<K, V> {
 		}
 	}
 
+	/**
+	 * Reads the history file if the history has not been used since {@link #load()}.
+	 */
+	protected final void ensureLoaded() {
+		if (!fLoadPending)
+			return;
+		fLoadPending= false;
+
+		IPath stateLocation= JavaPlugin.getDefault().getStateLocation();
+		File file= stateLocation.append(fBinaryFileName).toFile();
+		if (file.exists()) {
+			try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				load(in);
+			} catch (IOException e) {
+				fHistory.clear();
+				JavaPlugin.log(e);
+			}
+			rebuildPositions();
+			return;
+		}
+
+		// migrate the xml file of older versions, it is removed by the next save
+		file= stateLocation.append(fFileName).toFile();
+		if (file.exists()) {
+			try (InputStreamReader reader= new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+				load(new InputSource(reader));
+			} catch (IOException | CoreException e) {
+				JavaPlugin.log(e);
+			}
+		}
+	}
+
+	private void load(DataInputStream in) throws IOException {
+		if (in.readInt() != VERSION)
+			return;
+		int size= in.readInt();
+		for (int i= 0; i < size; i++) {
+			V object= read(in);
+			if (object != null) {
+				fHistory.put(getKey(object), object);
+			}
+		}
+	}
+
 	private void load(InputSource inputSource) throws CoreException {
 		Element root;
 		try {
@@ -261,34 +332,4 @@ public abstract class History<K, V> {
 		rebuildPositions();
 	}
 
-	private void save(OutputStream stream) throws CoreException {
-		try {
-			DocumentBuilderFactory factory= XmlProcessorFactoryJdtUi.createDocumentBuilderFactoryWithErrorOnDOCTYPE();
-			DocumentBuilder builder= factory.newDocumentBuilder();
-			Document document= builder.newDocument();
-
-			Element rootElement = document.createElement(fRootNodeName);
-			document.appendChild(rootElement);
-
-			Iterator<V> values= getValues().iterator();
-			while (values.hasNext()) {
-				Object object= values.next();
-				Element element= document.createElement(fInfoNodeName);
-				setAttributes(object, element);
-				rootElement.appendChild(element);
-			}
-
-			Transformer transformer= XmlProcessorFactoryJdtUi.createTransformerFactoryWithErrorOnDOCTYPE().newTransformer();
-			transformer.setOutputProperty(OutputKeys.METHOD, "xml"); //$NON-NLS-1$
-			transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
-			transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
-			DOMSource source = new DOMSource(document);
-			StreamResult result = new StreamResult(stream);
-
-			transformer.transform(source, result);
-		} catch (TransformerException | ParserConfigurationException e) {
-			throw createException(e, Messages.format(CorextMessages.History_error_serialize, BasicElementLabels.getResourceName(fFileName)));
-		}
-	}
-
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
  package org.eclipse.jdt.internal.corext.util;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -244,6 +247,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	@Override
 	public synchronized void accessed(TypeNameMatch info) {
+		ensureLoaded();
 		// Fetching the timestamp might not be cheap (remote file system
 		// external Jars. So check if we alreay have one.
 		if (!fTimestampMapping.containsKey(info)) {
@@ -254,11 +258,13 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	@Override
 	public synchronized TypeNameMatch remove(TypeNameMatch info) {
+		ensureLoaded();
 		fTimestampMapping.remove(info);
 		return (TypeNameMatch)super.remove(info);
 	}
 
 	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+		ensureLoaded();
 		fTimestampMapping.remove(old);
 		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
 		super.remove(old);
@@ -387,17 +393,12 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		if (handle == null )
 			return null;
 
-		IJavaElement element= JavaCore.create(handle);
-		if (!(element instanceof IType))
-			return null;
-
 		int modifiers= 0;
 		try {
 			modifiers= Integer.parseInt(type.getAttribute(NODE_MODIFIERS));
 		} catch (NumberFormatException e) {
 			// take zero
 		}
-		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
 		long timestamp= IResource.NULL_STAMP;
 		String timestampValue= type.getAttribute(NODE_TIMESTAMP);
 		if (timestampValue != null && timestampValue.length() > 0) {
@@ -407,6 +408,23 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 				// take null stamp
 			}
 		}
+		return createTypeNameMatch(handle, modifiers, timestamp);
+	}
+
+	@Override
+	protected TypeNameMatch read(DataInputStream in) throws IOException {
+		String handle= in.readUTF();
+		int modifiers= in.readInt();
+		long timestamp= in.readLong();
+		return createTypeNameMatch(handle, modifiers, timestamp);
+	}
+
+	private TypeNameMatch createTypeNameMatch(String handle, int modifiers, long timestamp) {
+		IJavaElement element= JavaCore.create(handle);
+		if (!(element instanceof IType))
+			return null;
+
+		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
 		if (timestamp != IResource.NULL_STAMP) {
 			fTimestampMapping.put(info, timestamp);
 		}
@@ -414,17 +432,11 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	@Override
-	protected void setAttributes(Object object, Element typeElement) {
-		TypeNameMatch type= (TypeNameMatch) object;
-		String handleId= type.getType().getHandleIdentifier();
-		typeElement.setAttribute(NODE_HANDLE, handleId);
-		typeElement.setAttribute(NODE_MODIFIERS, Integer.toString(type.getModifiers()));
+	protected void write(TypeNameMatch type, DataOutputStream out) throws IOException {
+		out.writeUTF(type.getType().getHandleIdentifier());
+		out.writeInt(type.getModifiers());
 		Long timestamp= fTimestampMapping.get(type);
-		if (timestamp == null) {
-			typeElement.setAttribute(NODE_TIMESTAMP, Long.toString(IResource.NULL_STAMP));
-		} else {
-			typeElement.setAttribute(NODE_TIMESTAMP, timestamp.toString());
-		}
+		out.writeLong(timestamp == null ? IResource.NULL_STAMP : timestamp.longValue());
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 import org.w3c.dom.Element;
 
 public class QualifiedTypeNameHistory extends History<String, String> {
@@ -37,8 +41,13 @@ public class QualifiedTypeNameHistory extends History<String, String> {
 	}
 
 	@Override
-	protected void setAttributes(Object object, Element element) {
-		element.setAttribute(NODE_NAME, (String)object);
+	protected void write(String object, DataOutputStream out) throws IOException {
+		out.writeUTF(object);
+	}
+
+	@Override
+	protected String read(DataInputStream in) throws IOException {
+		return in.readUTF();
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -483,6 +483,7 @@ public interface IJavaHelpContextIds {
 	String CALL_HIERARCHY_OPEN_ACTION= 									PREFIX + "call_hierarchy_open_action_context"; //$NON-NLS-1$
 	String CALL_HIERARCHY_CANCEL_SEARCH_ACTION= 						PREFIX + "call_hierarchy_cancel_search_action_context"; //$NON-NLS-1$
 	String CALL_HIERARCHY_EXPAND_WITH_CONSTRUCTORS_ACTION= 				PREFIX + "call_hierarchy_expand_with_constructors_action_context"; //$NON-NLS-1$
+	String CALL_HIERARCHY_EXPAND_ALL_CALLS_ACTION= 						PREFIX + "call_hierarchy_expand_all_calls_action_context"; //$NON-NLS-1$
 	String CALL_HIERARCHY_EXPAND_WITH_CONSTRUCTORS_DIALOG= 				PREFIX + "call_hierarchy_expand_with_constructors_dialog_context"; //$NON-NLS-1$
 	String CALL_HIERARCHY_REMOVE_FROM_VIEW_ACTION= 						PREFIX + "call_hierarchy_remove_from_view_action_context"; //$NON-NLS-1$
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -158,6 +158,16 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 	public static boolean DEBUG_RESULT_COLLECTOR;
 
+	public static boolean DEBUG_CLEAN_UP;
+
+	public static boolean DEBUG_CODE_MINING;
+
+	public static boolean DEBUG_PACKAGE_EXPLORER;
+
+	public static boolean DEBUG_TYPE_HIERARCHY;
+
+	public static boolean DEBUG_SEMANTIC_HIGHLIGHTING;
+
 	private static JavaPlugin fgJavaPlugin;
 
 	private static LinkedHashMap<String, Long> fgRepeatedMessages= new LinkedHashMap<>(20, 0.75f, true) {
@@ -1150,6 +1160,11 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		DEBUG_AST_PROVIDER= options.getBooleanOption("org.eclipse.jdt.ui/debug/ASTProvider", false); //$NON-NLS-1$
 		DEBUG_BREADCRUMB_ITEM_DROP_DOWN= options.getBooleanOption("org.eclipse.jdt.ui/debug/BreadcrumbItemDropDown", false); //$NON-NLS-1$
 		DEBUG_RESULT_COLLECTOR= options.getBooleanOption("org.eclipse.jdt.ui/debug/ResultCollector", false); //$NON-NLS-1$
+		DEBUG_CLEAN_UP= options.getBooleanOption("org.eclipse.jdt.ui/debug/CleanUp", false); //$NON-NLS-1$
+		DEBUG_CODE_MINING= options.getBooleanOption("org.eclipse.jdt.ui/debug/CodeMining", false); //$NON-NLS-1$
+		DEBUG_PACKAGE_EXPLORER= options.getBooleanOption("org.eclipse.jdt.ui/debug/PackageExplorer", false); //$NON-NLS-1$
+		DEBUG_TYPE_HIERARCHY= options.getBooleanOption("org.eclipse.jdt.ui/debug/TypeHierarchy", false); //$NON-NLS-1$
+		DEBUG_SEMANTIC_HIGHLIGHTING= options.getBooleanOption("org.eclipse.jdt.ui/debug/SemanticHighlighting", false); //$NON-NLS-1$
 	}
 
 	/**
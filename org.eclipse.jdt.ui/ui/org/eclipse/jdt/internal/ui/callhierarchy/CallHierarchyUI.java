@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -63,6 +63,12 @@ public class CallHierarchyUI {
     private static final int DEFAULT_MAX_CALL_DEPTH= 10;
     private static final String PREF_MAX_CALL_DEPTH = "PREF_MAX_CALL_DEPTH"; //$NON-NLS-1$
 
+    /**
+     * The maximum number of searches for calls that run concurrently.
+     * @since 3.33
+     */
+    static final int MAX_PARALLEL_SEARCHES= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
     private static CallHierarchyUI fgInstance;
     private int fViewCount= 0;
     private final List<IMember[]> fMethodHistory= new ArrayList<>();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -235,6 +235,7 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
     private CopyCallHierarchyAction fCopyAction;
     private CancelSearchAction fCancelSearchAction;
     private ExpandWithConstructorsAction fExpandWithConstructorsAction;
+    private ExpandAllCallsAction fExpandAllCallsAction;
     private RemoveFromViewAction fRemoveFromViewAction;
     private ShowSearchInDialogAction fShowSearchInDialogAction;
     private CompositeActionGroup fActionGroups;
@@ -995,6 +996,9 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
         if (fExpandWithConstructorsAction.canActionBeAdded()) {
         	menu.appendToGroup(GROUP_FOCUS, fExpandWithConstructorsAction);
         }
+        if (fExpandAllCallsAction.canActionBeAdded()) {
+        	menu.appendToGroup(GROUP_FOCUS, fExpandAllCallsAction);
+        }
 
         if (fRemoveFromViewAction.canActionBeAdded()){
         	menu.appendToGroup(GROUP_FOCUS, fRemoveFromViewAction);
@@ -1048,6 +1052,7 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
         fCancelSearchAction = new CancelSearchAction(this);
         setCancelEnabled(false);
         fExpandWithConstructorsAction= new ExpandWithConstructorsAction(this, fCallHierarchyViewer);
+        fExpandAllCallsAction= new ExpandAllCallsAction(this, fCallHierarchyViewer);
         fRemoveFromViewAction= new RemoveFromViewAction(this, fCallHierarchyViewer);
         fPinViewAction= new PinCallHierarchyViewAction(this);
         fFiltersAction = new ShowCallHierarchyFilterDialogAction(this, CallHierarchyMessages.ShowFilterDialogAction_text);
@@ -1253,6 +1258,7 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
      * Cancels the caller/callee search jobs that are currently running.
      */
     void cancelJobs() {
+        fExpandAllCallsAction.cancel();
         fCallHierarchyViewer.cancelJobs();
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.callhierarchy;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.KeyListener;
 import org.eclipse.swt.events.TreeEvent;
@@ -46,6 +49,13 @@ class CallHierarchyViewer extends TreeViewer {
 
 	private CallerMethodWrapper fConstructorToExpand;
 
+	/**
+	 * The elements that are expanded as soon as they have been added to the tree.
+	 *
+	 * @see #expandWhenAdded(MethodWrapper)
+	 */
+	private final Set<MethodWrapper> fElementsToExpand= new HashSet<>();
+
 	private TreeRoot fDummyRoot;
 
     /**
@@ -141,14 +151,31 @@ class CallHierarchyViewer extends TreeViewer {
     void clearViewer() {
         setInput(TreeRoot.EMPTY_ROOT);
 		fDummyRoot= null;
+		fElementsToExpand.clear();
     }
 
     void cancelJobs() {
+    	fElementsToExpand.clear();
     	if (fPart == null)
     		return;
         fContentProvider.cancelJobs(fPart.getCurrentMethodWrappers());
     }
 
+	/**
+	 * Expands the given element, or remembers to expand it once its parent's children have been
+	 * fetched.
+	 *
+	 * @param element the element to expand
+	 * @since 3.33
+	 */
+	void expandWhenAdded(MethodWrapper element) {
+		if (testFindItem(element) != null) {
+			setExpandedState(element, true);
+		} else {
+			fElementsToExpand.add(element);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -204,6 +231,13 @@ class CallHierarchyViewer extends TreeViewer {
 	@Override
 	protected void internalAdd(Widget widget, Object parentElement, Object[] childElements) {
 		JavaCore.runReadOnly(() -> super.internalAdd(widget, parentElement, childElements));
+		if (!fElementsToExpand.isEmpty()) {
+			for (Object child : childElements) {
+				if (fElementsToExpand.remove(child)) {
+					setExpandedState(child, true);
+				}
+			}
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.callhierarchy;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -30,6 +32,13 @@ import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter implements IDeferredWorkbenchAdapter {
+    private static final String RULE_ID= "org.eclipse.jdt.ui.callhierarchy.methodwrapper"; //$NON-NLS-1$
+
+    /**
+     * The slot of the next fetch job, see {@link #getRule(Object)}.
+     */
+    private static final AtomicInteger fgNextSlot= new AtomicInteger();
+
     private final CallHierarchyContentProvider fProvider;
 
     /**
@@ -100,9 +109,14 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
         return true;
     }
 
+    /**
+     * Returns one of {@link CallHierarchyUI#MAX_PARALLEL_SEARCHES} rules in turn, so that the
+     * children of siblings are fetched in parallel, but not more than that many at a time.
+     */
     @Override
 	public ISchedulingRule getRule(Object o) {
-        return new BatchSimilarSchedulingRule("org.eclipse.jdt.ui.callhierarchy.methodwrapper"); //$NON-NLS-1$
+    	int slot= Math.floorMod(fgNextSlot.getAndIncrement(), CallHierarchyUI.MAX_PARALLEL_SEARCHES);
+        return new BatchSimilarSchedulingRule(RULE_ID + slot);
     }
 
     @Override
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.callhierarchy;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyExpander;
+import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
+
+/**
+ * The action to expand all calls of the selected members. The calls of siblings are searched in
+ * parallel and each node is expanded as soon as its calls have been found.
+ *
+ * @since 3.33
+ */
+class ExpandAllCallsAction extends Action {
+
+	/**
+	 * The number of calls after which the expansion stops.
+	 */
+	private static final int MAX_NODES= 2000;
+
+	private final CallHierarchyViewPart fPart;
+	private final CallHierarchyViewer fCallHierarchyViewer;
+
+	private Job fJob;
+
+	/**
+	 * Creates the action for expanding all calls.
+	 *
+	 * @param callHierarchyViewPart the call hierarchy view part
+	 * @param callHierarchyViewer the call hierarchy viewer
+	 */
+	public ExpandAllCallsAction(CallHierarchyViewPart callHierarchyViewPart, CallHierarchyViewer callHierarchyViewer) {
+		super(CallHierarchyMessages.ExpandAllCallsAction_text);
+		fPart= callHierarchyViewPart;
+		fCallHierarchyViewer= callHierarchyViewer;
+		setDescription(CallHierarchyMessages.ExpandAllCallsAction_description);
+		setToolTipText(CallHierarchyMessages.ExpandAllCallsAction_tooltip);
+		PlatformUI.getWorkbench().getHelpSystem().setHelp(this, IJavaHelpContextIds.CALL_HIERARCHY_EXPAND_ALL_CALLS_ACTION);
+	}
+
+	/*
+	 * @see Action#run
+	 */
+	@Override
+	public void run() {
+		MethodWrapper[] wrappers= getSelectedWrappers();
+		if (wrappers == null)
+			return;
+
+		cancel();
+
+		Display display= fCallHierarchyViewer.getControl().getDisplay();
+		CallHierarchyExpander expander= new CallHierarchyExpander(CallHierarchyUI.getDefault().getMaxCallDepth(), MAX_NODES, CallHierarchyUI.MAX_PARALLEL_SEARCHES);
+		Job job= new Job(CallHierarchyMessages.ExpandAllCallsAction_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				display.asyncExec(() -> fPart.setCancelEnabled(true));
+				try {
+					expander.expand(wrappers, (parent, calls) -> {
+						if (calls.length > 0) {
+							display.asyncExec(() -> {
+								if (!fCallHierarchyViewer.getControl().isDisposed())
+									fCallHierarchyViewer.expandWhenAdded(parent);
+							});
+						}
+					}, monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} finally {
+					display.asyncExec(() -> {
+						if (!fCallHierarchyViewer.getControl().isDisposed()) {
+							fPart.setCancelEnabled(false);
+							if (expander.isBudgetExhausted()) {
+								String message= Messages.format(CallHierarchyMessages.ExpandAllCallsAction_budget_exhausted, Integer.valueOf(expander.getNodeCount()));
+								fPart.getViewSite().getActionBars().getStatusLineManager().setMessage(message);
+							}
+						}
+					});
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setUser(false);
+		fJob= job;
+		job.schedule();
+	}
+
+	/**
+	 * Cancels a running expansion.
+	 */
+	void cancel() {
+		if (fJob != null) {
+			fJob.cancel();
+			fJob= null;
+		}
+	}
+
+	/**
+	 * Checks whether this action can be added for the selected elements in the call hierarchy.
+	 *
+	 * @return <code> true</code> if the action can be added, <code>false</code> otherwise
+	 */
+	public boolean canActionBeAdded() {
+		return getSelectedWrappers() != null;
+	}
+
+	private MethodWrapper[] getSelectedWrappers() {
+		ISelection selection= fPart.getSelection();
+		if (!(selection instanceof IStructuredSelection) || selection.isEmpty())
+			return null;
+
+		Object[] elements= ((IStructuredSelection) selection).toArray();
+		MethodWrapper[] wrappers= new MethodWrapper[elements.length];
+		for (int i= 0; i < elements.length; i++) {
+			if (!(elements[i] instanceof MethodWrapper) || !((MethodWrapper) elements[i]).canHaveChildren())
+				return null;
+			wrappers[i]= (MethodWrapper) elements[i];
+		}
+		return wrappers;
+	}
+}
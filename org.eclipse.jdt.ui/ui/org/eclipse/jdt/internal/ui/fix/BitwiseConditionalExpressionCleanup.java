@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Karakun GmbH (http://www.karakun.com) and others.
+ * Copyright (c) 2020, 2026 Karakun GmbH (http://www.karakun.com) and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,11 @@ public class BitwiseConditionalExpressionCleanup extends AbstractMultiFix {
 		return "if (value & CONSTANT > 0) {}\n"; //$NON-NLS-1$
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	protected ICleanUpFix createFix(final CompilationUnit unit) throws CoreException {
 		if (!isEnabled(CleanUpConstants.CHECK_SIGN_OF_BITWISE_OPERATION)) {
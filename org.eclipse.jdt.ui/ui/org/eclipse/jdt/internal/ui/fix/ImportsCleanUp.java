@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.TypeNameMatchIndex;
 
 import org.eclipse.jdt.internal.corext.codemanipulation.CodeGenerationSettings;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
@@ -36,8 +37,20 @@ import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesSettings;
 
 public class ImportsCleanUp extends AbstractCleanUp {
 
-	private CodeGenerationSettings fCodeGeneratorSettings;
-	private RefactoringStatus fStatus;
+	/**
+	 * The number of compilation units of a project from which on the type names of the project
+	 * are searched once and shared by the units.
+	 */
+	private static final int TYPE_NAME_INDEX_THRESHOLD= 10;
+
+	/*
+	 * Set by checkPreConditions and read by createFix, which can run on the worker threads of
+	 * the clean up refactoring. The index can be shared, additions to the status are synchronized
+	 * by ImportsFix.
+	 */
+	private volatile CodeGenerationSettings fCodeGeneratorSettings;
+	private volatile RefactoringStatus fStatus;
+	private volatile TypeNameMatchIndex fTypeNameMatchIndex;
 
 	public ImportsCleanUp(Map<String, String> options) {
 		super(options);
@@ -53,6 +66,16 @@ public class ImportsCleanUp extends AbstractCleanUp {
 		return new CleanUpRequirements(isOrganizeImports, isOrganizeImports, false, null);
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
+	@Override
+	public boolean reportsPostConditionProblems() {
+		return true;
+	}
+
     @Override
 	public ICleanUpFix createFix(CleanUpContext context) throws CoreException {
     	CompilationUnit compilationUnit= context.getAST();
@@ -60,7 +83,7 @@ public class ImportsCleanUp extends AbstractCleanUp {
     		return null;
 
 		return ImportsFix.createCleanUp(compilationUnit, fCodeGeneratorSettings,
-				isEnabled(CleanUpConstants.ORGANIZE_IMPORTS), fStatus);
+				isEnabled(CleanUpConstants.ORGANIZE_IMPORTS), fTypeNameMatchIndex, fStatus);
 	}
 
     @Override
@@ -69,6 +92,7 @@ public class ImportsCleanUp extends AbstractCleanUp {
 		if (isEnabled(CleanUpConstants.ORGANIZE_IMPORTS)) {
     		fCodeGeneratorSettings= JavaPreferencesSettings.getCodeGenerationSettings(project);
     		fStatus= new RefactoringStatus();
+    		fTypeNameMatchIndex= compilationUnits.length >= TYPE_NAME_INDEX_THRESHOLD ? new TypeNameMatchIndex() : null;
 		}
 
 		return super.checkPreConditions(project, compilationUnits, monitor);
@@ -77,6 +101,7 @@ public class ImportsCleanUp extends AbstractCleanUp {
     @Override
 	public RefactoringStatus checkPostConditions(IProgressMonitor monitor) throws CoreException {
     	fCodeGeneratorSettings= null;
+    	fTypeNameMatchIndex= null;
     	try {
 	    	if (fStatus == null || fStatus.isOK()) {
 	    		return super.checkPostConditions(monitor);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Fabrice TIERCELIN and others.
+ * Copyright (c) 2019, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -102,6 +102,11 @@ public class MapMethodCleanUp extends AbstractMultiFix {
 		return bld.toString();
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
 		if (!isEnabled(CleanUpConstants.USE_DIRECTLY_MAP_METHOD)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.fix;
 
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import java.text.MessageFormat;
 
@@ -44,7 +45,7 @@ import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 
 public class SortMembersCleanUp extends AbstractCleanUp {
 
-	private HashSet<IResource> fTouchedFiles;
+	private final Set<IResource> fTouchedFiles= ConcurrentHashMap.newKeySet();
 
 	public SortMembersCleanUp() {
 		super();
@@ -63,17 +64,29 @@ public class SortMembersCleanUp extends AbstractCleanUp {
 		boolean sortMembers= isEnabled(CleanUpConstants.SORT_MEMBERS);
 		ICleanUpFix fix= SortMembersFix.createCleanUp(compilationUnit, sortMembers, sortMembers && isEnabled(CleanUpConstants.SORT_MEMBERS_ALL));
 		if (fix != null) {
-			if (fTouchedFiles == null) {
-				fTouchedFiles= new HashSet<>();
-			}
 			fTouchedFiles.add(compilationUnit.getJavaElement().getResource());
 		}
 		return fix;
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
+	@Override
+	public boolean isUnitLocal() {
+		return true;
+	}
+
+	@Override
+	public boolean reportsPostConditionProblems() {
+		return true;
+	}
+
 	@Override
 	public RefactoringStatus checkPostConditions(IProgressMonitor monitor) throws CoreException {
-		if (fTouchedFiles == null) {
+		if (fTouchedFiles.isEmpty()) {
 			return super.checkPostConditions(monitor);
 		} else {
 			if (monitor == null)
@@ -97,7 +110,7 @@ public class SortMembersCleanUp extends AbstractCleanUp {
     			return result;
 			} finally {
 				monitor.done();
-				fTouchedFiles= null;
+				fTouchedFiles.clear();
 			}
 
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Holger VOORMANN and others.
+ * Copyright (c) 2021, 2026 Holger VOORMANN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,11 @@ public class UseStringIsBlankCleanUp extends AbstractCleanUp {
 		return new CleanUpRequirements(isEnabled(CleanUpConstants.USE_STRING_IS_BLANK), false, false, null);
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.USE_STRING_IS_BLANK)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -267,8 +267,7 @@ public final class ASTProvider implements IASTSharedValues {
 		PlatformUI.getWorkbench().removeWindowListener(fActivationListener);
 		fActivationListener= null;
 
-		INSTANCE.disposeAST();
-		INSTANCE.waitLockNotifyAll();
+		INSTANCE.dispose();
 
 	}
 
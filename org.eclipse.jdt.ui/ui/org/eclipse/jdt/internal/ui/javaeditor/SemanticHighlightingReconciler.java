@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,13 @@ package org.eclipse.jdt.internal.ui.javaeditor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.events.ControlAdapter;
+import org.eclipse.swt.events.ControlEvent;
+import org.eclipse.swt.events.ControlListener;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 
@@ -26,8 +32,11 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextInputListener;
+import org.eclipse.jface.text.IViewportListener;
 import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.TextPresentation;
 import org.eclipse.jface.text.source.ISourceViewer;
 
@@ -37,6 +46,7 @@ import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.Expression;
@@ -80,8 +90,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		protected boolean visitLiteral(Expression node) {
 			fToken.update(node);
 			for (int i= 0, n= fJobSemanticHighlightings.length; i < n; i++) {
-				SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-				if (fJobHighlightings[i].isEnabled() && semanticHighlighting.consumesLiteral(fToken)) {
+				if (fJobHighlightings[i].isEnabled() && consumes(i, true)) {
 					int offset= node.getStartPosition();
 					int length= node.getLength();
 					if (offset > -1 && length > 0)
@@ -246,8 +255,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		public boolean visit(SimpleName node) {
 			fToken.update(node);
 			for (int i= 0, n= fJobSemanticHighlightings.length; i < n; i++) {
-				SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
-				if (fJobHighlightings[i].isEnabled() && semanticHighlighting.consumes(fToken)) {
+				if (fJobHighlightings[i].isEnabled() && consumes(i, false)) {
 					int offset= node.getStartPosition();
 					int length= node.getLength();
 					if (offset > -1 && length > 0)
@@ -259,6 +267,44 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			return false;
 		}
 
+		/**
+		 * Tells whether the semantic highlighting with the given index consumes the current token,
+		 * and measures the time if the reconcile is traced.
+		 *
+		 * @param index the index of the semantic highlighting
+		 * @param literal <code>true</code> if the token is a literal
+		 * @return <code>true</code> if the semantic highlighting consumes the token
+		 */
+		private boolean consumes(int index, boolean literal) {
+			SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[index];
+			if (fJobTimes == null)
+				return literal ? semanticHighlighting.consumesLiteral(fToken) : semanticHighlighting.consumes(fToken);
+
+			long start= System.nanoTime();
+			boolean consumes= literal ? semanticHighlighting.consumesLiteral(fToken) : semanticHighlighting.consumes(fToken);
+			fJobTimes[index]+= System.nanoTime() - start;
+			return consumes;
+		}
+
+		/*
+		 * @see org.eclipse.jdt.core.dom.ASTVisitor#preVisit2(org.eclipse.jdt.core.dom.ASTNode)
+		 * @since 3.33
+		 */
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			if (fJobVisitedNodes == null)
+				return true;
+			if (!fJobVisitedNodes.test(node))
+				return false;
+			if (node instanceof BodyDeclaration && System.currentTimeMillis() - fJobBatchStart > BATCH_BUDGET) {
+				// all positions before the node are complete
+				int boundary= node.getStartPosition();
+				presentBatch(offset -> offset < boundary && !isVisible(offset));
+				return !fJobPresenter.isCanceled();
+			}
+			return true;
+		}
+
 		/**
 		 * Add a position with the given range and highlighting iff it does not exist already.
 		 * @param offset The range offset
@@ -266,6 +312,17 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 * @param highlighting The highlighting
 		 */
 		private void addPosition(int offset, int length, Highlighting highlighting) {
+			if (fJobVisitedOffsets != null && !fJobVisitedOffsets.test(offset))
+				return;
+			if (fJobPositionCounts != null) {
+				for (int i= 0; i < fJobHighlightings.length; i++) {
+					if (fJobHighlightings[i] == highlighting) {
+						fJobPositionCounts[i]++;
+						break;
+					}
+				}
+			}
+
 			boolean isExisting= false;
 			// TODO: use binary search
 			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
@@ -326,6 +383,18 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 	}
 
+	/**
+	 * Length of a compilation unit from which on the visible region is highlighted first.
+	 * @since 3.33
+	 */
+	private static final int LARGE_UNIT_LENGTH= 100000;
+	/**
+	 * Time in milliseconds after which the positions collected outside of the visible region are
+	 * presented.
+	 * @since 3.33
+	 */
+	private static final long BATCH_BUDGET= 100;
+
 	/** Position collector */
 	private PositionCollector fCollector= new PositionCollector();
 
@@ -376,6 +445,73 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private Highlighting fJobDeprecatedMemberHighlighting;
 
+	/**
+	 * The region of the document shown in the viewer, or <code>null</code> if unknown. Updated in
+	 * the UI thread.
+	 * @since 3.33
+	 */
+	private volatile IRegion fVisibleRegion;
+	/**
+	 * The viewport listener that updates the visible region.
+	 * @since 3.33
+	 */
+	private final IViewportListener fViewportListener= verticalOffset -> updateVisibleRegion();
+	/**
+	 * The control listener that updates the visible region when the text widget is resized.
+	 * @since 3.33
+	 */
+	private final ControlListener fControlListener= new ControlAdapter() {
+		@Override
+		public void controlResized(ControlEvent e) {
+			updateVisibleRegion();
+		}
+	};
+	/**
+	 * The text widget the control listener is registered on, or <code>null</code>.
+	 * @since 3.33
+	 */
+	private StyledText fTextWidget;
+	/**
+	 * The visible region - cache for background thread, only set during a reconcile that
+	 * highlights the visible region first.
+	 * @since 3.33
+	 */
+	private IRegion fJobVisibleRegion;
+	/**
+	 * The nodes that are visited in the current pass - cache for background thread, or
+	 * <code>null</code> if all nodes are visited.
+	 * @since 3.33
+	 */
+	private Predicate<ASTNode> fJobVisitedNodes;
+	/**
+	 * The offsets of the positions that are collected in the current pass - cache for background
+	 * thread, or <code>null</code> if all positions are collected.
+	 * @since 3.33
+	 */
+	private IntPredicate fJobVisitedOffsets;
+	/**
+	 * The start time of the current batch of positions outside of the visible region.
+	 * @since 3.33
+	 */
+	private long fJobBatchStart;
+	/**
+	 * The number of presented batches - cache for background thread.
+	 * @since 3.33
+	 */
+	private int fJobBatchCount;
+	/**
+	 * The time in nanoseconds spent in each semantic highlighting - cache for background thread,
+	 * only set while tracing.
+	 * @since 3.33
+	 */
+	private long[] fJobTimes;
+	/**
+	 * The number of positions collected for each highlighting - cache for background thread, only
+	 * set while tracing.
+	 * @since 3.33
+	 */
+	private int[] fJobPositionCounts;
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener#aboutToBeReconciled()
 	 */
@@ -404,6 +540,13 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (fJobPresenter == null || fJobSemanticHighlightings == null || fJobHighlightings == null)
 				return;
 
+			long start= System.currentTimeMillis();
+			if (JavaPlugin.DEBUG_SEMANTIC_HIGHLIGHTING) {
+				fJobTimes= new long[fJobSemanticHighlightings.length];
+				fJobPositionCounts= new int[fJobSemanticHighlightings.length];
+			}
+			fJobBatchCount= 0;
+
 			fJobPresenter.setCanceled(progressMonitor.isCanceled());
 
 			if (ast == null || fJobPresenter.isCanceled())
@@ -435,11 +578,16 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
 
 			stopReconcilingPositions();
+
+			if (fJobTimes != null)
+				trace(ast, start);
 		} finally {
 			fJobPresenter= null;
 			fJobSemanticHighlightings= null;
 			fJobHighlightings= null;
 			fJobDeprecatedMemberHighlighting= null;
+			fJobTimes= null;
+			fJobPositionCounts= null;
 			synchronized (fReconcileLock) {
 				fIsReconciling= false;
 			}
@@ -471,10 +619,13 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	private void reconcilePositions(ASTNode[] subtrees) {
 		// FIXME: remove positions not covered by subtrees
 
-
-
-		for (ASTNode subtree : subtrees)
-			subtree.accept(fCollector);
+		IRegion visibleRegion= fVisibleRegion;
+		if (visibleRegion != null && subtrees.length == 1 && subtrees[0].getLength() > LARGE_UNIT_LENGTH) {
+			reconcileVisibleRegionFirst(subtrees[0], visibleRegion);
+		} else {
+			for (ASTNode subtree : subtrees)
+				subtree.accept(fCollector);
+		}
 		List<Position> oldPositions= fRemovedPositions;
 		List<Position> newPositions= new ArrayList<>(fNOfRemovedPositions);
 		for (Position current : oldPositions) {
@@ -484,6 +635,92 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fRemovedPositions= newPositions;
 	}
 
+	/**
+	 * Reconciles the positions in the visible region and presents them, then reconciles the rest of
+	 * the AST and presents the positions in batches. The last batch is left to the caller.
+	 *
+	 * @param root the AST
+	 * @param visibleRegion the visible region of the document
+	 * @since 3.33
+	 */
+	private void reconcileVisibleRegionFirst(ASTNode root, IRegion visibleRegion) {
+		fJobVisibleRegion= visibleRegion;
+		try {
+			fJobVisitedNodes= node -> node.getStartPosition() < getVisibleEnd() && node.getStartPosition() + node.getLength() > visibleRegion.getOffset();
+			fJobVisitedOffsets= offset -> isVisible(offset);
+			fJobBatchStart= Long.MAX_VALUE;
+			root.accept(fCollector);
+			presentBatch(offset -> isVisible(offset));
+
+			fJobVisitedNodes= node -> node.getStartPosition() < visibleRegion.getOffset() || node.getStartPosition() + node.getLength() > getVisibleEnd();
+			fJobVisitedOffsets= offset -> !isVisible(offset);
+			fJobBatchStart= System.currentTimeMillis();
+			if (!fJobPresenter.isCanceled())
+				root.accept(fCollector);
+		} finally {
+			fJobVisibleRegion= null;
+			fJobVisitedNodes= null;
+			fJobVisitedOffsets= null;
+		}
+	}
+
+	private int getVisibleEnd() {
+		return fJobVisibleRegion.getOffset() + fJobVisibleRegion.getLength();
+	}
+
+	private boolean isVisible(int offset) {
+		return offset >= fJobVisibleRegion.getOffset() && offset < getVisibleEnd();
+	}
+
+	/**
+	 * Presents the added positions and the removed positions with an offset accepted by the given
+	 * predicate.
+	 *
+	 * @param offsets the offsets of the removed positions to present
+	 * @since 3.33
+	 */
+	private void presentBatch(IntPredicate offsets) {
+		List<Position> removedPositions= new ArrayList<>();
+		for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
+			Position position= fRemovedPositions.get(i);
+			if (position != null && offsets.test(position.getOffset())) {
+				removedPositions.add(position);
+				fRemovedPositions.set(i, null);
+				fNOfRemovedPositions--;
+			}
+		}
+		if (!fJobPresenter.isCanceled()) {
+			TextPresentation textPresentation= fJobPresenter.createPresentation(fAddedPositions, removedPositions);
+			if (!fJobPresenter.isCanceled())
+				updatePresentation(textPresentation, fAddedPositions, removedPositions);
+		}
+		fAddedPositions.clear();
+		fJobBatchCount++;
+		fJobBatchStart= System.currentTimeMillis();
+	}
+
+	/**
+	 * Prints the time and the number of positions of each enabled semantic highlighting.
+	 *
+	 * @param ast the reconciled AST
+	 * @param start the start time of the reconcile
+	 * @since 3.33
+	 */
+	private void trace(CompilationUnit ast, long start) {
+		ITypeRoot typeRoot= ast.getTypeRoot();
+		StringBuilder buf= new StringBuilder();
+		buf.append("SemanticHighlightingReconciler - reconciled ").append(typeRoot != null ? typeRoot.getElementName() : "AST") //$NON-NLS-1$ //$NON-NLS-2$
+				.append(" in ").append(System.currentTimeMillis() - start).append(" ms, ") //$NON-NLS-1$ //$NON-NLS-2$
+				.append(fJobBatchCount + 1).append(" presentation updates"); //$NON-NLS-1$
+		for (int i= 0; i < fJobSemanticHighlightings.length; i++) {
+			if (fJobHighlightings[i].isEnabled()) {
+				buf.append("\n\t").append(fJobSemanticHighlightings[i].getPreferenceKey()).append(": ") //$NON-NLS-1$ //$NON-NLS-2$
+						.append(fJobTimes[i] / 1000).append(" us, ").append(fJobPositionCounts[i]).append(" positions"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		System.out.println(buf.toString());
+	}
+
 	/**
 	 * Update the presentation.
 	 *
@@ -517,6 +754,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			// check Editor not reused otherwise meanwhile
 			if (fSourceViewer != null && document == fSourceViewer.getDocument()) {
 				runnable.run();
+				updateVisibleRegion();
 			}
 		});
 	}
@@ -546,6 +784,16 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fEditor= editor;
 		fSourceViewer= sourceViewer;
 
+		if (fSourceViewer != null) {
+			fSourceViewer.addViewportListener(fViewportListener);
+			StyledText textWidget= fSourceViewer.getTextWidget();
+			if (textWidget != null && !textWidget.isDisposed()) {
+				fTextWidget= textWidget;
+				fTextWidget.addControlListener(fControlListener);
+			}
+			updateVisibleRegion();
+		}
+
 		if (fEditor instanceof CompilationUnitEditor) {
 			if (registerAsEditorReconcilingListener()) {
 				((CompilationUnitEditor)fEditor).addReconcileListener(this);
@@ -558,6 +806,23 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 	}
 
+	/**
+	 * Updates the visible region of the document, only from the UI thread. Called when the viewer
+	 * scrolls, when the text widget is resized, and after each presentation update.
+	 *
+	 * @since 3.33
+	 */
+	private void updateVisibleRegion() {
+		ISourceViewer sourceViewer= fSourceViewer;
+		if (sourceViewer == null || sourceViewer.getDocument() == null || sourceViewer.getTextWidget() == null || sourceViewer.getTextWidget().isDisposed()) {
+			fVisibleRegion= null;
+			return;
+		}
+		int start= sourceViewer.getTopIndexStartOffset();
+		int end= sourceViewer.getBottomIndexEndOffset();
+		fVisibleRegion= start >= 0 && end > start ? new Region(start, end - start) : null;
+	}
+
 	/**
 	 * Decides if this reconciler should also register itself as a reconciling listener on the editor as part of {@link #install} process.
 	 * @return whether this instance should register itself as a reconciling listener on the editor
@@ -589,7 +854,15 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			fEditor= null;
 		}
 
+		if (fSourceViewer != null)
+			fSourceViewer.removeViewportListener(fViewportListener);
+		if (fTextWidget != null) {
+			if (!fTextWidget.isDisposed())
+				fTextWidget.removeControlListener(fControlListener);
+			fTextWidget= null;
+		}
 		fSourceViewer= null;
+		fVisibleRegion= null;
 		fSemanticHighlightings= null;
 		fHighlightings= null;
 		fPresenter= null;
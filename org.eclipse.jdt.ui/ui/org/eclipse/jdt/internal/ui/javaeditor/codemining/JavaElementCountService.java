@@ -0,0 +1,653 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+import org.eclipse.jdt.internal.corext.util.StructuralDeltaCache;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesPropertyTester;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+/**
+ * Counts the references and implementations of Java elements for the code minings.
+ * <p>
+ * The requests of the code minings of an editor are collected for a short time and answered
+ * together: every distinct element is counted only once, and the type hierarchy of a type is
+ * computed once for the type and all of its methods. The counts are cached until a Java element
+ * delta might have changed them:
+ * </p>
+ * <ul>
+ * <li>a change or the removal of a compilation unit drops the counts of the elements whose name
+ * occurs in the old or the new source of the unit, and the reference counts with matches in the
+ * unit,</li>
+ * <li>changes of the type hierarchy or the classpath, and changes of compilation units without
+ * fine-grained information, drop all implementation counts, and super type and classpath changes
+ * also drop all reference counts.</li>
+ * </ul>
+ *
+ * @since 3.33
+ */
+public final class JavaElementCountService {
+
+	private enum Kind {
+		REFERENCES, IMPLEMENTATIONS
+	}
+
+	private static final class Request {
+		final IJavaElement fElement;
+		final Kind fKind;
+		final String fKey;
+		final IProgressMonitor fMonitor;
+		final CompletableFuture<Long> fResult= new CompletableFuture<>();
+
+		Request(IJavaElement element, Kind kind, String key, IProgressMonitor monitor) {
+			fElement= element;
+			fKind= kind;
+			fKey= key;
+			fMonitor= monitor;
+		}
+	}
+
+	private static final class Count {
+		final long fCount;
+		final Kind fKind;
+		/**
+		 * The name whose occurrences can change the count, or <code>null</code> if the count only
+		 * changes with the type hierarchy.
+		 */
+		final String fName;
+		/**
+		 * The handle identifiers of the compilation units that contain matches.
+		 */
+		final Set<String> fUnits;
+
+		Count(long count, Kind kind, String name, Set<String> units) {
+			fCount= count;
+			fKind= kind;
+			fName= name;
+			fUnits= units;
+		}
+	}
+
+	/**
+	 * Collects the requests for the elements of one editor and answers them in one batch.
+	 */
+	private final class RequestCoalescer extends Job {
+		private final ITypeRoot fInput;
+		private final List<Request> fRequests= new ArrayList<>();
+
+		RequestCoalescer(ITypeRoot input) {
+			super(JavaCodeMiningMessages.JavaElementCountService_job_name);
+			fInput= input;
+			setSystem(true);
+		}
+
+		void add(Request request) {
+			synchronized (fRequests) {
+				fRequests.add(request);
+			}
+			schedule(COALESCE_DELAY);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			List<Request> requests;
+			synchronized (fRequests) {
+				requests= new ArrayList<>(fRequests);
+				fRequests.clear();
+			}
+			if (!requests.isEmpty()) {
+				processBatch(requests, monitor);
+			}
+			synchronized (fCoalescers) {
+				synchronized (fRequests) {
+					if (fRequests.isEmpty() && fCoalescers.get(fInput) == this) {
+						fCoalescers.remove(fInput);
+					}
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	/**
+	 * The time in milliseconds for which requests are collected before they are answered.
+	 */
+	private static final long COALESCE_DELAY= 50;
+
+	private static final int MAX_COUNTS= 5000;
+	private static final int MAX_HIERARCHIES= 20;
+	private static final int MAX_UNIT_NAMES= 100;
+
+	private static JavaElementCountService fgInstance;
+
+	public static synchronized JavaElementCountService getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new JavaElementCountService();
+			JavaCore.addElementChangedListener(fgInstance::elementChanged, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgInstance;
+	}
+
+	private final Map<ITypeRoot, RequestCoalescer> fCoalescers= new HashMap<>();
+
+	private final LRUMap<String, Count> fCounts= new LRUMap<>(MAX_COUNTS);
+	private final LRUMap<String, ITypeHierarchy> fHierarchies= new LRUMap<>(MAX_HIERARCHIES);
+	/**
+	 * The names in the last known source of a compilation unit, by handle identifier of the unit.
+	 */
+	private final LRUMap<String, Set<String>> fUnitNames= new LRUMap<>(MAX_UNIT_NAMES);
+
+	private final AtomicLong fRequestCount= new AtomicLong();
+	private final AtomicLong fCacheHits= new AtomicLong();
+	private final AtomicLong fSearchCount= new AtomicLong();
+	private final AtomicLong fSearchTime= new AtomicLong();
+	private final AtomicLong fHierarchyCount= new AtomicLong();
+	private final AtomicLong fHierarchyTime= new AtomicLong();
+	private final AtomicLong fBatchCount= new AtomicLong();
+	private final AtomicLong fResolveCount= new AtomicLong();
+	private final AtomicLong fResolveTime= new AtomicLong();
+
+	private JavaElementCountService() {
+	}
+
+	/**
+	 * Returns the number of references to the given element in compilation units and class files.
+	 *
+	 * @param element the element
+	 * @param monitor the monitor of the requesting code mining
+	 * @return the future number of references
+	 */
+	public CompletableFuture<Long> countReferences(IJavaElement element, IProgressMonitor monitor) {
+		boolean ignoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+		return request(element, Kind.REFERENCES, (ignoreInaccurate ? "R" : "r") + element.getHandleIdentifier(), monitor); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Returns the number of subtypes of a type, or the number of subtypes that declare a method,
+	 * in compilation units.
+	 *
+	 * @param element the type or method
+	 * @param monitor the monitor of the requesting code mining
+	 * @return the future number of implementations
+	 */
+	public CompletableFuture<Long> countImplementations(IJavaElement element, IProgressMonitor monitor) {
+		return request(element, Kind.IMPLEMENTATIONS, "I" + element.getHandleIdentifier(), monitor); //$NON-NLS-1$
+	}
+
+	private CompletableFuture<Long> request(IJavaElement element, Kind kind, String key, IProgressMonitor monitor) {
+		fRequestCount.incrementAndGet();
+		Count count;
+		synchronized (this) {
+			count= fCounts.get(key);
+		}
+		if (count != null) {
+			fCacheHits.incrementAndGet();
+			return CompletableFuture.completedFuture(Long.valueOf(count.fCount));
+		}
+
+		ITypeRoot input= element instanceof IMember ? ((IMember) element).getTypeRoot() : null;
+		Request request= new Request(element, kind, key, monitor);
+		if (input == null) {
+			processBatch(List.of(request), IProgressMonitor.nullSafe(monitor));
+		} else {
+			boolean created= false;
+			synchronized (fCoalescers) {
+				RequestCoalescer coalescer= fCoalescers.get(input);
+				if (coalescer == null) {
+					coalescer= new RequestCoalescer(input);
+					fCoalescers.put(input, coalescer);
+					created= true;
+				}
+				coalescer.add(request);
+			}
+			if (created) {
+				rememberNames(input);
+			}
+		}
+		return request.fResult;
+	}
+
+	/**
+	 * Returns the type hierarchy of the given type. The hierarchy is shared by the code minings
+	 * until the type hierarchy changes.
+	 *
+	 * @param type the type
+	 * @param monitor the progress monitor
+	 * @return the type hierarchy
+	 * @throws JavaModelException if the hierarchy could not be computed
+	 */
+	public ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor monitor) throws JavaModelException {
+		String key= type.getHandleIdentifier();
+		synchronized (this) {
+			ITypeHierarchy hierarchy= fHierarchies.get(key);
+			if (hierarchy != null)
+				return hierarchy;
+		}
+		long start= System.currentTimeMillis();
+		ITypeHierarchy hierarchy= type.newTypeHierarchy(monitor);
+		fHierarchyCount.incrementAndGet();
+		fHierarchyTime.addAndGet(System.currentTimeMillis() - start);
+		synchronized (this) {
+			fHierarchies.put(key, hierarchy);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Returns the subtypes of the given type that are declared in compilation units.
+	 *
+	 * @param type the type
+	 * @param monitor the progress monitor
+	 * @return the subtypes in source
+	 * @throws JavaModelException if the hierarchy could not be computed
+	 */
+	public List<IType> getSourceSubtypes(IType type, IProgressMonitor monitor) throws JavaModelException {
+		List<IType> result= new ArrayList<>();
+		for (IType subtype : getTypeHierarchy(type, monitor).getAllSubtypes(type)) {
+			if (subtype.getAncestor(IJavaElement.COMPILATION_UNIT) != null) {
+				result.add(subtype);
+			}
+		}
+		return result;
+	}
+
+	private void processBatch(List<Request> requests, IProgressMonitor monitor) {
+		long start= System.currentTimeMillis();
+		long searches= fSearchCount.get();
+		long hierarchies= fHierarchyCount.get();
+		fBatchCount.incrementAndGet();
+
+		Map<String, List<Request>> distinct= new LinkedHashMap<>();
+		for (Request request : requests) {
+			if (request.fMonitor != null && request.fMonitor.isCanceled()) {
+				request.fResult.cancel(false);
+			} else {
+				distinct.computeIfAbsent(request.fKey, k -> new ArrayList<>()).add(request);
+			}
+		}
+
+		SearchEngine engine= new SearchEngine();
+		Map<Boolean, IJavaSearchScope> scopes= new HashMap<>();
+		for (List<Request> sameRequests : distinct.values()) {
+			Request request= sameRequests.get(0);
+			Count count;
+			synchronized (this) {
+				count= fCounts.get(request.fKey);
+			}
+			try {
+				if (count != null) {
+					fCacheHits.addAndGet(sameRequests.size());
+				} else if (monitor.isCanceled()) {
+					for (Request same : sameRequests) {
+						same.fResult.cancel(false);
+					}
+					continue;
+				} else {
+					count= request.fKind == Kind.REFERENCES
+							? countReferences(request, engine, scopes)
+							: countImplementations(request, monitor);
+					synchronized (this) {
+						fCounts.put(request.fKey, count);
+					}
+				}
+				for (Request same : sameRequests) {
+					same.fResult.complete(Long.valueOf(count.fCount));
+				}
+			} catch (CoreException | RuntimeException e) {
+				for (Request same : sameRequests) {
+					same.fResult.completeExceptionally(e);
+				}
+			}
+		}
+
+		if (JavaPlugin.DEBUG_CODE_MINING) {
+			System.out.println("JavaElementCountService - batch of " + requests.size() + " requests (" + distinct.size() + " distinct): " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (fSearchCount.get() - searches) + " searches, " + (fHierarchyCount.get() - hierarchies) + " hierarchies in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + " ms; " + this); //$NON-NLS-1$
+		}
+	}
+
+	private Count countReferences(Request request, SearchEngine engine, Map<Boolean, IJavaSearchScope> scopes) throws CoreException {
+		IJavaElement element= request.fElement;
+		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		if (pattern == null) {
+			return new Count(0, Kind.REFERENCES, null, Set.of());
+		}
+
+		JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+		IJavaSearchScope scope= scopes.computeIfAbsent(Boolean.valueOf(factory.isInsideJRE(element)), insideJRE -> factory.createWorkspaceScope(insideJRE.booleanValue()));
+		boolean ignoreInaccurate= request.fKey.startsWith("R"); //$NON-NLS-1$
+		AtomicLong count= new AtomicLong();
+		Set<String> units= new HashSet<>();
+		long start= System.currentTimeMillis();
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, new SearchRequestor() {
+			@Override
+			public void acceptSearchMatch(SearchMatch match) {
+				if (match.getAccuracy() == SearchMatch.A_INACCURATE && ignoreInaccurate) {
+					return;
+				}
+				Object o= match.getElement();
+				if (o instanceof IJavaElement) {
+					IJavaElement e= (IJavaElement) o;
+					IJavaElement unit= e.getAncestor(IJavaElement.COMPILATION_UNIT);
+					if (unit != null) {
+						units.add(((ICompilationUnit) unit).getPrimary().getHandleIdentifier());
+						count.incrementAndGet();
+					} else if (e.getAncestor(IJavaElement.CLASS_FILE) != null) {
+						count.incrementAndGet();
+					}
+				}
+			}
+		}, request.fMonitor);
+		fSearchCount.incrementAndGet();
+		fSearchTime.addAndGet(System.currentTimeMillis() - start);
+		return new Count(count.get(), Kind.REFERENCES, getName(element), units);
+	}
+
+	private Count countImplementations(Request request, IProgressMonitor monitor) throws JavaModelException {
+		IJavaElement element= request.fElement;
+		if (element instanceof IType) {
+			return new Count(getSourceSubtypes((IType) element, monitor).size(), Kind.IMPLEMENTATIONS, null, Set.of());
+		}
+		IMethod method= (IMethod) element;
+		long count= 0;
+		for (IType subtype : getSourceSubtypes(method.getDeclaringType(), monitor)) {
+			if (subtype.getMethod(method.getElementName(), method.getParameterTypes()).exists()) {
+				count++;
+			}
+		}
+		return new Count(count, Kind.IMPLEMENTATIONS, method.getElementName(), Set.of());
+	}
+
+	private static String getName(IJavaElement element) {
+		return element.getElementName();
+	}
+
+	/**
+	 * Records that a code mining has been resolved.
+	 *
+	 * @param mining the resolved code mining
+	 * @param start the time in milliseconds at which the resolution started
+	 */
+	void resolved(AbstractJavaElementLineHeaderCodeMining mining, long start) {
+		long time= System.currentTimeMillis() - start;
+		fResolveCount.incrementAndGet();
+		fResolveTime.addAndGet(time);
+		if (JavaPlugin.DEBUG_CODE_MINING) {
+			System.out.println(mining.getClass().getSimpleName() + " - resolved " + mining.getElement().getElementName() + " in " + time + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "JavaElementCountService [resolved=" + fResolveCount.get() + " (" + fResolveTime.get() + " ms), requests=" + fRequestCount.get() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", cacheHits=" + fCacheHits.get() + ", batches=" + fBatchCount.get() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", searches=" + fSearchCount.get() + " (" + fSearchTime.get() + " ms), hierarchies=" + fHierarchyCount.get() + " (" + fHierarchyTime.get() + " ms), cached=" + fCounts.size() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+	}
+
+	public long getRequestCount() {
+		return fRequestCount.get();
+	}
+
+	public long getCacheHits() {
+		return fCacheHits.get();
+	}
+
+	public long getSearchCount() {
+		return fSearchCount.get();
+	}
+
+	public long getHierarchyCount() {
+		return fHierarchyCount.get();
+	}
+
+	public long getBatchCount() {
+		return fBatchCount.get();
+	}
+
+	public synchronized void clear() {
+		fCounts.clear();
+		fHierarchies.clear();
+		fUnitNames.clear();
+	}
+
+	//---- invalidation
+
+	private void rememberNames(ITypeRoot input) {
+		if (input instanceof ICompilationUnit) {
+			ICompilationUnit unit= ((ICompilationUnit) input).getPrimary();
+			Set<String> names= collectNames(unit);
+			if (names != null) {
+				synchronized (this) {
+					fUnitNames.put(unit.getHandleIdentifier(), names);
+				}
+			}
+		}
+	}
+
+	private synchronized void clearImplementations() {
+		fHierarchies.clear();
+		fCounts.values().removeIf(count -> count.fKind == Kind.IMPLEMENTATIONS);
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		processDelta(event.getDelta());
+	}
+
+	/**
+	 * Processes the given Java element delta.
+	 *
+	 * @param delta the delta
+	 * @return <code>false</code> if all counts have been dropped
+	 */
+	private boolean processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (StructuralDeltaCache.isClasspathChange(delta)) {
+					clear();
+					return false;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit= (ICompilationUnit) element;
+				if (unit.getOwner() != null) // non-shared working copy
+					return true;
+				int flags= delta.getFlags();
+				if (delta.getKind() == IJavaElementDelta.CHANGED && (flags == IJavaElementDelta.F_AST_AFFECTED || flags == IJavaElementDelta.F_PRIMARY_RESOURCE))
+					return true;
+				int hierarchyChange= getHierarchyChange(delta);
+				if ((hierarchyChange & IJavaElementDelta.F_SUPER_TYPES) != 0) {
+					clear();
+					return false;
+				}
+				if (hierarchyChange != 0 || delta.getKind() != IJavaElementDelta.CHANGED || (flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+					clearImplementations();
+				}
+				unitChanged(unit, delta.getKind() == IJavaElementDelta.REMOVED);
+				return true;
+			default: // class files
+				clear();
+				return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!processDelta(child))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the given delta changes the type hierarchy.
+	 *
+	 * @param delta the delta
+	 * @return {@link IJavaElementDelta#F_SUPER_TYPES} if super types have changed,
+	 *         {@link IJavaElementDelta#ADDED} if types have been added or removed, or 0
+	 */
+	private static int getHierarchyChange(IJavaElementDelta delta) {
+		if ((delta.getFlags() & IJavaElementDelta.F_SUPER_TYPES) != 0)
+			return IJavaElementDelta.F_SUPER_TYPES;
+		int result= 0;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() == IJavaElement.TYPE && child.getKind() != IJavaElementDelta.CHANGED)
+				result= IJavaElementDelta.ADDED;
+			int childChange= getHierarchyChange(child);
+			if (childChange == IJavaElementDelta.F_SUPER_TYPES)
+				return childChange;
+			result|= childChange;
+		}
+		return result;
+	}
+
+	/**
+	 * Drops the counts that might be affected by a change of the given compilation unit.
+	 *
+	 * @param unit the changed compilation unit
+	 * @param removed <code>true</code> if the compilation unit has been removed
+	 */
+	private void unitChanged(ICompilationUnit unit, boolean removed) {
+		synchronized (this) {
+			if (fCounts.isEmpty() && fUnitNames.isEmpty())
+				return;
+		}
+
+		String handle= unit.getPrimary().getHandleIdentifier();
+		Set<String> newNames= removed ? Set.of() : collectNames(unit);
+		boolean remembered= !removed && isRemembered(unit);
+		synchronized (this) {
+			Set<String> oldNames= removed ? fUnitNames.remove(handle) : fUnitNames.get(handle);
+			if (newNames != null && !removed && (oldNames != null || remembered)) {
+				fUnitNames.put(handle, newNames);
+			}
+			Set<String> names= getNames(oldNames, newNames);
+			for (Iterator<Count> iter= fCounts.values().iterator(); iter.hasNext();) {
+				Count count= iter.next();
+				if (count.fUnits.contains(handle)
+						|| count.fName != null && (names == null || names.contains(count.fName))) {
+					iter.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tells whether the names of the given unit are tracked, because it is the input of an editor
+	 * with code minings.
+	 *
+	 * @param unit the compilation unit
+	 * @return <code>true</code> if the names of the unit are tracked
+	 */
+	private boolean isRemembered(ICompilationUnit unit) {
+		synchronized (fCoalescers) {
+			return fCoalescers.containsKey(unit.getPrimary());
+		}
+	}
+
+	/**
+	 * Returns the names that occur in the old or in the new source of a compilation unit. A
+	 * reference can change without changing the number of occurrences of its name, so the counts
+	 * of all these names might have changed. The old matches of the unit are known from
+	 * {@link Count#fUnits}.
+	 *
+	 * @param oldNames the names in the old source, or <code>null</code> if unknown
+	 * @param newNames the names in the new source, or <code>null</code> if unknown
+	 * @return the names, or <code>null</code> if all names might have changed
+	 */
+	private static Set<String> getNames(Set<String> oldNames, Set<String> newNames) {
+		if (newNames == null)
+			return null;
+		if (oldNames == null)
+			return newNames;
+		Set<String> result= new HashSet<>(newNames);
+		result.addAll(oldNames);
+		return result;
+	}
+
+	/**
+	 * Collects the identifiers in the source of the given compilation unit. Comments and string
+	 * literals are not skipped.
+	 *
+	 * @param unit the compilation unit
+	 * @return the identifiers, or <code>null</code> if the source is not available
+	 */
+	private static Set<String> collectNames(ICompilationUnit unit) {
+		String source;
+		try {
+			source= unit.getSource();
+		} catch (JavaModelException e) {
+			return null;
+		}
+		if (source == null)
+			return null;
+
+		Set<String> names= new HashSet<>();
+		int length= source.length();
+		int i= 0;
+		while (i < length) {
+			if (Character.isJavaIdentifierStart(source.charAt(i))) {
+				int start= i++;
+				while (i < length && Character.isJavaIdentifierPart(source.charAt(i)))
+					i++;
+				names.add(source.substring(start, i));
+			} else {
+				i++;
+			}
+		}
+		return names;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Angelo Zerr and others.
+ * Copyright (c) 2019, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,8 +19,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.MouseEvent;
@@ -74,58 +72,54 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 
 	@Override
 	protected CompletableFuture<Void> doResolve(ITextViewer viewer, IProgressMonitor monitor) {
-		return CompletableFuture.runAsync(() -> {
-			try {
-				IJavaElement element= super.getElement();
-				if (element instanceof IType) {
-					// for a type, count types implementing this type and show type hierarchy
-					final long typeImplCount= countTypeImplementations((IType) element, monitor);
-					action= typeImplCount > 0 ? e -> {
-						if (typeImplCount == 1 && (e.stateMask & SWT.CTRL) == SWT.CTRL) {
-							// Ctrl + Click is done, open the referenced element in the Java Editor
-							try {
-								IType javaElement= getTypeImplementation((IType)element, monitor);
-								showJavaElementInEditor(javaElement);
-							} catch (CoreException e1) {
-								// Should never occur
-							}
-						} else {
-							// Otherwise, launch open type hierarchy
-							new OpenTypeHierarchyAction(editor).run(new StructuredSelection(element));
+		IJavaElement element= super.getElement();
+		if (!(element instanceof IType) && !(element instanceof IMethod)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		long start= System.currentTimeMillis();
+		JavaElementCountService service= JavaElementCountService.getDefault();
+		return service.countImplementations(element, monitor).thenAccept(count -> {
+			long implCount= count.longValue();
+			if (element instanceof IType) {
+				// for a type, count types implementing this type and show type hierarchy
+				action= implCount > 0 ? e -> {
+					if (implCount == 1 && (e.stateMask & SWT.CTRL) == SWT.CTRL) {
+						// Ctrl + Click is done, open the referenced element in the Java Editor
+						try {
+							IType javaElement= getTypeImplementation((IType)element, monitor);
+							showJavaElementInEditor(javaElement);
+						} catch (CoreException e1) {
+							// Should never occur
 						}
-					} : null;
-					if (typeImplCount == 0 && showImplementationsAtLeastOne) {
-						super.setLabel(""); //$NON-NLS-1$
 					} else {
-						super.setLabel(MessageFormat.format(JavaCodeMiningMessages.JavaImplementationCodeMining_label, typeImplCount));
+						// Otherwise, launch open type hierarchy
+						new OpenTypeHierarchyAction(editor).run(new StructuredSelection(element));
 					}
-				} else if (element instanceof IMethod) {
-					// for a method, count declarations in hierarchy and show search->declarations->hierarchy
-					final long methodImplCount= countMethodImplementations((IMethod) element, monitor);
-					action= methodImplCount > 0 ? e -> {
-						if (methodImplCount == 1 && (e.stateMask & SWT.CTRL) == SWT.CTRL) {
-							// Ctrl + Click is done, open the referenced element in the Java Editor
-							try {
-								IMethod javaElement= getMethodImplementation((IMethod)element, monitor);
-								showJavaElementInEditor(javaElement);
-							} catch (CoreException e1) {
-								// Should never occur
-							}
-						} else {
-							// Otherwise, launch find declarations in type hierarchy
-							new FindDeclarationsInHierarchyAction(editor, true).run(element);
+				} : null;
+			} else {
+				// for a method, count declarations in hierarchy and show search->declarations->hierarchy
+				action= implCount > 0 ? e -> {
+					if (implCount == 1 && (e.stateMask & SWT.CTRL) == SWT.CTRL) {
+						// Ctrl + Click is done, open the referenced element in the Java Editor
+						try {
+							IMethod javaElement= getMethodImplementation((IMethod)element, monitor);
+							showJavaElementInEditor(javaElement);
+						} catch (CoreException e1) {
+							// Should never occur
 						}
-					} : null;
-					if (methodImplCount == 0 && showImplementationsAtLeastOne) {
-						super.setLabel(""); //$NON-NLS-1$
 					} else {
-						super.setLabel(MessageFormat.format(JavaCodeMiningMessages.JavaImplementationCodeMining_label, methodImplCount));
+						// Otherwise, launch find declarations in type hierarchy
+						new FindDeclarationsInHierarchyAction(editor, true).run(element);
 					}
-				}
-			} catch (CoreException e1) {
-				// Should never occur
+				} : null;
+			}
+			if (implCount == 0 && showImplementationsAtLeastOne) {
+				super.setLabel(""); //$NON-NLS-1$
+			} else {
+				super.setLabel(MessageFormat.format(JavaCodeMiningMessages.JavaImplementationCodeMining_label, implCount));
 			}
-		});
+			service.resolved(this, start);
+		}).exceptionally(e -> null); // Should never occur
 	}
 
 	@Override
@@ -152,19 +146,6 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 		}
 	}
 
-	/**
-	 * Return the count of implementation for the given java element type.
-	 *
-	 * @param type the java element type.
-	 * @param monitor the monitor
-	 * @return the count of implementation for the given java element type.
-	 * @throws JavaModelException throws when Java error
-	 */
-	private static long countTypeImplementations(IType type, IProgressMonitor monitor) throws JavaModelException {
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
-		return Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).count();
-	}
-
 	/**
 	 * Return the first implementation for the given java element type.
 	 *
@@ -174,27 +155,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @throws JavaModelException throws when Java error
 	 */
 	private static IType getTypeImplementation(IType type, IProgressMonitor monitor) throws JavaModelException {
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
-		return Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).findFirst().get();
-	}
-
-	/**
-	 * Return the count of implementation for the java element method.
-	 *
-	 * @param method the java element method.
-	 * @param monitor the monitor
-	 * @return the count of implementation for the given java element method.
-	 * @throws CoreException throws when java error
-	 */
-	private static long countMethodImplementations(IMethod method, IProgressMonitor monitor) throws CoreException {
-		if (method == null) {
-			return 0;
-		}
-		IType type= method.getDeclaringType();
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
-		List<IType> list= Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).collect(Collectors.toList());
-		long count= list.stream().filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).count();
-		return count;
+		return JavaElementCountService.getDefault().getSourceSubtypes(type, monitor).get(0);
 	}
 
 	/**
@@ -206,9 +167,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @throws CoreException throws when java error
 	 */
 	private static IMethod getMethodImplementation(IMethod method, IProgressMonitor monitor) throws CoreException {
-		IType type= method.getDeclaringType();
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
-		List<IType> list= Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).collect(Collectors.toList());
+		List<IType> list= JavaElementCountService.getDefault().getSourceSubtypes(method.getDeclaringType(), monitor);
 		Optional<IType> foundType= list.stream().filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).findFirst();
 		return foundType.get().getMethod(method.getElementName(), method.getParameterTypes());
 	}
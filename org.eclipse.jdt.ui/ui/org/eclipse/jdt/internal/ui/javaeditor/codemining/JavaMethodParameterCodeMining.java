@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Angelo Zerr and others.
+ * Copyright (c) 2018, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,11 @@ public class JavaMethodParameterCodeMining extends LineContentCodeMining {
 		setLabel(text.toString());
 	}
 
+	JavaMethodParameterCodeMining(Position position, String label, ICodeMiningProvider provider) {
+		super(position, provider, null);
+		setLabel(label);
+	}
+
 	@Override
 	public boolean isResolved() {
 		return true;
@@ -0,0 +1,416 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.codemining.ICodeMining;
+import org.eclipse.jface.text.codemining.ICodeMiningProvider;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Collects the parameter name code minings of a Java editor.
+ * <p>
+ * The minings are computed from the AST of the {@link SharedASTProviderCore} if it is available.
+ * Otherwise, if the last change of the editor input is inside the body of a single method, only
+ * that body is resolved again and the minings of the other members are moved to their new
+ * positions. The input is only parsed completely if neither is possible, or if an element that
+ * the minings of the input depend on might have changed.
+ * </p>
+ *
+ * @since 3.33
+ */
+public class JavaMethodParameterCodeMiningCollector {
+
+	private static final class Mining {
+		final int fOffset;
+		final int fLength;
+		final String fLabel;
+
+		Mining(int offset, int length, String label) {
+			fOffset= offset;
+			fLength= length;
+			fLabel= label;
+		}
+	}
+
+	/**
+	 * The minings of a top-level body declaration, relative to the start of the declaration.
+	 */
+	private static final class Region {
+		final int fStart;
+		final int fEnd;
+		/**
+		 * The range of the method body, or -1 if the declaration is not a method with a body.
+		 */
+		final int fBodyStart;
+		final int fBodyEnd;
+		final List<Mining> fMinings= new ArrayList<>();
+
+		Region(int start, int end, int bodyStart, int bodyEnd) {
+			fStart= start;
+			fEnd= end;
+			fBodyStart= bodyStart;
+			fBodyEnd= bodyEnd;
+		}
+
+		Region(BodyDeclaration node) {
+			this(node.getStartPosition(), node.getStartPosition() + node.getLength(), getBodyStart(node), getBodyEnd(node));
+		}
+
+		Region shift(int delta) {
+			Region region= new Region(fStart + delta, fEnd + delta, fBodyStart == -1 ? -1 : fBodyStart + delta, fBodyEnd == -1 ? -1 : fBodyEnd + delta);
+			region.fMinings.addAll(fMinings);
+			return region;
+		}
+
+		boolean contains(int offset, int length) {
+			return fStart <= offset && offset + length <= fEnd;
+		}
+
+		private static int getBodyStart(BodyDeclaration node) {
+			Block body= node instanceof MethodDeclaration ? ((MethodDeclaration) node).getBody() : null;
+			return body != null ? body.getStartPosition() : -1;
+		}
+
+		private static int getBodyEnd(BodyDeclaration node) {
+			Block body= node instanceof MethodDeclaration ? ((MethodDeclaration) node).getBody() : null;
+			return body != null ? body.getStartPosition() + body.getLength() : -1;
+		}
+	}
+
+	private final ICodeMiningProvider fProvider;
+	private final IElementChangedListener fListener;
+
+	private ITypeRoot fInput;
+	private String fSource;
+	private List<Region> fRegions;
+	private String fPreferences;
+	private volatile boolean fStale;
+
+	private int fSharedASTCount;
+	private int fIncrementalCount;
+	private int fFullParseCount;
+
+	public JavaMethodParameterCodeMiningCollector(ICodeMiningProvider provider) {
+		fProvider= provider;
+		fListener= event -> {
+			ITypeRoot input= fInput;
+			if (input != null && affectsOtherElements(event.getDelta(), input)) {
+				fStale= true;
+			}
+		};
+		JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	public void dispose() {
+		JavaCore.removeElementChangedListener(fListener);
+		synchronized (this) {
+			fInput= null;
+			fSource= null;
+			fRegions= null;
+		}
+	}
+
+	/**
+	 * Collects the parameter name code minings of the given input.
+	 *
+	 * @param input the input of the editor
+	 * @param monitor the progress monitor
+	 * @return the code minings
+	 * @throws JavaModelException if the source of the input is not available
+	 */
+	public synchronized List<ICodeMining> collect(ITypeRoot input, IProgressMonitor monitor) throws JavaModelException {
+		long start= System.currentTimeMillis();
+		String source= input.getSource();
+		String preferences= getPreferences();
+		ITypeRoot primary= input instanceof ICompilationUnit ? ((ICompilationUnit) input).getPrimary() : input;
+		if (!primary.equals(fInput) || fStale || !preferences.equals(fPreferences)) {
+			fInput= primary;
+			fStale= false;
+			fPreferences= preferences;
+			fSource= null;
+			fRegions= null;
+		}
+
+		String kind;
+		List<ICodeMining> minings;
+		CompilationUnit ast= SharedASTProviderCore.getAST(input, SharedASTProviderCore.WAIT_NO, monitor);
+		if (source == null) {
+			minings= new ArrayList<>();
+			kind= "no source"; //$NON-NLS-1$
+		} else if (ast != null && ast.getStartPosition() == 0 && ast.getLength() == source.length()) {
+			minings= collect(ast, source);
+			fSharedASTCount++;
+			kind= "shared AST"; //$NON-NLS-1$
+		} else if ((minings= collectIncrementally(input, source)) != null) {
+			fIncrementalCount++;
+			kind= "incremental"; //$NON-NLS-1$
+		} else {
+			ast= JavaMethodParameterCodeMiningProvider.getCompilationUnitNode(input, true);
+			minings= ast != null ? collect(ast, source) : new ArrayList<>();
+			fFullParseCount++;
+			kind= "full parse"; //$NON-NLS-1$
+		}
+
+		if (JavaPlugin.DEBUG_CODE_MINING) {
+			System.out.println("JavaMethodParameterCodeMiningCollector - " + minings.size() + " minings of " + input.getElementName() + " (" + kind + ") in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+		return minings;
+	}
+
+	private List<ICodeMining> collect(CompilationUnit ast, String source) {
+		List<ICodeMining> minings= new ArrayList<>();
+		ast.accept(new CalleeJavaMethodParameterVisitor(minings, fProvider));
+
+		List<Region> regions= new ArrayList<>();
+		for (BodyDeclaration node : getRegionNodes(ast)) {
+			regions.add(new Region(node));
+		}
+		if (addMinings(regions, minings)) {
+			fSource= source;
+			fRegions= regions;
+		} else {
+			fSource= null;
+			fRegions= null;
+		}
+		return minings;
+	}
+
+	/**
+	 * Collects the minings by resolving the method body that contains the change since the last
+	 * call.
+	 *
+	 * @param input the input
+	 * @param source the current source of the input
+	 * @return the minings, or <code>null</code> if the change is not inside the body of a single
+	 *         method
+	 */
+	private List<ICodeMining> collectIncrementally(ITypeRoot input, String source) {
+		if (fRegions == null || fSource == null)
+			return null;
+
+		int prefix= 0;
+		int maxPrefix= Math.min(fSource.length(), source.length());
+		while (prefix < maxPrefix && fSource.charAt(prefix) == source.charAt(prefix))
+			prefix++;
+		int suffix= 0;
+		int maxSuffix= maxPrefix - prefix;
+		while (suffix < maxSuffix && fSource.charAt(fSource.length() - suffix - 1) == source.charAt(source.length() - suffix - 1))
+			suffix++;
+		int oldEnd= fSource.length() - suffix;
+		int delta= source.length() - fSource.length();
+
+		int changed= -1;
+		if (prefix < fSource.length() || delta != 0) {
+			for (int i= 0; i < fRegions.size(); i++) {
+				Region region= fRegions.get(i);
+				if (region.fBodyStart != -1 && region.fBodyStart < prefix && oldEnd < region.fBodyEnd) {
+					changed= i;
+					break;
+				}
+			}
+			if (changed == -1)
+				return null;
+		}
+
+		List<Region> regions= new ArrayList<>(fRegions.size());
+		List<ICodeMining> minings= new ArrayList<>();
+		if (changed == -1) {
+			regions.addAll(fRegions);
+		} else {
+			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+			parser.setSource(input);
+			parser.setResolveBindings(true);
+			parser.setFocalPosition(prefix);
+			CompilationUnit ast= (CompilationUnit) parser.createAST(null);
+
+			List<BodyDeclaration> nodes= getRegionNodes(ast);
+			if (nodes.size() != fRegions.size())
+				return null;
+			for (int i= 0; i < nodes.size(); i++) {
+				Region region= new Region(nodes.get(i));
+				Region expected= i < changed ? fRegions.get(i) : fRegions.get(i).shift(delta);
+				if (region.fStart != expected.fStart || region.fEnd != expected.fEnd)
+					return null;
+				if (i == changed) {
+					List<ICodeMining> changedMinings= new ArrayList<>();
+					nodes.get(i).accept(new CalleeJavaMethodParameterVisitor(changedMinings, fProvider));
+					if (!addMinings(List.of(region), changedMinings))
+						return null;
+					regions.add(region);
+				} else {
+					regions.add(expected);
+				}
+			}
+		}
+
+		for (Region region : regions) {
+			for (Mining mining : region.fMinings) {
+				minings.add(new JavaMethodParameterCodeMining(new Position(region.fStart + mining.fOffset, mining.fLength), mining.fLabel, fProvider));
+			}
+		}
+		fSource= source;
+		fRegions= regions;
+		return minings;
+	}
+
+	/**
+	 * Adds the given minings to the regions that contain them.
+	 *
+	 * @param regions the regions, sorted by offset
+	 * @param minings the minings
+	 * @return <code>false</code> if a mining is not contained in a region
+	 */
+	private static boolean addMinings(List<Region> regions, List<ICodeMining> minings) {
+		for (ICodeMining codeMining : minings) {
+			Position position= codeMining.getPosition();
+			Region region= findRegion(regions, position.getOffset(), position.getLength());
+			if (region == null)
+				return false;
+			region.fMinings.add(new Mining(position.getOffset() - region.fStart, position.getLength(), codeMining.getLabel()));
+		}
+		return true;
+	}
+
+	private static Region findRegion(List<Region> regions, int offset, int length) {
+		int low= 0;
+		int high= regions.size() - 1;
+		while (low <= high) {
+			int mid= (low + high) >>> 1;
+			Region region= regions.get(mid);
+			if (region.fEnd <= offset) {
+				low= mid + 1;
+			} else if (region.fStart > offset) {
+				high= mid - 1;
+			} else {
+				return region.contains(offset, length) ? region : null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the body declarations of the top-level types, sorted by offset.
+	 *
+	 * @param ast the AST
+	 * @return the body declarations
+	 */
+	private static List<BodyDeclaration> getRegionNodes(CompilationUnit ast) {
+		List<BodyDeclaration> nodes= new ArrayList<>();
+		for (Object type : ast.types()) {
+			if (type instanceof EnumDeclaration) {
+				for (Object constant : ((EnumDeclaration) type).enumConstants()) {
+					nodes.add((BodyDeclaration) constant);
+				}
+			}
+			if (type instanceof AbstractTypeDeclaration) {
+				for (Object declaration : ((AbstractTypeDeclaration) type).bodyDeclarations()) {
+					nodes.add((BodyDeclaration) declaration);
+				}
+			}
+		}
+		nodes.sort((n1, n2) -> Integer.compare(n1.getStartPosition(), n2.getStartPosition()));
+		return nodes;
+	}
+
+	private static String getPreferences() {
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		return store.getBoolean(PreferenceConstants.EDITOR_JAVA_CODEMINING_FILTER_IMPLIED_PARAMETER_NAMES)
+				+ "," + store.getBoolean(PreferenceConstants.EDITOR_JAVA_CODEMINING_DEFAULT_FILTER_FOR_PARAMETER_NAMES); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tells whether the given delta might change the bindings of the given input, without being a
+	 * change of the input itself.
+	 *
+	 * @param delta the delta
+	 * @param input the input
+	 * @return <code>true</code> if elements outside the input have changed
+	 */
+	private static boolean affectsOtherElements(IJavaElementDelta delta, ITypeRoot input) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0)
+					return true;
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit= (ICompilationUnit) element;
+				return unit.getOwner() == null && !input.equals(unit.getPrimary());
+			default:
+				return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsOtherElements(child, input))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of collections that used the shared AST
+	 */
+	public synchronized int getSharedASTCount() {
+		return fSharedASTCount;
+	}
+
+	/**
+	 * @return the number of collections that only resolved the changed method body
+	 */
+	public synchronized int getIncrementalCount() {
+		return fIncrementalCount;
+	}
+
+	/**
+	 * @return the number of collections that parsed the whole input
+	 */
+	public synchronized int getFullParseCount() {
+		return fFullParseCount;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Angelo Zerr and others.
+ * Copyright (c) 2017, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.javaeditor.codemining;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -27,7 +26,6 @@ import org.eclipse.jface.text.source.ISourceViewerExtension5;
 
 import org.eclipse.ui.texteditor.ITextEditor;
 
-import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -46,6 +44,8 @@ import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler;
  */
 public class JavaMethodParameterCodeMiningProvider extends AbstractCodeMiningProvider {
 
+	private JavaMethodParameterCodeMiningCollector fCollector;
+
 	@Override
 	public CompletableFuture<List<? extends ICodeMining>> provideCodeMinings(ITextViewer viewer, IProgressMonitor monitor) {
 		if (viewer instanceof ISourceViewerExtension5) {
@@ -63,9 +63,7 @@ public class JavaMethodParameterCodeMiningProvider extends AbstractCodeMiningPro
 				return null;
 			}
 			try {
-				IJavaElement[] elements= unit.getChildren();
-				List<ICodeMining> minings= new ArrayList<>(elements.length);
-				collectLineContentCodeMinings(unit, minings);
+				List<ICodeMining> minings= getCollector().collect(unit, monitor);
 				if (viewer instanceof ISourceViewerExtension5) {
 					ISourceViewerExtension5 codeMiningViewer= (ISourceViewerExtension5)viewer;
 					if (!JavaCodeMiningReconciler.isReconciled(codeMiningViewer)) {
@@ -82,10 +80,22 @@ public class JavaMethodParameterCodeMiningProvider extends AbstractCodeMiningPro
 		});
 	}
 
-	private void collectLineContentCodeMinings(ITypeRoot unit, List<ICodeMining> minings) {
-		CompilationUnit cu= getCompilationUnitNode(unit, true);
-		CalleeJavaMethodParameterVisitor visitor= new CalleeJavaMethodParameterVisitor(minings, this);
-		cu.accept(visitor);
+	private synchronized JavaMethodParameterCodeMiningCollector getCollector() {
+		if (fCollector == null) {
+			fCollector= new JavaMethodParameterCodeMiningCollector(this);
+		}
+		return fCollector;
+	}
+
+	@Override
+	public void dispose() {
+		synchronized (this) {
+			if (fCollector != null) {
+				fCollector.dispose();
+				fCollector= null;
+			}
+		}
+		super.dispose();
 	}
 
 	static CompilationUnit getCompilationUnitNode(ITypeRoot typeRoot, boolean resolveBindings) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,12 @@ package org.eclipse.jdt.internal.ui.packageview;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -28,6 +32,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
@@ -83,6 +88,12 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	protected static final int GRANT_PARENT= 1 << 1;
 	protected static final int PROJECT= 1 << 2;
 
+	/**
+	 * The delay in milliseconds before pending updates are applied, so that the updates of a burst
+	 * of deltas are applied together.
+	 */
+	private static final long UPDATE_DELAY= 20;
+
 	private TreeViewer fViewer;
 	private Object fInput;
 	private boolean fIsFlatLayout;
@@ -93,6 +104,11 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 
 	private UIJob fUpdateJob;
 
+	/**
+	 * The number of viewer refreshes, used to trace the updates of a delta burst.
+	 */
+	private int fRefreshCount;
+
 	/**
 	 * We use a cache to know whether a package has a single child for the hierarchical representation.
 	 * This avoids looping over all packages for each call to
@@ -184,7 +200,9 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 			};
 			fUpdateJob.setSystem(true);
 		}
-		fUpdateJob.schedule();
+		// don't postpone an update that is already waiting for more deltas
+		if (fUpdateJob.getState() != Job.SLEEPING)
+			fUpdateJob.schedule(UPDATE_DELAY);
 	}
 
 	/**
@@ -199,16 +217,97 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 		if (pendingUpdates != null && fViewer != null) {
 			Control control = fViewer.getControl();
 			if (control != null && !control.isDisposed()) {
-				runUpdates(pendingUpdates);
+				runUpdates(pendingUpdates.size() > 1 ? coalesceUpdates(pendingUpdates) : pendingUpdates);
 			}
 		}
 	}
 
 	private void runUpdates(Collection<Runnable> runnables) {
+		long start= System.currentTimeMillis();
+		int refreshCount= fRefreshCount;
 		Iterator<Runnable> runnableIterator = runnables.iterator();
 		while (runnableIterator.hasNext()){
 			runnableIterator.next().run();
 		}
+		if (JavaPlugin.DEBUG_PACKAGE_EXPLORER) {
+			System.out.println("PackageExplorerContentProvider - " + runnables.size() + " updates, " + (fRefreshCount - refreshCount) + " refreshes in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Merges the updates of several deltas. A refresh already covers the refreshes, adds and
+	 * removes of the elements below the refreshed element, and an element that is added and later
+	 * removed only needs to be removed. All other updates are kept in their order.
+	 *
+	 * @param runnables the pending updates
+	 * @return the updates to run
+	 */
+	private Collection<Runnable> coalesceUpdates(Collection<Runnable> runnables) {
+		Set<Object> refreshed= new HashSet<>();
+		Set<Object> refreshedWithLabels= new HashSet<>();
+		Map<Object, Integer> lastRemoves= new HashMap<>();
+		int index= 0;
+		for (Runnable runnable : runnables) {
+			if (runnable instanceof RefreshUpdate) {
+				RefreshUpdate refresh= (RefreshUpdate) runnable;
+				for (Object element : refresh.fElements) {
+					if (element != null) {
+						refreshed.add(element);
+						if (refresh.fUpdateLabels)
+							refreshedWithLabels.add(element);
+					}
+				}
+			} else if (runnable instanceof RemoveUpdate) {
+				lastRemoves.put(((RemoveUpdate) runnable).fElement, Integer.valueOf(index));
+			}
+			index++;
+		}
+
+		List<Runnable> result= new ArrayList<>(runnables.size());
+		Set<Object> refreshedDone= new HashSet<>();
+		Set<Object> removedDone= new HashSet<>();
+		index= 0;
+		for (Runnable runnable : runnables) {
+			if (runnable instanceof RefreshUpdate) {
+				RefreshUpdate refresh= (RefreshUpdate) runnable;
+				Set<Object> covering= refresh.fUpdateLabels ? refreshedWithLabels : refreshed;
+				List<Object> elements= new ArrayList<>(refresh.fElements.size());
+				for (Object element : refresh.fElements) {
+					if (element == null) {
+						elements.add(element);
+					} else if (!isBelow(getParent(element), covering)
+							&& (refresh.fUpdateLabels || !refreshedWithLabels.contains(element))
+							&& refreshedDone.add(element)) {
+						elements.add(element);
+					}
+				}
+				if (!elements.isEmpty())
+					result.add(new RefreshUpdate(elements, refresh.fUpdateLabels));
+			} else if (runnable instanceof AddUpdate) {
+				AddUpdate add= (AddUpdate) runnable;
+				Integer lastRemove= lastRemoves.get(add.fElement);
+				if ((lastRemove == null || lastRemove.intValue() < index) && !isBelow(add.fParent, refreshed))
+					result.add(add);
+			} else if (runnable instanceof RemoveUpdate) {
+				RemoveUpdate remove= (RemoveUpdate) runnable;
+				if (!isBelow(getParent(remove.fElement), refreshed) && removedDone.add(remove.fElement))
+					result.add(remove);
+			} else {
+				result.add(runnable);
+			}
+			index++;
+		}
+		return result;
+	}
+
+	private boolean isBelow(Object element, Set<Object> refreshed) {
+		while (element != null) {
+			if (refreshed.contains(element))
+				return true;
+			element= getParent(element);
+		}
+		return false;
 	}
 
 
@@ -949,35 +1048,73 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	}
 
 	protected void postRefresh(final List<Object> toRefresh, final boolean updateLabels, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			for (Object element : toRefresh.toArray()) {
+		runnables.add(new RefreshUpdate(toRefresh, updateLabels));
+	}
+
+	protected void postAdd(final Object parent, final Object element, Collection<Runnable> runnables) {
+		runnables.add(new AddUpdate(parent, element));
+	}
+
+	protected void postRemove(final Object element, Collection<Runnable> runnables) {
+		runnables.add(new RemoveUpdate(element));
+	}
+
+	private final class RefreshUpdate implements Runnable {
+		private final List<Object> fElements;
+		private final boolean fUpdateLabels;
+
+		RefreshUpdate(List<Object> elements, boolean updateLabels) {
+			fElements= elements;
+			fUpdateLabels= updateLabels;
+		}
+
+		@Override
+		public void run() {
+			for (Object element : fElements.toArray()) {
 				if (element == null || fViewer.testFindItems(element).length > 0) {
-					fViewer.refresh(element, updateLabels);
+					fViewer.refresh(element, fUpdateLabels);
+					fRefreshCount++;
 				}
 			}
-		});
+		}
 	}
 
-	protected void postAdd(final Object parent, final Object element, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			for (Widget item : fViewer.testFindItems(element)) {
+	private final class AddUpdate implements Runnable {
+		private final Object fParent;
+		private final Object fElement;
+
+		AddUpdate(Object parent, Object element) {
+			fParent= parent;
+			fElement= element;
+		}
+
+		@Override
+		public void run() {
+			for (Widget item : fViewer.testFindItems(fElement)) {
 				if (item instanceof TreeItem && !item.isDisposed()) {
 					TreeItem parentItem= ((TreeItem) item).getParentItem();
-					if (parentItem != null && !parentItem.isDisposed() && parent.equals(parentItem.getData())) {
+					if (parentItem != null && !parentItem.isDisposed() && fParent.equals(parentItem.getData())) {
 						return; // no add, element already added (most likely by a refresh)
 					}
 				}
 			}
-			fViewer.add(parent, element);
-		});
+			fViewer.add(fParent, fElement);
+		}
 	}
 
-	protected void postRemove(final Object element, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			if (fViewer.testFindItems(element).length > 0) {
-				fViewer.remove(element);
+	private final class RemoveUpdate implements Runnable {
+		private final Object fElement;
+
+		RemoveUpdate(Object element) {
+			fElement= element;
+		}
+
+		@Override
+		public void run() {
+			if (fViewer.testFindItems(fElement).length > 0) {
+				fViewer.remove(fElement);
 			}
-		});
+		}
 	}
 
 	protected void postProjectStateChanged(final Object root, Collection<Runnable> runnables) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,46 +17,56 @@ import org.eclipse.search.ui.text.Match;
 
 /**
  * A search match with additional java-specific info.
+ * <p>
+ * Searches can report hundreds of thousands of matches, the java-specific info is therefore packed
+ * into a single <code>int</code>.
+ * </p>
  */
 public class JavaElementMatch extends Match {
-	private final int fAccuracy;
-	private final int fMatchRule;
-	private final boolean fIsWriteAccess;
-	private final boolean fIsReadAccess;
-	private final boolean fIsJavadoc;
-	private final boolean fIsSuperInvocation;
+	private static final int ACCURACY_MASK= 0x3;
+	private static final int READ_ACCESS= 1 << 2;
+	private static final int WRITE_ACCESS= 1 << 3;
+	private static final int JAVADOC= 1 << 4;
+	private static final int SUPER_INVOCATION= 1 << 5;
+	private static final int MATCH_RULE_SHIFT= 8;
+
+	private final int fFlags;
 
 	JavaElementMatch(Object element, int matchRule, int offset, int length, int accuracy, boolean isReadAccess, boolean isWriteAccess, boolean isJavadoc, boolean isSuperInvocation) {
 		super(element, offset, length);
-		fAccuracy= accuracy;
-		fMatchRule= matchRule;
-		fIsWriteAccess= isWriteAccess;
-		fIsReadAccess= isReadAccess;
-		fIsJavadoc= isJavadoc;
-		fIsSuperInvocation= isSuperInvocation;
+		int flags= (matchRule << MATCH_RULE_SHIFT) | (accuracy & ACCURACY_MASK);
+		if (isReadAccess)
+			flags|= READ_ACCESS;
+		if (isWriteAccess)
+			flags|= WRITE_ACCESS;
+		if (isJavadoc)
+			flags|= JAVADOC;
+		if (isSuperInvocation)
+			flags|= SUPER_INVOCATION;
+		fFlags= flags;
 	}
 
 	public int getAccuracy() {
-		return fAccuracy;
+		return fFlags & ACCURACY_MASK;
 	}
 
 	public boolean isWriteAccess() {
-		return fIsWriteAccess;
+		return (fFlags & WRITE_ACCESS) != 0;
 	}
 
 	public boolean isReadAccess() {
-		return fIsReadAccess;
+		return (fFlags & READ_ACCESS) != 0;
 	}
 
 	public boolean isJavadoc() {
-		return fIsJavadoc;
+		return (fFlags & JAVADOC) != 0;
 	}
 
 	public boolean isSuperInvocation() {
-		return fIsSuperInvocation;
+		return (fFlags & SUPER_INVOCATION) != 0;
 	}
 
 	public int getMatchRule() {
-		return fMatchRule;
+		return fFlags >>> MATCH_RULE_SHIFT;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
@@ -27,14 +33,33 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Collects the matches of a Java search into a search result.
+ * <p>
+ * The matches are added in batches, so that the search result is not locked and the search view is
+ * not notified for every single match. Matches are pending until a batch is full, until
+ * {@link #FLUSH_DELAY} milliseconds have passed since the last batch, or until
+ * {@link #endReporting()} is called. Equal enclosing elements are shared by the matches.
+ * </p>
+ */
 public class NewSearchResultCollector extends SearchRequestor {
+	private static final int BATCH_SIZE= 1000;
+	private static final long FLUSH_DELAY= 200;
+
 	private AbstractTextSearchResult fSearch;
 	private boolean fIgnorePotentials;
 
+	private final List<Match> fPending;
+	private final Map<IJavaElement, IJavaElement> fElements;
+	private long fLastFlush;
+
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
 		fSearch= search;
 		fIgnorePotentials= ignorePotentials;
+		fPending= new ArrayList<>();
+		fElements= new HashMap<>();
+		fLastFlush= System.currentTimeMillis();
 	}
 
 	@Override
@@ -63,8 +88,24 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			IJavaElement element= fElements.putIfAbsent(enclosingElement, enclosingElement);
+			if (element == null)
+				element= enclosingElement;
+			fPending.add(new JavaElementMatch(element, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			if (fPending.size() >= BATCH_SIZE || System.currentTimeMillis() - fLastFlush >= FLUSH_DELAY)
+				flush();
+		}
+	}
+
+	/**
+	 * Adds the pending matches to the search result.
+	 */
+	public void flush() {
+		if (!fPending.isEmpty()) {
+			fSearch.addMatches(fPending.toArray(new Match[fPending.size()]));
+			fPending.clear();
 		}
+		fLastFlush= System.currentTimeMillis();
 	}
 
 	@Override
@@ -73,6 +114,8 @@ public class NewSearchResultCollector extends SearchRequestor {
 
 	@Override
 	public void endReporting() {
+		flush();
+		fElements.clear();
 	}
 
 	@Override
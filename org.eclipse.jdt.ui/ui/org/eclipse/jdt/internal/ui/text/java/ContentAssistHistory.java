@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,6 @@ package org.eclipse.jdt.internal.ui.text.java;
 
 import java.io.IOException;
 import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,19 +28,12 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -71,11 +63,21 @@ import org.eclipse.jdt.internal.ui.util.XmlProcessorFactoryJdtUi;
 public final class ContentAssistHistory {
 	/**
 	 * Persistence implementation.
+	 * <p>
+	 * The history is stored in a compact line format: a header line with the version and the
+	 * maximum number of left and right hand sides, followed by one line per left hand side with
+	 * its right hand sides, separated by tabs. Histories stored as XML document by older versions
+	 * are still read and get converted on the next store.
+	 * </p>
 	 *
 	 * @since 3.2
 	 */
 	private static final class ReaderWriter {
 
+		private static final String HEADER= "#1 "; //$NON-NLS-1$
+		private static final char LINE_SEPARATOR= '\n';
+		private static final char NAME_SEPARATOR= '\t';
+
 		private static final String NODE_ROOT= "history"; //$NON-NLS-1$
 		private static final String NODE_LHS= "lhs"; //$NON-NLS-1$
 		private static final String NODE_RHS= "rhs"; //$NON-NLS-1$
@@ -83,42 +85,58 @@ public final class ContentAssistHistory {
 		private static final String ATTRIBUTE_MAX_LHS= "maxLHS"; //$NON-NLS-1$
 		private static final String ATTRIBUTE_MAX_RHS= "maxRHS"; //$NON-NLS-1$
 
-		public void store(ContentAssistHistory history, StreamResult result) throws CoreException {
-			try {
-				DocumentBuilderFactory factory= XmlProcessorFactoryJdtUi.createDocumentBuilderFactoryWithErrorOnDOCTYPE();
-				DocumentBuilder builder= factory.newDocumentBuilder();
-				Document document= builder.newDocument();
-
-				Element rootElement = document.createElement(NODE_ROOT);
-				rootElement.setAttribute(ATTRIBUTE_MAX_LHS, Integer.toString(history.fMaxLHS));
-				rootElement.setAttribute(ATTRIBUTE_MAX_RHS, Integer.toString(history.fMaxRHS));
-				document.appendChild(rootElement);
-
-				for (Entry<String, MRUSet<String>> entry : history.fLHSCache.entrySet()) {
-					String lhs = entry.getKey();
-					Element lhsElement= document.createElement(NODE_LHS);
-					lhsElement.setAttribute(ATTRIBUTE_NAME, lhs);
-					rootElement.appendChild(lhsElement);
-					for (String rhs : entry.getValue()) {
-						Element rhsElement= document.createElement(NODE_RHS);
-						rhsElement.setAttribute(ATTRIBUTE_NAME, rhs);
-						lhsElement.appendChild(rhsElement);
-					}
+		public String store(ContentAssistHistory history) {
+			StringBuilder buf= new StringBuilder();
+			buf.append(HEADER).append(history.fMaxLHS).append(' ').append(history.fMaxRHS).append(LINE_SEPARATOR);
+			for (Entry<String, MRUSet<String>> entry : history.fLHSCache.entrySet()) {
+				buf.append(entry.getKey());
+				for (String rhs : entry.getValue()) {
+					buf.append(NAME_SEPARATOR).append(rhs);
 				}
+				buf.append(LINE_SEPARATOR);
+			}
+			return buf.toString();
+		}
+
+		public ContentAssistHistory load(String value) throws CoreException {
+			if (!value.startsWith(HEADER))
+				return load(new InputSource(new StringReader(value)));
 
-				Transformer transformer= XmlProcessorFactoryJdtUi.createTransformerFactoryWithErrorOnDOCTYPE().newTransformer();
-				transformer.setOutputProperty(OutputKeys.METHOD, "xml"); //$NON-NLS-1$
-				transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
-				transformer.setOutputProperty(OutputKeys.INDENT, "no"); //$NON-NLS-1$
-				DOMSource source = new DOMSource(document);
+			int headerEnd= value.indexOf(LINE_SEPARATOR);
+			if (headerEnd == -1)
+				headerEnd= value.length();
+			String[] limits= value.substring(HEADER.length(), headerEnd).split(" "); //$NON-NLS-1$
+			if (limits.length != 2)
+				throw createException(null, JavaTextMessages.ContentAssistHistory_deserialize_error);
 
-				transformer.transform(source, result);
-			} catch (TransformerException | ParserConfigurationException e) {
-				throw createException(e, JavaTextMessages.ContentAssistHistory_serialize_error);
+			int maxLHS= parseNaturalInt(limits[0], DEFAULT_TRACKED_LHS);
+			int maxRHS= parseNaturalInt(limits[1], DEFAULT_TRACKED_RHS);
+
+			ContentAssistHistory history= new ContentAssistHistory(maxLHS, maxRHS);
+
+			int start= headerEnd + 1;
+			while (start < value.length()) {
+				int end= value.indexOf(LINE_SEPARATOR, start);
+				if (end == -1)
+					end= value.length();
+				int nameEnd= value.indexOf(NAME_SEPARATOR, start);
+				if (nameEnd == -1 || nameEnd > end)
+					nameEnd= end;
+				Set<String> cache= history.getCache(value.substring(start, nameEnd));
+				while (nameEnd < end) {
+					int nameStart= nameEnd + 1;
+					nameEnd= value.indexOf(NAME_SEPARATOR, nameStart);
+					if (nameEnd == -1 || nameEnd > end)
+						nameEnd= end;
+					cache.add(value.substring(nameStart, nameEnd));
+				}
+				start= end + 1;
 			}
+
+			return history;
 		}
 
-		public ContentAssistHistory load(InputSource source) throws CoreException {
+		private ContentAssistHistory load(InputSource source) throws CoreException {
 			Element root;
 			try {
 				DocumentBuilder parser = XmlProcessorFactoryJdtUi.createDocumentBuilderFactoryWithErrorOnDOCTYPE().newDocumentBuilder();
@@ -449,22 +467,20 @@ public final class ContentAssistHistory {
 	}
 
 	/**
-	 * Stores the history as XML document into the given preferences.
+	 * Stores the history into the given preferences.
 	 *
 	 * @param history the history to store
 	 * @param preferences the preferences to store the history into
 	 * @param key the key under which to store the history
-	 * @throws CoreException if serialization fails
 	 * @see #load(Preferences, String) on how to restore a history stored by this method
 	 */
-	public static void store(ContentAssistHistory history, Preferences preferences, String key) throws CoreException {
-		StringWriter writer= new StringWriter();
-		new ReaderWriter().store(history, new StreamResult(writer));
-		preferences.setValue(key, writer.toString());
+	public static void store(ContentAssistHistory history, Preferences preferences, String key) {
+		preferences.setValue(key, new ReaderWriter().store(history));
 	}
 
 	/**
-	 * Loads a history from an XML encoded preference value.
+	 * Loads a history from an encoded preference value. Values stored as XML document by older
+	 * versions are accepted as well.
 	 *
 	 * @param preferences the preferences to retrieve the history from
 	 * @param key the key under which the history is stored
@@ -477,7 +493,7 @@ public final class ContentAssistHistory {
 	public static ContentAssistHistory load(Preferences preferences, String key) throws CoreException {
 		String value= preferences.getString(key);
 		if (value != null && value.length() > 0) {
-			return new ReaderWriter().load(new InputSource(new StringReader(value)));
+			return new ReaderWriter().load(value);
 		}
 		return null;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,7 +70,6 @@ final class JavaTextMessages extends NLS {
 	public static String ContentAssistProcessor_toggle_affordance_click_gesture;
 	public static String ContentAssistProcessor_toggle_affordance_update_message;
 	public static String ContentAssistProcessor_empty_message;
-	public static String ContentAssistHistory_serialize_error;
 	public static String ContentAssistHistory_deserialize_error;
 	public static String ProposalSorterHandle_blame;
 }
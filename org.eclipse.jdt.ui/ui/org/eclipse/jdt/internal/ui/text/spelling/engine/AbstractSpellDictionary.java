@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -21,10 +22,12 @@ import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -117,6 +120,12 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
 
+	/**
+	 * The precompiled word list, or <code>null</code> if the word list has been loaded into
+	 * {@link #fHashBuckets}. Words added later are always stored in {@link #fHashBuckets}.
+	 */
+	private volatile CompiledSpellDictionary fCompiled;
+
 	/** Is the dictionary already loaded? */
 	private boolean fLoaded= false;
 	/**
@@ -149,14 +158,24 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @return Array of candidates for the phonetic hash
 	 */
 	protected final Object getCandidates(final String hash) {
-		ByteArrayWrapper hashBytes;
-		try {
-			hashBytes= new ByteArrayWrapper(hash.getBytes(UTF_8));
-		} catch (UnsupportedEncodingException e) {
-			JavaPlugin.log(e);
-			return null;
+		byte[] hashBytes= hash.getBytes(StandardCharsets.UTF_8);
+		Object candidates= fHashBuckets.get(new ByteArrayWrapper(hashBytes));
+
+		CompiledSpellDictionary compiled= fCompiled;
+		if (compiled == null)
+			return candidates;
+
+		ArrayList<byte[]> compiledCandidates= compiled.getWords(hashBytes);
+		if (compiledCandidates == null)
+			return candidates;
+		if (candidates instanceof byte[])
+			compiledCandidates.add((byte[])candidates);
+		else if (candidates != null) {
+			@SuppressWarnings("unchecked")
+			final ArrayList<byte[]> candidateList= (ArrayList<byte[]>)candidates;
+			compiledCandidates.addAll(candidateList);
 		}
-		return fHashBuckets.get(hashBytes);
+		return compiledCandidates;
 	}
 
 	/**
@@ -314,7 +333,8 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @since 3.3
 	 */
 	protected boolean isEmpty() {
-		return fHashBuckets.isEmpty();
+		CompiledSpellDictionary compiled= fCompiled;
+		return fHashBuckets.isEmpty() && (compiled == null || compiled.getWordCount() == 0);
 	}
 
 	/**
@@ -506,7 +526,17 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			// Do nothing
 		}
 
-		final Object candidates= getCandidates(fHashProvider.getHash(word));
+		final String hash= fHashProvider.getHash(word);
+		CompiledSpellDictionary compiled= fCompiled;
+		if (compiled != null) {
+			byte[] wordBytes= word.getBytes(StandardCharsets.UTF_8);
+			String lowercaseWord= word.toLowerCase();
+			byte[] lowercaseWordBytes= lowercaseWord.equals(word) ? wordBytes : lowercaseWord.getBytes(StandardCharsets.UTF_8);
+			if (compiled.contains(hash.getBytes(StandardCharsets.UTF_8), wordBytes, lowercaseWordBytes))
+				return true;
+		}
+
+		final Object candidates= fHashBuckets.get(new ByteArrayWrapper(hash.getBytes(StandardCharsets.UTF_8)));
 		if (candidates == null)
 			return false;
 		else if (candidates instanceof byte[]) {
@@ -574,7 +604,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 	@Override
 	public synchronized final boolean isLoaded() {
-		return fLoaded || fHashBuckets.size() > 0;
+		return fLoaded || fHashBuckets.size() > 0 || fCompiled != null;
 	}
 
 	/**
@@ -590,6 +620,15 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			 return fLoaded;
 
 		if (url != null) {
+			if (useCompiledFormat()) {
+				CompiledSpellDictionary compiled= loadCompiled(url);
+				if (compiled != null) {
+					fCompiled= compiled;
+					fMustLoad= false;
+					return true;
+				}
+			}
+
 			InputStream stream= null;
 			int line= 0;
 			try {
@@ -659,6 +698,57 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		return false;
 	}
 
+	/**
+	 * Tells whether the word list of this dictionary is compiled into the binary format of
+	 * {@link CompiledSpellDictionary} and memory-mapped instead of being loaded into memory.
+	 * <p>
+	 * Subclasses may override. The default is <code>false</code>.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the compiled format is used
+	 * @since 3.33
+	 */
+	protected boolean useCompiledFormat() {
+		return false;
+	}
+
+	/**
+	 * Maps the compiled version of the given word list, compiling it first if it does not exist
+	 * yet or is out of date. The compiled word lists are stored in the state location of the
+	 * plug-in, each version of a word list in its own file.
+	 *
+	 * @param url the URL of the word list
+	 * @return the compiled word list, or <code>null</code> if the word list must be loaded from
+	 *         its text format
+	 */
+	private CompiledSpellDictionary loadCompiled(URL url) {
+		try {
+			URLConnection connection= url.openConnection();
+			String name= url.toString();
+			String source= name + '\n' + getEncoding() + '\n' + fHashProvider.getClass().getName() + '\n'
+					+ connection.getContentLengthLong() + '\n' + connection.getLastModified();
+			File directory= JavaPlugin.getDefault().getStateLocation().append("spelling").toFile(); //$NON-NLS-1$
+			File file= CompiledSpellDictionary.getFile(directory, name, source);
+
+			CompiledSpellDictionary compiled= CompiledSpellDictionary.open(file, source);
+			if (compiled == null) {
+				// a file of another format, it is not mapped since it could not be opened
+				file.delete();
+				if (CompiledSpellDictionary.compile(url, getEncoding(), fHashProvider, source, file)) {
+					compiled= CompiledSpellDictionary.open(file, source);
+					CompiledSpellDictionary.deleteOtherVersions(file, name);
+				}
+			}
+			return compiled;
+		} catch (FileNotFoundException e) {
+			// the text format handles missing word lists
+			return null;
+		} catch (IOException | RuntimeException e) {
+			JavaPlugin.log(e);
+			return null;
+		}
+	}
+
 	/**
 	 * Compacts the dictionary.
 	 *
@@ -698,6 +788,8 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		fLoaded= false;
 		fMustLoad= true;
 		fHashBuckets.clear();
+		// the file is unmapped once the buffer has been garbage collected
+		fCompiled= null;
 	}
 
 	@Override
@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * Read-only, memory-mapped word list in a precompiled binary format.
+ * <p>
+ * The words are grouped by their phonetic hash into buckets which are sorted by the UTF-8 bytes
+ * of the hash. Lookups binary search the bucket table and compare the bytes in place, so no
+ * per-word objects are created unless the words of a bucket are requested.
+ * </p>
+ * <p>
+ * A compiled file is never replaced. Each version of a word list is compiled into a new file, see
+ * {@link #getFile(File, String, String)}, since a mapped file cannot be replaced or deleted on
+ * all platforms. The other versions are deleted once they are no longer mapped.
+ * </p>
+ * <p>
+ * Layout (big-endian): magic, version, source key (length and UTF-8 bytes), bucket count, word
+ * count, bucket word start indices (bucket count + 1), bucket hash offsets (bucket count + 1),
+ * word offsets (word count + 1), hash pool, word pool.
+ * </p>
+ *
+ * @since 3.33
+ */
+public final class CompiledSpellDictionary {
+
+	private static final int MAGIC= 0x4A445344;
+	private static final int VERSION= 1;
+
+	/** The mapped file */
+	private final ByteBuffer fBuffer;
+
+	private final int fBucketCount;
+	private final int fWordCount;
+
+	private final int fBucketWordStarts;
+	private final int fBucketHashOffsets;
+	private final int fWordOffsets;
+	private final int fHashPool;
+	private final int fWordPool;
+
+	private CompiledSpellDictionary(ByteBuffer buffer, int bucketCount, int wordCount, int tables) {
+		fBuffer= buffer;
+		fBucketCount= bucketCount;
+		fWordCount= wordCount;
+		fBucketWordStarts= tables;
+		fBucketHashOffsets= fBucketWordStarts + 4 * (bucketCount + 1);
+		fWordOffsets= fBucketHashOffsets + 4 * (bucketCount + 1);
+		fHashPool= fWordOffsets + 4 * (wordCount + 1);
+		fWordPool= fHashPool + buffer.getInt(fBucketHashOffsets + 4 * bucketCount);
+	}
+
+	private static final String FILE_EXTENSION= ".dictionary.bin"; //$NON-NLS-1$
+
+	/**
+	 * Returns the file of the compiled dictionary of a word list. The name contains a hash of the
+	 * source key, so that a changed word list is compiled into a new file.
+	 *
+	 * @param directory the directory of the compiled dictionaries
+	 * @param name the name of the word list, shared by all its versions
+	 * @param source the key of the word list, see {@link #open(File, String)}
+	 * @return the file of the compiled dictionary
+	 */
+	public static File getFile(File directory, String name, String source) {
+		return new File(directory, getVersionPrefix(name) + Integer.toHexString(source.hashCode()) + FILE_EXTENSION);
+	}
+
+	private static String getVersionPrefix(String name) {
+		return Integer.toHexString(name.hashCode()) + '-';
+	}
+
+	/**
+	 * Deletes the other versions of a compiled dictionary. Versions that are still mapped by a
+	 * dictionary which has not been unloaded cannot be deleted on all platforms, they are deleted
+	 * by a later call.
+	 *
+	 * @param file the file of the current version, see {@link #getFile(File, String, String)}
+	 * @param name the name of the word list
+	 */
+	public static void deleteOtherVersions(File file, String name) {
+		String prefix= getVersionPrefix(name);
+		File current= file.getAbsoluteFile();
+		File[] versions= current.getParentFile().listFiles((dir, fileName) -> fileName.startsWith(prefix) && fileName.endsWith(FILE_EXTENSION));
+		if (versions == null)
+			return;
+		for (File version : versions) {
+			if (!version.equals(current))
+				version.delete();
+		}
+	}
+
+	/**
+	 * Maps a compiled dictionary.
+	 *
+	 * @param file the compiled dictionary
+	 * @param source the key of the word list the dictionary has been compiled from
+	 * @return the dictionary, or <code>null</code> if the file does not exist or has not been
+	 *         compiled from <code>source</code> in the current format
+	 * @throws IOException if the file could not be read
+	 */
+	public static CompiledSpellDictionary open(File file, String source) throws IOException {
+		if (!file.isFile())
+			return null;
+
+		try (RandomAccessFile raf= new RandomAccessFile(file, "r"); FileChannel channel= raf.getChannel()) { //$NON-NLS-1$
+			// check the header before mapping, so that files of other versions are not mapped
+			byte[] expected= source.getBytes(StandardCharsets.UTF_8);
+			if (raf.length() < 20 + expected.length || raf.readInt() != MAGIC || raf.readInt() != VERSION || raf.readInt() != expected.length)
+				return null;
+			byte[] actual= new byte[expected.length];
+			raf.readFully(actual);
+			if (!Arrays.equals(actual, expected))
+				return null;
+
+			int bucketCount= raf.readInt();
+			int wordCount= raf.readInt();
+			MappedByteBuffer buffer= channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new CompiledSpellDictionary(buffer, bucketCount, wordCount, 20 + expected.length);
+		}
+	}
+
+	/**
+	 * Compiles a plain text word list with one word per line.
+	 *
+	 * @param url the URL of the word list
+	 * @param encoding the encoding of the word list
+	 * @param provider the phonetic hash provider used to group the words
+	 * @param source the key of the word list, stored in the compiled dictionary
+	 * @param target the file to write the compiled dictionary to, an existing file is kept
+	 * @return <code>true</code> if the word list has been compiled, <code>false</code> if it
+	 *         contains malformed input
+	 * @throws IOException if the word list could not be read or the target could not be written
+	 */
+	public static boolean compile(URL url, String encoding, IPhoneticHashProvider provider, String source, File target) throws IOException {
+		TreeMap<byte[], List<byte[]>> buckets= new TreeMap<>(Arrays::compareUnsigned);
+		int wordCount= 0;
+
+		CharsetDecoder decoder= Charset.forName(encoding).newDecoder();
+		decoder.onMalformedInput(CodingErrorAction.REPORT);
+		decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+		try (InputStream stream= url.openStream(); BufferedReader reader= new BufferedReader(new InputStreamReader(stream, decoder))) {
+			String word;
+			while ((word= reader.readLine()) != null) {
+				byte[] hash= provider.getHash(word).getBytes(StandardCharsets.UTF_8);
+				buckets.computeIfAbsent(hash, h -> new ArrayList<>(AbstractSpellDictionary.BUCKET_CAPACITY)).add(word.getBytes(StandardCharsets.UTF_8));
+				wordCount++;
+			}
+		} catch (CharacterCodingException e) {
+			// let the caller fall back to the text format, which reports the malformed lines
+			return false;
+		}
+
+		File parent= target.getAbsoluteFile().getParentFile();
+		if (!parent.isDirectory() && !parent.mkdirs())
+			throw new IOException("Could not create " + parent); //$NON-NLS-1$
+
+		Path temp= Files.createTempFile(parent.toPath(), target.getName(), ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp.toFile())))) {
+			byte[] sourceBytes= source.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(sourceBytes.length);
+			out.write(sourceBytes);
+			out.writeInt(buckets.size());
+			out.writeInt(wordCount);
+
+			int wordIndex= 0;
+			for (List<byte[]> words : buckets.values()) {
+				out.writeInt(wordIndex);
+				wordIndex+= words.size();
+			}
+			out.writeInt(wordIndex);
+
+			int hashOffset= 0;
+			for (byte[] hash : buckets.keySet()) {
+				out.writeInt(hashOffset);
+				hashOffset+= hash.length;
+			}
+			out.writeInt(hashOffset);
+
+			int wordOffset= 0;
+			for (List<byte[]> words : buckets.values()) {
+				for (byte[] word : words) {
+					out.writeInt(wordOffset);
+					wordOffset+= word.length;
+				}
+			}
+			out.writeInt(wordOffset);
+
+			for (byte[] hash : buckets.keySet()) {
+				out.write(hash);
+			}
+			for (Map.Entry<byte[], List<byte[]>> entry : buckets.entrySet()) {
+				for (byte[] word : entry.getValue()) {
+					out.write(word);
+				}
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+		try {
+			// never replace the target, it might be mapped
+			Files.move(temp, target.toPath());
+		} catch (FileAlreadyExistsException e) {
+			// compiled by another dictionary in the meantime
+			Files.delete(temp);
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of words in this dictionary
+	 */
+	public int getWordCount() {
+		return fWordCount;
+	}
+
+	/**
+	 * Tells whether the bucket of <code>hash</code> contains one of the given words.
+	 *
+	 * @param hash the UTF-8 bytes of the phonetic hash
+	 * @param word the UTF-8 bytes of the word
+	 * @param alternative the UTF-8 bytes of an alternative spelling of the word, may be the same as
+	 *            <code>word</code>
+	 * @return <code>true</code> if the dictionary contains <code>word</code> or
+	 *         <code>alternative</code>
+	 */
+	public boolean contains(byte[] hash, byte[] word, byte[] alternative) {
+		int bucket= findBucket(hash);
+		if (bucket < 0)
+			return false;
+
+		int end= fBuffer.getInt(fBucketWordStarts + 4 * (bucket + 1));
+		for (int index= fBuffer.getInt(fBucketWordStarts + 4 * bucket); index < end; index++) {
+			int offset= fBuffer.getInt(fWordOffsets + 4 * index);
+			int length= fBuffer.getInt(fWordOffsets + 4 * (index + 1)) - offset;
+			if (compare(fWordPool + offset, length, word) == 0 || alternative != word && compare(fWordPool + offset, length, alternative) == 0)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the words of the bucket of <code>hash</code>.
+	 *
+	 * @param hash the UTF-8 bytes of the phonetic hash
+	 * @return the UTF-8 bytes of the words, or <code>null</code> if there are none
+	 */
+	public ArrayList<byte[]> getWords(byte[] hash) {
+		int bucket= findBucket(hash);
+		if (bucket < 0)
+			return null;
+
+		int start= fBuffer.getInt(fBucketWordStarts + 4 * bucket);
+		int end= fBuffer.getInt(fBucketWordStarts + 4 * (bucket + 1));
+		ArrayList<byte[]> result= new ArrayList<>(end - start);
+		for (int index= start; index < end; index++) {
+			int offset= fBuffer.getInt(fWordOffsets + 4 * index);
+			byte[] word= new byte[fBuffer.getInt(fWordOffsets + 4 * (index + 1)) - offset];
+			for (int i= 0; i < word.length; i++) {
+				word[i]= fBuffer.get(fWordPool + offset + i);
+			}
+			result.add(word);
+		}
+		return result;
+	}
+
+	private int findBucket(byte[] hash) {
+		int low= 0;
+		int high= fBucketCount - 1;
+		while (low <= high) {
+			int middle= (low + high) >>> 1;
+			int offset= fBuffer.getInt(fBucketHashOffsets + 4 * middle);
+			int length= fBuffer.getInt(fBucketHashOffsets + 4 * (middle + 1)) - offset;
+			int comparison= compare(fHashPool + offset, length, hash);
+			if (comparison < 0)
+				low= middle + 1;
+			else if (comparison > 0)
+				high= middle - 1;
+			else
+				return middle;
+		}
+		return -1;
+	}
+
+	private int compare(int position, int length, byte[] key) {
+		int common= Math.min(length, key.length);
+		for (int i= 0; i < common; i++) {
+			int comparison= Byte.compareUnsigned(fBuffer.get(position + i), key[i]);
+			if (comparison != 0)
+				return comparison;
+		}
+		return length - key.length;
+	}
+}
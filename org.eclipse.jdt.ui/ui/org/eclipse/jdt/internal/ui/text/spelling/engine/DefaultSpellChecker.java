@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,10 @@ package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -33,6 +34,12 @@ import org.eclipse.jdt.ui.PreferenceConstants;
  */
 public class DefaultSpellChecker implements ISpellChecker {
 
+	/**
+	 * Maximum number of cached verdicts before the cache is cleared.
+	 * @since 3.33
+	 */
+	private static final int MAX_VERDICTS= 16 * 1024;
+
 	/** Array of URL prefixes */
 	public static final String[] URL_PREFIXES= new String[] { "http://", "https://", "www.", "ftp://", "ftps://", "news://", "mailto://" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
 
@@ -129,6 +136,29 @@ public class DefaultSpellChecker implements ISpellChecker {
 	 */
 	private final Set<ISpellDictionary> fDictionaries= Collections.synchronizedSet(new HashSet<ISpellDictionary>());
 
+	/**
+	 * Snapshot of {@link #fDictionaries}, replaced whenever a dictionary is added or removed so
+	 * that checking a word does not need to copy the set.
+	 * @since 3.33
+	 */
+	private volatile ISpellDictionary[] fDictionarySnapshot= new ISpellDictionary[0];
+
+	/**
+	 * The results of {@link #isCorrect(String)} since the dictionaries, the ignored words or the
+	 * stripping of non-letters last changed. Most words of a compilation unit occur many times, so
+	 * the dictionaries are consulted once per distinct word. The map is replaced rather than
+	 * cleared so that a check which raced with a modification cannot store a stale verdict.
+	 * @since 3.33
+	 */
+	private volatile Map<String, Boolean> fVerdicts= new ConcurrentHashMap<>();
+
+	/**
+	 * The last value passed to {@link ISpellDictionary#setStripNonLetters(boolean)}, or
+	 * <code>null</code> if none.
+	 * @since 3.33
+	 */
+	private volatile Boolean fStripNonLetters;
+
 	/**
 	 * The words to be ignored. Synchronized to avoid concurrent modifications.
 	 */
@@ -163,7 +193,12 @@ public class DefaultSpellChecker implements ISpellChecker {
 	@Override
 	public final void addDictionary(final ISpellDictionary dictionary) {
 		// synchronizing is necessary as this is a write access
-		fDictionaries.add(dictionary);
+		synchronized (fDictionaries) {
+			fDictionaries.add(dictionary);
+			fDictionarySnapshot= fDictionaries.toArray(new ISpellDictionary[fDictionaries.size()]);
+		}
+		fStripNonLetters= null;
+		invalidateVerdicts();
 	}
 
 	@Override
@@ -197,6 +232,7 @@ public class DefaultSpellChecker implements ISpellChecker {
 			if (dictionary.acceptsWords())
 				dictionary.addWord(addable);
 		}
+		invalidateVerdicts();
 
 	}
 
@@ -204,6 +240,7 @@ public class DefaultSpellChecker implements ISpellChecker {
 	public final void checkWord(final String word) {
 		// synchronizing is necessary as this is a write access
 		fIgnored.remove(word.toLowerCase());
+		invalidateVerdicts();
 	}
 
 	@Override
@@ -220,9 +257,12 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 		iterator.setIgnoreSingleLetters(ignoreSingleLetters);
 
-		Iterator<ISpellDictionary> iter= fDictionaries.iterator();
-		while (iter.hasNext())
-			iter.next().setStripNonLetters(ignoreNonLetters);
+		if (fStripNonLetters == null || fStripNonLetters.booleanValue() != ignoreNonLetters) {
+			for (ISpellDictionary dictionary : fDictionarySnapshot)
+				dictionary.setStripNonLetters(ignoreNonLetters);
+			fStripNonLetters= Boolean.valueOf(ignoreNonLetters);
+			invalidateVerdicts();
+		}
 
 		String word= null;
 		boolean starts= false;
@@ -284,20 +324,35 @@ public class DefaultSpellChecker implements ISpellChecker {
 	public final void ignoreWord(final String word) {
 		// synchronizing is necessary as this is a write access
 		fIgnored.add(word.toLowerCase());
+		invalidateVerdicts();
 	}
 
 	@Override
 	public final boolean isCorrect(final String word) {
-		// synchronizing is necessary as this is called from execute
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
+		Map<String, Boolean> verdicts= fVerdicts;
+		Boolean verdict= verdicts.get(word);
+		if (verdict != null)
+			return verdict.booleanValue();
+
+		boolean correct= computeIsCorrect(word);
+		if (verdicts.size() >= MAX_VERDICTS)
+			verdicts.clear();
+		verdicts.put(word, Boolean.valueOf(correct));
+		return correct;
+	}
 
+	/**
+	 * Checks the word against the ignored words and the dictionaries.
+	 *
+	 * @param word the word to check
+	 * @return <code>true</code> iff the word is ignored or correct in one of the dictionaries
+	 * @since 3.33
+	 */
+	private boolean computeIsCorrect(final String word) {
 		if (fIgnored.contains(word.toLowerCase()))
 			return true;
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionarySnapshot) {
 			if (dictionary.isCorrect(word))
 				return true;
 		}
@@ -307,7 +362,20 @@ public class DefaultSpellChecker implements ISpellChecker {
 	@Override
 	public final void removeDictionary(final ISpellDictionary dictionary) {
 		// synchronizing is necessary as this is a write access
-		fDictionaries.remove(dictionary);
+		synchronized (fDictionaries) {
+			fDictionaries.remove(dictionary);
+			fDictionarySnapshot= fDictionaries.toArray(new ISpellDictionary[fDictionaries.size()]);
+		}
+		invalidateVerdicts();
+	}
+
+	/**
+	 * Discards the cached results of {@link #isCorrect(String)}.
+	 *
+	 * @since 3.33
+	 */
+	private void invalidateVerdicts() {
+		fVerdicts= new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -0,0 +1,448 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.typehierarchy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.LambdaExpression;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.QualifiedType;
+import org.eclipse.jdt.core.dom.RecordDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.StructuralDeltaCache;
+
+/**
+ * Tells whether a Java element delta can have changed the structure of a type hierarchy.
+ * <p>
+ * A type hierarchy reports all changes of compilation units that contain types of the hierarchy,
+ * also if only a method body has been edited. For each changed compilation unit, the declared types
+ * and their super type names are parsed from the source (without bindings) and compared with the
+ * types that the hierarchy knows for the unit. Only the types that are in the hierarchy, or that
+ * name a type of the hierarchy below the focus as super type, are compared. If these are the same,
+ * the hierarchy is still correct and does not have to be recomputed.
+ * </p>
+ * <p>
+ * Simple names are compared. A name clash only makes the analysis report a change, never the
+ * other way round. The super type names of the types of the hierarchy are then checked against the
+ * package declaration and the imports of the unit, so that a changed import or package also
+ * reports a change. A compilation unit that declares a type with the simple name of a type of the
+ * hierarchy, which is not that type, also reports a change, since the new type can shadow the
+ * type of the hierarchy in the references of other units.
+ * </p>
+ */
+final class TypeHierarchyDeltaAnalyzer {
+
+	private static final Set<String> IMPLICIT_SUPER_TYPES= Set.of(
+			"java.lang.Object", //$NON-NLS-1$
+			"java.lang.Enum", //$NON-NLS-1$
+			"java.lang.Record", //$NON-NLS-1$
+			"java.lang.annotation.Annotation"); //$NON-NLS-1$
+
+	private final ITypeHierarchy fHierarchy;
+	private final IType fFocus;
+	private final boolean fIsSuperTypesOnly;
+
+	/** the simple names of the focus and its subtypes, these are the names new subtypes would refer to */
+	private Set<String> fSubtypeNames;
+	/** the simple names of all types of the hierarchy, these are the names a new type can shadow */
+	private Set<String> fTypeNames;
+	/** the types of the hierarchy by primary compilation unit */
+	private Map<ICompilationUnit, List<IType>> fUnitTypes;
+	private boolean fHasLambdas;
+
+	/**
+	 * Creates an analyzer for the hierarchy of a type.
+	 *
+	 * @param hierarchy the hierarchy
+	 * @param focus the type the hierarchy has been computed for
+	 * @param isSuperTypesOnly <code>true</code> if the hierarchy only contains the super types
+	 */
+	TypeHierarchyDeltaAnalyzer(ITypeHierarchy hierarchy, IType focus, boolean isSuperTypesOnly) {
+		fHierarchy= hierarchy;
+		fFocus= focus;
+		fIsSuperTypesOnly= isSuperTypesOnly;
+	}
+
+	private void init() {
+		if (fUnitTypes != null)
+			return;
+		fSubtypeNames= new HashSet<>();
+		if (!fIsSuperTypesOnly) {
+			fSubtypeNames.add(fFocus.getElementName());
+			for (IType subtype : fHierarchy.getAllSubtypes(fFocus)) {
+				fSubtypeNames.add(subtype.getElementName());
+			}
+		}
+		fTypeNames= new HashSet<>();
+		fUnitTypes= new HashMap<>();
+		for (IType type : fHierarchy.getAllTypes()) {
+			fTypeNames.add(type.getElementName());
+			ICompilationUnit cu= type.getCompilationUnit();
+			if (cu != null) {
+				fUnitTypes.computeIfAbsent(cu.getPrimary(), k -> new ArrayList<>()).add(type);
+			}
+			if (type.isLambda()) {
+				fHasLambdas= true;
+			}
+		}
+	}
+
+	/**
+	 * Tells whether the given delta might have changed the structure of the hierarchy.
+	 *
+	 * @param delta the delta
+	 * @return <code>false</code> if the hierarchy is known to be unchanged
+	 */
+	boolean isHierarchyChanged(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (StructuralDeltaCache.isClasspathChange(delta))
+					return true;
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= (ICompilationUnit) element;
+				if (!JavaModelUtil.isPrimary(cu))
+					return false;
+				return isUnitChanged(cu, delta.getKind() == IJavaElementDelta.REMOVED);
+			default: // class files
+				return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isHierarchyChanged(child))
+				return true;
+		}
+		return false;
+	}
+
+	private boolean isUnitChanged(ICompilationUnit cu, boolean removed) {
+		init();
+		List<IType> types= fUnitTypes.getOrDefault(cu.getPrimary(), Collections.emptyList());
+		List<String> before= new ArrayList<>(types.size());
+		Set<String> names= new HashSet<>();
+		for (IType type : types) {
+			if (type.isLambda())
+				return true;
+			try {
+				before.add(getEntry(type));
+			} catch (JavaModelException e) {
+				return true;
+			}
+			names.add(type.getElementName());
+		}
+		List<String> after= new ArrayList<>();
+		Map<String, List<List<String>>> superTypeNames= new HashMap<>();
+		if (!removed) {
+			UnitImports imports= collectEntries(cu, names, after, superTypeNames);
+			if (imports == null)
+				return true;
+			for (String declared : superTypeNames.keySet()) {
+				if (fTypeNames.contains(declared) && !names.contains(declared))
+					return true;
+			}
+			Collections.sort(before);
+			Collections.sort(after);
+			if (!before.equals(after))
+				return true;
+			try {
+				for (IType type : types) {
+					if (!isResolvedAsBefore(type, imports, superTypeNames))
+						return true;
+				}
+			} catch (JavaModelException e) {
+				return true;
+			}
+			return false;
+		}
+		return !before.isEmpty();
+	}
+
+	/**
+	 * Tells whether the super type names of a type of the hierarchy still refer to the same types,
+	 * given the package declaration and the imports of its compilation unit.
+	 */
+	private boolean isResolvedAsBefore(IType type, UnitImports imports, Map<String, List<List<String>>> superTypeNames) throws JavaModelException {
+		if (!type.getPackageFragment().getElementName().equals(imports.fPackageName))
+			return false;
+		String name= type.getElementName();
+		if (name.isEmpty())
+			return true; // anonymous types, the names are checked with their enclosing types
+		List<List<String>> declarations= superTypeNames.get(name);
+		if (declarations == null || declarations.size() != 1)
+			return false;
+		List<IType> superTypes= new ArrayList<>();
+		IType superclass= fHierarchy.getSuperclass(type);
+		if (superclass != null)
+			superTypes.add(superclass);
+		superTypes.addAll(Arrays.asList(fHierarchy.getSuperInterfaces(type)));
+		for (String written : declarations.get(0)) {
+			IType superType= findBySimpleName(superTypes, written);
+			if (superType == null || !imports.refersTo(written, superType, type))
+				return false;
+		}
+		return true;
+	}
+
+	private static IType findBySimpleName(List<IType> types, String writtenName) {
+		String simpleName= writtenName.substring(writtenName.lastIndexOf('.') + 1);
+		for (IType type : types) {
+			if (type.getElementName().equals(simpleName))
+				return type;
+		}
+		return null;
+	}
+
+	/**
+	 * The package declaration and the imports of a compilation unit.
+	 */
+	private static final class UnitImports {
+		String fPackageName= ""; //$NON-NLS-1$
+		final Map<String, String> fSingleTypeImports= new HashMap<>();
+		final Set<String> fOnDemandImports= new HashSet<>();
+
+		/**
+		 * Tells whether a type name written in the unit refers to the given type.
+		 *
+		 * @param written the name as written in the source
+		 * @param type the type the name referred to before
+		 * @param declaringType the type in which the name is written
+		 * @return <code>false</code> if the name might refer to another type
+		 * @throws JavaModelException if the types of the package cannot be accessed
+		 */
+		boolean refersTo(String written, IType type, IType declaringType) throws JavaModelException {
+			String qualifiedName= type.getFullyQualifiedName('.');
+			if (written.indexOf('.') != -1)
+				return qualifiedName.equals(written) || qualifiedName.endsWith('.' + written);
+			String imported= fSingleTypeImports.get(written);
+			if (imported != null)
+				return imported.equals(qualifiedName);
+			IType enclosingType= type.getDeclaringType();
+			if (enclosingType != null) {
+				// member types can also be inherited or declared by an enclosing type
+				return true;
+			}
+			String packageName= type.getPackageFragment().getElementName();
+			if (packageName.equals(fPackageName))
+				return true;
+			if (!"java.lang".equals(packageName) && !fOnDemandImports.contains(packageName)) //$NON-NLS-1$
+				return false;
+			// a type of the own package shadows the types of on demand imports and of java.lang
+			return declaringType.getJavaProject().findType(fPackageName, written) == null;
+		}
+	}
+
+	/**
+	 * Returns the name and the super type names of a type of the hierarchy.
+	 */
+	private String getEntry(IType type) throws JavaModelException {
+		List<String> superNames= new ArrayList<>();
+		IType superclass= fHierarchy.getSuperclass(type);
+		if (superclass != null && !IMPLICIT_SUPER_TYPES.contains(superclass.getFullyQualifiedName())) {
+			superNames.add(superclass.getElementName());
+		}
+		for (IType superInterface : fHierarchy.getSuperInterfaces(type)) {
+			if (!type.isAnnotation() || !IMPLICIT_SUPER_TYPES.contains(superInterface.getFullyQualifiedName())) {
+				superNames.add(superInterface.getElementName());
+			}
+		}
+		return createEntry(type.getElementName(), superNames);
+	}
+
+	private static String createEntry(String name, List<String> superNames) {
+		Collections.sort(superNames);
+		return name + ':' + String.join(",", superNames); //$NON-NLS-1$
+	}
+
+	/**
+	 * Parses the given compilation unit and adds the entries of the types that are relevant for the
+	 * hierarchy.
+	 *
+	 * @param cu the compilation unit
+	 * @param names the names of the types of the hierarchy in the compilation unit
+	 * @param entries the list to add the entries to
+	 * @param superTypeNames the map to add the super type names as written in the source to, by
+	 *            the names of the declared types
+	 * @return the package declaration and the imports of the compilation unit, or
+	 *         <code>null</code> if the compilation unit cannot be compared, because it has syntax
+	 *         errors or lambdas that might be part of the hierarchy
+	 */
+	private UnitImports collectEntries(ICompilationUnit cu, Set<String> names, List<String> entries, Map<String, List<List<String>>> superTypeNames) {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource(cu);
+		parser.setResolveBindings(false);
+		CompilationUnit root= (CompilationUnit) parser.createAST(null);
+
+		UnitImports imports= new UnitImports();
+		if (root.getPackage() != null) {
+			imports.fPackageName= root.getPackage().getName().getFullyQualifiedName();
+		}
+		for (Object object : root.imports()) {
+			ImportDeclaration declaration= (ImportDeclaration) object;
+			if (declaration.isStatic())
+				continue;
+			String importName= declaration.getName().getFullyQualifiedName();
+			if (declaration.isOnDemand()) {
+				imports.fOnDemandImports.add(importName);
+			} else {
+				imports.fSingleTypeImports.put(importName.substring(importName.lastIndexOf('.') + 1), importName);
+			}
+		}
+
+		boolean[] hasLambdas= new boolean[1];
+		boolean[] hasSyntaxErrors= new boolean[1];
+		root.accept(new ASTVisitor() {
+			@Override
+			public void preVisit(ASTNode node) {
+				if ((node.getFlags() & (ASTNode.MALFORMED | ASTNode.RECOVERED)) != 0) {
+					hasSyntaxErrors[0]= true;
+				}
+			}
+
+			@Override
+			public boolean visit(TypeDeclaration node) {
+				List<Type> superTypes= new ArrayList<>();
+				if (node.getSuperclassType() != null) {
+					superTypes.add(node.getSuperclassType());
+				}
+				superTypes.addAll(node.superInterfaceTypes());
+				return addDeclaration(node, superTypes);
+			}
+
+			@Override
+			public boolean visit(EnumDeclaration node) {
+				return addDeclaration(node, node.superInterfaceTypes());
+			}
+
+			@Override
+			public boolean visit(RecordDeclaration node) {
+				return addDeclaration(node, node.superInterfaceTypes());
+			}
+
+			@Override
+			public boolean visit(AnnotationTypeDeclaration node) {
+				return addDeclaration(node, Collections.emptyList());
+			}
+
+			@Override
+			public boolean visit(AnonymousClassDeclaration node) {
+				ASTNode parent= node.getParent();
+				List<String> superNames= new ArrayList<>(1);
+				if (parent instanceof ClassInstanceCreation) {
+					superNames.add(getSimpleName(((ClassInstanceCreation) parent).getType()));
+				} else if (parent instanceof EnumConstantDeclaration && parent.getParent() instanceof EnumDeclaration) {
+					superNames.add(((EnumDeclaration) parent.getParent()).getName().getIdentifier());
+				}
+				if (!Collections.disjoint(superNames, fSubtypeNames)) {
+					entries.add(createEntry("", superNames)); //$NON-NLS-1$
+				}
+				return true;
+			}
+
+			@Override
+			public boolean visit(LambdaExpression node) {
+				hasLambdas[0]= true;
+				return true;
+			}
+
+			private boolean addDeclaration(AbstractTypeDeclaration node, List<?> superTypes) {
+				List<String> superNames= new ArrayList<>();
+				List<String> writtenNames= new ArrayList<>();
+				for (Object superType : superTypes) {
+					superNames.add(getSimpleName((Type) superType));
+					writtenNames.add(getWrittenName((Type) superType));
+				}
+				String name= node.getName().getIdentifier();
+				superTypeNames.computeIfAbsent(name, k -> new ArrayList<>()).add(writtenNames);
+				add(name, superNames);
+				return true;
+			}
+
+			private void add(String name, List<String> superNames) {
+				if (names.contains(name) || !Collections.disjoint(superNames, fSubtypeNames)) {
+					entries.add(createEntry(name, superNames));
+				}
+			}
+		});
+		// the target types of lambdas are unknown without bindings
+		if (hasSyntaxErrors[0] || hasLambdas[0] && fHasLambdas)
+			return null;
+		return imports;
+	}
+
+	private static String getSimpleName(Type type) {
+		if (type instanceof ParameterizedType) {
+			return getSimpleName(((ParameterizedType) type).getType());
+		} else if (type instanceof SimpleType) {
+			Name name= ((SimpleType) type).getName();
+			return name.isQualifiedName() ? ((QualifiedName) name).getName().getIdentifier() : ((SimpleName) name).getIdentifier();
+		} else if (type instanceof QualifiedType) {
+			return ((QualifiedType) type).getName().getIdentifier();
+		} else if (type instanceof NameQualifiedType) {
+			return ((NameQualifiedType) type).getName().getIdentifier();
+		}
+		return type.toString();
+	}
+
+	private static String getWrittenName(Type type) {
+		if (type instanceof ParameterizedType) {
+			return getWrittenName(((ParameterizedType) type).getType());
+		} else if (type instanceof SimpleType) {
+			return ((SimpleType) type).getName().getFullyQualifiedName();
+		} else if (type instanceof QualifiedType) {
+			QualifiedType qualifiedType= (QualifiedType) type;
+			return getWrittenName(qualifiedType.getQualifier()) + '.' + qualifiedType.getName().getIdentifier();
+		} else if (type instanceof NameQualifiedType) {
+			NameQualifiedType qualifiedType= (NameQualifiedType) type;
+			return qualifiedType.getQualifier().getFullyQualifiedName() + '.' + qualifiedType.getName().getIdentifier();
+		}
+		return type.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,14 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 /**
  * Manages a type hierarchy, to keep it refreshed, and to allow it to be shared.
+ * <p>
+ * A type hierarchy reports a change for every edit of a compilation unit that contains one of its
+ * types. For the hierarchy of a single type, the delta is analyzed first, and the hierarchy is only
+ * recomputed if the super types of the changed compilation units might have changed. A kept
+ * hierarchy does not report changes again, so all later deltas are analyzed the same way until
+ * the hierarchy is recomputed. A recomputed hierarchy replaces the current one when it is complete, so that the current hierarchy stays
+ * visible meanwhile.
+ * </p>
  */
 public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IElementChangedListener {
 
@@ -84,6 +92,27 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	private boolean fRefreshJobCanceledExplicitly= true;
 
+	/**
+	 * Set when the hierarchy reported a change that is analyzed with the element delta of the same
+	 * event.
+	 */
+	private boolean fHierarchyChangePending;
+
+	/**
+	 * Set when the hierarchy has been kept after it reported a change. The hierarchy does not
+	 * report further changes until it is refreshed, so all following deltas are analyzed.
+	 */
+	private boolean fHierarchyChangeKept;
+
+	/**
+	 * The analyzer for the deltas of the current hierarchy, or <code>null</code> if not created yet.
+	 */
+	private TypeHierarchyDeltaAnalyzer fDeltaAnalyzer;
+
+	private int fKeptHierarchyCount;
+
+	private int fComputedHierarchyCount;
+
 	/**
 	 * Creates the type hierarchy life cycle.
 	 *
@@ -123,6 +152,9 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			JavaCore.removeElementChangedListener(this);
 			fHierarchy= null;
 			fInputElements= null;
+			fDeltaAnalyzer= null;
+			fHierarchyChangePending= false;
+			fHierarchyChangeKept= false;
 		}
 		synchronized (this) {
 			if (fRefreshHierarchyJob != null) {
@@ -224,14 +256,15 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 							try {
 								doHierarchyRefreshBackground(elements, pm);
 							} catch (OperationCanceledException e) {
+								fHierarchyRefreshNeeded= true;
 								if (fRefreshJobCanceledExplicitly) {
 									fTypeHierarchyViewPart.showEmptyViewer();
 								}
 								return Status.CANCEL_STATUS;
 							} catch (JavaModelException e) {
+								fHierarchyRefreshNeeded= true;
 								return e.getStatus();
 							} finally {
-								fHierarchyRefreshNeeded= true;
 								pm.done();
 							}
 							return Status.OK_STATUS;
@@ -314,27 +347,46 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 
 
 	public void doHierarchyRefresh(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
-		boolean hierachyCreationNeeded= (fHierarchy == null || !Arrays.equals(elements, fInputElements));
+		long start= System.currentTimeMillis();
+		// the current hierarchy stays unchanged until the new one is complete
+		ITypeHierarchy hierarchy= createTypeHierarchy(elements, pm);
+		if (pm != null && pm.isCanceled()) {
+			throw new OperationCanceledException();
+		}
 		// to ensure the order of the two listeners always remove / add listeners on operations
 		// on type hierarchies
 		if (fHierarchy != null) {
 			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
 		}
-		if (hierachyCreationNeeded) {
-			fHierarchy= createTypeHierarchy(elements, pm);
-			if (pm != null && pm.isCanceled()) {
-				throw new OperationCanceledException();
-			}
-			fInputElements= elements;
-		} else {
-			fHierarchy.refresh(pm);
-			if (pm != null && pm.isCanceled())
-				throw new OperationCanceledException();
-		}
+		fHierarchy= hierarchy;
+		fInputElements= elements;
+		fDeltaAnalyzer= null;
+		fHierarchyChangePending= false;
+		fHierarchyChangeKept= false;
 		fHierarchy.addTypeHierarchyChangedListener(this);
 		JavaCore.addElementChangedListener(this);
 		fHierarchyRefreshNeeded= false;
+		fComputedHierarchyCount++;
+		if (JavaPlugin.DEBUG_TYPE_HIERARCHY) {
+			System.out.println("TypeHierarchyLifeCycle - computed hierarchy of " + HistoryAction.getElementLabel(elements) //$NON-NLS-1$
+					+ " (" + hierarchy.getAllTypes().length + " types) in " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * @return the number of changes after which the hierarchy has been kept, because the delta
+	 *         did not change its structure
+	 */
+	public int getKeptHierarchyCount() {
+		return fKeptHierarchyCount;
+	}
+
+	/**
+	 * @return the number of hierarchies that have been computed
+	 */
+	public int getComputedHierarchyCount() {
+		return fComputedHierarchyCount;
 	}
 
 	/*
@@ -342,15 +394,47 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	@Override
 	public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
+		if (!fHierarchyRefreshNeeded && getDeltaAnalyzer() != null) {
+			// the element changed listener is notified of the same event after the hierarchy
+			fHierarchyChangePending= true;
+			return;
+		}
 	 	fHierarchyRefreshNeeded= true;
  		fireChange(null);
 	}
 
+	private TypeHierarchyDeltaAnalyzer getDeltaAnalyzer() {
+		if (fDeltaAnalyzer == null && fHierarchy != null && fInputElements != null
+				&& fInputElements.length == 1 && fInputElements[0].getElementType() == IJavaElement.TYPE) {
+			fDeltaAnalyzer= new TypeHierarchyDeltaAnalyzer(fHierarchy, (IType) fInputElements[0], fIsSuperTypesOnly);
+		}
+		return fDeltaAnalyzer;
+	}
+
 	/*
 	 * @see IElementChangedListener#elementChanged(ElementChangedEvent)
 	 */
 	@Override
 	public void elementChanged(ElementChangedEvent event) {
+		if (fHierarchyChangePending || fHierarchyChangeKept && !fHierarchyRefreshNeeded) {
+			boolean reported= fHierarchyChangePending;
+			fHierarchyChangePending= false;
+			long start= System.currentTimeMillis();
+			if (fChangeListeners.isEmpty() || getDeltaAnalyzer().isHierarchyChanged(event.getDelta())) {
+				fHierarchyRefreshNeeded= true;
+				fHierarchyChangeKept= false;
+				fireChange(null);
+				return;
+			}
+			fHierarchyChangeKept= true;
+			if (reported) {
+				fKeptHierarchyCount++;
+			}
+			if (reported && JavaPlugin.DEBUG_TYPE_HIERARCHY) {
+				System.out.println("TypeHierarchyLifeCycle - kept hierarchy of " + HistoryAction.getElementLabel(fInputElements) //$NON-NLS-1$
+						+ ", delta analyzed in " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
 		if (fChangeListeners.isEmpty()) {
 			return;
 		}
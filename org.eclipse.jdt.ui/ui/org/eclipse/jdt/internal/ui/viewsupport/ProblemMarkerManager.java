@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -109,6 +109,9 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
 
+	private final ProblemSeverityIndex fSeverityIndex= new ProblemSeverityIndex();
+	private volatile boolean fListening;
+
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
 	public ProblemMarkerManager() {
@@ -121,6 +124,8 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	public void resourceChanged(IResourceChangeEvent event) {
 		HashSet<IResource> changedElements= new HashSet<>();
 
+		// update the index before the listeners are notified
+		fSeverityIndex.resourceChanged(event);
 		try {
 			IResourceDelta delta= event.getDelta();
 			if (delta != null)
@@ -161,6 +166,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().addResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().addGlobalAnnotationModelListener(this);
+			fListening= true;
 		}
 		fListeners.add(listener);
 	}
@@ -174,9 +180,21 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			fListening= false;
+			fSeverityIndex.clear();
 		}
 	}
 
+	/**
+	 * Returns the index of the problem severities of the resources. The index is only available
+	 * while this manager listens to resource changes, that is while it has listeners.
+	 *
+	 * @return the index or <code>null</code> if there are no listeners
+	 */
+	public ProblemSeverityIndex getSeverityIndex() {
+		return fListening ? fSeverityIndex : null;
+	}
+
 	private void fireChanges() {
 		throttledUpdates.throttledExec();
 	}
@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * The maximum severity of the problem markers of resources, kept up to date from resource deltas.
+ * <p>
+ * The severities are computed on the first request and then answered from the index. A marker
+ * change on a resource recomputes the markers of that resource only. The severities of its parent
+ * containers are raised when the new severity is higher, and are only dropped if the resource could
+ * have had their maximum severity. Package severities, which must not consider the markers of
+ * subpackages, are cached as well.
+ * </p>
+ * <p>
+ * The index is only correct while it receives the resource deltas of the workspace.
+ * {@link ProblemMarkerManager#getSeverityIndex()} returns an index only while it is registered.
+ * </p>
+ * <p>
+ * Severities are the values of {@link IMarker#SEVERITY}, <code>-1</code> stands for no problems.
+ * </p>
+ */
+public final class ProblemSeverityIndex implements IResourceChangeListener {
+
+	private static final int UNKNOWN= -2;
+
+	/** resource to the max severity of the markers on the resource itself */
+	private final Map<IResource, Integer> fOwnSeverities= new ConcurrentHashMap<>();
+	/** container to the max severity of the markers in the container and all its members */
+	private final Map<IResource, Integer> fTreeSeverities= new ConcurrentHashMap<>();
+	/** package folder to the max severity of the package without its subpackages */
+	private final Map<IResource, Integer> fPackageSeverities= new ConcurrentHashMap<>();
+
+	/** incremented for each change, a computed severity is only stored if no change happened meanwhile */
+	private int fStamp;
+
+	private final AtomicInteger fComputeCount= new AtomicInteger();
+
+	/**
+	 * Returns the maximum severity of the problem markers on the given resource.
+	 *
+	 * @param resource the resource
+	 * @param depth {@link IResource#DEPTH_ZERO} for the markers of the resource itself,
+	 *            {@link IResource#DEPTH_INFINITE} to include all members of a container
+	 * @return the maximum severity or <code>-1</code> if there are no problems
+	 * @throws CoreException if the markers could not be accessed
+	 */
+	public int getMaxSeverity(IResource resource, int depth) throws CoreException {
+		if (depth == IResource.DEPTH_ZERO || resource.getType() == IResource.FILE) {
+			return getSeverity(fOwnSeverities, resource, IResource.DEPTH_ZERO);
+		}
+		if (depth == IResource.DEPTH_INFINITE) {
+			return getSeverity(fTreeSeverities, resource, IResource.DEPTH_INFINITE);
+		}
+		return resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+	}
+
+	private int getSeverity(Map<IResource, Integer> severities, IResource resource, int depth) throws CoreException {
+		Integer severity= severities.get(resource);
+		if (severity != null) {
+			return severity.intValue();
+		}
+		int stamp= getStamp();
+		int result= findMaxProblemSeverity(resource, depth);
+		store(severities, resource, result, stamp);
+		return result;
+	}
+
+	/**
+	 * Returns the maximum severity of the problem markers of a package. These are the markers on the
+	 * package folder, on the compilation units of the package and on its non-Java resources, but not
+	 * the markers of subpackages.
+	 *
+	 * @param pack the package
+	 * @return the maximum severity or <code>-1</code> if there are no problems
+	 * @throws CoreException if the package or the markers could not be accessed
+	 */
+	public int getPackageSeverity(IPackageFragment pack) throws CoreException {
+		IResource folder= pack.getResource();
+		if (folder == null) {
+			return -1;
+		}
+		Integer severity= fPackageSeverities.get(folder);
+		if (severity != null) {
+			return severity.intValue();
+		}
+		int stamp= getStamp();
+		int result= getMaxSeverity(folder, IResource.DEPTH_ZERO);
+		if (result != IMarker.SEVERITY_ERROR) {
+			for (ICompilationUnit cu : pack.getCompilationUnits()) {
+				IResource resource= cu.getResource();
+				if (resource != null) {
+					result= Math.max(result, getMaxSeverity(resource, IResource.DEPTH_ZERO));
+					if (result == IMarker.SEVERITY_ERROR)
+						break;
+				}
+			}
+		}
+		if (result != IMarker.SEVERITY_ERROR) {
+			for (Object object : pack.getNonJavaResources()) {
+				if (object instanceof IResource) {
+					result= Math.max(result, getMaxSeverity((IResource) object, IResource.DEPTH_INFINITE));
+					if (result == IMarker.SEVERITY_ERROR)
+						break;
+				}
+			}
+		}
+		store(fPackageSeverities, folder, result, stamp);
+		return result;
+	}
+
+	private int findMaxProblemSeverity(IResource resource, int depth) throws CoreException {
+		fComputeCount.incrementAndGet();
+		try {
+			return resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() == IResourceStatus.RESOURCE_NOT_FOUND) {
+				// Ignore failure in the case of concurrent deletion
+				return -1;
+			}
+			throw e;
+		}
+	}
+
+	private synchronized int getStamp() {
+		return fStamp;
+	}
+
+	private synchronized void store(Map<IResource, Integer> severities, IResource resource, int severity, int stamp) {
+		if (stamp == fStamp) {
+			severities.put(resource, Integer.valueOf(severity));
+		}
+	}
+
+	/**
+	 * @return the number of times the markers of a resource have been searched
+	 */
+	public int getComputeCount() {
+		return fComputeCount.get();
+	}
+
+	/**
+	 * Removes all severities.
+	 */
+	public synchronized void clear() {
+		fStamp++;
+		fOwnSeverities.clear();
+		fTreeSeverities.clear();
+		fPackageSeverities.clear();
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta != null) {
+			processDelta(delta);
+		}
+	}
+
+	private void processDelta(IResourceDelta delta) {
+		IResource resource= delta.getResource();
+		int kind= delta.getKind();
+		if (kind == IResourceDelta.REMOVED || (delta.getFlags() & IResourceDelta.OPEN) != 0) {
+			removed(resource);
+			return;
+		}
+		if (kind == IResourceDelta.ADDED || isProblemDelta(delta)) {
+			changed(resource, kind == IResourceDelta.ADDED);
+		}
+		for (IResourceDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private static boolean isProblemDelta(IResourceDelta delta) {
+		if ((delta.getFlags() & IResourceDelta.MARKERS) != 0) {
+			for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
+				if (markerDelta.isSubtypeOf(IMarker.PROBLEM)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private synchronized void changed(IResource resource, boolean added) {
+		fStamp++;
+		Integer old= fOwnSeverities.remove(resource);
+		int oldSeverity= added ? -1 : old != null ? old.intValue() : UNKNOWN;
+		int newSeverity;
+		try {
+			newSeverity= resource.isAccessible() ? findMaxProblemSeverity(resource, IResource.DEPTH_ZERO) : -1;
+		} catch (CoreException e) {
+			JavaPlugin.log(e);
+			newSeverity= UNKNOWN;
+		}
+		if (newSeverity != UNKNOWN) {
+			fOwnSeverities.put(resource, Integer.valueOf(newSeverity));
+		}
+		updateAncestors(resource, oldSeverity, newSeverity);
+	}
+
+	private synchronized void removed(IResource resource) {
+		fStamp++;
+		Integer old;
+		if (resource.getType() == IResource.FILE) {
+			old= fOwnSeverities.remove(resource);
+		} else {
+			old= fTreeSeverities.get(resource);
+			IPath path= resource.getFullPath();
+			fOwnSeverities.keySet().removeIf(r -> path.isPrefixOf(r.getFullPath()));
+			fTreeSeverities.keySet().removeIf(r -> path.isPrefixOf(r.getFullPath()));
+			fPackageSeverities.keySet().removeIf(r -> path.isPrefixOf(r.getFullPath()));
+		}
+		int oldSeverity= old != null ? old.intValue() : UNKNOWN;
+		IResource parent= resource.getParent();
+		if (parent != null) {
+			updateAncestors(parent, oldSeverity, -1);
+		}
+	}
+
+	/**
+	 * Updates the tree severities of the given resource and its parents after the severity of a
+	 * member changed from <code>oldSeverity</code> to <code>newSeverity</code>.
+	 */
+	private void updateAncestors(IResource resource, int oldSeverity, int newSeverity) {
+		for (IResource curr= resource; curr != null; curr= curr.getParent()) {
+			fPackageSeverities.remove(curr);
+			Integer tree= fTreeSeverities.get(curr);
+			if (tree != null) {
+				int treeSeverity= tree.intValue();
+				if (newSeverity != UNKNOWN && newSeverity >= treeSeverity) {
+					fTreeSeverities.put(curr, Integer.valueOf(newSeverity));
+				} else if (oldSeverity == UNKNOWN || oldSeverity >= treeSeverity) {
+					// the member might have had the max severity of the container
+					fTreeSeverities.remove(curr);
+				}
+			}
+		}
+	}
+}
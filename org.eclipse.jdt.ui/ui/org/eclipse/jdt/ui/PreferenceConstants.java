@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -3773,7 +3773,7 @@ public class PreferenceConstants {
 	/**
 	 * A named preference that stores the content assist LRU history
 	 * <p>
-	 * Value is an XML encoded version of the history.
+	 * Value is an encoded version of the history.
 	 * </p>
 	 *
 	 * @see org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory#load(org.eclipse.core.runtime.Preferences, String)
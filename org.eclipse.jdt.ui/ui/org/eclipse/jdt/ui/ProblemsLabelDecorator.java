@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityIndex;
 
 /**
  * LabelDecorator that decorates an element's image with error and warning overlays that
@@ -597,7 +598,12 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 				return ERRORTICK_BUILDPATH_ERROR;
 			}
 		}
-		severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		ProblemSeverityIndex index= JavaPlugin.getDefault().getProblemMarkerManager().getSeverityIndex();
+		if (index != null) {
+			severity= index.getMaxSeverity(res, depth);
+		} else {
+			severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		}
 		return convertToTick(severity);
 	}
 
@@ -642,6 +648,11 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 			return 0;
 		}
 
+		ProblemSeverityIndex index= JavaPlugin.getDefault().getProblemMarkerManager().getSeverityIndex();
+		if (index != null) {
+			return convertToTick(index.getPackageSeverity(pack));
+		}
+
 		// markers on package itself (e.g. missing @NonNullByDefault)
 		int severity= findMaxProblemSeverity(res, IMarker.PROBLEM, true, IResource.DEPTH_ZERO);
 		if (severity == IMarker.SEVERITY_ERROR)